@@ -37,6 +37,7 @@ public class OptimizerProperties {
   public static final boolean OPTIMIZER_EXTEND_DISK_STORAGE_DEFAULT = false;
   public static final String OPTIMIZER_DISK_STORAGE_PATH = "disk-storage-path";
   public static final String OPTIMIZER_MEMORY_STORAGE_SIZE = "memory-storage-size";
+  public static final String OPTIMIZER_MEMORY_ADMISSION_BUDGET = "memory-admission-budget";
   public static final String MAX_INPUT_FILE_SIZE_PER_THREAD = "max-input-file-size-per-thread";
   public static final Long MAX_INPUT_FILE_SIZE_PER_THREAD_DEFAULT = 512 * 1024 * 1024L; // 512MB
 }
@@ -72,6 +72,14 @@ public class CatalogMetaProperties {
   // only used for unified catalog
   public static final String AMS_URI = "ams.uri";
 
+  // only used for unified catalog, cache the formats of tables so they are loaded in one lookup
+  public static final String TABLE_FORMAT_CACHE_EXPIRATION_INTERVAL_MS =
+      "table-format.cache.expiration-interval-ms";
+  public static final long TABLE_FORMAT_CACHE_EXPIRATION_INTERVAL_MS_DEFAULT =
+      TimeUnit.MINUTES.toMillis(5);
+  public static final String TABLE_FORMAT_CACHE_MAX_SIZE = "table-format.cache.max-size";
+  public static final long TABLE_FORMAT_CACHE_MAX_SIZE_DEFAULT = 10000;
+
   // only used for engine properties
   public static final String LOAD_AUTH_FROM_AMS = "auth.load-from-ams";
   public static final boolean LOAD_AUTH_FROM_AMS_DEFAULT = true;
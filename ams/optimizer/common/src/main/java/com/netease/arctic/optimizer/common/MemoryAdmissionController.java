@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.optimizer.common;
+
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Admits tasks of the executors sharing it only when their estimated memory fits into the free
+ * budget, so that a few tasks with large deletes do not run out of memory together. A task is
+ * always admitted when nothing else is running, even if its estimation exceeds the whole budget.
+ *
+ * <p>Only one executor polls at a time: it begins polling once there is free budget, and keeps the
+ * polling permit until the task it polled and acknowledged is admitted. So executors never poll on
+ * the same free budget together, and a polled task never waits for memory before being
+ * acknowledged.
+ *
+ * <p>A budget not greater than 0 disables the admission control.
+ */
+public class MemoryAdmissionController implements Serializable {
+
+  private static final long WAIT_INTERVAL = TimeUnit.SECONDS.toMillis(1);
+
+  private final long budget;
+  private long reserved = 0;
+  private int running = 0;
+  private boolean polling = false;
+
+  public MemoryAdmissionController(long budget) {
+    this.budget = budget;
+  }
+
+  public boolean isEnabled() {
+    return budget > 0;
+  }
+
+  public long getBudget() {
+    return budget;
+  }
+
+  public synchronized long getReserved() {
+    return reserved;
+  }
+
+  public synchronized int getRunning() {
+    return running;
+  }
+
+  public synchronized boolean isPolling() {
+    return polling;
+  }
+
+  /**
+   * Wait until no other executor is polling and there is some free budget left, then take the
+   * polling permit. The permit is returned by {@link #acquire} or {@link #cancelPolling}.
+   *
+   * @return false if stopped waiting by keepWaiting, the permit is not taken then
+   */
+  public synchronized boolean beginPolling(BooleanSupplier keepWaiting)
+      throws InterruptedException {
+    while (isEnabled() && (polling || (running > 0 && reserved >= budget))) {
+      if (!keepWaiting.getAsBoolean()) {
+        return false;
+      }
+      wait(WAIT_INTERVAL);
+    }
+    polling = isEnabled();
+    return true;
+  }
+
+  /** Return the polling permit without running a task, e.g. when no task was polled. */
+  public synchronized void cancelPolling() {
+    polling = false;
+    notifyAll();
+  }
+
+  /**
+   * Reserve memory for the polled task, wait until it fits into the free budget. Other executors
+   * can not begin polling while it waits. The polling permit is returned in any case.
+   *
+   * @return false if stopped waiting by keepWaiting, nothing is reserved then
+   */
+  public synchronized boolean acquire(long bytes, BooleanSupplier keepWaiting)
+      throws InterruptedException {
+    Preconditions.checkArgument(bytes >= 0, "Illegal memory to acquire: %s", bytes);
+    try {
+      while (isEnabled() && running > 0 && reserved + bytes > budget) {
+        if (!keepWaiting.getAsBoolean()) {
+          return false;
+        }
+        wait(WAIT_INTERVAL);
+      }
+      reserved += bytes;
+      running++;
+      return true;
+    } finally {
+      polling = false;
+      notifyAll();
+    }
+  }
+
+  /** Release the memory reserved by {@link #acquire}. */
+  public synchronized void release(long bytes) {
+    Preconditions.checkState(running > 0, "No task is running");
+    reserved -= bytes;
+    running--;
+    notifyAll();
+  }
+}
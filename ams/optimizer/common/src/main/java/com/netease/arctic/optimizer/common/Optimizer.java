@@ -36,11 +36,18 @@ public class Optimizer {
     this.config = config;
     this.toucher = new OptimizerToucher(config);
     this.executors = new OptimizerExecutor[config.getExecutionParallel()];
+    MemoryAdmissionController admissionController =
+        new MemoryAdmissionController(config.getMemoryAdmissionBudget() * 1024 * 1024);
     IntStream.range(0, config.getExecutionParallel())
-        .forEach(i -> executors[i] = new OptimizerExecutor(config, i));
+        .forEach(i -> executors[i] = new OptimizerExecutor(config, i, admissionController));
     if (config.getResourceId() != null) {
       toucher.withRegisterProperty(OptimizerProperties.RESOURCE_ID, config.getResourceId());
     }
+    if (admissionController.isEnabled()) {
+      toucher.withRegisterProperty(
+          OptimizerProperties.OPTIMIZER_MEMORY_ADMISSION_BUDGET,
+          String.valueOf(config.getMemoryAdmissionBudget()));
+    }
   }
 
   public void startOptimizing() {
@@ -82,6 +82,14 @@ public class OptimizerConfig implements Serializable {
       usage = "Memory storage size limit when extending disk storage(MB), default 512MB")
   private long memoryStorageSize = 512; // 512 M
 
+  @Option(
+      name = "-mab",
+      aliases = "--" + OptimizerProperties.OPTIMIZER_MEMORY_ADMISSION_BUDGET,
+      usage =
+          "Memory budget shared by running tasks(MB), tasks wait until their estimated memory "
+              + "fits into it, default 0 means no limit")
+  private long memoryAdmissionBudget = 0;
+
   @Option(name = "-id", aliases = "--" + OptimizerProperties.RESOURCE_ID, usage = "Resource id")
   private String resourceId;
 
@@ -140,6 +148,14 @@ public class OptimizerConfig implements Serializable {
     this.memoryStorageSize = memoryStorageSize;
   }
 
+  public long getMemoryAdmissionBudget() {
+    return memoryAdmissionBudget;
+  }
+
+  public void setMemoryAdmissionBudget(long memoryAdmissionBudget) {
+    this.memoryAdmissionBudget = memoryAdmissionBudget;
+  }
+
   public boolean isExtendDiskStorage() {
     return extendDiskStorage;
   }
@@ -175,6 +191,7 @@ public class OptimizerConfig implements Serializable {
         .add("extendDiskStorage", extendDiskStorage)
         .add("rocksDBBasePath", diskStoragePath)
         .add("memoryStorageSize", memoryStorageSize)
+        .add("memoryAdmissionBudget", memoryAdmissionBudget)
         .add("resourceId", resourceId)
         .toString();
   }
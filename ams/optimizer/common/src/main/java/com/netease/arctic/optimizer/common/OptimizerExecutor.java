@@ -38,19 +38,51 @@ public class OptimizerExecutor extends AbstractOptimizerOperator {
   private static final Logger LOG = LoggerFactory.getLogger(OptimizerExecutor.class);
 
   private final int threadId;
+  private final MemoryAdmissionController admissionController;
 
   public OptimizerExecutor(OptimizerConfig config, int threadId) {
+    this(
+        config,
+        threadId,
+        new MemoryAdmissionController(config.getMemoryAdmissionBudget() * 1024 * 1024));
+  }
+
+  public OptimizerExecutor(
+      OptimizerConfig config, int threadId, MemoryAdmissionController admissionController) {
     super(config);
     this.threadId = threadId;
+    this.admissionController = admissionController;
   }
 
   public void start() {
     while (isStarted()) {
       try {
-        OptimizingTask task = pollTask();
-        if (task != null && ackTask(task)) {
+        if (!admissionController.beginPolling(this::isStarted)) {
+          continue;
+        }
+        OptimizingTask task = null;
+        long memory = 0;
+        boolean admitted = false;
+        try {
+          task = pollTask();
+          // acknowledge before waiting for memory, or ams reschedules the task after ack timeout
+          if (task != null && ackTask(task)) {
+            memory = estimateMemory(task);
+            admitted = admissionController.acquire(memory, this::isStarted);
+          }
+        } finally {
+          if (!admitted) {
+            admissionController.cancelPolling();
+          }
+        }
+        if (!admitted) {
+          continue;
+        }
+        try {
           OptimizingTaskResult result = executeTask(task);
           completeTask(result);
+        } finally {
+          admissionController.release(memory);
         }
       } catch (Throwable t) {
         LOG.error("Optimizer executor[{}] got an unexpected error", threadId, t);
@@ -80,6 +112,24 @@ public class OptimizerExecutor extends AbstractOptimizerOperator {
     return task;
   }
 
+  private long estimateMemory(OptimizingTask task) {
+    if (!admissionController.isEnabled() || task.getProperties() == null) {
+      return 0;
+    }
+    long memory;
+    try {
+      memory = OptimizingInputProperties.parse(task.getProperties()).getEstimatedMemory();
+    } catch (NumberFormatException e) {
+      LOG.warn("Optimizer executor[{}] got illegal estimated memory", threadId, e);
+      return 0;
+    }
+    if (getConfig().isExtendDiskStorage()) {
+      // deletes beyond the memory storage size are spilled to disk
+      memory = Math.min(memory, getConfig().getMemoryStorageSize() * 1024 * 1024);
+    }
+    return memory;
+  }
+
   private boolean ackTask(OptimizingTask task) {
     try {
       callAuthenticatedAms(
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.optimizer.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestMemoryAdmissionController {
+
+  @Test
+  public void testDisabled() throws InterruptedException {
+    MemoryAdmissionController controller = new MemoryAdmissionController(0);
+    Assert.assertFalse(controller.isEnabled());
+    Assert.assertTrue(controller.acquire(100, () -> true));
+    Assert.assertTrue(controller.acquire(100, () -> true));
+    Assert.assertTrue(controller.beginPolling(() -> true));
+    Assert.assertFalse(controller.isPolling());
+    Assert.assertTrue(controller.beginPolling(() -> true));
+    Assert.assertEquals(2, controller.getRunning());
+  }
+
+  @Test
+  public void testAlwaysAdmitFirstTask() throws InterruptedException {
+    MemoryAdmissionController controller = new MemoryAdmissionController(100);
+    Assert.assertTrue(controller.acquire(200, () -> true));
+    Assert.assertEquals(200, controller.getReserved());
+    controller.release(200);
+    Assert.assertEquals(0, controller.getReserved());
+    Assert.assertEquals(0, controller.getRunning());
+  }
+
+  @Test
+  public void testWaitForReleasedBudget() throws Exception {
+    MemoryAdmissionController controller = new MemoryAdmissionController(100);
+    Assert.assertTrue(controller.acquire(60, () -> true));
+    Assert.assertTrue(controller.acquire(30, () -> true));
+
+    CompletableFuture<Boolean> admitted =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return controller.acquire(50, () -> true);
+              } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+              }
+            });
+    try {
+      admitted.get(200, TimeUnit.MILLISECONDS);
+      Assert.fail("The task should wait for free budget");
+    } catch (TimeoutException e) {
+      // expected
+    }
+    controller.release(60);
+    Assert.assertTrue(admitted.get(10, TimeUnit.SECONDS));
+    Assert.assertEquals(80, controller.getReserved());
+    Assert.assertEquals(2, controller.getRunning());
+  }
+
+  @Test
+  public void testStopWaiting() throws Exception {
+    MemoryAdmissionController controller = new MemoryAdmissionController(100);
+    Assert.assertTrue(controller.acquire(100, () -> true));
+    AtomicBoolean started = new AtomicBoolean(true);
+    CompletableFuture<Boolean> polling =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return controller.beginPolling(started::get);
+              } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+              }
+            });
+    started.set(false);
+    Assert.assertFalse(polling.get(10, TimeUnit.SECONDS));
+    Assert.assertFalse(controller.isPolling());
+    Assert.assertFalse(controller.acquire(10, started::get));
+    Assert.assertEquals(100, controller.getReserved());
+    Assert.assertEquals(1, controller.getRunning());
+  }
+
+  @Test
+  public void testOnlyOneExecutorPolls() throws Exception {
+    MemoryAdmissionController controller = new MemoryAdmissionController(100);
+    Assert.assertTrue(controller.beginPolling(() -> true));
+    Assert.assertTrue(controller.isPolling());
+
+    CompletableFuture<Boolean> polling = beginPollingAsync(controller);
+    try {
+      polling.get(200, TimeUnit.MILLISECONDS);
+      Assert.fail("The executor should wait for the polling one");
+    } catch (TimeoutException e) {
+      // expected
+    }
+    // no task polled
+    controller.cancelPolling();
+    Assert.assertTrue(polling.get(10, TimeUnit.SECONDS));
+
+    // the polling permit is returned once the polled task is admitted
+    CompletableFuture<Boolean> nextPolling = beginPollingAsync(controller);
+    Assert.assertTrue(controller.acquire(30, () -> true));
+    Assert.assertTrue(nextPolling.get(10, TimeUnit.SECONDS));
+    Assert.assertEquals(30, controller.getReserved());
+  }
+
+  @Test
+  public void testPolledTaskHoldsPollingUntilAdmitted() throws Exception {
+    MemoryAdmissionController controller = new MemoryAdmissionController(100);
+    Assert.assertTrue(controller.acquire(80, () -> true));
+    Assert.assertTrue(controller.beginPolling(() -> true));
+
+    // the polled task does not fit, and nobody else could poll meanwhile
+    CompletableFuture<Boolean> admitted =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return controller.acquire(50, () -> true);
+              } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+              }
+            });
+    CompletableFuture<Boolean> polling = beginPollingAsync(controller);
+    try {
+      polling.get(200, TimeUnit.MILLISECONDS);
+      Assert.fail("The executor should wait for the polled task to be admitted");
+    } catch (TimeoutException e) {
+      // expected
+    }
+    Assert.assertFalse(admitted.isDone());
+
+    controller.release(80);
+    Assert.assertTrue(admitted.get(10, TimeUnit.SECONDS));
+    Assert.assertTrue(polling.get(10, TimeUnit.SECONDS));
+    Assert.assertEquals(50, controller.getReserved());
+  }
+
+  @Test
+  public void testAdmissionUnderContention() throws Exception {
+    MemoryAdmissionController controller = new MemoryAdmissionController(100);
+    int executors = 8;
+    AtomicInteger concurrent = new AtomicInteger();
+    AtomicInteger maxConcurrent = new AtomicInteger();
+    ExecutorService pool = Executors.newFixedThreadPool(executors);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < executors; i++) {
+        futures.add(
+            pool.submit(
+                () -> {
+                  for (int j = 0; j < 200; j++) {
+                    Assert.assertTrue(controller.beginPolling(() -> true));
+                    Assert.assertTrue(controller.acquire(40, () -> true));
+                    maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                    Thread.yield();
+                    concurrent.decrementAndGet();
+                    controller.release(40);
+                  }
+                  return null;
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get(60, TimeUnit.SECONDS);
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+    // only two tasks of 40 bytes fit into the budget of 100 bytes
+    Assert.assertTrue(maxConcurrent.get() <= 2);
+    Assert.assertEquals(0, controller.getReserved());
+    Assert.assertEquals(0, controller.getRunning());
+    Assert.assertFalse(controller.isPolling());
+  }
+
+  private CompletableFuture<Boolean> beginPollingAsync(MemoryAdmissionController controller) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try {
+            return controller.beginPolling(() -> true);
+          } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+          }
+        });
+  }
+}
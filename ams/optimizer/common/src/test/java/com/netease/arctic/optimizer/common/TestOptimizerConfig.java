@@ -38,6 +38,14 @@ public class TestOptimizerConfig {
     Assert.assertTrue(optimizerConfig.isExtendDiskStorage());
     Assert.assertEquals("/tmp/arctic", optimizerConfig.getDiskStoragePath());
     Assert.assertEquals(512, optimizerConfig.getMemoryStorageSize());
+    Assert.assertEquals(0, optimizerConfig.getMemoryAdmissionBudget());
+  }
+
+  @Test
+  public void testParseMemoryAdmissionBudget() throws CmdLineException {
+    String cmd = "-a thrift://127.0.0.1:1260 -p 4 -g g1 -mab 2048";
+    OptimizerConfig optimizerConfig = new OptimizerConfig(cmd.split(" "));
+    Assert.assertEquals(2048, optimizerConfig.getMemoryAdmissionBudget());
   }
 
   @Test
@@ -76,6 +76,21 @@ public class ArcticManagementConf {
           .defaultValue(1000000)
           .withDescription("The queue size of the executors of the external catalog explorer.");
 
+  public static final ConfigOption<Boolean> REFRESH_EXTERNAL_CATALOGS_INCREMENTAL_ENABLED =
+      ConfigOptions.key("refresh-external-catalogs.incremental.enabled")
+          .booleanType()
+          .defaultValue(false)
+          .withDescription(
+              "Enable refreshing only the changed tables of external catalogs which report their"
+                  + " changes, e.g. hive metastores with the DbNotificationListener configured.");
+
+  public static final ConfigOption<Long> REFRESH_EXTERNAL_CATALOGS_FULL_INTERVAL =
+      ConfigOptions.key("refresh-external-catalogs.full-interval")
+          .longType()
+          .defaultValue(60 * 60 * 1000L)
+          .withDescription(
+              "Interval to list all tables of the external catalogs refreshed incrementally.");
+
   public static final ConfigOption<Boolean> EXPIRE_SNAPSHOTS_ENABLED =
       ConfigOptions.key("expire-snapshots.enabled")
           .booleanType()
@@ -154,12 +169,46 @@ public class ArcticManagementConf {
           .defaultValue(60000L)
           .withDescription("Interval for refreshing table metadata.");
 
+  public static final ConfigOption<Long> REFRESH_TABLES_EVALUATING_INTERVAL =
+      ConfigOptions.key("refresh-tables.evaluating-interval")
+          .longType()
+          .defaultValue(300000L)
+          .withDescription(
+              "Min interval for evaluating the files of tables for their metrics if their "
+                  + "self-optimizing is disabled, running or not changed.");
+
   public static final ConfigOption<Long> BLOCKER_TIMEOUT =
       ConfigOptions.key("blocker.timeout")
           .longType()
           .defaultValue(60000L)
           .withDescription("session timeout in Milliseconds");
 
+  public static final ConfigOption<Integer> TABLE_TIME_SERIES_MAX_PARTITIONS =
+      ConfigOptions.key("table-time-series.max-partitions")
+          .intType()
+          .defaultValue(10)
+          .withDescription(
+              "The max partitions of a table whose metric time series are kept, the series of "
+                  + "partitions only keep the hour and day buckets.");
+
+  public static final ConfigOption<Integer> TABLE_TIME_SERIES_MINUTE_BUCKETS =
+      ConfigOptions.key("table-time-series.minute-buckets")
+          .intType()
+          .defaultValue(360)
+          .withDescription("The count of 1 minute buckets kept by a metric time series of tables.");
+
+  public static final ConfigOption<Integer> TABLE_TIME_SERIES_HOUR_BUCKETS =
+      ConfigOptions.key("table-time-series.hour-buckets")
+          .intType()
+          .defaultValue(168)
+          .withDescription("The count of 1 hour buckets kept by a metric time series of tables.");
+
+  public static final ConfigOption<Integer> TABLE_TIME_SERIES_DAY_BUCKETS =
+      ConfigOptions.key("table-time-series.day-buckets")
+          .intType()
+          .defaultValue(90)
+          .withDescription("The count of 1 day buckets kept by a metric time series of tables.");
+
   public static final ConfigOption<Boolean> HA_ENABLE =
       ConfigOptions.key("ha.enabled")
           .booleanType()
@@ -20,11 +20,14 @@ package com.netease.arctic.server.catalog;
 
 import com.netease.arctic.AmoroTable;
 import com.netease.arctic.CommonUnifiedCatalog;
+import com.netease.arctic.NoSuchDatabaseException;
+import com.netease.arctic.NoSuchTableException;
 import com.netease.arctic.TableIDWithFormat;
 import com.netease.arctic.UnifiedCatalog;
 import com.netease.arctic.ams.api.CatalogMeta;
 import com.netease.arctic.ams.api.TableFormat;
 import com.netease.arctic.ams.api.properties.CatalogMetaProperties;
+import com.netease.arctic.hive.CachedHiveClientPool;
 import com.netease.arctic.server.persistence.mapper.TableMetaMapper;
 import com.netease.arctic.server.table.ServerTableIdentifier;
 import com.netease.arctic.table.TableMetaStore;
@@ -33,16 +36,23 @@ import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class ExternalCatalog extends ServerCatalog {
 
+  private static final int NOTIFICATION_BATCH_SIZE = 1000;
+
   UnifiedCatalog unifiedCatalog;
   TableMetaStore tableMetaStore;
   private Pattern tableFilterPattern;
   private Pattern databaseFilterPattern;
+  private volatile HiveTableChangeTracker tableChangeTracker;
+  private TableMetaStore trackedMetaStore;
+  private Map<String, String> trackedProperties;
 
   protected ExternalCatalog(CatalogMeta metadata) {
     super(metadata);
@@ -52,6 +62,7 @@ public class ExternalCatalog extends ServerCatalog {
             () -> new CommonUnifiedCatalog(this::getMetadata, Maps.newHashMap()));
     updateTableFilter(metadata);
     updateDatabaseFilter(metadata);
+    updateTableChangeTracker(metadata);
   }
 
   public void syncTable(String database, String tableName, TableFormat format) {
@@ -80,6 +91,7 @@ public class ExternalCatalog extends ServerCatalog {
     this.unifiedCatalog.refresh();
     updateDatabaseFilter(metadata);
     updateTableFilter(metadata);
+    updateTableChangeTracker(metadata);
   }
 
   @Override
@@ -97,13 +109,15 @@ public class ExternalCatalog extends ServerCatalog {
     return doAs(
         () ->
             unifiedCatalog.listDatabases().stream()
-                .filter(
-                    database ->
-                        databaseFilterPattern == null
-                            || databaseFilterPattern.matcher(database).matches())
+                .filter(this::databaseIncluded)
                 .collect(Collectors.toList()));
   }
 
+  /** Whether the database is not excluded by the database filter. */
+  public boolean databaseIncluded(String database) {
+    return databaseFilterPattern == null || databaseFilterPattern.matcher(database).matches();
+  }
+
   @Override
   public List<TableIDWithFormat> listTables() {
     return doAs(
@@ -122,16 +136,50 @@ public class ExternalCatalog extends ServerCatalog {
                 unifiedCatalog.listTables(database).stream()
                     .filter(
                         tableIDWithFormat ->
-                            tableFilterPattern == null
-                                || tableFilterPattern
-                                    .matcher(
-                                        (database
-                                            + "."
-                                            + tableIDWithFormat.getIdentifier().getTableName()))
-                                    .matches())
+                            tableIncluded(
+                                database, tableIDWithFormat.getIdentifier().getTableName()))
                     .collect(Collectors.toList())));
   }
 
+  /**
+   * Load the format of a table.
+   *
+   * @return the format, or empty if the table does not exist or is excluded by the filters
+   */
+  public Optional<TableFormat> loadTableFormat(String database, String tableName) {
+    if (!databaseIncluded(database) || !tableIncluded(database, tableName)) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(loadTable(database, tableName).format());
+    } catch (NoSuchTableException | NoSuchDatabaseException e) {
+      return Optional.empty();
+    }
+  }
+
+  /** Whether the changed tables of this catalog could be polled instead of listing all tables. */
+  public boolean supportsTableChanges() {
+    return tableChangeTracker != null;
+  }
+
+  /** Track the changed tables from now on, which should be called before listing all tables. */
+  public void resetTableChanges() {
+    HiveTableChangeTracker tracker = tableChangeTracker;
+    if (tracker != null) {
+      tracker.reset();
+    }
+  }
+
+  /**
+   * Poll the tables changed since the last poll.
+   *
+   * @return the changes, or null if they are unknown and all tables should be listed
+   */
+  public TableChanges pollTableChanges() {
+    HiveTableChangeTracker tracker = tableChangeTracker;
+    return tracker == null ? null : tracker.poll();
+  }
+
   @Override
   public AmoroTable<?> loadTable(String database, String tableName) {
     return doAs(() -> unifiedCatalog.loadTable(database, tableName));
@@ -147,6 +195,35 @@ public class ExternalCatalog extends ServerCatalog {
     }
   }
 
+  /** Whether the table is not excluded by the table filter. */
+  public boolean tableIncluded(String database, String tableName) {
+    return tableFilterPattern == null
+        || tableFilterPattern.matcher(database + "." + tableName).matches();
+  }
+
+  private void updateTableChangeTracker(CatalogMeta metadata) {
+    if (!CatalogMetaProperties.CATALOG_TYPE_HIVE.equals(metadata.getCatalogType())) {
+      this.tableChangeTracker = null;
+      this.trackedMetaStore = null;
+      this.trackedProperties = null;
+      return;
+    }
+    Map<String, String> properties = Maps.newHashMap(metadata.getCatalogProperties());
+    properties.remove(CatalogMetaProperties.KEY_DATABASE_FILTER);
+    properties.remove(CatalogMetaProperties.KEY_TABLE_FILTER);
+    // keep the tracker and its client pool unless the connection to the metastore changes
+    if (tableChangeTracker != null
+        && tableMetaStore.equals(trackedMetaStore)
+        && properties.equals(trackedProperties)) {
+      return;
+    }
+    this.trackedMetaStore = tableMetaStore;
+    this.trackedProperties = properties;
+    this.tableChangeTracker =
+        new HiveTableChangeTracker(
+            new CachedHiveClientPool(tableMetaStore, properties), NOTIFICATION_BATCH_SIZE);
+  }
+
   private void updateTableFilter(CatalogMeta metadata) {
     String tableFilter =
         metadata.getCatalogProperties().get(CatalogMetaProperties.KEY_TABLE_FILTER);
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.server.catalog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netease.arctic.hive.HMSClientPool;
+import org.apache.hadoop.hive.metastore.api.NotificationEvent;
+import org.apache.hadoop.hive.metastore.api.NotificationEventResponse;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.protocol.TJSONProtocol;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Tracks the tables changed in a hive metastore by its notification events, which are only
+ * recorded when the DbNotificationListener is configured as a listener of the metastore.
+ */
+public class HiveTableChangeTracker {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HiveTableChangeTracker.class);
+
+  static final String CREATE_DATABASE = "CREATE_DATABASE";
+  static final String DROP_DATABASE = "DROP_DATABASE";
+  static final String CREATE_TABLE = "CREATE_TABLE";
+  static final String DROP_TABLE = "DROP_TABLE";
+  static final String ALTER_TABLE = "ALTER_TABLE";
+
+  /**
+   * Times the current event id is reset to without advancing, after which the events are thought
+   * not to be recorded.
+   */
+  static final int MAX_UNCHANGED_RESETS = 3;
+
+  private static final String TABLE_BEFORE_FIELD = "tableObjBeforeJson";
+  private static final String TABLE_AFTER_FIELD = "tableObjAfterJson";
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final HMSClientPool clientPool;
+  private final int batchSize;
+  private long lastEventId = -1;
+  private long resetEventId = -1;
+  private int unchangedResets = 0;
+
+  public HiveTableChangeTracker(HMSClientPool clientPool, int batchSize) {
+    this.clientPool = clientPool;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Track the changes after the current event of the metastore. The changes are not tracked if the
+   * current event id is 0 or does not advance across several resets, as the metastore records no
+   * events without the DbNotificationListener.
+   */
+  public synchronized void reset() {
+    try {
+      long currentEventId =
+          clientPool.run(client -> client.getCurrentNotificationEventId().getEventId());
+      unchangedResets = currentEventId == resetEventId ? unchangedResets + 1 : 0;
+      resetEventId = currentEventId;
+      if (currentEventId <= 0 || unchangedResets >= MAX_UNCHANGED_RESETS) {
+        lastEventId = -1;
+        LOG.warn(
+            "Notification event id {} does not advance, the DbNotificationListener may not be"
+                + " configured, changes are not tracked",
+            currentEventId);
+      } else {
+        lastEventId = currentEventId;
+      }
+    } catch (Exception e) {
+      lastEventId = -1;
+      LOG.warn("Failed to get the current notification event id, changes are not tracked", e);
+    }
+  }
+
+  /**
+   * Poll the changes since the last poll.
+   *
+   * @return the changes, or null if they are unknown since the tracker is not reset or the events
+   *     are cleaned before they are polled, all tables should be listed then
+   */
+  public synchronized TableChanges poll() {
+    if (lastEventId < 0) {
+      return null;
+    }
+    TableChanges changes = new TableChanges();
+    try {
+      List<NotificationEvent> events;
+      do {
+        long fromEventId = lastEventId;
+        NotificationEventResponse response =
+            clientPool.run(client -> client.getNextNotification(fromEventId, batchSize));
+        events = response.getEvents();
+        if (events == null || events.isEmpty()) {
+          break;
+        }
+        if (events.get(0).getEventId() > fromEventId + 1) {
+          LOG.warn("Notification events after {} are cleaned before they are polled", fromEventId);
+          lastEventId = -1;
+          return null;
+        }
+        events.forEach(event -> addChange(changes, event));
+        lastEventId = events.get(events.size() - 1).getEventId();
+      } while (events.size() >= batchSize);
+    } catch (Exception e) {
+      LOG.warn("Failed to poll the notification events after {}", lastEventId, e);
+      lastEventId = -1;
+      return null;
+    }
+    return changes;
+  }
+
+  private static void addChange(TableChanges changes, NotificationEvent event) {
+    switch (event.getEventType()) {
+      case CREATE_DATABASE:
+      case DROP_DATABASE:
+        changes.addDatabase(event.getDbName());
+        break;
+      case CREATE_TABLE:
+      case DROP_TABLE:
+        changes.addTable(event.getDbName(), event.getTableName());
+        break;
+      case ALTER_TABLE:
+        Table[] alteredTables = parseAlteredTables(event.getMessage());
+        if (alteredTables == null) {
+          changes.addAlteredTable(event.getDbName(), event.getTableName());
+        } else {
+          // a rename changes both the old and the new table
+          for (Table table : alteredTables) {
+            changes.addTable(table.getDbName(), table.getTableName());
+          }
+        }
+        break;
+      default:
+        // events of partitions, functions and so on do not change the tables
+    }
+  }
+
+  /**
+   * Parse the tables before and after an alter from the message of the event, in which the json
+   * message factory serializes them by the thrift json protocol.
+   *
+   * @return the tables before and after the alter, or null if the message does not contain them,
+   *     e.g. messages of hive 2.x only name the altered table
+   */
+  static Table[] parseAlteredTables(String message) {
+    if (message == null) {
+      return null;
+    }
+    try {
+      JsonNode node = MAPPER.readTree(message);
+      JsonNode before = node.get(TABLE_BEFORE_FIELD);
+      JsonNode after = node.get(TABLE_AFTER_FIELD);
+      if (before == null || after == null) {
+        return null;
+      }
+      TDeserializer deserializer = new TDeserializer(new TJSONProtocol.Factory());
+      Table tableBefore = new Table();
+      deserializer.deserialize(tableBefore, before.asText(), "UTF-8");
+      Table tableAfter = new Table();
+      deserializer.deserialize(tableAfter, after.asText(), "UTF-8");
+      return new Table[] {tableBefore, tableAfter};
+    } catch (Exception e) {
+      LOG.debug("Failed to parse the tables of the alter table message {}", message, e);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.server.catalog;
+
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/** The databases and tables changed in an external catalog since the changes were last polled. */
+public class TableChanges {
+
+  private final Set<String> databases = Sets.newHashSet();
+  private final Map<String, Set<String>> tables = Maps.newHashMap();
+  private final Map<String, Set<String>> alteredTables = Maps.newHashMap();
+
+  /** Mark all tables of the database as changed, e.g. when the database is created or dropped. */
+  public void addDatabase(String database) {
+    databases.add(database);
+    tables.remove(database);
+    alteredTables.remove(database);
+  }
+
+  public void addTable(String database, String tableName) {
+    if (!databases.contains(database)) {
+      tables.computeIfAbsent(database, db -> Sets.newHashSet()).add(tableName);
+    }
+  }
+
+  /**
+   * Mark the table as altered when the alter could not be parsed. The alter may rename the table,
+   * and the metastore names it by either the old or the new name, so the other one is unknown.
+   */
+  public void addAlteredTable(String database, String tableName) {
+    if (!databases.contains(database)) {
+      addTable(database, tableName);
+      alteredTables.computeIfAbsent(database, db -> Sets.newHashSet()).add(tableName);
+    }
+  }
+
+  /** Whether the changed table is altered, and may be renamed. */
+  public boolean isAltered(String database, String tableName) {
+    return alteredTables.getOrDefault(database, Collections.emptySet()).contains(tableName);
+  }
+
+  /** Databases of which all tables should be listed again. */
+  public Set<String> databases() {
+    return Collections.unmodifiableSet(databases);
+  }
+
+  /** Changed tables grouped by their databases, which are not in {@link #databases()}. */
+  public Map<String, Set<String>> tables() {
+    return Collections.unmodifiableMap(tables);
+  }
+
+  public boolean isEmpty() {
+    return databases.isEmpty() && tables.isEmpty();
+  }
+}
@@ -205,6 +205,12 @@ public class DashboardServer {
             get(
                 "/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/operations",
                 tableController::getTableOperations);
+            get(
+                "/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/metrics",
+                tableController::getTableMetrics);
+            get(
+                "/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/metrics/{metric}",
+                tableController::getTableMetricPoints);
             get("/catalogs/{catalog}/databases/{db}/tables", tableController::getTableList);
             get("/catalogs/{catalog}/databases", tableController::getDatabaseList);
             get("/catalogs", tableController::getCatalogs);
@@ -325,6 +331,12 @@ public class DashboardServer {
             get(
                 "/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/operations",
                 tableController::getTableOperations);
+            get(
+                "/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/metrics",
+                tableController::getTableMetrics);
+            get(
+                "/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/metrics/{metric}",
+                tableController::getTableMetricPoints);
             get(
                 "/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/signature",
                 tableController::getTableDetailTabToken);
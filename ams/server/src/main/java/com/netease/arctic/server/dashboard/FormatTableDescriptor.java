@@ -31,7 +31,9 @@ import com.netease.arctic.server.dashboard.model.ServerTableMeta;
 import com.netease.arctic.server.dashboard.model.TagOrBranchInfo;
 import org.apache.iceberg.util.Pair;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /** API for obtaining metadata information of various formats. */
 public interface FormatTableDescriptor {
@@ -55,10 +57,34 @@ public interface FormatTableDescriptor {
   /** Get the partition information of the {@link AmoroTable}. */
   List<PartitionBaseInfo> getTablePartitions(AmoroTable<?> amoroTable);
 
+  /**
+   * Get the paged partition information of the {@link AmoroTable} whose partition contains the
+   * filter, sorted by partition in descending order, and the total size after filtering.
+   */
+  default Pair<List<PartitionBaseInfo>, Integer> getTablePartitions(
+      AmoroTable<?> amoroTable, String filter, int limit, int offset) {
+    List<PartitionBaseInfo> partitions =
+        getTablePartitions(amoroTable).stream()
+            .filter(p -> filter == null || p.getPartition().contains(filter))
+            .sorted(Comparator.comparing(PartitionBaseInfo::getPartition).reversed())
+            .collect(Collectors.toList());
+    return Pair.of(
+        partitions.stream().skip(offset).limit(limit).collect(Collectors.toList()),
+        partitions.size());
+  }
+
   /** Get the file information of the {@link AmoroTable}. */
   List<PartitionFileBaseInfo> getTableFiles(
       AmoroTable<?> amoroTable, String partition, Integer specId);
 
+  /** Get the paged file information of the {@link AmoroTable} and total size. */
+  default Pair<List<PartitionFileBaseInfo>, Integer> getTableFiles(
+      AmoroTable<?> amoroTable, String partition, Integer specId, int limit, int offset) {
+    List<PartitionFileBaseInfo> files = getTableFiles(amoroTable, partition, specId);
+    return Pair.of(
+        files.stream().skip(offset).limit(limit).collect(Collectors.toList()), files.size());
+  }
+
   /** Get the paged optimizing process information of the {@link AmoroTable} and total size. */
   Pair<List<OptimizingProcessInfo>, Integer> getOptimizingProcessesInfo(
       AmoroTable<?> amoroTable, int limit, int offset);
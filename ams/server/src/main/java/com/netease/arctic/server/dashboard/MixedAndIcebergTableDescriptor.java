@@ -20,6 +20,8 @@ package com.netease.arctic.server.dashboard;
 
 import static com.netease.arctic.server.dashboard.utils.AmsUtil.byteToXB;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.netease.arctic.AmoroTable;
 import com.netease.arctic.ams.api.CommitMetaProducer;
 import com.netease.arctic.ams.api.TableFormat;
@@ -54,6 +56,7 @@ import com.netease.arctic.table.TableProperties;
 import com.netease.arctic.table.UnkeyedTable;
 import com.netease.arctic.utils.ArcticDataFiles;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.HasTableOperations;
 import org.apache.iceberg.IcebergFindFiles;
@@ -81,7 +84,9 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -91,8 +96,24 @@ public class MixedAndIcebergTableDescriptor extends PersistentBase
 
   private static final Logger LOG = LoggerFactory.getLogger(MixedAndIcebergTableDescriptor.class);
 
+  /** Max count of partition summaries kept in the cache among all tables. */
+  private static final long PARTITION_SUMMARY_CACHE_MAX_PARTITIONS = 1_000_000;
+
+  private static final long PARTITION_SUMMARY_CACHE_EXPIRE_MINUTES = 10;
+
   private final ExecutorService executorService;
 
+  /**
+   * Partition summaries sorted by partition in descending order, keyed on table and snapshots, so
+   * paging through partitions of an unchanged table does not scan the manifests again.
+   */
+  private final Cache<PartitionSummaryKey, List<PartitionBaseInfo>> partitionSummaryCache =
+      Caffeine.newBuilder()
+          .maximumWeight(PARTITION_SUMMARY_CACHE_MAX_PARTITIONS)
+          .weigher((PartitionSummaryKey key, List<PartitionBaseInfo> value) -> value.size())
+          .expireAfterAccess(PARTITION_SUMMARY_CACHE_EXPIRE_MINUTES, TimeUnit.MINUTES)
+          .build();
+
   public MixedAndIcebergTableDescriptor(ExecutorService executorService) {
     this.executorService = executorService;
   }
@@ -441,6 +462,64 @@ public class MixedAndIcebergTableDescriptor extends PersistentBase
     }
   }
 
+  @Override
+  public Pair<List<PartitionBaseInfo>, Integer> getTablePartitions(
+      AmoroTable<?> amoroTable, String filter, int limit, int offset) {
+    ArcticTable arcticTable = getTable(amoroTable);
+    if (arcticTable.spec().isUnpartitioned()) {
+      return Pair.of(Collections.emptyList(), 0);
+    }
+    List<PartitionBaseInfo> partitions =
+        partitionSummaryCache.get(
+            PartitionSummaryKey.of(arcticTable),
+            key -> {
+              List<PartitionBaseInfo> summaries = getTablePartitions(amoroTable);
+              summaries.sort(Comparator.comparing(PartitionBaseInfo::getPartition).reversed());
+              return Collections.unmodifiableList(summaries);
+            });
+    if (StringUtils.isEmpty(filter)) {
+      return Pair.of(
+          partitions.stream().skip(offset).limit(limit).collect(Collectors.toList()),
+          partitions.size());
+    }
+    List<PartitionBaseInfo> page = new ArrayList<>();
+    int total = 0;
+    for (PartitionBaseInfo partition : partitions) {
+      if (partition.getPartition().contains(filter)) {
+        if (total >= offset && page.size() < limit) {
+          page.add(partition);
+        }
+        total++;
+      }
+    }
+    return Pair.of(page, total);
+  }
+
+  @Override
+  public Pair<List<PartitionFileBaseInfo>, Integer> getTableFiles(
+      AmoroTable<?> amoroTable, String partition, Integer specId, int limit, int offset) {
+    // only keep the files of requested page in memory, the others are just counted
+    CloseableIterable<PartitionFileBaseInfo> tableFilesIterable =
+        getTableFilesInternal(amoroTable, partition, specId);
+    try {
+      List<PartitionFileBaseInfo> page = new ArrayList<>();
+      int total = 0;
+      for (PartitionFileBaseInfo fileInfo : tableFilesIterable) {
+        if (total >= offset && page.size() < limit) {
+          page.add(fileInfo);
+        }
+        total++;
+      }
+      return Pair.of(page, total);
+    } finally {
+      try {
+        tableFilesIterable.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close the manifest reader.", e);
+      }
+    }
+  }
+
   @Override
   public List<TagOrBranchInfo> getTableTags(AmoroTable<?> amoroTable) {
     return getTableTagsOrBranches(amoroTable, SnapshotRef::isTag);
@@ -673,6 +752,53 @@ public class MixedAndIcebergTableDescriptor extends PersistentBase
     return (ArcticTable) amoroTable.originalTable();
   }
 
+  private static class PartitionSummaryKey {
+    private final TableIdentifier tableIdentifier;
+    private final long baseSnapshotId;
+    private final long changeSnapshotId;
+
+    private PartitionSummaryKey(
+        TableIdentifier tableIdentifier, long baseSnapshotId, long changeSnapshotId) {
+      this.tableIdentifier = tableIdentifier;
+      this.baseSnapshotId = baseSnapshotId;
+      this.changeSnapshotId = changeSnapshotId;
+    }
+
+    static PartitionSummaryKey of(ArcticTable table) {
+      if (table.isKeyedTable()) {
+        return new PartitionSummaryKey(
+            table.id(),
+            snapshotIdOf(table.asKeyedTable().baseTable()),
+            snapshotIdOf(table.asKeyedTable().changeTable()));
+      }
+      return new PartitionSummaryKey(table.id(), snapshotIdOf(table.asUnkeyedTable()), -1);
+    }
+
+    private static long snapshotIdOf(Table table) {
+      Snapshot snapshot = table.currentSnapshot();
+      return snapshot == null ? -1 : snapshot.snapshotId();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PartitionSummaryKey that = (PartitionSummaryKey) o;
+      return baseSnapshotId == that.baseSnapshotId
+          && changeSnapshotId == that.changeSnapshotId
+          && Objects.equals(tableIdentifier, that.tableIdentifier);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(tableIdentifier, baseSnapshotId, changeSnapshotId);
+    }
+  }
+
   private List<TagOrBranchInfo> getTableTagsOrBranches(
       AmoroTable<?> amoroTable, Predicate<SnapshotRef> predicate) {
     ArcticTable arcticTable = getTable(amoroTable);
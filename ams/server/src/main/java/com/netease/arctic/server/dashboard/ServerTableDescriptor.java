@@ -105,6 +105,20 @@ public class ServerTableDescriptor extends PersistentBase {
     return formatTableDescriptor.getTableFiles(amoroTable, partition, specId);
   }
 
+  public Pair<List<PartitionBaseInfo>, Integer> getTablePartition(
+      TableIdentifier tableIdentifier, String filter, int limit, int offset) {
+    AmoroTable<?> amoroTable = loadTable(tableIdentifier);
+    FormatTableDescriptor formatTableDescriptor = formatDescriptorMap.get(amoroTable.format());
+    return formatTableDescriptor.getTablePartitions(amoroTable, filter, limit, offset);
+  }
+
+  public Pair<List<PartitionFileBaseInfo>, Integer> getTableFile(
+      TableIdentifier tableIdentifier, String partition, Integer specId, int limit, int offset) {
+    AmoroTable<?> amoroTable = loadTable(tableIdentifier);
+    FormatTableDescriptor formatTableDescriptor = formatDescriptorMap.get(amoroTable.format());
+    return formatTableDescriptor.getTableFiles(amoroTable, partition, specId, limit, offset);
+  }
+
   public List<TagOrBranchInfo> getTableTags(TableIdentifier tableIdentifier) {
     AmoroTable<?> amoroTable = loadTable(tableIdentifier);
     FormatTableDescriptor formatTableDescriptor = formatDescriptorMap.get(amoroTable.format());
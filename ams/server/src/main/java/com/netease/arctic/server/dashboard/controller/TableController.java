@@ -50,9 +50,11 @@ import com.netease.arctic.server.dashboard.response.OkResponse;
 import com.netease.arctic.server.dashboard.response.PageResult;
 import com.netease.arctic.server.dashboard.utils.AmsUtil;
 import com.netease.arctic.server.dashboard.utils.CommonUtil;
+import com.netease.arctic.server.metrics.TimeSeries;
 import com.netease.arctic.server.table.ServerTableIdentifier;
 import com.netease.arctic.server.table.TableRuntime;
 import com.netease.arctic.server.table.TableService;
+import com.netease.arctic.server.table.TableTimeSeries;
 import com.netease.arctic.server.utils.Configurations;
 import com.netease.arctic.table.TableIdentifier;
 import com.netease.arctic.table.TableProperties;
@@ -69,7 +71,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -386,18 +387,15 @@ public class TableController {
     Integer page = ctx.queryParamAsClass("page", Integer.class).getOrDefault(1);
     Integer pageSize = ctx.queryParamAsClass("pageSize", Integer.class).getOrDefault(20);
 
-    List<PartitionBaseInfo> partitionBaseInfos =
-        tableDescriptor.getTablePartition(
-            TableIdentifier.of(catalog, database, table).buildTableIdentifier());
-    partitionBaseInfos =
-        partitionBaseInfos.stream()
-            .filter(e -> e.getPartition().contains(filter))
-            .sorted(Comparator.comparing(PartitionBaseInfo::getPartition).reversed())
-            .collect(Collectors.toList());
     int offset = (page - 1) * pageSize;
-    PageResult<PartitionBaseInfo> amsPageResult =
-        PageResult.of(partitionBaseInfos, offset, pageSize);
-    ctx.json(OkResponse.of(amsPageResult));
+    Pair<List<PartitionBaseInfo>, Integer> partitionBaseInfos =
+        tableDescriptor.getTablePartition(
+            TableIdentifier.of(catalog, database, table).buildTableIdentifier(),
+            filter,
+            pageSize,
+            offset);
+    ctx.json(
+        OkResponse.of(PageResult.of(partitionBaseInfos.first(), partitionBaseInfos.second())));
   }
 
   /**
@@ -415,13 +413,17 @@ public class TableController {
     Integer page = ctx.queryParamAsClass("page", Integer.class).getOrDefault(1);
     Integer pageSize = ctx.queryParamAsClass("pageSize", Integer.class).getOrDefault(20);
 
-    List<PartitionFileBaseInfo> partitionFileBaseInfos =
-        tableDescriptor.getTableFile(
-            TableIdentifier.of(catalog, db, table).buildTableIdentifier(), partition, specId);
     int offset = (page - 1) * pageSize;
-    PageResult<PartitionFileBaseInfo> amsPageResult =
-        PageResult.of(partitionFileBaseInfos, offset, pageSize);
-    ctx.json(OkResponse.of(amsPageResult));
+    Pair<List<PartitionFileBaseInfo>, Integer> partitionFileBaseInfos =
+        tableDescriptor.getTableFile(
+            TableIdentifier.of(catalog, db, table).buildTableIdentifier(),
+            partition,
+            specId,
+            pageSize,
+            offset);
+    ctx.json(
+        OkResponse.of(
+            PageResult.of(partitionFileBaseInfos.first(), partitionFileBaseInfos.second())));
   }
 
   /**
@@ -618,6 +620,49 @@ public class TableController {
     ctx.json(OkResponse.ok());
   }
 
+  /**
+   * get the metrics recorded in the time series of the table and of each partition.
+   *
+   * @param ctx - context for handling the request and response
+   */
+  public void getTableMetrics(Context ctx) {
+    TableRuntime tableRuntime = getTableRuntime(ctx);
+    ctx.json(OkResponse.of(tableRuntime.getTimeSeries().metrics()));
+  }
+
+  /**
+   * get the points of a metric of the table or of a partition, since the given time in
+   * milliseconds which is one day ago by default.
+   *
+   * @param ctx - context for handling the request and response
+   */
+  public void getTableMetricPoints(Context ctx) {
+    TableRuntime tableRuntime = getTableRuntime(ctx);
+    String metric = ctx.pathParam("metric");
+    String partition =
+        ctx.queryParamAsClass("partition", String.class).getOrDefault(TableTimeSeries.TABLE);
+    long now = System.currentTimeMillis();
+    Long from =
+        ctx.queryParamAsClass("from", Long.class).getOrDefault(now - TimeUnit.DAYS.toMillis(1));
+    List<TimeSeries.Point> points =
+        tableRuntime.getTimeSeries().points(partition, metric, from, now);
+    ctx.json(OkResponse.of(points));
+  }
+
+  private TableRuntime getTableRuntime(Context ctx) {
+    String catalog = ctx.pathParam("catalog");
+    String db = ctx.pathParam("db");
+    String table = ctx.pathParam("table");
+    Preconditions.checkState(tableService.catalogExist(catalog), "invalid catalog!");
+    ServerTableIdentifier serverTableIdentifier =
+        tableService.getServerTableIdentifier(
+            TableIdentifier.of(catalog, db, table).buildTableIdentifier());
+    TableRuntime tableRuntime =
+        serverTableIdentifier != null ? tableService.getRuntime(serverTableIdentifier) : null;
+    Preconditions.checkArgument(tableRuntime != null, "no such table");
+    return tableRuntime;
+  }
+
   private void putMainBranchFirst(List<TagOrBranchInfo> branchInfos) {
     if (branchInfos.size() <= 1) {
       return;
@@ -105,6 +105,14 @@ public abstract class AbstractResourceContainer implements ResourceContainer {
                 resource.getProperties().get(OptimizerProperties.OPTIMIZER_MEMORY_STORAGE_SIZE));
       }
     }
+    if (resource
+        .getProperties()
+        .containsKey(OptimizerProperties.OPTIMIZER_MEMORY_ADMISSION_BUDGET)) {
+      stringBuilder
+          .append(" -mab ")
+          .append(
+              resource.getProperties().get(OptimizerProperties.OPTIMIZER_MEMORY_ADMISSION_BUDGET));
+    }
     if (StringUtils.isNotEmpty(resource.getResourceId())) {
       stringBuilder.append(" -id ").append(resource.getResourceId());
     }
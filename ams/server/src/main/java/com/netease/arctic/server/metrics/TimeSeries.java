@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.server.metrics;
+
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+
+import java.util.List;
+
+/**
+ * A time series of a metric kept in memory. The values are downsampled into the buckets of several
+ * resolutions, the buckets of each resolution are kept in a ring buffer, so a resolution retains
+ * the values of its last capacity buckets and the memory of a series is bounded. The ring buffers
+ * grow on demand up to their capacity, so a series with few values only takes a few buckets.
+ */
+public class TimeSeries {
+
+  private final Ring[] rings;
+  private long lastTimestamp = -1;
+
+  /** @param resolutions resolutions ordered from the finest to the coarsest */
+  public TimeSeries(List<Resolution> resolutions) {
+    Preconditions.checkArgument(!resolutions.isEmpty(), "Resolutions must not be empty");
+    this.rings = new Ring[resolutions.size()];
+    for (int i = 0; i < rings.length; i++) {
+      if (i > 0) {
+        Preconditions.checkArgument(
+            resolutions.get(i).retention() >= resolutions.get(i - 1).retention(),
+            "Resolutions must be ordered by retention");
+      }
+      rings[i] = new Ring(resolutions.get(i));
+    }
+  }
+
+  /** Add a value, values older than the last bucket of a resolution are ignored by it. */
+  public synchronized void add(long timestamp, double value) {
+    for (Ring ring : rings) {
+      ring.add(timestamp, value);
+    }
+    lastTimestamp = Math.max(lastTimestamp, timestamp);
+  }
+
+  /**
+   * Get the points since the given time from the finest resolution retaining the time, or from the
+   * coarsest resolution if none of them retains it.
+   */
+  public synchronized List<Point> points(long from, long now) {
+    for (Ring ring : rings) {
+      if (now - ring.resolution.retention() <= from) {
+        return ring.points(from);
+      }
+    }
+    return rings[rings.length - 1].points(from);
+  }
+
+  /** Get the timestamp of the last added value, -1 if no value is added. */
+  public synchronized long lastTimestamp() {
+    return lastTimestamp;
+  }
+
+  /** Get the count of the buckets allocated by all resolutions. */
+  synchronized int allocatedBuckets() {
+    int buckets = 0;
+    for (Ring ring : rings) {
+      buckets += ring.allocated();
+    }
+    return buckets;
+  }
+
+  /** Whether all values of the series have been out of the retention of the coarsest resolution. */
+  public synchronized boolean isExpired(long now) {
+    return now - lastTimestamp > rings[rings.length - 1].resolution.retention();
+  }
+
+  public static class Resolution {
+    private final long interval;
+    private final int capacity;
+
+    /**
+     * @param interval the interval of a bucket in milliseconds
+     * @param capacity the count of the retained buckets
+     */
+    public Resolution(long interval, int capacity) {
+      Preconditions.checkArgument(interval > 0, "Illegal interval: %s", interval);
+      Preconditions.checkArgument(capacity > 0, "Illegal capacity: %s", capacity);
+      this.interval = interval;
+      this.capacity = capacity;
+    }
+
+    public long interval() {
+      return interval;
+    }
+
+    public int capacity() {
+      return capacity;
+    }
+
+    public long retention() {
+      return interval * capacity;
+    }
+  }
+
+  /** The aggregated values of a bucket, the timestamp is the start of the bucket. */
+  public static class Point {
+    private final long timestamp;
+    private final double avg;
+    private final double min;
+    private final double max;
+    private final int count;
+
+    public Point(long timestamp, double avg, double min, double max, int count) {
+      this.timestamp = timestamp;
+      this.avg = avg;
+      this.min = min;
+      this.max = max;
+      this.count = count;
+    }
+
+    public long getTimestamp() {
+      return timestamp;
+    }
+
+    public double getAvg() {
+      return avg;
+    }
+
+    public double getMin() {
+      return min;
+    }
+
+    public double getMax() {
+      return max;
+    }
+
+    public int getCount() {
+      return count;
+    }
+  }
+
+  private static class Ring {
+    private static final int INITIAL_BUCKETS = 8;
+
+    private final Resolution resolution;
+    private long[] starts = new long[0];
+    private double[] sums = new double[0];
+    private double[] mins = new double[0];
+    private double[] maxs = new double[0];
+    private int[] counts = new int[0];
+    // index of the last bucket, -1 if there is no bucket
+    private int last = -1;
+    private int size = 0;
+
+    private Ring(Resolution resolution) {
+      this.resolution = resolution;
+    }
+
+    private void add(long timestamp, double value) {
+      long start = timestamp - Math.floorMod(timestamp, resolution.interval());
+      if (last >= 0 && start < starts[last]) {
+        return;
+      }
+      if (last < 0 || start > starts[last]) {
+        if (size == starts.length && size < resolution.capacity()) {
+          grow(Math.min(Math.max(size * 2, INITIAL_BUCKETS), resolution.capacity()));
+        }
+        last = (last + 1) % starts.length;
+        size = Math.min(size + 1, starts.length);
+        starts[last] = start;
+        sums[last] = 0;
+        mins[last] = value;
+        maxs[last] = value;
+        counts[last] = 0;
+      }
+      sums[last] += value;
+      mins[last] = Math.min(mins[last], value);
+      maxs[last] = Math.max(maxs[last], value);
+      counts[last]++;
+    }
+
+    /** Copy the buckets to larger arrays, ordered from the oldest so the ring does not wrap. */
+    private void grow(int length) {
+      long[] newStarts = new long[length];
+      double[] newSums = new double[length];
+      double[] newMins = new double[length];
+      double[] newMaxs = new double[length];
+      int[] newCounts = new int[length];
+      for (int i = 0; i < size; i++) {
+        int index = Math.floorMod(last - size + 1 + i, starts.length);
+        newStarts[i] = starts[index];
+        newSums[i] = sums[index];
+        newMins[i] = mins[index];
+        newMaxs[i] = maxs[index];
+        newCounts[i] = counts[index];
+      }
+      starts = newStarts;
+      sums = newSums;
+      mins = newMins;
+      maxs = newMaxs;
+      counts = newCounts;
+      last = size - 1;
+    }
+
+    private List<Point> points(long from) {
+      List<Point> points = Lists.newArrayListWithCapacity(size);
+      for (int i = size - 1; i >= 0; i--) {
+        int index = Math.floorMod(last - i, starts.length);
+        if (starts[index] + resolution.interval() > from) {
+          points.add(
+              new Point(
+                  starts[index],
+                  sums[index] / counts[index],
+                  mins[index],
+                  maxs[index],
+                  counts[index]));
+        }
+      }
+      return points;
+    }
+
+    /** The count of allocated buckets. */
+    private int allocated() {
+      return starts.length;
+    }
+  }
+}
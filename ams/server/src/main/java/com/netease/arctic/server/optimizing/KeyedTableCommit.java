@@ -41,6 +41,7 @@ import org.apache.iceberg.RewriteFiles;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.util.StructLikeMap;
 import org.glassfish.jersey.internal.guava.Sets;
 import org.slf4j.Logger;
@@ -87,27 +88,32 @@ public class KeyedTableCommit extends UnKeyedTableCommit {
     }
     LOG.info("{} found tasks to commit from snapshot {}", table.id(), fromSnapshotId);
 
-    // In the scene of moving files to hive, the files will be renamed
-    List<DataFile> hiveNewDataFiles = moveFile2HiveIfNeed();
-
-    Set<DataFile> addedDataFiles = Sets.newHashSet();
-    Set<DataFile> removedDataFiles = Sets.newHashSet();
-    Set<DeleteFile> addedDeleteFiles = Sets.newHashSet();
-    Set<DeleteFile> removedDeleteFiles = Sets.newHashSet();
-
     StructLikeMap<Long> partitionOptimizedSequence =
         ArcticTableUtil.readOptimizedSequence(table.asKeyedTable());
 
+    List<TaskRuntime> committingTasks = Lists.newArrayList();
     for (TaskRuntime taskRuntime : tasks) {
-      RewriteFilesInput input = taskRuntime.getInput();
-      StructLike partition = partition(input);
+      StructLike partition = partition(taskRuntime.getInput());
 
       // Check if the partition version has expired
       if (fileInPartitionNeedSkip(
           partition, partitionOptimizedSequence, fromSequenceOfPartitions)) {
         toSequenceOfPartitions.remove(partition);
-        continue;
+      } else {
+        committingTasks.add(taskRuntime);
       }
+    }
+
+    // In the scene of moving files to hive, the files will be renamed
+    List<DataFile> hiveNewDataFiles = moveFile2HiveIfNeed(committingTasks);
+
+    Set<DataFile> addedDataFiles = Sets.newHashSet();
+    Set<DataFile> removedDataFiles = Sets.newHashSet();
+    Set<DeleteFile> addedDeleteFiles = Sets.newHashSet();
+    Set<DeleteFile> removedDeleteFiles = Sets.newHashSet();
+
+    for (TaskRuntime taskRuntime : committingTasks) {
+      RewriteFilesInput input = taskRuntime.getInput();
       // Only base data file need to remove
       if (input.rewrittenDataFiles() != null) {
         Arrays.stream(input.rewrittenDataFiles())
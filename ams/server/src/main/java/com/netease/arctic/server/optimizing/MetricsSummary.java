@@ -21,6 +21,7 @@ package com.netease.arctic.server.optimizing;
 import static com.netease.arctic.server.dashboard.utils.AmsUtil.byteToXB;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.netease.arctic.optimizing.OptimizingInputProperties;
 import com.netease.arctic.optimizing.RewriteFilesInput;
 import com.netease.arctic.server.dashboard.model.FilesStatistics;
 import com.netease.arctic.server.dashboard.utils.FilesStatisticsBuilder;
@@ -44,6 +45,8 @@ public class MetricsSummary {
   public static final String INPUT_EQ_DELETE_FILES = "input-equality-delete-files";
   public static final String INPUT_EQ_DELETE_SIZE = "input-equality-delete-size";
   public static final String INPUT_EQ_DELETE_RECORDS = "input-equality-delete-records";
+  public static final String INPUT_EQ_DELETE_PRUNED_FILES = "input-equality-delete-files(pruned)";
+  public static final String INPUT_EQ_DELETE_PRUNED_RATIO = "input-equality-delete-pruned-ratio";
   public static final String INPUT_POS_DELETE_FILES = "input-position-delete-files";
   public static final String INPUT_POS_DELETE_SIZE = "input-position-delete-size";
   public static final String INPUT_POS_DELETE_RECORDS = "input-position-delete-records";
@@ -65,6 +68,13 @@ public class MetricsSummary {
   private long equalityDeleteSize = 0;
   private int eqDeleteFileCnt = 0;
   private long eqDeleteRecordCnt = 0;
+  /**
+   * Equality delete files related to each data file by tree nodes, and those pruned by key ranges,
+   * a delete file related to several data files is counted for each of them.
+   */
+  private long eqDeleteRelatedFileCnt = 0;
+
+  private long eqDeletePrunedFileCnt = 0;
   private long positionDeleteSize = 0;
   /** @deprecated since 0.7.0, will be removed in 0.8.0 */
   @Deprecated private long positionalDeleteSize = 0;
@@ -113,6 +123,15 @@ public class MetricsSummary {
     }
   }
 
+  protected MetricsSummary(RewriteFilesInput input, Map<String, String> properties) {
+    this(input);
+    if (properties != null) {
+      OptimizingInputProperties inputProperties = OptimizingInputProperties.parse(properties);
+      eqDeleteRelatedFileCnt = inputProperties.getEqDeleteRelatedFiles();
+      eqDeletePrunedFileCnt = inputProperties.getEqDeletePrunedFiles();
+    }
+  }
+
   public MetricsSummary(Collection<TaskRuntime> taskRuntimes) {
     taskRuntimes.stream()
         .map(TaskRuntime::getMetricsSummary)
@@ -144,6 +163,8 @@ public class MetricsSummary {
               rewriteDataRecordCnt += metrics.getRewriteDataRecordCnt();
               rewritePosDataRecordCnt += metrics.getRewritePosDataRecordCnt();
               eqDeleteRecordCnt += metrics.getEqDeleteRecordCnt();
+              eqDeleteRelatedFileCnt += metrics.getEqDeleteRelatedFileCnt();
+              eqDeletePrunedFileCnt += metrics.getEqDeletePrunedFileCnt();
               posDeleteRecordCnt += metrics.getPosDeleteRecordCnt();
               newFileCnt += metrics.getNewFileCnt();
               newFileSize += metrics.getNewFileSize();
@@ -164,6 +185,12 @@ public class MetricsSummary {
     putIfPositive(summary, INPUT_EQ_DELETE_FILES, eqDeleteFileCnt);
     putIfPositive(summary, INPUT_EQ_DELETE_SIZE, equalityDeleteSize, humanReadable);
     putIfPositive(summary, INPUT_EQ_DELETE_RECORDS, eqDeleteRecordCnt);
+    putIfPositive(summary, INPUT_EQ_DELETE_PRUNED_FILES, eqDeletePrunedFileCnt);
+    if (eqDeletePrunedFileCnt > 0) {
+      summary.put(
+          INPUT_EQ_DELETE_PRUNED_RATIO,
+          String.format("%.2f", eqDeletePrunedFileCnt * 1.0 / eqDeleteRelatedFileCnt));
+    }
     putIfPositive(summary, INPUT_POS_DELETE_FILES, posDeleteFileCnt);
     putIfPositive(
         summary,
@@ -335,6 +362,14 @@ public class MetricsSummary {
     return posDeleteRecordCnt;
   }
 
+  public long getEqDeleteRelatedFileCnt() {
+    return eqDeleteRelatedFileCnt;
+  }
+
+  public long getEqDeletePrunedFileCnt() {
+    return eqDeletePrunedFileCnt;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
@@ -348,6 +383,8 @@ public class MetricsSummary {
         .add("equalityDeleteSize", equalityDeleteSize)
         .add("eqDeleteFileCnt", eqDeleteFileCnt)
         .add("eqDeleteRecordCnt", eqDeleteRecordCnt)
+        .add("eqDeleteRelatedFileCnt", eqDeleteRelatedFileCnt)
+        .add("eqDeletePrunedFileCnt", eqDeletePrunedFileCnt)
         .add("positionDeleteSize", positionDeleteSize)
         .add("positionalDeleteSize", positionalDeleteSize)
         .add("posDeleteFileCnt", posDeleteFileCnt)
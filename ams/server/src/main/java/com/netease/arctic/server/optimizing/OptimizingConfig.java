@@ -46,6 +46,9 @@ public class OptimizingConfig {
   // self-optimizing.commit.num-retries
   private int maxCommitRetryCount;
 
+  // self-optimizing.commit.progressive.enabled
+  private boolean progressiveCommit;
+
   // self-optimizing.target-size
   private long targetSize;
 
@@ -70,6 +73,9 @@ public class OptimizingConfig {
   // self-optimizing.minor.trigger.interval
   private int minorLeastInterval;
 
+  // self-optimizing.minor.trigger.read-amplification
+  private double minorReadAmplification;
+
   // self-optimizing.major.trigger.duplicate-ratio
   private double majorDuplicateRatio;
 
@@ -218,6 +224,15 @@ public class OptimizingConfig {
     return this;
   }
 
+  public double getMinorReadAmplification() {
+    return minorReadAmplification;
+  }
+
+  public OptimizingConfig setMinorReadAmplification(double minorReadAmplification) {
+    this.minorReadAmplification = minorReadAmplification;
+    return this;
+  }
+
   public double getMajorDuplicateRatio() {
     return majorDuplicateRatio;
   }
@@ -263,6 +278,15 @@ public class OptimizingConfig {
     return this;
   }
 
+  public boolean isProgressiveCommit() {
+    return progressiveCommit;
+  }
+
+  public OptimizingConfig setProgressiveCommit(boolean progressiveCommit) {
+    this.progressiveCommit = progressiveCommit;
+    return this;
+  }
+
   public long getHiveRefreshInterval() {
     return hiveRefreshInterval;
   }
@@ -281,6 +305,7 @@ public class OptimizingConfig {
         && Double.compare(that.targetQuota, targetQuota) == 0
         && maxExecuteRetryCount == that.maxExecuteRetryCount
         && maxCommitRetryCount == that.maxCommitRetryCount
+        && progressiveCommit == that.progressiveCommit
         && targetSize == that.targetSize
         && maxTaskSize == that.maxTaskSize
         && maxFileCount == that.maxFileCount
@@ -289,6 +314,7 @@ public class OptimizingConfig {
         && Double.compare(minTargetSizeRatio, that.minTargetSizeRatio) == 0
         && minorLeastFileCount == that.minorLeastFileCount
         && minorLeastInterval == that.minorLeastInterval
+        && Double.compare(that.minorReadAmplification, minorReadAmplification) == 0
         && Double.compare(that.majorDuplicateRatio, majorDuplicateRatio) == 0
         && fullTriggerInterval == that.fullTriggerInterval
         && fullRewriteAllFiles == that.fullRewriteAllFiles
@@ -306,6 +332,7 @@ public class OptimizingConfig {
         optimizerGroup,
         maxExecuteRetryCount,
         maxCommitRetryCount,
+        progressiveCommit,
         targetSize,
         maxTaskSize,
         maxFileCount,
@@ -314,6 +341,7 @@ public class OptimizingConfig {
         minTargetSizeRatio,
         minorLeastFileCount,
         minorLeastInterval,
+        minorReadAmplification,
         majorDuplicateRatio,
         fullTriggerInterval,
         fullRewriteAllFiles,
@@ -330,6 +358,7 @@ public class OptimizingConfig {
         .add("optimizerGroup", optimizerGroup)
         .add("maxExecuteRetryCount", maxExecuteRetryCount)
         .add("maxCommitRetryCount", maxCommitRetryCount)
+        .add("progressiveCommit", progressiveCommit)
         .add("targetSize", targetSize)
         .add("maxTaskSize", maxTaskSize)
         .add("maxFileCount", maxFileCount)
@@ -337,6 +366,7 @@ public class OptimizingConfig {
         .add("fragmentRatio", fragmentRatio)
         .add("minorLeastFileCount", minorLeastFileCount)
         .add("minorLeastInterval", minorLeastInterval)
+        .add("minorReadAmplification", minorReadAmplification)
         .add("majorDuplicateRatio", majorDuplicateRatio)
         .add("fullTriggerInterval", fullTriggerInterval)
         .add("fullRewriteAllFiles", fullRewriteAllFiles)
@@ -358,6 +388,11 @@ public class OptimizingConfig {
                 properties,
                 TableProperties.SELF_OPTIMIZING_EXECUTE_RETRY_NUMBER,
                 TableProperties.SELF_OPTIMIZING_EXECUTE_RETRY_NUMBER_DEFAULT))
+        .setProgressiveCommit(
+            CompatiblePropertyUtil.propertyAsBoolean(
+                properties,
+                TableProperties.SELF_OPTIMIZING_PROGRESSIVE_COMMIT_ENABLED,
+                TableProperties.SELF_OPTIMIZING_PROGRESSIVE_COMMIT_ENABLED_DEFAULT))
         .setOptimizerGroup(
             CompatiblePropertyUtil.propertyAsString(
                 properties,
@@ -408,6 +443,11 @@ public class OptimizingConfig {
                 properties,
                 TableProperties.SELF_OPTIMIZING_MINOR_TRIGGER_INTERVAL,
                 TableProperties.SELF_OPTIMIZING_MINOR_TRIGGER_INTERVAL_DEFAULT))
+        .setMinorReadAmplification(
+            CompatiblePropertyUtil.propertyAsDouble(
+                properties,
+                TableProperties.SELF_OPTIMIZING_MINOR_TRIGGER_READ_AMPLIFICATION,
+                TableProperties.SELF_OPTIMIZING_MINOR_TRIGGER_READ_AMPLIFICATION_DEFAULT))
         .setMajorDuplicateRatio(
             CompatiblePropertyUtil.propertyAsDouble(
                 properties,
@@ -18,6 +18,8 @@
 
 package com.netease.arctic.server.optimizing;
 
+import java.util.Map;
+
 public interface OptimizingProcess {
 
   long getProcessId();
@@ -42,8 +44,19 @@ public interface OptimizingProcess {
 
   void commit();
 
+  /** Whether some partitions have finished all their tasks and wait to be committed in advance. */
+  default boolean hasPreparedPartitions() {
+    return false;
+  }
+
+  /** Commit the prepared partitions in advance, without waiting for the whole process. */
+  default void commitPreparedPartitions() {}
+
   MetricsSummary getSummary();
 
+  /** Get the metrics summary of the tasks of each partition. */
+  Map<String, MetricsSummary> getPartitionSummaries();
+
   enum Status {
     RUNNING,
     CLOSED,
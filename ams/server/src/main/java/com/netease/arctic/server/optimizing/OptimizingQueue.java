@@ -37,6 +37,7 @@ import com.netease.arctic.server.table.TableRuntime;
 import com.netease.arctic.server.table.TableRuntimeMeta;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.utils.ArcticDataFiles;
+import com.netease.arctic.utils.ArcticTableUtil;
 import com.netease.arctic.utils.CompatiblePropertyUtil;
 import com.netease.arctic.utils.ExceptionUtil;
 import com.netease.arctic.utils.TablePropertyUtil;
@@ -46,10 +47,12 @@ import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTest
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.util.StructLikeMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -334,6 +337,8 @@ public class OptimizingQueue extends PersistentBase {
     private Map<String, Long> fromSequence = Maps.newHashMap();
     private Map<String, Long> toSequence = Maps.newHashMap();
     private boolean hasCommitted = false;
+    private final Set<String> committedPartitions = Sets.newHashSet();
+    private final Set<String> preparedPartitions = Sets.newHashSet();
 
     public TaskRuntime poll() {
       lock.lock();
@@ -371,6 +376,9 @@ public class OptimizingQueue extends PersistentBase {
         toSequence = tableRuntimeMeta.getToSequence();
       }
       loadTaskRuntimes();
+      if (tableRuntime.getOptimizingConfig().isProgressiveCommit()) {
+        recoverProgressivePartitions();
+      }
       tableRuntimeMeta.getTableRuntime().recover(this);
     }
 
@@ -395,6 +403,7 @@ public class OptimizingQueue extends PersistentBase {
       try {
         this.status = OptimizingProcess.Status.CLOSED;
         this.endTime = System.currentTimeMillis();
+        this.failedReason = withCommittedPartitions(failedReason);
         persistProcessCompleted(false);
         clearProcess(this);
       } finally {
@@ -404,6 +413,7 @@ public class OptimizingQueue extends PersistentBase {
 
     @Override
     public void acceptResult(TaskRuntime taskRuntime) {
+      boolean partitionPrepared = false;
       lock.lock();
       try {
         try {
@@ -425,13 +435,17 @@ public class OptimizingQueue extends PersistentBase {
               && tableRuntime.getOptimizingStatus() != OptimizingStatus.COMMITTING) {
             tableRuntime.beginCommitting();
             clearProcess(this);
+          } else if (tableRuntime.getOptimizingConfig().isProgressiveCommit()
+              && isPartitionPrepared(taskRuntime.getPartition())) {
+            preparedPartitions.add(taskRuntime.getPartition());
+            partitionPrepared = true;
           }
         } else if (taskRuntime.getStatus() == TaskRuntime.Status.FAILED) {
           if (taskRuntime.getRetry() < tableRuntime.getMaxExecuteRetryCount()) {
             retryTask(taskRuntime);
           } else {
             clearProcess(this);
-            this.failedReason = taskRuntime.getFailReason();
+            this.failedReason = withCommittedPartitions(taskRuntime.getFailReason());
             this.status = OptimizingProcess.Status.FAILED;
             this.endTime = taskRuntime.getEndTime();
             persistProcessCompleted(false);
@@ -442,6 +456,10 @@ public class OptimizingQueue extends PersistentBase {
       } finally {
         lock.unlock();
       }
+      if (partitionPrepared) {
+        // the partition is committed by the commit executor, out of the lock of the process
+        tableRuntime.partitionsPrepared();
+      }
     }
 
     @Override
@@ -528,7 +546,7 @@ public class OptimizingQueue extends PersistentBase {
       } catch (Exception e) {
         LOG.warn("{} Commit optimizing failed ", tableRuntime.getTableIdentifier(), e);
         status = Status.FAILED;
-        failedReason = ExceptionUtil.getErrorMessage(e, 4000);
+        failedReason = withCommittedPartitions(ExceptionUtil.getErrorMessage(e, 4000));
         endTime = System.currentTimeMillis();
         persistProcessCompleted(false);
       } finally {
@@ -542,37 +560,208 @@ public class OptimizingQueue extends PersistentBase {
       return new MetricsSummary(taskMap.values());
     }
 
+    @Override
+    public Map<String, MetricsSummary> getPartitionSummaries() {
+      Map<String, MetricsSummary> summaries = Maps.newHashMap();
+      taskMap.values().stream()
+          .collect(Collectors.groupingBy(TaskRuntime::getPartition))
+          .forEach((partition, tasks) -> summaries.put(partition, new MetricsSummary(tasks)));
+      return summaries;
+    }
+
     private UnKeyedTableCommit buildCommit() {
-      ArcticTable table =
-          (ArcticTable) tableManager.loadTable(tableRuntime.getTableIdentifier()).originalTable();
+      ArcticTable table = loadTable();
       if (table.isUnkeyedTable()) {
         return new UnKeyedTableCommit(targetSnapshotId, table, taskMap.values());
       } else {
+        // partitions committed progressively are excluded
+        List<TaskRuntime> tasks =
+            taskMap.values().stream()
+                .filter(task -> !committedPartitions.contains(task.getPartition()))
+                .collect(Collectors.toList());
+        Map<String, Long> partitionToSequence = Maps.newHashMap(toSequence);
+        partitionToSequence.keySet().removeAll(committedPartitions);
         return new KeyedTableCommit(
             table,
-            taskMap.values(),
+            tasks,
             targetSnapshotId,
             convertPartitionSequence(table, fromSequence),
-            convertPartitionSequence(table, toSequence));
+            convertPartitionSequence(table, partitionToSequence));
+      }
+    }
+
+    @Override
+    public boolean hasPreparedPartitions() {
+      lock.lock();
+      try {
+        return !preparedPartitions.isEmpty();
+      } finally {
+        lock.unlock();
       }
     }
 
+    /**
+     * Commit the partitions of a keyed table whose tasks all succeed, instead of waiting for the
+     * whole process. It is called by the commit executor and commits out of the lock of the
+     * process, so it does not block accepting results of other tasks. Only partitions with both
+     * from and to sequence are committed in advance, so if AMS restarts before the process
+     * commits, they are recovered from the optimized sequence of the table and skipped by the
+     * process commit rather than being committed twice.
+     */
+    @Override
+    public void commitPreparedPartitions() {
+      Map<String, List<TaskRuntime>> partitionTasks = Maps.newHashMap();
+      lock.lock();
+      try {
+        if (status == Status.RUNNING) {
+          preparedPartitions.forEach(
+              partition ->
+                  partitionTasks.put(
+                      partition,
+                      taskMap.values().stream()
+                          .filter(task -> partition.equals(task.getPartition()))
+                          .collect(Collectors.toList())));
+        }
+        preparedPartitions.clear();
+      } finally {
+        lock.unlock();
+      }
+      if (partitionTasks.isEmpty()) {
+        return;
+      }
+
+      ArcticTable table = loadTable();
+      if (!table.isKeyedTable()) {
+        return;
+      }
+      partitionTasks.forEach((partition, tasks) -> commitPartition(table, partition, tasks));
+    }
+
+    private void commitPartition(ArcticTable table, String partition, List<TaskRuntime> tasks) {
+      try {
+        new KeyedTableCommit(
+                table,
+                tasks,
+                targetSnapshotId,
+                convertPartitionSequence(table, fromSequence),
+                convertPartitionSequence(
+                    table, Collections.singletonMap(partition, toSequence.get(partition))))
+            .commit();
+      } catch (Exception e) {
+        LOG.warn(
+            "{} failed to commit partition {} in advance, leave it to the process commit",
+            tableRuntime.getTableIdentifier(),
+            partition,
+            e);
+        return;
+      }
+
+      lock.lock();
+      try {
+        committedPartitions.add(partition);
+        LOG.info(
+            "{} committed partition {} of process {} with {} tasks in advance",
+            tableRuntime.getTableIdentifier(),
+            partition,
+            processId,
+            tasks.size());
+        if (status != Status.RUNNING) {
+          // the process was closed or failed during committing, so record the partition to it
+          failedReason = withCommittedPartitions(failedReason);
+          doAs(
+              OptimizingMapper.class,
+              mapper ->
+                  mapper.updateOptimizingProcess(
+                      tableRuntime.getTableIdentifier().getId(),
+                      processId,
+                      status,
+                      endTime,
+                      getSummary(),
+                      getFailedReason()));
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private boolean isPartitionPrepared(String partition) {
+      return !committedPartitions.contains(partition)
+          && !preparedPartitions.contains(partition)
+          && fromSequence.containsKey(partition)
+          && toSequence.containsKey(partition)
+          && taskMap.values().stream()
+              .filter(task -> partition.equals(task.getPartition()))
+              .allMatch(task -> task.getStatus() == TaskRuntime.Status.SUCCESS);
+    }
+
+    /**
+     * Partitions committed in advance have advanced their optimized sequence to the to sequence of
+     * this process, and the others whose tasks all succeed are prepared to commit again.
+     */
+    private void recoverProgressivePartitions() {
+      try {
+        ArcticTable table = loadTable();
+        if (!table.isKeyedTable()) {
+          return;
+        }
+        StructLikeMap<Long> optimizedSequence =
+            ArcticTableUtil.readOptimizedSequence(table.asKeyedTable());
+        for (String partition : toSequence.keySet()) {
+          Long from = fromSequence.get(partition);
+          if (from == null) {
+            continue;
+          }
+          Long optimized = optimizedSequence.get(partitionData(table.spec(), partition));
+          if (optimized != null && optimized >= from) {
+            committedPartitions.add(partition);
+          } else if (isPartitionPrepared(partition)) {
+            preparedPartitions.add(partition);
+          }
+        }
+        if (!committedPartitions.isEmpty()) {
+          LOG.info(
+              "{} recovered partitions {} committed in advance by process {}",
+              tableRuntime.getTableIdentifier(),
+              committedPartitions,
+              processId);
+        }
+      } catch (Exception e) {
+        LOG.warn(
+            "{} failed to recover partitions committed in advance, leave them to process commit",
+            tableRuntime.getTableIdentifier(),
+            e);
+      }
+    }
+
+    private String withCommittedPartitions(String reason) {
+      if (committedPartitions.isEmpty()) {
+        return reason;
+      }
+      String committed = "partitions " + committedPartitions + " were committed in advance";
+      String message = reason == null ? committed : reason + "; " + committed;
+      return message.length() > 4000 ? message.substring(0, 4000) : message;
+    }
+
+    private ArcticTable loadTable() {
+      return (ArcticTable)
+          tableManager.loadTable(tableRuntime.getTableIdentifier()).originalTable();
+    }
+
     private StructLikeMap<Long> convertPartitionSequence(
         ArcticTable table, Map<String, Long> partitionSequence) {
       PartitionSpec spec = table.spec();
       StructLikeMap<Long> results = StructLikeMap.create(spec.partitionType());
       partitionSequence.forEach(
-          (partition, sequence) -> {
-            if (spec.isUnpartitioned()) {
-              results.put(TablePropertyUtil.EMPTY_STRUCT, sequence);
-            } else {
-              StructLike partitionData = ArcticDataFiles.data(spec, partition);
-              results.put(partitionData, sequence);
-            }
-          });
+          (partition, sequence) -> results.put(partitionData(spec, partition), sequence));
       return results;
     }
 
+    private StructLike partitionData(PartitionSpec spec, String partition) {
+      return spec.isUnpartitioned()
+          ? TablePropertyUtil.EMPTY_STRUCT
+          : ArcticDataFiles.data(spec, partition);
+    }
+
     private void beginAndPersistProcess() {
       doAsTransaction(
           () ->
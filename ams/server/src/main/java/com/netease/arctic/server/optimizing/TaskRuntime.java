@@ -67,9 +67,9 @@ public class TaskRuntime extends StatedPersistentBase {
     this.taskId = taskId;
     this.partition = taskDescriptor.getPartition();
     this.input = taskDescriptor.getInput();
-    this.summary = new MetricsSummary(input);
     this.tableId = taskDescriptor.getTableId();
     this.properties = properties;
+    this.summary = new MetricsSummary(input, properties);
   }
 
   public void complete(OptimizerThread thread, OptimizingTaskResult result) {
@@ -116,7 +116,7 @@ public class TaskRuntime extends StatedPersistentBase {
           threadId = -1;
           failReason = null;
           output = null;
-          summary = new MetricsSummary(input);
+          summary = new MetricsSummary(input, properties);
           // The cost time should not be reset since it is the total cost time of all runs.
           persistTaskRuntime(this);
         });
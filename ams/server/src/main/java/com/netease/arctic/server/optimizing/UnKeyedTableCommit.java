@@ -85,6 +85,10 @@ public class UnKeyedTableCommit {
   }
 
   protected List<DataFile> moveFile2HiveIfNeed() {
+    return moveFile2HiveIfNeed(tasks);
+  }
+
+  protected List<DataFile> moveFile2HiveIfNeed(Collection<TaskRuntime> tasks) {
     if (!needMoveFile2Hive()) {
       return null;
     }
@@ -27,8 +27,10 @@ import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.utils.ArcticTableUtil;
 import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileContent;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
@@ -72,6 +74,12 @@ public abstract class AbstractPartitionPlan implements PartitionEvaluator {
    */
   protected final Set<String> reservedDeleteFiles = Sets.newHashSet();
 
+  /**
+   * The count of the equality Delete files related to the added Data files by their tree nodes, and
+   * the count of those pruned by the key ranges, keyed by the path of the Data file.
+   */
+  private final Map<String, int[]> eqDeletePruning = Maps.newHashMap();
+
   public AbstractPartitionPlan(
       TableRuntime tableRuntime,
       ArcticTable table,
@@ -135,6 +143,24 @@ public abstract class AbstractPartitionPlan implements PartitionEvaluator {
     return added;
   }
 
+  @Override
+  public boolean addFile(
+      DataFile dataFile, List<ContentFile<?>> deletes, int prunedDeleteFileCount) {
+    boolean added = addFile(dataFile, deletes);
+    if (added) {
+      long eqDeleteFileCount =
+          deletes.stream()
+              .filter(delete -> delete.content() != FileContent.POSITION_DELETES)
+              .count();
+      int relatedDeleteFileCount = (int) eqDeleteFileCount + prunedDeleteFileCount;
+      if (relatedDeleteFileCount > 0) {
+        eqDeletePruning.put(
+            dataFile.path().toString(), new int[] {relatedDeleteFileCount, prunedDeleteFileCount});
+      }
+    }
+    return added;
+  }
+
   /** If the Data file is not added, it's Delete files should not be removed from iceberg */
   protected void reservedDeleteFiles(List<ContentFile<?>> deletes) {
     deletes.stream().map(delete -> delete.path().toString()).forEach(reservedDeleteFiles::add);
@@ -221,6 +247,36 @@ public abstract class AbstractPartitionPlan implements PartitionEvaluator {
     return evaluator().getPosDeleteFileSize();
   }
 
+  @Override
+  public long getMergeOnReadSize() {
+    return evaluator().getMergeOnReadSize();
+  }
+
+  @Override
+  public long getLiveDataSize() {
+    return evaluator().getLiveDataSize();
+  }
+
+  @Override
+  public int getTotalDataFileCount() {
+    return evaluator().getTotalDataFileCount();
+  }
+
+  @Override
+  public int getTotalDeleteFileCount() {
+    return evaluator().getTotalDeleteFileCount();
+  }
+
+  @Override
+  public long getTotalRecordCount() {
+    return evaluator().getTotalRecordCount();
+  }
+
+  @Override
+  public long getTotalDeleteRecordCount() {
+    return evaluator().getTotalDeleteRecordCount();
+  }
+
   @Override
   public Weight getWeight() {
     return evaluator().getWeight();
@@ -287,6 +343,19 @@ public abstract class AbstractPartitionPlan implements PartitionEvaluator {
               readOnlyDeleteFiles.toArray(new ContentFile[0]),
               rewriteDeleteFiles.toArray(new ContentFile[0]),
               tableObject);
+      TaskCostEstimator.estimate(input, properties);
+      long relatedEqDeleteFiles = 0;
+      long prunedEqDeleteFiles = 0;
+      for (DataFile dataFile : Iterables.concat(rewriteDataFiles, rewritePosDataFiles)) {
+        int[] pruning = eqDeletePruning.get(dataFile.path().toString());
+        if (pruning != null) {
+          relatedEqDeleteFiles += pruning[0];
+          prunedEqDeleteFiles += pruning[1];
+        }
+      }
+      if (relatedEqDeleteFiles > 0) {
+        properties.setEqDeletePruning(relatedEqDeleteFiles, prunedEqDeleteFiles);
+      }
       PartitionSpec spec =
           ArcticTableUtil.getArcticTablePartitionSpecById(tableObject, partition.first());
       String partitionPath = spec.partitionToPath(partition.second());
@@ -38,6 +38,10 @@ import java.util.Set;
 public class CommonPartitionEvaluator implements PartitionEvaluator {
   private static final Logger LOG = LoggerFactory.getLogger(CommonPartitionEvaluator.class);
 
+  // the live rows are at least 1% of the rows read, to bound the read amplification of a
+  // partition whose rows are almost all deleted
+  private static final double MIN_LIVE_RECORD_RATIO = 0.01;
+
   private final Set<String> deleteFileSet = Sets.newHashSet();
   protected final TableRuntime tableRuntime;
 
@@ -69,6 +73,18 @@ public class CommonPartitionEvaluator implements PartitionEvaluator {
   protected int posDeleteFileCount = 0;
   protected long posDeleteFileSize = 0L;
 
+  // files merged by readers on read, each data file reads all of its related delete files
+  private int readDataFileCount = 0;
+  private long readDataFileSize = 0L;
+  private long readDataRecordCount = 0L;
+  private int readDeleteFileCount = 0;
+  private long readDeleteFileSize = 0L;
+  private long readEqDeleteRecordCount = 0L;
+  private long readPosDeletedRecordCount = 0L;
+  // distinct delete files related to the data files
+  private final Set<String> totalDeleteFileSet = Sets.newHashSet();
+  private long totalDeleteRecordCount = 0L;
+
   private long cost = -1;
   private Boolean necessary = null;
   private OptimizingType optimizingType = null;
@@ -111,6 +127,7 @@ public class CommonPartitionEvaluator implements PartitionEvaluator {
     if (!config.isEnabled()) {
       return false;
     }
+    addReadCost(dataFile, deletes);
     if (isFragmentFile(dataFile)) {
       return addFragmentFile(dataFile, deletes);
     } else if (isUndersizedSegmentFile(dataFile)) {
@@ -120,6 +137,27 @@ public class CommonPartitionEvaluator implements PartitionEvaluator {
     }
   }
 
+  private void addReadCost(DataFile dataFile, List<ContentFile<?>> deletes) {
+    readDataFileCount++;
+    readDataFileSize += dataFile.fileSizeInBytes();
+    readDataRecordCount += dataFile.recordCount();
+    long posDeleteRecordCount = 0;
+    for (ContentFile<?> delete : deletes) {
+      readDeleteFileCount++;
+      readDeleteFileSize += delete.fileSizeInBytes();
+      if (totalDeleteFileSet.add(delete.path().toString())) {
+        totalDeleteRecordCount += delete.recordCount();
+      }
+      if (delete.content() == FileContent.POSITION_DELETES) {
+        posDeleteRecordCount += delete.recordCount();
+      } else {
+        readEqDeleteRecordCount += delete.recordCount();
+      }
+    }
+    // a position delete file may delete rows of several data files
+    readPosDeletedRecordCount += Math.min(posDeleteRecordCount, dataFile.recordCount());
+  }
+
   private boolean isDuplicateDelete(ContentFile<?> delete) {
     boolean deleteExist = deleteFileSet.contains(delete.path().toString());
     if (!deleteExist) {
@@ -283,7 +321,80 @@ public class CommonPartitionEvaluator implements PartitionEvaluator {
 
   @Override
   public PartitionEvaluator.Weight getWeight() {
-    return new Weight(getCost());
+    return new Weight(readAmplificationLevel(), getCost());
+  }
+
+  /**
+   * Estimate the size readers read to merge the files of this partition on read: every data file
+   * is read with all of its related delete files, so the equality delete files shared by the data
+   * files of a tree node are read once for each of them, and each delete file read costs an
+   * open-file cost. Opening the data files is not counted, as it is paid without deletes too.
+   */
+  @Override
+  public long getMergeOnReadSize() {
+    return readDataFileSize + readDeleteFileSize + readDeleteFileCount * config.getOpenFileCost();
+  }
+
+  /** Estimate the size of the rows not deleted by positions, which are returned by readers. */
+  @Override
+  public long getLiveDataSize() {
+    if (readDataRecordCount == 0) {
+      return readDataFileSize;
+    }
+    double liveRatio =
+        Math.max(
+            1 - (double) readPosDeletedRecordCount / readDataRecordCount, MIN_LIVE_RECORD_RATIO);
+    return (long) Math.ceil(readDataFileSize * liveRatio);
+  }
+
+  @Override
+  public int getTotalDataFileCount() {
+    return readDataFileCount;
+  }
+
+  @Override
+  public int getTotalDeleteFileCount() {
+    return totalDeleteFileSet.size();
+  }
+
+  @Override
+  public long getTotalRecordCount() {
+    return readDataRecordCount;
+  }
+
+  @Override
+  public long getTotalDeleteRecordCount() {
+    return totalDeleteRecordCount;
+  }
+
+  /**
+   * The size readers read for each byte of live data when merging this partition on read, which is
+   * 1 if no rows are deleted.
+   */
+  public double getReadAmplification() {
+    long liveDataSize = getLiveDataSize();
+    return liveDataSize == 0 ? 0 : (double) getMergeOnReadSize() / liveDataSize;
+  }
+
+  protected boolean readAmplificationTriggerEnabled() {
+    return config.getMinorReadAmplification() > 0;
+  }
+
+  /**
+   * Read amplification level ordering the partitions before cost, which is the number of times the
+   * read amplification reaches the trigger value. Partitions below the trigger value are all 0 and
+   * ordered by cost only, as are all partitions if the trigger is disabled.
+   */
+  protected int readAmplificationLevel() {
+    if (!readAmplificationTriggerEnabled()) {
+      return 0;
+    }
+    return (int) (getReadAmplification() / config.getMinorReadAmplification());
+  }
+
+  protected boolean reachMinorReadAmplification() {
+    return readAmplificationTriggerEnabled()
+        && getReadAmplification() >= config.getMinorReadAmplification();
   }
 
   @Override
@@ -317,7 +428,7 @@ public class CommonPartitionEvaluator implements PartitionEvaluator {
   public boolean isMinorNecessary() {
     int smallFileCount = fragmentFileCount + equalityDeleteFileCount;
     return smallFileCount >= config.getMinorLeastFileCount()
-        || (smallFileCount > 1 && reachMinorInterval())
+        || (smallFileCount > 1 && (reachMinorInterval() || reachMinorReadAmplification()))
         || rewritePosSegmentFileCount > 0;
   }
 
@@ -396,15 +507,26 @@ public class CommonPartitionEvaluator implements PartitionEvaluator {
 
   public static class Weight implements PartitionEvaluator.Weight {
 
+    private final int readAmplificationLevel;
     private final long cost;
 
     public Weight(long cost) {
+      this(0, cost);
+    }
+
+    public Weight(int readAmplificationLevel, long cost) {
+      this.readAmplificationLevel = readAmplificationLevel;
       this.cost = cost;
     }
 
     @Override
     public int compareTo(PartitionEvaluator.Weight o) {
-      return Long.compare(this.cost, ((Weight) o).cost);
+      Weight that = (Weight) o;
+      int compare = Integer.compare(this.readAmplificationLevel, that.readAmplificationLevel);
+      if (compare != 0) {
+        return compare;
+      }
+      return Long.compare(this.cost, that.cost);
     }
   }
 
@@ -433,6 +555,13 @@ public class CommonPartitionEvaluator implements PartitionEvaluator {
         .add("equalityDeleteFileSize", equalityDeleteFileSize)
         .add("posDeleteFileCount", posDeleteFileCount)
         .add("posDeleteFileSize", posDeleteFileSize)
+        .add("readDataFileCount", readDataFileCount)
+        .add("readDataFileSize", readDataFileSize)
+        .add("readDeleteFileCount", readDeleteFileCount)
+        .add("readDeleteFileSize", readDeleteFileSize)
+        .add("readEqDeleteRecordCount", readEqDeleteRecordCount)
+        .add("readPosDeletedRecordCount", readPosDeletedRecordCount)
+        .add("readAmplification", getReadAmplification())
         .toString();
   }
 }
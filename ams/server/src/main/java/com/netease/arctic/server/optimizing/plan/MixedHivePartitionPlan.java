@@ -209,6 +209,7 @@ public class MixedHivePartitionPlan extends MixedIcebergPartitionPlan {
     @Override
     public PartitionEvaluator.Weight getWeight() {
       return new Weight(
+          readAmplificationLevel(),
           getCost(),
           hasChangeFiles && reachBaseRefreshInterval()
               || hasNewHiveData() && reachHiveRefreshInterval());
@@ -173,7 +173,8 @@ public class MixedIcebergPartitionPlan extends AbstractPartitionPlan {
         int baseSplitCount = getBaseSplitCount();
         if (smallFileCount >= Math.max(baseSplitCount + 1, config.getMinorLeastFileCount())) {
           return true;
-        } else if ((smallFileCount > baseSplitCount || hasChangeFiles) && reachMinorInterval()) {
+        } else if ((smallFileCount > baseSplitCount || hasChangeFiles)
+            && (reachMinorInterval() || reachMinorReadAmplification())) {
           return true;
         } else {
           return hasChangeFiles && reachBaseRefreshInterval();
@@ -222,14 +223,21 @@ public class MixedIcebergPartitionPlan extends AbstractPartitionPlan {
 
     @Override
     public PartitionEvaluator.Weight getWeight() {
-      return new Weight(getCost(), hasChangeFiles && reachBaseRefreshInterval());
+      return new Weight(
+          readAmplificationLevel(), getCost(), hasChangeFiles && reachBaseRefreshInterval());
     }
 
     protected static class Weight implements PartitionEvaluator.Weight {
+      private final int readAmplificationLevel;
       private final long cost;
       private final boolean reachDelay;
 
       public Weight(long cost, boolean reachDelay) {
+        this(0, cost, reachDelay);
+      }
+
+      public Weight(int readAmplificationLevel, long cost, boolean reachDelay) {
+        this.readAmplificationLevel = readAmplificationLevel;
         this.cost = cost;
         this.reachDelay = reachDelay;
       }
@@ -241,6 +249,10 @@ public class MixedIcebergPartitionPlan extends AbstractPartitionPlan {
         if (compare != 0) {
           return compare;
         }
+        compare = Integer.compare(this.readAmplificationLevel, that.readAmplificationLevel);
+        if (compare != 0) {
+          return compare;
+        }
         return Long.compare(this.cost, that.cost);
       }
     }
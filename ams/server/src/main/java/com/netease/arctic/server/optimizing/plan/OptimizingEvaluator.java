@@ -28,6 +28,7 @@ import com.netease.arctic.server.optimizing.scan.UnkeyedTableFileScanHelper;
 import com.netease.arctic.server.table.KeyedTableSnapshot;
 import com.netease.arctic.server.table.TableRuntime;
 import com.netease.arctic.server.table.TableSnapshot;
+import com.netease.arctic.server.table.TableTimeSeries;
 import com.netease.arctic.server.utils.IcebergTableUtil;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.utils.ArcticTableUtil;
@@ -47,6 +48,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
@@ -58,6 +60,9 @@ public class OptimizingEvaluator {
   protected final TableRuntime tableRuntime;
   protected final TableSnapshot currentSnapshot;
   protected boolean isInitialized = false;
+  protected double readAmplification = 0;
+  protected Map<String, Double> partitionReadAmplification = Maps.newHashMap();
+  protected Map<String, TableTimeSeries.FileCounts> partitionFiles = Maps.newHashMap();
 
   protected Map<String, PartitionEvaluator> partitionPlanMap = Maps.newHashMap();
 
@@ -122,7 +127,10 @@ public class OptimizingEvaluator {
             partitionPlanMap.computeIfAbsent(
                 partitionPath,
                 ignore -> buildEvaluator(Pair.of(partitionSpec.specId(), partition)));
-        evaluator.addFile(fileScanResult.file(), fileScanResult.deleteFiles());
+        evaluator.addFile(
+            fileScanResult.file(),
+            fileScanResult.deleteFiles(),
+            fileScanResult.prunedDeleteFileCount());
         count++;
       }
     } catch (IOException e) {
@@ -133,9 +141,37 @@ public class OptimizingEvaluator {
         arcticTable.id(),
         count,
         System.currentTimeMillis() - startTime);
+    readAmplification = readAmplification(partitionPlanMap.values());
+    partitionPlanMap.forEach(
+        (partition, evaluator) -> {
+          if (evaluator.getLiveDataSize() > 0) {
+            partitionReadAmplification.put(
+                partition, readAmplification(Collections.singletonList(evaluator)));
+          }
+          partitionFiles.put(partition, fileCounts(evaluator));
+        });
     partitionPlanMap.values().removeIf(plan -> !plan.isNecessary());
   }
 
+  private static TableTimeSeries.FileCounts fileCounts(PartitionEvaluator evaluator) {
+    return new TableTimeSeries.FileCounts()
+        .add(
+            evaluator.getTotalDataFileCount(),
+            evaluator.getTotalDeleteFileCount(),
+            evaluator.getTotalRecordCount(),
+            evaluator.getTotalDeleteRecordCount());
+  }
+
+  private static double readAmplification(Collection<PartitionEvaluator> evaluators) {
+    long mergeOnReadSize = 0;
+    long liveDataSize = 0;
+    for (PartitionEvaluator evaluator : evaluators) {
+      mergeOnReadSize += evaluator.getMergeOnReadSize();
+      liveDataSize += evaluator.getLiveDataSize();
+    }
+    return liveDataSize == 0 ? 0 : (double) mergeOnReadSize / liveDataSize;
+  }
+
   private Map<String, String> partitionProperties(Pair<Integer, StructLike> partition) {
     return TablePropertyUtil.getPartitionProperties(arcticTable, partition.second());
   }
@@ -172,6 +208,36 @@ public class OptimizingEvaluator {
     return !partitionPlanMap.isEmpty();
   }
 
+  /**
+   * Get the estimated size readers read for each byte of live data when merging all partitions of
+   * the table on read, 0 if the table has no data.
+   */
+  public double getReadAmplification() {
+    if (!isInitialized) {
+      initEvaluator();
+    }
+    return readAmplification;
+  }
+
+  /** Get the estimated read amplification of each partition of the table with data. */
+  public Map<String, Double> getPartitionReadAmplification() {
+    if (!isInitialized) {
+      initEvaluator();
+    }
+    return partitionReadAmplification;
+  }
+
+  /**
+   * Get the files of each partition of the table. The equality delete files of the change store of
+   * keyed tables are counted as delete files.
+   */
+  public Map<String, TableTimeSeries.FileCounts> getPartitionFiles() {
+    if (!isInitialized) {
+      initEvaluator();
+    }
+    return partitionFiles;
+  }
+
   public PendingInput getPendingInput() {
     if (!isInitialized) {
       initEvaluator();
@@ -53,6 +53,20 @@ public interface PartitionEvaluator {
    */
   boolean addFile(DataFile dataFile, List<ContentFile<?>> deletes);
 
+  /**
+   * Add a Data file and its related Delete files to this evaluator, the equality Delete files whose
+   * key ranges do not overlap the Data file have been pruned from the Delete files.
+   *
+   * @param dataFile - Data file
+   * @param deletes - Delete files
+   * @param prunedDeleteFileCount - count of the pruned equality Delete files
+   * @return true if the file is added successfully, false if the file will not be optimized
+   */
+  default boolean addFile(
+      DataFile dataFile, List<ContentFile<?>> deletes, int prunedDeleteFileCount) {
+    return addFile(dataFile, deletes);
+  }
+
   /**
    * Whether this partition is necessary to optimize.
    *
@@ -104,4 +118,34 @@ public interface PartitionEvaluator {
 
   /** Get the total size of positional delete files involved in optimizing. */
   long getPosDeleteFileSize();
+
+  /** Get the estimated size read by readers merging all files of this partition on read. */
+  default long getMergeOnReadSize() {
+    return 0;
+  }
+
+  /** Get the estimated size of the data not deleted in this partition. */
+  default long getLiveDataSize() {
+    return 0;
+  }
+
+  /** Get the count of all data files of this partition. */
+  default int getTotalDataFileCount() {
+    return 0;
+  }
+
+  /** Get the count of all delete files related to the data files of this partition. */
+  default int getTotalDeleteFileCount() {
+    return 0;
+  }
+
+  /** Get the total records of all data files of this partition. */
+  default long getTotalRecordCount() {
+    return 0;
+  }
+
+  /** Get the total records of all delete files related to the data files of this partition. */
+  default long getTotalDeleteRecordCount() {
+    return 0;
+  }
 }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.server.optimizing.plan;
+
+import com.netease.arctic.optimizing.OptimizingInputProperties;
+import com.netease.arctic.optimizing.RewriteFilesInput;
+import org.apache.iceberg.ContentFile;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileContent;
+
+/**
+ * Estimates the memory and input size of an optimizing task, so optimizers could admit tasks within
+ * their memory budget before running them.
+ */
+class TaskCostEstimator {
+
+  /** Memory used by the readers and writers of a task, whatever its input is. */
+  static final long BASE_MEMORY = 64L * 1024 * 1024;
+
+  /** Equality deletes are decoded into an in-memory set, which is much larger than the files. */
+  static final int EQ_DELETE_EXPANSION = 5;
+
+  /** Positions are kept in a bitmap per data file, a few bytes per deleted row at most. */
+  static final int POS_DELETE_BYTES_PER_RECORD = 16;
+
+  private TaskCostEstimator() {}
+
+  static void estimate(RewriteFilesInput input, OptimizingInputProperties properties) {
+    long inputBytes = 0;
+    long eqDeleteBytes = 0;
+    long posDeleteRecords = 0;
+    for (DataFile dataFile : input.rewrittenDataFiles()) {
+      inputBytes += dataFile.fileSizeInBytes();
+    }
+    for (DataFile dataFile : input.rePosDeletedDataFiles()) {
+      inputBytes += dataFile.fileSizeInBytes();
+    }
+    for (ContentFile<?> delete : input.deleteFiles()) {
+      inputBytes += delete.fileSizeInBytes();
+      if (delete.content() == FileContent.POSITION_DELETES) {
+        posDeleteRecords += delete.recordCount();
+      } else {
+        eqDeleteBytes += delete.fileSizeInBytes();
+      }
+    }
+    properties.setEstimatedInputBytes(inputBytes);
+    properties.setEstimatedMemory(
+        BASE_MEMORY
+            + eqDeleteBytes * EQ_DELETE_EXPANSION
+            + posDeleteRecords * POS_DELETE_BYTES_PER_RECORD);
+  }
+}
@@ -22,6 +22,8 @@ import com.netease.arctic.data.DataFileType;
 import com.netease.arctic.data.DataTreeNode;
 import com.netease.arctic.data.DefaultKeyedFile;
 import com.netease.arctic.data.FileNameRules;
+import com.netease.arctic.data.PrimaryKeyRange;
+import com.netease.arctic.data.PrimaryKeyedFile;
 import com.netease.arctic.scan.ChangeTableIncrementalScan;
 import com.netease.arctic.server.ArcticServiceConstants;
 import com.netease.arctic.server.table.KeyedTableSnapshot;
@@ -31,10 +33,10 @@ import com.netease.arctic.table.TableProperties;
 import com.netease.arctic.table.UnkeyedTable;
 import com.netease.arctic.utils.ArcticTableUtil;
 import com.netease.arctic.utils.CompatiblePropertyUtil;
+import com.netease.arctic.utils.map.LongObjectMap;
 import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.FileScanTask;
-import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.SnapshotSummary;
 import org.apache.iceberg.expressions.Expression;
@@ -43,6 +45,7 @@ import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.StructLikeMap;
 import org.slf4j.Logger;
@@ -176,6 +179,9 @@ public class KeyedTableFileScanHelper implements TableFileScanHelper {
                 .fromSequence(optimizedSequence)
                 .toSequence(maxSequence)
                 .useSnapshot(changeSnapshotId);
+        // the key bounds are used to prune the delete files of the data files
+        changeTableIncrementalScan =
+            (ChangeTableIncrementalScan) changeTableIncrementalScan.includeColumnStats();
         try (CloseableIterable<FileScanTask> fileScanTasks =
             changeTableIncrementalScan.planFiles()) {
           for (FileScanTask fileScanTask : fileScanTasks) {
@@ -184,17 +190,11 @@ public class KeyedTableFileScanHelper implements TableFileScanHelper {
         } catch (IOException e) {
           throw new UncheckedIOException(e);
         }
-        PartitionSpec partitionSpec = changeTable.spec();
         changeScanResult =
             CloseableIterable.withNoopClose(
                 changeFiles
                     .allInsertFiles()
-                    .map(
-                        insertFile -> {
-                          List<ContentFile<?>> relatedDeleteFiles =
-                              changeFiles.getRelatedDeleteFiles(insertFile);
-                          return new FileScanResult(insertFile, relatedDeleteFiles);
-                        })
+                    .map(insertFile -> changeFiles.scanResult(insertFile, Collections.emptyList()))
                     .collect(Collectors.toList()));
       }
     }
@@ -203,15 +203,15 @@ public class KeyedTableFileScanHelper implements TableFileScanHelper {
     if (baseSnapshotId != ArcticServiceConstants.INVALID_SNAPSHOT_ID) {
       baseScanResult =
           CloseableIterable.transform(
-              baseTable.newScan().filter(partitionFilter).useSnapshot(baseSnapshotId).planFiles(),
-              fileScanTask -> {
-                DataFile dataFile = wrapBaseFile(fileScanTask.file());
-                List<ContentFile<?>> deleteFiles = new ArrayList<>(fileScanTask.deletes());
-                List<ContentFile<?>> relatedChangeDeleteFiles =
-                    changeFiles.getRelatedDeleteFiles(dataFile);
-                deleteFiles.addAll(relatedChangeDeleteFiles);
-                return new FileScanResult(dataFile, deleteFiles);
-              });
+              baseTable
+                  .newScan()
+                  .filter(partitionFilter)
+                  .useSnapshot(baseSnapshotId)
+                  .includeColumnStats()
+                  .planFiles(),
+              fileScanTask ->
+                  changeFiles.scanResult(
+                      wrapBaseFile(fileScanTask.file()), fileScanTask.deletes()));
     }
 
     return CloseableIterable.concat(Lists.newArrayList(changeScanResult, baseScanResult));
@@ -302,67 +302,121 @@ public class KeyedTableFileScanHelper implements TableFileScanHelper {
 
   private static class ChangeFiles {
     private final KeyedTable arcticTable;
-    private final Map<String, Map<DataTreeNode, List<ContentFile<?>>>> cachedRelatedDeleteFiles =
+    private final Types.StructType keyType;
+    // only the key ranges of the change files are kept, the files themselves are kept without stats
+    private final Map<String, PrimaryKeyRange> fileRanges = Maps.newHashMap();
+    // files of each partition are indexed by the ids of their tree nodes
+    private final Map<String, LongObjectMap<List<ContentFile<?>>>> cachedRelatedDeleteFiles =
         Maps.newHashMap();
 
-    private final Map<String, Map<DataTreeNode, Set<ContentFile<?>>>> equalityDeleteFiles =
+    private final Map<String, LongObjectMap<Set<ContentFile<?>>>> equalityDeleteFiles =
         Maps.newHashMap();
-    private final Map<String, Map<DataTreeNode, Set<DataFile>>> insertFiles = Maps.newHashMap();
+    private final Map<String, LongObjectMap<Set<DataFile>>> insertFiles = Maps.newHashMap();
 
     public ChangeFiles(KeyedTable arcticTable) {
       this.arcticTable = arcticTable;
+      this.keyType = arcticTable.primaryKeySpec().primaryKeyStruct();
     }
 
     public void addFile(DataFile file) {
       String partition = arcticTable.spec().partitionToPath(file.partition());
-      DataTreeNode node = FileNameRules.parseFileNodeFromFileName(file.path().toString());
-      DataFileType type = FileNameRules.parseFileTypeForChange(file.path().toString());
+      long nodeId = nodeId(file);
+      DataFileType type =
+          file instanceof PrimaryKeyedFile
+              ? ((PrimaryKeyedFile) file).type()
+              : FileNameRules.parseFileTypeForChange(file.path().toString());
       switch (type) {
         case EQ_DELETE_FILE:
+          addRange(file);
           equalityDeleteFiles
-              .computeIfAbsent(partition, key -> Maps.newHashMap())
-              .computeIfAbsent(node, key -> Sets.newHashSet())
-              .add(file);
+              .computeIfAbsent(partition, key -> new LongObjectMap<>())
+              .computeIfAbsent(nodeId, key -> Sets.newHashSet())
+              .add(file.copyWithoutStats());
           break;
         case INSERT_FILE:
+          addRange(file);
           insertFiles
-              .computeIfAbsent(partition, key -> Maps.newHashMap())
-              .computeIfAbsent(node, key -> Sets.newHashSet())
-              .add(file);
+              .computeIfAbsent(partition, key -> new LongObjectMap<>())
+              .computeIfAbsent(nodeId, key -> Sets.newHashSet())
+              .add(file.copyWithoutStats());
           break;
         default:
           throw new IllegalStateException("illegal file type in change store " + type);
       }
     }
 
+    private void addRange(DataFile file) {
+      PrimaryKeyRange range = PrimaryKeyRange.of(file, keyType);
+      if (range != null) {
+        fileRanges.put(file.path().toString(), range);
+      }
+    }
+
     public Stream<DataFile> allInsertFiles() {
       return insertFiles.values().stream()
-          .flatMap(dataTreeNodeSetMap -> dataTreeNodeSetMap.values().stream())
+          .flatMap(nodeFiles -> nodeFiles.values().stream())
           .flatMap(Collection::stream);
     }
 
+    /**
+     * Build the scan result of the data file with its own delete files and the related equality
+     * delete files whose key range may overlap the key range of the data file. The stats of the
+     * files are only used to prune the delete files, they are not kept in the result.
+     */
+    public FileScanResult scanResult(DataFile file, List<? extends ContentFile<?>> deleteFiles) {
+      List<ContentFile<?>> relatedDeleteFiles = getRelatedDeleteFiles(file);
+      List<ContentFile<?>> result = new ArrayList<>(deleteFiles.size() + relatedDeleteFiles.size());
+      for (ContentFile<?> deleteFile : deleteFiles) {
+        result.add((ContentFile<?>) deleteFile.copyWithoutStats());
+      }
+      PrimaryKeyRange range = relatedDeleteFiles.isEmpty() ? null : range(file);
+      int prunedDeleteFiles = 0;
+      for (ContentFile<?> deleteFile : relatedDeleteFiles) {
+        PrimaryKeyRange deleteRange = fileRanges.get(deleteFile.path().toString());
+        if (range != null && deleteRange != null && !range.overlaps(deleteRange)) {
+          prunedDeleteFiles++;
+        } else {
+          result.add(deleteFile);
+        }
+      }
+      return new FileScanResult(file.copyWithoutStats(), result, prunedDeleteFiles);
+    }
+
+    private PrimaryKeyRange range(DataFile file) {
+      PrimaryKeyRange range = fileRanges.get(file.path().toString());
+      return range != null ? range : PrimaryKeyRange.of(file, keyType);
+    }
+
     public List<ContentFile<?>> getRelatedDeleteFiles(DataFile file) {
       String partition = arcticTable.spec().partitionToPath(file.partition());
       if (!equalityDeleteFiles.containsKey(partition)) {
         return Collections.emptyList();
       }
-      DataTreeNode node = FileNameRules.parseFileNodeFromFileName(file.path().toString());
-      Map<DataTreeNode, List<ContentFile<?>>> partitionDeleteFiles =
-          cachedRelatedDeleteFiles.computeIfAbsent(partition, key -> Maps.newHashMap());
-      if (partitionDeleteFiles.containsKey(node)) {
-        return partitionDeleteFiles.get(node);
-      } else {
-        List<ContentFile<?>> result = Lists.newArrayList();
-        for (Map.Entry<DataTreeNode, Set<ContentFile<?>>> entry :
-            equalityDeleteFiles.get(partition).entrySet()) {
-          DataTreeNode deleteNode = entry.getKey();
-          if (node.isSonOf(deleteNode) || deleteNode.isSonOf(node)) {
-            result.addAll(entry.getValue());
-          }
-        }
-        partitionDeleteFiles.put(node, result);
-        return result;
+      long nodeId = nodeId(file);
+      LongObjectMap<List<ContentFile<?>>> partitionDeleteFiles =
+          cachedRelatedDeleteFiles.computeIfAbsent(partition, key -> new LongObjectMap<>());
+      List<ContentFile<?>> result = partitionDeleteFiles.get(nodeId);
+      if (result == null) {
+        List<ContentFile<?>> relatedDeleteFiles = Lists.newArrayList();
+        equalityDeleteFiles
+            .get(partition)
+            .forEach(
+                (deleteNodeId, deleteFiles) -> {
+                  if (DataTreeNode.isRelated(nodeId, deleteNodeId)) {
+                    relatedDeleteFiles.addAll(deleteFiles);
+                  }
+                });
+        partitionDeleteFiles.put(nodeId, relatedDeleteFiles);
+        result = relatedDeleteFiles;
+      }
+      return result;
+    }
+
+    private static long nodeId(DataFile file) {
+      if (file instanceof PrimaryKeyedFile) {
+        return ((PrimaryKeyedFile) file).node().getId();
       }
+      return FileNameRules.parseFileNodeIdFromFileName(file.path().toString());
     }
   }
 
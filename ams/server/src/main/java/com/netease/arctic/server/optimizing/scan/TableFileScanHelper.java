@@ -29,10 +29,17 @@ public interface TableFileScanHelper {
   class FileScanResult {
     private final DataFile file;
     private final List<ContentFile<?>> deleteFiles;
+    private final int prunedDeleteFileCount;
 
     public FileScanResult(DataFile file, List<ContentFile<?>> deleteFiles) {
+      this(file, deleteFiles, 0);
+    }
+
+    public FileScanResult(
+        DataFile file, List<ContentFile<?>> deleteFiles, int prunedDeleteFileCount) {
       this.file = file;
       this.deleteFiles = deleteFiles;
+      this.prunedDeleteFileCount = prunedDeleteFileCount;
     }
 
     public DataFile file() {
@@ -42,6 +49,11 @@ public interface TableFileScanHelper {
     public List<ContentFile<?>> deleteFiles() {
       return deleteFiles;
     }
+
+    /** The count of the related equality delete files pruned by the key range of the file. */
+    public int prunedDeleteFileCount() {
+      return prunedDeleteFileCount;
+    }
   }
 
   CloseableIterable<FileScanResult> scan();
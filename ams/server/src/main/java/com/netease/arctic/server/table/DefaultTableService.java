@@ -20,10 +20,12 @@ package com.netease.arctic.server.table;
 
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.netease.arctic.AmoroTable;
+import com.netease.arctic.NoSuchDatabaseException;
 import com.netease.arctic.NoSuchTableException;
 import com.netease.arctic.TableIDWithFormat;
 import com.netease.arctic.ams.api.BlockableOperation;
@@ -36,10 +38,12 @@ import com.netease.arctic.server.catalog.CatalogBuilder;
 import com.netease.arctic.server.catalog.ExternalCatalog;
 import com.netease.arctic.server.catalog.InternalCatalog;
 import com.netease.arctic.server.catalog.ServerCatalog;
+import com.netease.arctic.server.catalog.TableChanges;
 import com.netease.arctic.server.exception.AlreadyExistsException;
 import com.netease.arctic.server.exception.IllegalMetadataException;
 import com.netease.arctic.server.exception.ObjectNotExistsException;
 import com.netease.arctic.server.manager.MetricManager;
+import com.netease.arctic.server.metrics.TimeSeries;
 import com.netease.arctic.server.optimizing.OptimizingStatus;
 import com.netease.arctic.server.persistence.StatedPersistentBase;
 import com.netease.arctic.server.persistence.mapper.CatalogMetaMapper;
@@ -53,6 +57,7 @@ import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -62,7 +67,6 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -73,7 +77,13 @@ public class DefaultTableService extends StatedPersistentBase implements TableSe
 
   public static final Logger LOG = LoggerFactory.getLogger(DefaultTableService.class);
   private final long externalCatalogRefreshingInterval;
+  private final boolean incrementalExploringEnabled;
+  private final long fullExploringInterval;
+  private final Map<String, Long> fullExploringTimes = new ConcurrentHashMap<>();
+  private final int databasePageSize;
   private final long blockerTimeout;
+  private final int timeSeriesMaxPartitions;
+  private final List<TimeSeries.Resolution> timeSeriesResolutions;
   private final Map<String, InternalCatalog> internalCatalogMap = new ConcurrentHashMap<>();
   private final Map<String, ExternalCatalog> externalCatalogMap = new ConcurrentHashMap<>();
 
@@ -98,7 +108,27 @@ public class DefaultTableService extends StatedPersistentBase implements TableSe
   public DefaultTableService(Configurations configuration) {
     this.externalCatalogRefreshingInterval =
         configuration.getLong(ArcticManagementConf.REFRESH_EXTERNAL_CATALOGS_INTERVAL);
+    this.incrementalExploringEnabled =
+        configuration.getBoolean(
+            ArcticManagementConf.REFRESH_EXTERNAL_CATALOGS_INCREMENTAL_ENABLED);
+    this.fullExploringInterval =
+        configuration.getLong(ArcticManagementConf.REFRESH_EXTERNAL_CATALOGS_FULL_INTERVAL);
+    this.databasePageSize =
+        configuration.getInteger(ArcticManagementConf.REFRESH_EXTERNAL_CATALOGS_THREAD_COUNT) * 4;
     this.blockerTimeout = configuration.getLong(ArcticManagementConf.BLOCKER_TIMEOUT);
+    this.timeSeriesMaxPartitions =
+        configuration.getInteger(ArcticManagementConf.TABLE_TIME_SERIES_MAX_PARTITIONS);
+    this.timeSeriesResolutions =
+        ImmutableList.of(
+            new TimeSeries.Resolution(
+                TimeUnit.MINUTES.toMillis(1),
+                configuration.getInteger(ArcticManagementConf.TABLE_TIME_SERIES_MINUTE_BUCKETS)),
+            new TimeSeries.Resolution(
+                TimeUnit.HOURS.toMillis(1),
+                configuration.getInteger(ArcticManagementConf.TABLE_TIME_SERIES_HOUR_BUCKETS)),
+            new TimeSeries.Resolution(
+                TimeUnit.DAYS.toMillis(1),
+                configuration.getInteger(ArcticManagementConf.TABLE_TIME_SERIES_DAY_BUCKETS)));
     this.serverConfiguration = configuration;
   }
 
@@ -171,6 +201,7 @@ public class DefaultTableService extends StatedPersistentBase implements TableSe
     serverCatalog.dispose();
     internalCatalogMap.remove(catalogName);
     externalCatalogMap.remove(catalogName);
+    fullExploringTimes.remove(catalogName);
   }
 
   @Override
@@ -180,6 +211,8 @@ public class DefaultTableService extends StatedPersistentBase implements TableSe
     validateCatalogUpdate(catalog.getMetadata(), catalogMeta);
     doAs(CatalogMetaMapper.class, mapper -> mapper.updateCatalog(catalogMeta));
     catalog.updateMetadata(catalogMeta);
+    // tables included by the updated filters are not changed, list all tables in the next round
+    fullExploringTimes.remove(catalogMeta.getCatalogName());
   }
 
   @Override
@@ -346,6 +379,18 @@ public class DefaultTableService extends StatedPersistentBase implements TableSe
     }
   }
 
+  @Override
+  public void handlePartitionsPrepared(TableRuntime tableRuntime) {
+    if (headHandler != null) {
+      headHandler.firePartitionsPrepared(tableRuntime);
+    }
+  }
+
+  @Override
+  public TableTimeSeries createTimeSeries() {
+    return new TableTimeSeries(timeSeriesMaxPartitions, timeSeriesResolutions);
+  }
+
   @Override
   public void initialize() {
     checkNotStarted();
@@ -380,7 +425,9 @@ public class DefaultTableService extends StatedPersistentBase implements TableSe
               new ThreadFactoryBuilder()
                   .setNameFormat("table-explorer-executor-%d")
                   .setDaemon(true)
-                  .build());
+                  .build(),
+              // run the task in the explorer thread when the queue is full to slow down submitting
+              new ThreadPoolExecutor.CallerRunsPolicy());
     }
     tableExplorerScheduler.scheduleAtFixedRate(
         this::exploreExternalCatalog, 0, externalCatalogRefreshingInterval, TimeUnit.MILLISECONDS);
@@ -452,94 +499,9 @@ public class DefaultTableService extends StatedPersistentBase implements TableSe
     LOG.info("Syncing external catalogs: {}", String.join(",", externalCatalogMap.keySet()));
     for (ExternalCatalog externalCatalog : externalCatalogMap.values()) {
       try {
-        final List<CompletableFuture<Set<TableIdentity>>> tableIdentifiersFutures =
-            Lists.newArrayList();
-        externalCatalog
-            .listDatabases()
-            .forEach(
-                database -> {
-                  try {
-                    tableIdentifiersFutures.add(
-                        CompletableFuture.supplyAsync(
-                            () ->
-                                externalCatalog.listTables(database).stream()
-                                    .map(TableIdentity::new)
-                                    .collect(Collectors.toSet()),
-                            tableExplorerExecutors));
-                  } catch (RejectedExecutionException e) {
-                    LOG.error(
-                        "The queue of table explorer is full, please increase the queue size or thread count.");
-                  }
-                });
-        Set<TableIdentity> tableIdentifiers =
-            tableIdentifiersFutures.stream()
-                .map(CompletableFuture::join)
-                .reduce(
-                    (a, b) -> {
-                      a.addAll(b);
-                      return a;
-                    })
-                .orElse(Sets.newHashSet());
-        LOG.info(
-            "Loaded {} tables from external catalog {}.",
-            tableIdentifiers.size(),
-            externalCatalog.name());
-        Map<TableIdentity, ServerTableIdentifier> serverTableIdentifiers =
-            getAs(
-                    TableMetaMapper.class,
-                    mapper -> mapper.selectTableIdentifiersByCatalog(externalCatalog.name()))
-                .stream()
-                .collect(Collectors.toMap(TableIdentity::new, tableIdentifier -> tableIdentifier));
-        LOG.info(
-            "Loaded {} tables from Amoro server catalog {}.",
-            serverTableIdentifiers.size(),
-            externalCatalog.name());
-        final List<CompletableFuture<Void>> taskFutures = Lists.newArrayList();
-        Sets.difference(tableIdentifiers, serverTableIdentifiers.keySet())
-            .forEach(
-                tableIdentity -> {
-                  try {
-                    taskFutures.add(
-                        CompletableFuture.runAsync(
-                            () -> {
-                              try {
-                                syncTable(externalCatalog, tableIdentity);
-                              } catch (Exception e) {
-                                LOG.error(
-                                    "TableExplorer sync table {} error",
-                                    tableIdentity.toString(),
-                                    e);
-                              }
-                            },
-                            tableExplorerExecutors));
-                  } catch (RejectedExecutionException e) {
-                    LOG.error(
-                        "The queue of table explorer is full, please increase the queue size or thread count.");
-                  }
-                });
-        Sets.difference(serverTableIdentifiers.keySet(), tableIdentifiers)
-            .forEach(
-                tableIdentity -> {
-                  try {
-                    taskFutures.add(
-                        CompletableFuture.runAsync(
-                            () -> {
-                              try {
-                                disposeTable(serverTableIdentifiers.get(tableIdentity));
-                              } catch (Exception e) {
-                                LOG.error(
-                                    "TableExplorer dispose table {} error",
-                                    tableIdentity.toString(),
-                                    e);
-                              }
-                            },
-                            tableExplorerExecutors));
-                  } catch (RejectedExecutionException e) {
-                    LOG.error(
-                        "The queue of table explorer is full, please increase the queue size or thread count.");
-                  }
-                });
-        taskFutures.forEach(CompletableFuture::join);
+        if (!exploreTableChanges(externalCatalog)) {
+          exploreAllTables(externalCatalog);
+        }
       } catch (Throwable e) {
         LOG.error("TableExplorer error", e);
       }
@@ -562,6 +524,243 @@ public class DefaultTableService extends StatedPersistentBase implements TableSe
     LOG.info("Syncing external catalogs took {} ms.", end - start);
   }
 
+  /**
+   * Sync the tables changed in the external catalog since the last exploring.
+   *
+   * @return false if the changes are unknown, all tables of the catalog should be explored then
+   */
+  private boolean exploreTableChanges(ExternalCatalog externalCatalog) {
+    if (!incrementalExploringEnabled || !externalCatalog.supportsTableChanges()) {
+      return false;
+    }
+    Long lastFullExploringTime = fullExploringTimes.get(externalCatalog.name());
+    if (lastFullExploringTime == null
+        || System.currentTimeMillis() - lastFullExploringTime >= fullExploringInterval) {
+      return false;
+    }
+    TableChanges changes = externalCatalog.pollTableChanges();
+    if (changes == null) {
+      return false;
+    }
+    if (changes.isEmpty()) {
+      return true;
+    }
+    LOG.info(
+        "Polled changes of {} databases and {} tables from external catalog {}.",
+        changes.databases().size(),
+        changes.tables().values().stream().mapToInt(Set::size).sum(),
+        externalCatalog.name());
+
+    List<CompletableFuture<ExploredTables>> exploringFutures = Lists.newArrayList();
+    changes
+        .databases()
+        .forEach(
+            database ->
+                exploringFutures.add(
+                    CompletableFuture.supplyAsync(
+                        () -> listDatabaseTables(externalCatalog, database),
+                        tableExplorerExecutors)));
+    changes
+        .tables()
+        .forEach(
+            (database, tableNames) ->
+                exploringFutures.add(
+                    CompletableFuture.supplyAsync(
+                        () -> loadChangedTables(externalCatalog, changes, database, tableNames),
+                        tableExplorerExecutors)));
+
+    List<CompletableFuture<Void>> taskFutures = Lists.newArrayList();
+    for (CompletableFuture<ExploredTables> exploringFuture : exploringFutures) {
+      ExploredTables exploredTables = exploringFuture.join();
+      if (exploredTables != null) {
+        syncExploredTables(
+            externalCatalog,
+            exploredTables,
+            selectServerTables(externalCatalog, exploredTables.database),
+            taskFutures);
+      }
+    }
+    taskFutures.forEach(CompletableFuture::join);
+    return true;
+  }
+
+  /**
+   * List all tables of the external catalog and sync them with the tables of the server. Databases
+   * are listed in parallel, a page of them at a time, so only the tables of a page are kept in
+   * memory.
+   */
+  private void exploreAllTables(ExternalCatalog externalCatalog) {
+    if (incrementalExploringEnabled && externalCatalog.supportsTableChanges()) {
+      // tables changed during the listing are synced again by the next incremental exploring
+      externalCatalog.resetTableChanges();
+      fullExploringTimes.put(externalCatalog.name(), System.currentTimeMillis());
+    }
+    Map<String, Map<TableIdentity, ServerTableIdentifier>> serverTableIdentifiers =
+        getAs(
+                TableMetaMapper.class,
+                mapper -> mapper.selectTableIdentifiersByCatalog(externalCatalog.name()))
+            .stream()
+            .collect(
+                Collectors.groupingBy(
+                    ServerTableIdentifier::getDatabase,
+                    Collectors.toMap(TableIdentity::new, identifier -> identifier)));
+    LOG.info(
+        "Loaded {} tables from Amoro server catalog {}.",
+        serverTableIdentifiers.values().stream().mapToInt(Map::size).sum(),
+        externalCatalog.name());
+
+    List<String> databases = externalCatalog.listDatabases();
+    int tableCount = 0;
+    for (List<String> page : Lists.partition(databases, databasePageSize)) {
+      List<CompletableFuture<ExploredTables>> exploringFutures =
+          page.stream()
+              .map(
+                  database ->
+                      CompletableFuture.supplyAsync(
+                          () -> listDatabaseTables(externalCatalog, database),
+                          tableExplorerExecutors))
+              .collect(Collectors.toList());
+      List<CompletableFuture<Void>> taskFutures = Lists.newArrayList();
+      for (CompletableFuture<ExploredTables> exploringFuture : exploringFutures) {
+        ExploredTables exploredTables = exploringFuture.join();
+        if (exploredTables != null) {
+          tableCount += exploredTables.tables.size();
+          syncExploredTables(
+              externalCatalog,
+              exploredTables,
+              serverTableIdentifiers.getOrDefault(exploredTables.database, Collections.emptyMap()),
+              taskFutures);
+        }
+      }
+      taskFutures.forEach(CompletableFuture::join);
+    }
+    LOG.info("Loaded {} tables from external catalog {}.", tableCount, externalCatalog.name());
+
+    List<CompletableFuture<Void>> taskFutures = Lists.newArrayList();
+    Sets.difference(serverTableIdentifiers.keySet(), Sets.newHashSet(databases))
+        .forEach(
+            database ->
+                serverTableIdentifiers
+                    .get(database)
+                    .values()
+                    .forEach(identifier -> disposeTableAsync(identifier, taskFutures)));
+    taskFutures.forEach(CompletableFuture::join);
+  }
+
+  private ExploredTables listDatabaseTables(ExternalCatalog externalCatalog, String database) {
+    if (!externalCatalog.databaseIncluded(database)) {
+      return new ExploredTables(database, Collections.emptySet(), null);
+    }
+    try {
+      Set<TableIdentity> tables =
+          externalCatalog.listTables(database).stream()
+              .map(TableIdentity::new)
+              .collect(Collectors.toSet());
+      return new ExploredTables(database, tables, null);
+    } catch (NoSuchDatabaseException e) {
+      return new ExploredTables(database, Collections.emptySet(), null);
+    } catch (Exception e) {
+      LOG.error("TableExplorer list tables of database {} error", database, e);
+      return null;
+    }
+  }
+
+  /**
+   * Load the changed tables of a database. Only the unknown tables are loaded to find their
+   * formats, the known ones are only checked for existence. The database is listed instead if a
+   * table altered by an unparsed event may be renamed, since the event names only one of its names.
+   */
+  private ExploredTables loadChangedTables(
+      ExternalCatalog externalCatalog,
+      TableChanges changes,
+      String database,
+      Set<String> tableNames) {
+    try {
+      Map<String, TableIdentity> serverTables =
+          selectServerTables(externalCatalog, database).keySet().stream()
+              .collect(
+                  Collectors.toMap(
+                      TableIdentity::getTableName, identity -> identity, (first, second) -> first));
+      Set<TableIdentity> tables = Sets.newHashSet();
+      for (String tableName : tableNames) {
+        if (!externalCatalog.databaseIncluded(database)
+            || !externalCatalog.tableIncluded(database, tableName)) {
+          continue;
+        }
+        TableIdentity serverTable = serverTables.get(tableName);
+        boolean altered = changes.isAltered(database, tableName);
+        if (serverTable != null) {
+          if (externalCatalog.exist(database, tableName)) {
+            tables.add(serverTable);
+          } else if (altered) {
+            // renamed, the event names the old name
+            return listDatabaseTables(externalCatalog, database);
+          }
+        } else if (altered) {
+          // may be renamed, the event names the new name
+          return listDatabaseTables(externalCatalog, database);
+        } else {
+          externalCatalog
+              .loadTableFormat(database, tableName)
+              .ifPresent(format -> tables.add(new TableIdentity(database, tableName, format)));
+        }
+      }
+      return new ExploredTables(database, tables, tableNames);
+    } catch (Exception e) {
+      LOG.error("TableExplorer load changed tables of database {} error", database, e);
+      return null;
+    }
+  }
+
+  private Map<TableIdentity, ServerTableIdentifier> selectServerTables(
+      ExternalCatalog externalCatalog, String database) {
+    return getAs(
+            TableMetaMapper.class,
+            mapper -> mapper.selectTableIdentifiersByDb(externalCatalog.name(), database))
+        .stream()
+        .collect(Collectors.toMap(TableIdentity::new, identifier -> identifier));
+  }
+
+  private void syncExploredTables(
+      ExternalCatalog externalCatalog,
+      ExploredTables exploredTables,
+      Map<TableIdentity, ServerTableIdentifier> serverTableIdentifiers,
+      List<CompletableFuture<Void>> taskFutures) {
+    Sets.difference(exploredTables.tables, serverTableIdentifiers.keySet())
+        .forEach(
+            tableIdentity ->
+                taskFutures.add(
+                    CompletableFuture.runAsync(
+                        () -> {
+                          try {
+                            syncTable(externalCatalog, tableIdentity);
+                          } catch (Exception e) {
+                            LOG.error(
+                                "TableExplorer sync table {} error", tableIdentity.toString(), e);
+                          }
+                        },
+                        tableExplorerExecutors)));
+    Sets.difference(serverTableIdentifiers.keySet(), exploredTables.tables).stream()
+        .filter(exploredTables::covers)
+        .forEach(
+            tableIdentity ->
+                disposeTableAsync(serverTableIdentifiers.get(tableIdentity), taskFutures));
+  }
+
+  private void disposeTableAsync(
+      ServerTableIdentifier tableIdentifier, List<CompletableFuture<Void>> taskFutures) {
+    taskFutures.add(
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                disposeTable(tableIdentifier);
+              } catch (Exception e) {
+                LOG.error("TableExplorer dispose table {} error", tableIdentifier.toString(), e);
+              }
+            },
+            tableExplorerExecutors));
+  }
+
   private void validateTableIdentifier(TableIdentifier tableIdentifier) {
     if (StringUtils.isBlank(tableIdentifier.getTableName())) {
       throw new IllegalMetadataException("table name is blank");
@@ -678,6 +877,26 @@ public class DefaultTableService extends StatedPersistentBase implements TableSe
             });
   }
 
+  /** Tables of a database found in an external catalog. */
+  private static class ExploredTables {
+
+    private final String database;
+    private final Set<TableIdentity> tables;
+
+    /** Names of the explored tables, null if all tables of the database are explored. */
+    private final Set<String> tableNames;
+
+    private ExploredTables(String database, Set<TableIdentity> tables, Set<String> tableNames) {
+      this.database = database;
+      this.tables = tables;
+      this.tableNames = tableNames;
+    }
+
+    private boolean covers(TableIdentity tableIdentity) {
+      return tableNames == null || tableNames.contains(tableIdentity.getTableName());
+    }
+  }
+
   private static class TableIdentity {
 
     private final String database;
@@ -89,6 +89,19 @@ public abstract class RuntimeHandlerChain {
     }
   }
 
+  public final void firePartitionsPrepared(TableRuntime tableRuntime) {
+    if (!initialized) {
+      return;
+    }
+
+    if (formatSupported(tableRuntime.getFormat())) {
+      doSilently(() -> handlePartitionsPrepared(tableRuntime));
+    }
+    if (next != null) {
+      next.firePartitionsPrepared(tableRuntime);
+    }
+  }
+
   public final void fireTableAdded(AmoroTable<?> table, TableRuntime tableRuntime) {
     if (!initialized) {
       return;
@@ -142,6 +155,12 @@ public abstract class RuntimeHandlerChain {
   protected abstract void handleConfigChanged(
       TableRuntime tableRuntime, TableConfiguration originalConfig);
 
+  /**
+   * Handle partitions of the running optimizing process prepared to commit in advance, the
+   * optimizing status is not changed. Ignored unless the handler commits them.
+   */
+  protected void handlePartitionsPrepared(TableRuntime tableRuntime) {}
+
   protected abstract void handleTableAdded(AmoroTable<?> table, TableRuntime tableRuntime);
 
   protected abstract void handleTableRemoved(TableRuntime tableRuntime);
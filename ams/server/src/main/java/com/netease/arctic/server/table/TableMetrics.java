@@ -78,10 +78,18 @@ public class TableMetrics {
           .withTags("catalog", "database", "table")
           .build();
 
+  public static final MetricDefine TABLE_OPTIMIZING_READ_AMPLIFICATION =
+      defineGauge("table_optimizing_read_amplification")
+          .withDescription(
+              "Estimated bytes read for each byte of live data when merging the table on read")
+          .withTags("catalog", "database", "table")
+          .build();
+
   private final ServerTableIdentifier identifier;
 
   private OptimizingStatus optimizingStatus;
   private long stateSetTimestamp = System.currentTimeMillis();
+  private volatile double readAmplification = 0;
   private final List<MetricKey> registeredMetricKeys = Lists.newArrayList();
   private MetricRegistry globalRegistry;
 
@@ -122,6 +130,10 @@ public class TableMetrics {
           registry,
           TABLE_OPTIMIZING_STATE_COMMITTING_DURATION,
           new StateDurationGauge(STATE_COMMITTING));
+      registerMetric(
+          registry,
+          TABLE_OPTIMIZING_READ_AMPLIFICATION,
+          (Gauge<Double>) () -> readAmplification);
       globalRegistry = registry;
     }
   }
@@ -137,6 +149,10 @@ public class TableMetrics {
     this.stateSetTimestamp = stateSetTimestamp;
   }
 
+  public void readAmplificationChanged(double readAmplification) {
+    this.readAmplification = readAmplification;
+  }
+
   class StateDurationGauge implements Gauge<Long> {
     final String targetState;
 
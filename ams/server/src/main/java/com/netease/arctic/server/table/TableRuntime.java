@@ -91,6 +91,9 @@ public class TableRuntime extends StatedPersistentBase {
   @StateField private volatile long processId;
   @StateField private volatile OptimizingEvaluator.PendingInput pendingInput;
   private volatile long lastPlanTime;
+  private volatile long lastEvaluatingTime;
+  private volatile double readAmplification;
+  private final TableTimeSeries timeSeries;
   private final TableMetrics metrics;
   private final ReentrantLock blockerLock = new ReentrantLock();
 
@@ -105,6 +108,7 @@ public class TableRuntime extends StatedPersistentBase {
     this.optimizerGroup = tableConfiguration.getOptimizingConfig().getOptimizerGroup();
     persistTableRuntime();
     metrics = new TableMetrics(tableIdentifier);
+    timeSeries = tableHandler.createTimeSeries();
   }
 
   protected TableRuntime(TableRuntimeMeta tableRuntimeMeta, TableRuntimeHandler tableHandler) {
@@ -135,6 +139,7 @@ public class TableRuntime extends StatedPersistentBase {
     this.pendingInput = tableRuntimeMeta.getPendingInput();
     metrics = new TableMetrics(tableIdentifier);
     metrics.stateChanged(optimizingStatus, this.currentStatusStartTime);
+    timeSeries = tableHandler.createTimeSeries();
   }
 
   public void recover(OptimizingProcess optimizingProcess) {
@@ -205,6 +210,11 @@ public class TableRuntime extends StatedPersistentBase {
         });
   }
 
+  /** Notify the handlers that the running process has partitions ready to commit in advance. */
+  public void partitionsPrepared() {
+    tableHandler.handlePartitionsPrepared(this);
+  }
+
   public void setPendingInput(OptimizingEvaluator.PendingInput pendingInput) {
     invokeConsisitency(
         () -> {
@@ -229,6 +239,7 @@ public class TableRuntime extends StatedPersistentBase {
           if (refreshSnapshots(table) || configChanged) {
             persistUpdatingRuntime();
           }
+          recordSnapshots(table);
           if (configChanged) {
             tableHandler.handleTableChanged(this, configuration);
           }
@@ -280,6 +291,11 @@ public class TableRuntime extends StatedPersistentBase {
             } else if (optimizingProcess.getOptimizingType() == OptimizingType.FULL) {
               lastFullOptimizingTime = optimizingProcess.getPlanTime();
             }
+            timeSeries.recordOptimizing(
+                System.currentTimeMillis(),
+                optimizingProcess.getDuration(),
+                optimizingProcess.getSummary(),
+                optimizingProcess.getPartitionSummaries());
           }
           updateOptimizingStatus(OptimizingStatus.IDLE);
           optimizingProcess = null;
@@ -323,6 +339,17 @@ public class TableRuntime extends StatedPersistentBase {
     return false;
   }
 
+  private void recordSnapshots(AmoroTable<?> amoroTable) {
+    ArcticTable table = (ArcticTable) amoroTable.originalTable();
+    // the files of keyed tables are recorded when evaluating the table, see setEvaluatedMetrics
+    if (!table.isKeyedTable()) {
+      timeSeries.recordFiles(
+          TableTimeSeries.TABLE,
+          System.currentTimeMillis(),
+          new TableTimeSeries.FileCounts().addSnapshot(table.asUnkeyedTable().currentSnapshot()));
+    }
+  }
+
   public OptimizingEvaluator.PendingInput getPendingInput() {
     return pendingInput;
   }
@@ -450,6 +477,52 @@ public class TableRuntime extends StatedPersistentBase {
     this.lastPlanTime = lastPlanTime;
   }
 
+  public long getLastEvaluatingTime() {
+    return lastEvaluatingTime;
+  }
+
+  public void setLastEvaluatingTime(long lastEvaluatingTime) {
+    this.lastEvaluatingTime = lastEvaluatingTime;
+  }
+
+  /**
+   * Get the read amplification of merging the table on read estimated by the last evaluating, 0 if
+   * the table has not been evaluated.
+   */
+  public double getReadAmplification() {
+    return readAmplification;
+  }
+
+  /**
+   * Set the metrics of the last evaluating: the read amplification and the files of the table and
+   * of its partitions. The files of keyed tables are summed from their partitions rather than
+   * recorded from the snapshot summaries, since the equality delete files of their change stores
+   * are data files, which are only told apart by their file names.
+   */
+  public void setEvaluatedMetrics(
+      double readAmplification,
+      Map<String, Double> partitionReadAmplification,
+      Map<String, TableTimeSeries.FileCounts> partitionFiles,
+      boolean keyedTable) {
+    this.readAmplification = readAmplification;
+    this.metrics.readAmplificationChanged(readAmplification);
+    TableTimeSeries.FileCounts tableFiles = null;
+    if (keyedTable) {
+      tableFiles = new TableTimeSeries.FileCounts();
+      partitionFiles.values().forEach(tableFiles::add);
+    }
+    timeSeries.recordEvaluation(
+        System.currentTimeMillis(),
+        readAmplification,
+        tableFiles,
+        partitionReadAmplification,
+        partitionFiles);
+  }
+
+  public TableTimeSeries getTimeSeries() {
+    return timeSeries;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
@@ -27,4 +27,10 @@ public interface TableRuntimeHandler {
   void handleTableChanged(TableRuntime tableRuntime, OptimizingStatus originalStatus);
 
   void handleTableChanged(TableRuntime tableRuntime, TableConfiguration originalConfig);
+
+  /** Handle partitions of the running optimizing process prepared to commit in advance. */
+  void handlePartitionsPrepared(TableRuntime tableRuntime);
+
+  /** Create the time series of metrics kept by a table runtime. */
+  TableTimeSeries createTimeSeries();
 }
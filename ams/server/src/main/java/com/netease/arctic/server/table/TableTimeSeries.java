@@ -0,0 +1,335 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.server.table;
+
+import com.netease.arctic.server.metrics.TimeSeries;
+import com.netease.arctic.server.optimizing.MetricsSummary;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.SnapshotSummary;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.PropertyUtil;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Time series of the files, the read amplification and the optimizing of a table and of its
+ * partitions, kept in memory by the {@link TableRuntime}. They are fed by refreshing the table,
+ * evaluating its optimizing and completing its optimizing processes.
+ *
+ * <p>The series of at most maxPartitions partitions are kept. The partitions are chosen when
+ * evaluating the table, the partition updated least recently is evicted for a new one, but a
+ * partition is never evicted for another one of the same evaluation. The series of partitions only
+ * keep the coarser resolutions to bound the memory of tables with many partitions.
+ */
+public class TableTimeSeries {
+
+  /** The series of the table itself, instead of a partition. */
+  public static final String TABLE = "";
+
+  public static final String DATA_FILES = "data-files";
+  public static final String DELETE_FILES = "delete-files";
+  public static final String RECORDS = "records";
+  public static final String DELETE_RATIO = "delete-ratio";
+  public static final String READ_AMPLIFICATION = "read-amplification";
+  public static final String OPTIMIZING_INPUT_SIZE = "optimizing-input-size";
+  public static final String OPTIMIZING_OUTPUT_SIZE = "optimizing-output-size";
+  public static final String OPTIMIZING_DURATION = "optimizing-duration";
+  public static final String OPTIMIZING_THROUGHPUT = "optimizing-throughput";
+
+  private static final FileCounts EMPTY_FILES = new FileCounts();
+
+  private final int maxPartitions;
+  private final List<TimeSeries.Resolution> resolutions;
+  private final List<TimeSeries.Resolution> partitionResolutions;
+
+  // partition -> metric -> series
+  private final Map<String, Map<String, TimeSeries>> series = Maps.newHashMap();
+
+  /**
+   * @param maxPartitions the count of partitions whose series are kept
+   * @param resolutions the resolutions of each series, ordered from the finest to the coarsest, the
+   *     series of partitions do not keep the finest one if there are more than one
+   */
+  public TableTimeSeries(int maxPartitions, List<TimeSeries.Resolution> resolutions) {
+    Preconditions.checkArgument(maxPartitions >= 0, "Illegal max partitions: %s", maxPartitions);
+    this.maxPartitions = maxPartitions;
+    this.resolutions = ImmutableList.copyOf(resolutions);
+    this.partitionResolutions =
+        resolutions.size() > 1 ? this.resolutions.subList(1, resolutions.size()) : this.resolutions;
+  }
+
+  /** Record the files of the table or of a partition. */
+  public void recordFiles(String partition, long timestamp, FileCounts files) {
+    recordFiles(partition, timestamp, files, true);
+  }
+
+  private void recordFiles(String partition, long timestamp, FileCounts files, boolean evict) {
+    record(partition, DATA_FILES, timestamp, files.getDataFiles(), evict);
+    record(partition, DELETE_FILES, timestamp, files.getDeleteFiles(), evict);
+    record(partition, RECORDS, timestamp, files.getRecords(), evict);
+    record(partition, DELETE_RATIO, timestamp, files.getDeleteRatio(), evict);
+  }
+
+  /**
+   * Record an evaluation of the table. The partitions are chosen once for all the metrics of the
+   * evaluation: the ones with the highest read amplification, then the ones with the most delete
+   * files.
+   *
+   * @param timestamp the time of the evaluation
+   * @param readAmplification the read amplification of the table
+   * @param tableFiles the files of the table, null if they are recorded from its snapshots
+   * @param partitionReadAmplification the read amplification of the partitions with live data
+   * @param partitionFiles the files of all the partitions
+   */
+  public synchronized void recordEvaluation(
+      long timestamp,
+      double readAmplification,
+      FileCounts tableFiles,
+      Map<String, Double> partitionReadAmplification,
+      Map<String, FileCounts> partitionFiles) {
+    expire(timestamp);
+    record(TABLE, READ_AMPLIFICATION, timestamp, readAmplification, true);
+    if (tableFiles != null) {
+      recordFiles(TABLE, timestamp, tableFiles);
+    }
+    Set<String> partitions = Sets.newHashSet(partitionReadAmplification.keySet());
+    partitions.addAll(partitionFiles.keySet());
+    List<String> chosen =
+        partitions.stream()
+            .sorted(
+                Comparator.comparingDouble(
+                        (String partition) ->
+                            partitionReadAmplification.getOrDefault(partition, 0D))
+                    .thenComparingLong(
+                        partition ->
+                            partitionFiles.getOrDefault(partition, EMPTY_FILES).getDeleteFiles())
+                    .reversed())
+            .limit(maxPartitions)
+            .collect(Collectors.toCollection(Lists::newArrayList));
+    // record the partitions already kept first, so only the partitions not chosen are evicted
+    chosen.sort(Comparator.comparing(partition -> !series.containsKey(partition)));
+    for (String partition : chosen) {
+      Double partitionReadAmp = partitionReadAmplification.get(partition);
+      if (partitionReadAmp != null) {
+        record(partition, READ_AMPLIFICATION, timestamp, partitionReadAmp, true);
+      }
+      FileCounts files = partitionFiles.get(partition);
+      if (files != null) {
+        recordFiles(partition, timestamp, files, true);
+      }
+    }
+  }
+
+  /**
+   * Record a completed optimizing process and the optimizing of its partitions. Only the partitions
+   * already kept are recorded, or new ones if there is room for them, so the partitions chosen by
+   * the evaluations are not evicted.
+   */
+  public void recordOptimizing(
+      long timestamp,
+      long duration,
+      MetricsSummary summary,
+      Map<String, MetricsSummary> partitions) {
+    long inputSize = inputSize(summary);
+    record(TABLE, OPTIMIZING_INPUT_SIZE, timestamp, inputSize, true);
+    record(TABLE, OPTIMIZING_OUTPUT_SIZE, timestamp, summary.getNewFileSize(), true);
+    record(TABLE, OPTIMIZING_DURATION, timestamp, duration, true);
+    if (duration > 0) {
+      record(TABLE, OPTIMIZING_THROUGHPUT, timestamp, inputSize * 1000.0 / duration, true);
+    }
+    partitions.entrySet().stream()
+        .sorted(
+            Comparator.comparingLong(
+                    (Map.Entry<String, MetricsSummary> entry) -> inputSize(entry.getValue()))
+                .reversed())
+        .forEach(
+            entry -> {
+              record(
+                  entry.getKey(),
+                  OPTIMIZING_INPUT_SIZE,
+                  timestamp,
+                  inputSize(entry.getValue()),
+                  false);
+              record(
+                  entry.getKey(),
+                  OPTIMIZING_OUTPUT_SIZE,
+                  timestamp,
+                  entry.getValue().getNewFileSize(),
+                  false);
+            });
+  }
+
+  private static long inputSize(MetricsSummary summary) {
+    return summary.getRewriteDataSize()
+        + summary.getRewritePosDataSize()
+        + summary.getEqualityDeleteSize()
+        + summary.getPositionalDeleteSize();
+  }
+
+  /**
+   * Record a value of a metric. A new partition may evict the partition updated least recently if
+   * evict is true, but not a partition updated at the same time, otherwise it is not recorded if
+   * there are already maxPartitions partitions.
+   */
+  synchronized void record(
+      String partition, String metric, long timestamp, double value, boolean evict) {
+    Map<String, TimeSeries> partitionSeries = series.get(partition);
+    boolean table = TABLE.equals(partition);
+    if (partitionSeries == null) {
+      if (!table && partitionCount() >= maxPartitions && !(evict && evictPartition(timestamp))) {
+        return;
+      }
+      partitionSeries = Maps.newHashMap();
+      series.put(partition, partitionSeries);
+    }
+    partitionSeries
+        .computeIfAbsent(
+            metric, ignore -> new TimeSeries(table ? resolutions : partitionResolutions))
+        .add(timestamp, value);
+  }
+
+  private int partitionCount() {
+    return series.containsKey(TABLE) ? series.size() - 1 : series.size();
+  }
+
+  private boolean evictPartition(long timestamp) {
+    Optional<String> evicted =
+        series.entrySet().stream()
+            .filter(entry -> !TABLE.equals(entry.getKey()))
+            .filter(entry -> lastTimestamp(entry.getValue()) < timestamp)
+            .min(Comparator.comparingLong(entry -> lastTimestamp(entry.getValue())))
+            .map(Map.Entry::getKey);
+    evicted.ifPresent(series::remove);
+    return evicted.isPresent();
+  }
+
+  private static long lastTimestamp(Map<String, TimeSeries> partitionSeries) {
+    return partitionSeries.values().stream()
+        .mapToLong(TimeSeries::lastTimestamp)
+        .max()
+        .orElse(-1);
+  }
+
+  /** Get the recorded metrics of the table and of each partition. */
+  public synchronized Map<String, List<String>> metrics() {
+    Map<String, List<String>> metrics = Maps.newTreeMap();
+    series.forEach(
+        (partition, partitionSeries) -> {
+          List<String> names = Lists.newArrayList(partitionSeries.keySet());
+          Collections.sort(names);
+          metrics.put(partition, names);
+        });
+    return metrics;
+  }
+
+  /** Get the points of a metric of the table or of a partition since the given time. */
+  public synchronized List<TimeSeries.Point> points(
+      String partition, String metric, long from, long now) {
+    TimeSeries timeSeries = series.getOrDefault(partition, Collections.emptyMap()).get(metric);
+    return timeSeries == null ? Collections.emptyList() : timeSeries.points(from, now);
+  }
+
+  /** Remove the series of the partitions whose values have all been out of the retention. */
+  public synchronized void expire(long now) {
+    series
+        .entrySet()
+        .removeIf(
+            entry ->
+                !TABLE.equals(entry.getKey())
+                    && entry.getValue().values().stream()
+                        .allMatch(timeSeries -> timeSeries.isExpired(now)));
+  }
+
+  /**
+   * The files of a table or of a partition. The equality delete files of the change store of keyed
+   * tables are data files for iceberg, they should be added as delete files.
+   */
+  public static class FileCounts {
+    private long dataFiles;
+    private long deleteFiles;
+    private long records;
+    private long deletes;
+
+    /** Add the files of a snapshot, counted by the totals of its summary. */
+    public FileCounts addSnapshot(Snapshot snapshot) {
+      if (snapshot != null) {
+        Map<String, String> summary = snapshot.summary();
+        dataFiles += PropertyUtil.propertyAsLong(summary, SnapshotSummary.TOTAL_DATA_FILES_PROP, 0);
+        deleteFiles +=
+            PropertyUtil.propertyAsLong(summary, SnapshotSummary.TOTAL_DELETE_FILES_PROP, 0);
+        records += PropertyUtil.propertyAsLong(summary, SnapshotSummary.TOTAL_RECORDS_PROP, 0);
+        deletes +=
+            PropertyUtil.propertyAsLong(summary, SnapshotSummary.TOTAL_POS_DELETES_PROP, 0)
+                + PropertyUtil.propertyAsLong(summary, SnapshotSummary.TOTAL_EQ_DELETES_PROP, 0);
+      }
+      return this;
+    }
+
+    /**
+     * Add files.
+     *
+     * @param dataFiles the count of data files
+     * @param deleteFiles the count of delete files
+     * @param records the records of the data files
+     * @param deletes the records of the delete files
+     */
+    public FileCounts add(long dataFiles, long deleteFiles, long records, long deletes) {
+      this.dataFiles += dataFiles;
+      this.deleteFiles += deleteFiles;
+      this.records += records;
+      this.deletes += deletes;
+      return this;
+    }
+
+    public FileCounts add(FileCounts other) {
+      return add(other.dataFiles, other.deleteFiles, other.records, other.deletes);
+    }
+
+    public long getDataFiles() {
+      return dataFiles;
+    }
+
+    public long getDeleteFiles() {
+      return deleteFiles;
+    }
+
+    public long getRecords() {
+      return records;
+    }
+
+    public long getDeletes() {
+      return deletes;
+    }
+
+    /** The deletes for each record of the data files, 0 if there is no record. */
+    public double getDeleteRatio() {
+      return records == 0 ? 0 : (double) deletes / records;
+    }
+  }
+}
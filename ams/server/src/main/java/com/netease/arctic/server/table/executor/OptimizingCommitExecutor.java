@@ -19,6 +19,7 @@
 package com.netease.arctic.server.table.executor;
 
 import com.netease.arctic.AmoroTable;
+import com.netease.arctic.server.optimizing.OptimizingProcess;
 import com.netease.arctic.server.optimizing.OptimizingStatus;
 import com.netease.arctic.server.table.TableManager;
 import com.netease.arctic.server.table.TableRuntime;
@@ -35,22 +36,38 @@ public class OptimizingCommitExecutor extends BaseTableExecutor {
 
   @Override
   protected long getNextExecutingTime(TableRuntime tableRuntime) {
+    OptimizingProcess process = tableRuntime.getOptimizingProcess();
+    if (tableRuntime.getOptimizingStatus() != OptimizingStatus.COMMITTING
+        && process != null
+        && process.hasPreparedPartitions()) {
+      return 0;
+    }
     return INTERVAL;
   }
 
   @Override
   protected boolean enabled(TableRuntime tableRuntime) {
-    return tableRuntime.getOptimizingStatus() == OptimizingStatus.COMMITTING;
+    if (tableRuntime.getOptimizingStatus() == OptimizingStatus.COMMITTING) {
+      return true;
+    }
+    OptimizingProcess process = tableRuntime.getOptimizingProcess();
+    return process != null && process.hasPreparedPartitions();
   }
 
   @Override
   protected void execute(TableRuntime tableRuntime) {
-    Optional.ofNullable(tableRuntime.getOptimizingProcess())
-        .orElseThrow(
-            () ->
-                new IllegalStateException(
-                    "OptimizingProcess is null while committing:" + tableRuntime))
-        .commit();
+    OptimizingProcess process =
+        Optional.ofNullable(tableRuntime.getOptimizingProcess())
+            .orElseThrow(
+                () ->
+                    new IllegalStateException(
+                        "OptimizingProcess is null while committing:" + tableRuntime));
+    if (tableRuntime.getOptimizingStatus() == OptimizingStatus.COMMITTING) {
+      // partitions prepared but not committed yet are committed with the whole process
+      process.commit();
+    } else {
+      process.commitPreparedPartitions();
+    }
   }
 
   @Override
@@ -58,6 +75,11 @@ public class OptimizingCommitExecutor extends BaseTableExecutor {
     scheduleIfNecessary(tableRuntime, getStartDelay());
   }
 
+  @Override
+  public void handlePartitionsPrepared(TableRuntime tableRuntime) {
+    scheduleIfNecessary(tableRuntime, getStartDelay());
+  }
+
   @Override
   public void handleTableAdded(AmoroTable<?> table, TableRuntime tableRuntime) {}
 
@@ -31,10 +31,14 @@ public class TableRuntimeRefreshExecutor extends BaseTableExecutor {
 
   // 1 minutes
   private final long interval;
+  // 5 minutes
+  private final long evaluatingInterval;
 
-  public TableRuntimeRefreshExecutor(TableManager tableRuntimes, int poolSize, long interval) {
+  public TableRuntimeRefreshExecutor(
+      TableManager tableRuntimes, int poolSize, long interval, long evaluatingInterval) {
     super(tableRuntimes, poolSize);
     this.interval = interval;
+    this.evaluatingInterval = evaluatingInterval;
   }
 
   @Override
@@ -46,17 +50,37 @@ public class TableRuntimeRefreshExecutor extends BaseTableExecutor {
     return Math.min(tableRuntime.getOptimizingConfig().getMinorLeastInterval() * 4L / 5, interval);
   }
 
-  private void tryEvaluatingPendingInput(TableRuntime tableRuntime, ArcticTable table) {
-    if (tableRuntime.isOptimizingEnabled() && !tableRuntime.getOptimizingStatus().isProcessing()) {
-      OptimizingEvaluator evaluator = new OptimizingEvaluator(tableRuntime, table);
-      if (evaluator.isNecessary()) {
-        OptimizingEvaluator.PendingInput pendingInput = evaluator.getPendingInput();
-        logger.debug(
-            "{} optimizing is necessary and get pending input {}",
-            tableRuntime.getTableIdentifier(),
-            pendingInput);
-        tableRuntime.setPendingInput(pendingInput);
-      }
+  /**
+   * Evaluate the table for a pending input if it is changed and its self-optimizing is enabled and
+   * not running. Other tables are still evaluated for their read amplification and file metrics,
+   * but at most once in each evaluating interval.
+   */
+  private void tryEvaluatingPendingInput(
+      TableRuntime tableRuntime, ArcticTable table, boolean changed) {
+    boolean pending =
+        changed
+            && tableRuntime.isOptimizingEnabled()
+            && !tableRuntime.getOptimizingStatus().isProcessing();
+    if (!pending
+        && System.currentTimeMillis() - tableRuntime.getLastEvaluatingTime()
+            < evaluatingInterval) {
+      return;
+    }
+    OptimizingEvaluator evaluator = new OptimizingEvaluator(tableRuntime, table);
+    boolean necessary = evaluator.isNecessary();
+    tableRuntime.setLastEvaluatingTime(System.currentTimeMillis());
+    tableRuntime.setEvaluatedMetrics(
+        evaluator.getReadAmplification(),
+        evaluator.getPartitionReadAmplification(),
+        evaluator.getPartitionFiles(),
+        table.isKeyedTable());
+    if (pending && necessary) {
+      OptimizingEvaluator.PendingInput pendingInput = evaluator.getPendingInput();
+      logger.debug(
+          "{} optimizing is necessary and get pending input {}",
+          tableRuntime.getTableIdentifier(),
+          pendingInput);
+      tableRuntime.setPendingInput(pendingInput);
     }
   }
 
@@ -81,13 +105,14 @@ public class TableRuntimeRefreshExecutor extends BaseTableExecutor {
       AmoroTable<?> table = loadTable(tableRuntime);
       tableRuntime.refresh(table);
       ArcticTable arcticTable = (ArcticTable) table.originalTable();
-      if ((arcticTable.isKeyedTable()
-              && (lastOptimizedSnapshotId != tableRuntime.getCurrentSnapshotId()
-                  || lastOptimizedChangeSnapshotId != tableRuntime.getCurrentChangeSnapshotId()))
-          || (arcticTable.isUnkeyedTable()
-              && lastOptimizedSnapshotId != tableRuntime.getCurrentSnapshotId())) {
-        tryEvaluatingPendingInput(tableRuntime, arcticTable);
-      }
+      boolean changed =
+          (arcticTable.isKeyedTable()
+                  && (lastOptimizedSnapshotId != tableRuntime.getCurrentSnapshotId()
+                      || lastOptimizedChangeSnapshotId
+                          != tableRuntime.getCurrentChangeSnapshotId()))
+              || (arcticTable.isUnkeyedTable()
+                  && lastOptimizedSnapshotId != tableRuntime.getCurrentSnapshotId());
+      tryEvaluatingPendingInput(tableRuntime, arcticTable, changed);
     } catch (Throwable throwable) {
       logger.error("Refreshing table {} failed.", tableRuntime.getTableIdentifier(), throwable);
     }
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.server.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.netease.arctic.ams.api.CatalogMeta;
+import com.netease.arctic.ams.api.TableFormat;
+import com.netease.arctic.catalog.CatalogTestHelper;
+import com.netease.arctic.hive.CachedHiveClientPool;
+import com.netease.arctic.hive.HMSClient;
+import com.netease.arctic.hive.HMSClientPool;
+import com.netease.arctic.hive.TestHMS;
+import com.netease.arctic.hive.catalog.HiveCatalogTestHelper;
+import com.netease.arctic.utils.CatalogUtil;
+import org.apache.hadoop.hive.metastore.api.CurrentNotificationEventId;
+import org.apache.hadoop.hive.metastore.api.NotificationEvent;
+import org.apache.hadoop.hive.metastore.api.NotificationEventResponse;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.catalog.Catalog;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.SupportsNamespaces;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Types;
+import org.apache.thrift.TException;
+import org.apache.thrift.TSerializer;
+import org.apache.thrift.protocol.TJSONProtocol;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+
+public class TestHiveTableChangeTracker {
+
+  private static final String DATABASE = "tracked_db";
+  private static final Schema SCHEMA =
+      new Schema(Types.NestedField.required(1, "id", Types.IntegerType.get()));
+
+  @ClassRule public static TestHMS TEST_HMS = new TestHMS();
+
+  @Rule public TemporaryFolder temp = new TemporaryFolder();
+
+  private Catalog icebergCatalog;
+  private HiveTableChangeTracker tracker;
+
+  @Before
+  public void setupTracker() throws IOException {
+    CatalogTestHelper catalogTestHelper =
+        new HiveCatalogTestHelper(TableFormat.ICEBERG, TEST_HMS.getHiveConf());
+    CatalogMeta catalogMeta = catalogTestHelper.buildCatalogMeta(temp.newFolder().getPath());
+    icebergCatalog = catalogTestHelper.buildIcebergCatalog(catalogMeta);
+    // poll a few events at a time to read the events in batches
+    tracker =
+        new HiveTableChangeTracker(
+            new CachedHiveClientPool(
+                CatalogUtil.buildMetaStore(catalogMeta), catalogMeta.getCatalogProperties()),
+            2);
+  }
+
+  @After
+  public void dropDatabase() {
+    SupportsNamespaces namespaces = (SupportsNamespaces) icebergCatalog;
+    if (namespaces.namespaceExists(Namespace.of(DATABASE))) {
+      icebergCatalog.listTables(Namespace.of(DATABASE)).forEach(icebergCatalog::dropTable);
+      namespaces.dropNamespace(Namespace.of(DATABASE));
+    }
+  }
+
+  @Test
+  public void testPollChanges() {
+    // changes are unknown before the tracker is reset
+    Assert.assertNull(tracker.poll());
+    tracker.reset();
+    Assert.assertTrue(tracker.poll().isEmpty());
+
+    ((SupportsNamespaces) icebergCatalog).createNamespace(Namespace.of(DATABASE));
+    icebergCatalog.createTable(TableIdentifier.of(DATABASE, "table_1"), SCHEMA);
+    TableChanges changes = tracker.poll();
+    Assert.assertEquals(Sets.newHashSet(DATABASE), changes.databases());
+    Assert.assertTrue(changes.tables().isEmpty());
+
+    icebergCatalog.createTable(TableIdentifier.of(DATABASE, "table_2"), SCHEMA);
+    icebergCatalog.dropTable(TableIdentifier.of(DATABASE, "table_1"));
+    changes = tracker.poll();
+    Assert.assertTrue(changes.databases().isEmpty());
+    Assert.assertEquals(Sets.newHashSet("table_1", "table_2"), changes.tables().get(DATABASE));
+
+    Assert.assertTrue(tracker.poll().isEmpty());
+  }
+
+  @Test
+  public void testPollRenamedTable() {
+    ((SupportsNamespaces) icebergCatalog).createNamespace(Namespace.of(DATABASE));
+    icebergCatalog.createTable(TableIdentifier.of(DATABASE, "table_1"), SCHEMA);
+    tracker.reset();
+
+    icebergCatalog.renameTable(
+        TableIdentifier.of(DATABASE, "table_1"), TableIdentifier.of(DATABASE, "table_2"));
+    TableChanges changes = tracker.poll();
+    Set<String> tableNames = changes.tables().get(DATABASE);
+    if (tableNames.size() == 1) {
+      // messages of hive 2.x do not contain the altered tables, and name only one of them
+      String tableName = tableNames.iterator().next();
+      Assert.assertTrue(Sets.newHashSet("table_1", "table_2").contains(tableName));
+      Assert.assertTrue(changes.isAltered(DATABASE, tableName));
+    } else {
+      Assert.assertEquals(Sets.newHashSet("table_1", "table_2"), tableNames);
+      Assert.assertFalse(changes.isAltered(DATABASE, "table_1"));
+      Assert.assertFalse(changes.isAltered(DATABASE, "table_2"));
+    }
+  }
+
+  @Test
+  public void testParseAlteredTables() throws TException {
+    String message = alterTableMessage(table(DATABASE, "table_1"), table("other_db", "table_2"));
+    Table[] tables = HiveTableChangeTracker.parseAlteredTables(message);
+    Assert.assertEquals(2, tables.length);
+    Assert.assertEquals(DATABASE, tables[0].getDbName());
+    Assert.assertEquals("table_1", tables[0].getTableName());
+    Assert.assertEquals("other_db", tables[1].getDbName());
+    Assert.assertEquals("table_2", tables[1].getTableName());
+
+    Assert.assertNull(HiveTableChangeTracker.parseAlteredTables(null));
+    Assert.assertNull(HiveTableChangeTracker.parseAlteredTables("not a json message"));
+    Assert.assertNull(
+        HiveTableChangeTracker.parseAlteredTables(
+            "{\"db\":\"" + DATABASE + "\",\"table\":\"table_1\"}"));
+  }
+
+  @Test
+  public void testPollParsedAlterEvents() throws Exception {
+    HMSClient client = Mockito.mock(HMSClient.class);
+    Mockito.when(client.getCurrentNotificationEventId())
+        .thenReturn(new CurrentNotificationEventId(10));
+    NotificationEvent renamed =
+        event(
+            11,
+            alterTableMessage(table(DATABASE, "table_1"), table("other_db", "table_2")),
+            "table_1");
+    NotificationEvent unparsed = event(12, "{}", "table_3");
+    Mockito.when(client.getNextNotification(10, 2))
+        .thenReturn(new NotificationEventResponse(Lists.newArrayList(renamed, unparsed)));
+    Mockito.when(client.getNextNotification(12, 2))
+        .thenReturn(new NotificationEventResponse(Collections.emptyList()));
+    HiveTableChangeTracker mockedTracker =
+        new HiveTableChangeTracker(new FakeClientPool(client), 2);
+    mockedTracker.reset();
+
+    TableChanges changes = mockedTracker.poll();
+    Assert.assertEquals(Sets.newHashSet("table_1", "table_3"), changes.tables().get(DATABASE));
+    Assert.assertEquals(Sets.newHashSet("table_2"), changes.tables().get("other_db"));
+    Assert.assertFalse(changes.isAltered(DATABASE, "table_1"));
+    Assert.assertFalse(changes.isAltered("other_db", "table_2"));
+    // the table is renamed or not is unknown if the event could not be parsed
+    Assert.assertTrue(changes.isAltered(DATABASE, "table_3"));
+  }
+
+  @Test
+  public void testNotTrackedWithoutNotificationEvents() throws Exception {
+    HMSClient client = Mockito.mock(HMSClient.class);
+    Mockito.when(client.getNextNotification(Mockito.anyLong(), Mockito.anyInt()))
+        .thenReturn(new NotificationEventResponse(Collections.emptyList()));
+    HiveTableChangeTracker mockedTracker =
+        new HiveTableChangeTracker(new FakeClientPool(client), 2);
+
+    // metastores without the listener record no events
+    Mockito.when(client.getCurrentNotificationEventId())
+        .thenReturn(new CurrentNotificationEventId(0));
+    mockedTracker.reset();
+    Assert.assertNull(mockedTracker.poll());
+
+    Mockito.when(client.getCurrentNotificationEventId())
+        .thenReturn(new CurrentNotificationEventId(5));
+    for (int i = 0; i < HiveTableChangeTracker.MAX_UNCHANGED_RESETS; i++) {
+      mockedTracker.reset();
+      Assert.assertNotNull(mockedTracker.poll());
+    }
+    // the event id does not advance across several resets
+    mockedTracker.reset();
+    Assert.assertNull(mockedTracker.poll());
+
+    Mockito.when(client.getCurrentNotificationEventId())
+        .thenReturn(new CurrentNotificationEventId(6));
+    mockedTracker.reset();
+    Assert.assertNotNull(mockedTracker.poll());
+  }
+
+  private static Table table(String database, String tableName) {
+    Table table = new Table();
+    table.setDbName(database);
+    table.setTableName(tableName);
+    return table;
+  }
+
+  private static String alterTableMessage(Table before, Table after) throws TException {
+    TSerializer serializer = new TSerializer(new TJSONProtocol.Factory());
+    ObjectNode message = new ObjectMapper().createObjectNode();
+    message.put("db", before.getDbName());
+    message.put("table", before.getTableName());
+    message.put("tableObjBeforeJson", serializer.toString(before));
+    message.put("tableObjAfterJson", serializer.toString(after));
+    return message.toString();
+  }
+
+  private static NotificationEvent event(long eventId, String message, String tableName) {
+    NotificationEvent event =
+        new NotificationEvent(eventId, 0, HiveTableChangeTracker.ALTER_TABLE, message);
+    event.setDbName(DATABASE);
+    event.setTableName(tableName);
+    return event;
+  }
+
+  private static class FakeClientPool implements HMSClientPool {
+
+    private final HMSClient client;
+
+    FakeClientPool(HMSClient client) {
+      this.client = client;
+    }
+
+    @Override
+    public <R> R run(Action<R, HMSClient, TException> action) throws TException {
+      return action.run(client);
+    }
+
+    @Override
+    public <R> R run(Action<R, HMSClient, TException> action, boolean retry) throws TException {
+      return action.run(client);
+    }
+  }
+}
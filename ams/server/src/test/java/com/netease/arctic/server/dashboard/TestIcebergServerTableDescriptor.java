@@ -21,11 +21,25 @@ package com.netease.arctic.server.dashboard;
 import com.netease.arctic.formats.AmoroCatalogTestHelper;
 import com.netease.arctic.formats.IcebergHadoopCatalogTestHelper;
 import com.netease.arctic.hive.formats.IcebergHiveCatalogTestHelper;
+import com.netease.arctic.server.dashboard.model.PartitionBaseInfo;
+import com.netease.arctic.server.dashboard.model.PartitionFileBaseInfo;
+import com.netease.arctic.server.utils.Configurations;
+import com.netease.arctic.table.TableIdentifier;
+import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.Pair;
+import org.junit.Assert;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.util.List;
+import java.util.UUID;
+
 @RunWith(Parameterized.class)
 public class TestIcebergServerTableDescriptor extends TestServerTableDescriptor {
 
@@ -77,6 +91,96 @@ public class TestIcebergServerTableDescriptor extends TestServerTableDescriptor
     getTable().updateSchema().deleteColumn("renamed_col").commit();
   }
 
+  @Test
+  public void pagedTablePartitions() {
+    ServerTableDescriptor serverTableDescriptor =
+        new ServerTableDescriptor(tableService(), new Configurations());
+    com.netease.arctic.ams.api.TableIdentifier tableIdentifier = tableIdentifier();
+    appendFiles("age=1", "age=1", "age=2", "age=3", "age=4", "age=5");
+
+    // partitions are ordered by partition path descending
+    Pair<List<PartitionBaseInfo>, Integer> page =
+        serverTableDescriptor.getTablePartition(tableIdentifier, null, 2, 0);
+    Assert.assertEquals(5, (int) page.second());
+    Assert.assertEquals(2, page.first().size());
+    Assert.assertEquals("age=5", page.first().get(0).getPartition());
+    Assert.assertEquals("age=4", page.first().get(1).getPartition());
+
+    page = serverTableDescriptor.getTablePartition(tableIdentifier, null, 2, 4);
+    Assert.assertEquals(5, (int) page.second());
+    Assert.assertEquals(1, page.first().size());
+    Assert.assertEquals("age=1", page.first().get(0).getPartition());
+    Assert.assertEquals(2, page.first().get(0).getFileCount());
+
+    page = serverTableDescriptor.getTablePartition(tableIdentifier, null, 2, 10);
+    Assert.assertEquals(5, (int) page.second());
+    Assert.assertTrue(page.first().isEmpty());
+
+    page = serverTableDescriptor.getTablePartition(tableIdentifier, "age=3", 10, 0);
+    Assert.assertEquals(1, (int) page.second());
+    Assert.assertEquals("age=3", page.first().get(0).getPartition());
+
+    page = serverTableDescriptor.getTablePartition(tableIdentifier, "age=3", 10, 1);
+    Assert.assertEquals(1, (int) page.second());
+    Assert.assertTrue(page.first().isEmpty());
+
+    // a new snapshot must not be served from the cached summaries of the previous one
+    appendFiles("age=6", "age=1");
+    page = serverTableDescriptor.getTablePartition(tableIdentifier, null, 10, 0);
+    Assert.assertEquals(6, (int) page.second());
+    Assert.assertEquals("age=6", page.first().get(0).getPartition());
+    Assert.assertEquals(3, page.first().get(5).getFileCount());
+  }
+
+  @Test
+  public void pagedTableFiles() {
+    ServerTableDescriptor serverTableDescriptor =
+        new ServerTableDescriptor(tableService(), new Configurations());
+    com.netease.arctic.ams.api.TableIdentifier tableIdentifier = tableIdentifier();
+    appendFiles("age=1", "age=1", "age=1", "age=2");
+    int specId = getTable().spec().specId();
+
+    Pair<List<PartitionFileBaseInfo>, Integer> page =
+        serverTableDescriptor.getTableFile(tableIdentifier, "age=1", specId, 2, 0);
+    Assert.assertEquals(3, (int) page.second());
+    Assert.assertEquals(2, page.first().size());
+    page.first().forEach(file -> Assert.assertEquals("age=1", file.getPartition()));
+
+    page = serverTableDescriptor.getTableFile(tableIdentifier, "age=1", specId, 2, 2);
+    Assert.assertEquals(3, (int) page.second());
+    Assert.assertEquals(1, page.first().size());
+
+    page = serverTableDescriptor.getTableFile(tableIdentifier, "age=1", specId, 2, 4);
+    Assert.assertEquals(3, (int) page.second());
+    Assert.assertTrue(page.first().isEmpty());
+
+    page = serverTableDescriptor.getTableFile(tableIdentifier, null, null, 10, 0);
+    Assert.assertEquals(4, (int) page.second());
+    Assert.assertEquals(4, page.first().size());
+  }
+
+  private void appendFiles(String... partitionPaths) {
+    Table table = getTable();
+    AppendFiles append = table.newAppend();
+    for (String partitionPath : partitionPaths) {
+      DataFile dataFile =
+          DataFiles.builder(table.spec())
+              .withPath(table.location() + "/data/" + partitionPath + "/" + UUID.randomUUID())
+              .withFormat(FileFormat.PARQUET)
+              .withPartitionPath(partitionPath)
+              .withFileSizeInBytes(10)
+              .withRecordCount(1)
+              .build();
+      append.appendFile(dataFile);
+    }
+    append.commit();
+  }
+
+  private com.netease.arctic.ams.api.TableIdentifier tableIdentifier() {
+    return TableIdentifier.of(getAmoroCatalogTestHelper().catalogName(), TEST_DB, TEST_TABLE)
+        .buildTableIdentifier();
+  }
+
   private Table getTable() {
     return (Table) getAmoroCatalog().loadTable(TEST_DB, TEST_TABLE).originalTable();
   }
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.server.dashboard.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netease.arctic.ams.api.TableFormat;
+import com.netease.arctic.server.metrics.TimeSeries;
+import com.netease.arctic.server.table.ServerTableIdentifier;
+import com.netease.arctic.server.table.TableRuntime;
+import com.netease.arctic.server.table.TableService;
+import com.netease.arctic.server.table.TableTimeSeries;
+import com.netease.arctic.server.utils.Configurations;
+import com.netease.arctic.table.TableIdentifier;
+import io.javalin.Javalin;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+public class TestTableController {
+
+  private static final String TABLE_PATH = "/tables/catalogs/catalog/dbs/db/tables/table";
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private TableTimeSeries timeSeries;
+  private Javalin app;
+
+  @BeforeEach
+  public void startServer() {
+    timeSeries =
+        new TableTimeSeries(
+            10, ImmutableList.of(new TimeSeries.Resolution(TimeUnit.MINUTES.toMillis(1), 60)));
+    TableRuntime tableRuntime = mock(TableRuntime.class);
+    when(tableRuntime.getTimeSeries()).thenReturn(timeSeries);
+    ServerTableIdentifier identifier =
+        ServerTableIdentifier.of(1L, "catalog", "db", "table", TableFormat.ICEBERG);
+    TableService tableService = mock(TableService.class);
+    when(tableService.catalogExist("catalog")).thenReturn(true);
+    when(tableService.getServerTableIdentifier(
+            TableIdentifier.of("catalog", "db", "table").buildTableIdentifier()))
+        .thenReturn(identifier);
+    when(tableService.getRuntime(identifier)).thenReturn(tableRuntime);
+
+    TableController controller = new TableController(tableService, null, new Configurations());
+    app = Javalin.create(config -> config.showJavalinBanner = false);
+    app.get(
+        "/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/metrics", controller::getTableMetrics);
+    app.get(
+        "/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/metrics/{metric}",
+        controller::getTableMetricPoints);
+    app.start(0);
+  }
+
+  @AfterEach
+  public void stopServer() {
+    app.stop();
+  }
+
+  @Test
+  public void testGetTableMetrics() throws IOException {
+    long now = System.currentTimeMillis();
+    timeSeries.recordEvaluation(
+        now, 1.5, files(2), ImmutableMap.of("p1", 1.5), ImmutableMap.of());
+
+    JsonNode result = get(TABLE_PATH + "/metrics");
+    assertEquals(5, result.get(TableTimeSeries.TABLE).size());
+    assertEquals(1, result.get("p1").size());
+    assertEquals(TableTimeSeries.READ_AMPLIFICATION, result.get("p1").get(0).asText());
+
+    assertNotEquals(200, status("/tables/catalogs/catalog/dbs/db/tables/unknown/metrics"));
+  }
+
+  @Test
+  public void testGetTableMetricPoints() throws IOException {
+    long now = System.currentTimeMillis();
+    long twoHoursAgo = now - TimeUnit.HOURS.toMillis(2);
+    timeSeries.recordFiles(TableTimeSeries.TABLE, twoHoursAgo, files(1));
+    timeSeries.recordFiles(TableTimeSeries.TABLE, now, files(3));
+    timeSeries.recordFiles("p1", now, files(5));
+
+    // the value of two hours ago is out of the retention of the only resolution
+    JsonNode points = get(TABLE_PATH + "/metrics/" + TableTimeSeries.DATA_FILES);
+    assertEquals(1, points.size());
+    assertEquals(3, points.get(0).get("avg").asDouble(), 0.0001);
+    assertEquals(1, points.get(0).get("count").asInt());
+
+    points =
+        get(TABLE_PATH + "/metrics/" + TableTimeSeries.DATA_FILES + "?partition=p1&from=" + now);
+    assertEquals(1, points.size());
+    assertEquals(5, points.get(0).get("avg").asDouble(), 0.0001);
+
+    points = get(TABLE_PATH + "/metrics/unknown");
+    assertEquals(0, points.size());
+  }
+
+  private JsonNode get(String path) throws IOException {
+    HttpURLConnection connection = connect(path);
+    try (InputStream in = connection.getInputStream()) {
+      assertEquals(200, connection.getResponseCode());
+      JsonNode response = mapper.readTree(in);
+      assertEquals(200, response.get("code").asInt());
+      return response.get("result");
+    } finally {
+      connection.disconnect();
+    }
+  }
+
+  private int status(String path) throws IOException {
+    HttpURLConnection connection = connect(path);
+    try {
+      return connection.getResponseCode();
+    } finally {
+      connection.disconnect();
+    }
+  }
+
+  private HttpURLConnection connect(String path) throws IOException {
+    return (HttpURLConnection) new URL("http://localhost:" + app.port() + path).openConnection();
+  }
+
+  private static TableTimeSeries.FileCounts files(long dataFiles) {
+    return new TableTimeSeries.FileCounts().add(dataFiles, 0, dataFiles * 10, 0);
+  }
+}
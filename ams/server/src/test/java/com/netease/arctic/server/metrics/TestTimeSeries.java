@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.server.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class TestTimeSeries {
+
+  private final TimeSeries timeSeries =
+      new TimeSeries(
+          ImmutableList.of(new TimeSeries.Resolution(10, 3), new TimeSeries.Resolution(100, 2)));
+
+  @Test
+  public void testDownsampling() {
+    timeSeries.add(0, 1);
+    timeSeries.add(5, 3);
+    timeSeries.add(12, 4);
+
+    List<TimeSeries.Point> points = timeSeries.points(0, 12);
+    assertEquals(2, points.size());
+    assertPoint(points.get(0), 0, 2, 1, 3, 2);
+    assertPoint(points.get(1), 10, 4, 4, 4, 1);
+
+    // served by the coarser resolution since the finer one only retains 30 ms
+    points = timeSeries.points(-50, 12);
+    assertEquals(1, points.size());
+    assertPoint(points.get(0), 0, 8 / 3.0, 1, 4, 3);
+  }
+
+  @Test
+  public void testRetention() {
+    for (int i = 0; i < 10; i++) {
+      timeSeries.add(i * 10, i);
+    }
+    // values older than the last bucket of the finer resolution are ignored by it
+    timeSeries.add(5, 100);
+
+    List<TimeSeries.Point> points = timeSeries.points(60, 90);
+    assertEquals(3, points.size());
+    assertPoint(points.get(0), 70, 7, 7, 7, 1);
+    assertPoint(points.get(2), 90, 9, 9, 9, 1);
+    // only the buckets since the time are returned
+    assertEquals(1, timeSeries.points(90, 90).size());
+
+    // the oldest bucket of the coarser resolution is overwritten
+    timeSeries.add(250, 1);
+    timeSeries.add(350, 1);
+    points = timeSeries.points(0, 350);
+    assertEquals(2, points.size());
+    assertEquals(200, points.get(0).getTimestamp());
+    assertEquals(300, points.get(1).getTimestamp());
+
+    assertEquals(350, timeSeries.lastTimestamp());
+    assertFalse(timeSeries.isExpired(550));
+    assertTrue(timeSeries.isExpired(551));
+  }
+
+  @Test
+  public void testGrowOnDemand() {
+    TimeSeries series = new TimeSeries(ImmutableList.of(new TimeSeries.Resolution(10, 20)));
+    assertEquals(0, series.allocatedBuckets());
+
+    series.add(0, 0);
+    assertEquals(8, series.allocatedBuckets());
+    for (int i = 1; i < 8; i++) {
+      series.add(i * 10, i);
+    }
+    assertEquals(8, series.allocatedBuckets());
+
+    // grown by doubling, and at most to the capacity
+    series.add(80, 8);
+    assertEquals(16, series.allocatedBuckets());
+    for (int i = 9; i < 25; i++) {
+      series.add(i * 10, i);
+    }
+    assertEquals(20, series.allocatedBuckets());
+
+    List<TimeSeries.Point> points = series.points(0, 240);
+    assertEquals(20, points.size());
+    for (int i = 0; i < 20; i++) {
+      assertPoint(points.get(i), (i + 5) * 10, i + 5, i + 5, i + 5, 1);
+    }
+  }
+
+  private void assertPoint(
+      TimeSeries.Point point, long timestamp, double avg, double min, double max, int count) {
+    assertEquals(timestamp, point.getTimestamp());
+    assertEquals(avg, point.getAvg(), 0.0001);
+    assertEquals(min, point.getMin(), 0.0001);
+    assertEquals(max, point.getMax(), 0.0001);
+    assertEquals(count, point.getCount());
+  }
+}
@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.server.optimizing;
+
+import com.netease.arctic.BasicTableTestHelper;
+import com.netease.arctic.TableTestHelper;
+import com.netease.arctic.ams.api.OptimizingTaskId;
+import com.netease.arctic.ams.api.OptimizingTaskResult;
+import com.netease.arctic.ams.api.TableFormat;
+import com.netease.arctic.catalog.BasicCatalogTestHelper;
+import com.netease.arctic.catalog.CatalogTestHelper;
+import com.netease.arctic.data.ChangeAction;
+import com.netease.arctic.io.MixedDataTestHelpers;
+import com.netease.arctic.optimizing.RewriteFilesOutput;
+import com.netease.arctic.optimizing.TableOptimizing;
+import com.netease.arctic.server.persistence.PersistentBase;
+import com.netease.arctic.server.persistence.mapper.TableMetaMapper;
+import com.netease.arctic.server.resource.OptimizerThread;
+import com.netease.arctic.server.resource.QuotaProvider;
+import com.netease.arctic.server.table.AMSTableTestBase;
+import com.netease.arctic.server.table.TableConfiguration;
+import com.netease.arctic.server.table.TableRuntime;
+import com.netease.arctic.server.table.TableRuntimeMeta;
+import com.netease.arctic.table.ArcticTable;
+import com.netease.arctic.table.KeyedTable;
+import com.netease.arctic.table.TableProperties;
+import com.netease.arctic.utils.ArcticDataFiles;
+import com.netease.arctic.utils.ArcticTableUtil;
+import com.netease.arctic.utils.SerializationUtil;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.StructLikeMap;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+@RunWith(Parameterized.class)
+public class TestOptimizingQueueProgressiveCommit extends AMSTableTestBase {
+
+  private static final String PARTITION_A = "op_time_day=2022-01-01";
+  private static final String PARTITION_B = "op_time_day=2022-01-02";
+
+  private final Executor planExecutor = Executors.newSingleThreadExecutor();
+  private final QuotaProvider quotaProvider = resourceGroup -> 1;
+  private final long MAX_POLLING_TIME = 5000;
+
+  private final OptimizerThread optimizerThread =
+      new OptimizerThread(1, null) {
+
+        @Override
+        public String getToken() {
+          return "aah";
+        }
+      };
+
+  public TestOptimizingQueueProgressiveCommit(
+      CatalogTestHelper catalogTestHelper, TableTestHelper tableTestHelper) {
+    super(catalogTestHelper, tableTestHelper, true);
+  }
+
+  @Parameterized.Parameters(name = "{0}, {1}")
+  public static Object[] parameters() {
+    return new Object[][] {
+      {new BasicCatalogTestHelper(TableFormat.MIXED_ICEBERG), new BasicTableTestHelper(true, true)}
+    };
+  }
+
+  @Test
+  public void testCommitPreparedPartitions() {
+    TableRuntimeMeta tableRuntimeMeta = initTableWithChangeFiles(1);
+    OptimizingQueue queue = buildOptimizingQueue(tableRuntimeMeta);
+    Map<String, List<TaskRuntime>> partitionTasks = pollAllTasks(queue);
+    OptimizingProcess process = tableRuntimeMeta.getTableRuntime().getOptimizingProcess();
+
+    completeTasks(partitionTasks.get(PARTITION_A));
+    Assert.assertTrue(process.hasPreparedPartitions());
+    // nothing is committed until the commit executor commits the prepared partitions
+    Assert.assertNull(optimizedSequence().get(partitionData(PARTITION_A)));
+
+    process.commitPreparedPartitions();
+    Assert.assertFalse(process.hasPreparedPartitions());
+    Assert.assertNotNull(optimizedSequence().get(partitionData(PARTITION_A)));
+    Assert.assertNull(optimizedSequence().get(partitionData(PARTITION_B)));
+    Assert.assertEquals(OptimizingProcess.Status.RUNNING, process.getStatus());
+
+    completeTasks(partitionTasks.get(PARTITION_B));
+    Assert.assertEquals(
+        OptimizingStatus.COMMITTING, tableRuntimeMeta.getTableRuntime().getOptimizingStatus());
+    process.commit();
+    Assert.assertEquals(OptimizingProcess.Status.SUCCESS, process.getStatus());
+    Assert.assertNotNull(optimizedSequence().get(partitionData(PARTITION_B)));
+  }
+
+  @Test
+  public void testProcessFailedAfterPartitionCommitted() {
+    TableRuntimeMeta tableRuntimeMeta = initTableWithChangeFiles(0);
+    OptimizingQueue queue = buildOptimizingQueue(tableRuntimeMeta);
+    Map<String, List<TaskRuntime>> partitionTasks = pollAllTasks(queue);
+    OptimizingProcess process = tableRuntimeMeta.getTableRuntime().getOptimizingProcess();
+
+    completeTasks(partitionTasks.get(PARTITION_A));
+    process.commitPreparedPartitions();
+    Long committedSequence = optimizedSequence().get(partitionData(PARTITION_A));
+    Assert.assertNotNull(committedSequence);
+
+    failTask(partitionTasks.get(PARTITION_B).get(0));
+    Assert.assertEquals(OptimizingProcess.Status.FAILED, process.getStatus());
+    Assert.assertEquals(
+        OptimizingStatus.IDLE, tableRuntimeMeta.getTableRuntime().getOptimizingStatus());
+    Assert.assertNull(tableRuntimeMeta.getTableRuntime().getOptimizingProcess());
+    // the partition committed in advance is kept, and the failed one is not committed
+    Assert.assertEquals(committedSequence, optimizedSequence().get(partitionData(PARTITION_A)));
+    Assert.assertNull(optimizedSequence().get(partitionData(PARTITION_B)));
+  }
+
+  @Test
+  public void testPreparedPartitionNotCommittedAfterProcessFailed() {
+    TableRuntimeMeta tableRuntimeMeta = initTableWithChangeFiles(0);
+    OptimizingQueue queue = buildOptimizingQueue(tableRuntimeMeta);
+    Map<String, List<TaskRuntime>> partitionTasks = pollAllTasks(queue);
+    OptimizingProcess process = tableRuntimeMeta.getTableRuntime().getOptimizingProcess();
+
+    completeTasks(partitionTasks.get(PARTITION_A));
+    Assert.assertTrue(process.hasPreparedPartitions());
+    failTask(partitionTasks.get(PARTITION_B).get(0));
+    Assert.assertEquals(OptimizingProcess.Status.FAILED, process.getStatus());
+
+    process.commitPreparedPartitions();
+    Assert.assertFalse(process.hasPreparedPartitions());
+    Assert.assertNull(optimizedSequence().get(partitionData(PARTITION_A)));
+  }
+
+  @Test
+  public void testRecoverCommittedPartitions() {
+    TableRuntimeMeta tableRuntimeMeta = initTableWithChangeFiles(1);
+    OptimizingQueue queue = buildOptimizingQueue(tableRuntimeMeta);
+    Map<String, List<TaskRuntime>> partitionTasks = pollAllTasks(queue);
+    OptimizingProcess process = tableRuntimeMeta.getTableRuntime().getOptimizingProcess();
+
+    completeTasks(partitionTasks.get(PARTITION_A));
+    process.commitPreparedPartitions();
+    Long committedSequence = optimizedSequence().get(partitionData(PARTITION_A));
+
+    // restart, the tasks not completed are planned again
+    TableRuntimeMeta recoveredMeta = reloadTableRuntimeMeta();
+    OptimizingQueue recoveredQueue = buildOptimizingQueue(recoveredMeta);
+    OptimizingProcess recoveredProcess = recoveredMeta.getTableRuntime().getOptimizingProcess();
+    Assert.assertEquals(process.getProcessId(), recoveredProcess.getProcessId());
+    Assert.assertFalse(recoveredProcess.hasPreparedPartitions());
+
+    Map<String, List<TaskRuntime>> recoveredTasks = pollAllTasks(recoveredQueue);
+    Assert.assertEquals(Collections.singleton(PARTITION_B), recoveredTasks.keySet());
+    completeTasks(recoveredTasks.get(PARTITION_B));
+    Assert.assertEquals(
+        OptimizingStatus.COMMITTING, recoveredMeta.getTableRuntime().getOptimizingStatus());
+    recoveredProcess.commit();
+    Assert.assertEquals(OptimizingProcess.Status.SUCCESS, recoveredProcess.getStatus());
+    Assert.assertEquals(committedSequence, optimizedSequence().get(partitionData(PARTITION_A)));
+    Assert.assertNotNull(optimizedSequence().get(partitionData(PARTITION_B)));
+  }
+
+  @Test
+  public void testRecoverPreparedPartitions() {
+    TableRuntimeMeta tableRuntimeMeta = initTableWithChangeFiles(1);
+    OptimizingQueue queue = buildOptimizingQueue(tableRuntimeMeta);
+    Map<String, List<TaskRuntime>> partitionTasks = pollAllTasks(queue);
+
+    // restart before the commit executor commits the prepared partition
+    completeTasks(partitionTasks.get(PARTITION_A));
+    TableRuntimeMeta recoveredMeta = reloadTableRuntimeMeta();
+    buildOptimizingQueue(recoveredMeta);
+    OptimizingProcess recoveredProcess = recoveredMeta.getTableRuntime().getOptimizingProcess();
+    Assert.assertTrue(recoveredProcess.hasPreparedPartitions());
+
+    recoveredProcess.commitPreparedPartitions();
+    Assert.assertNotNull(optimizedSequence().get(partitionData(PARTITION_A)));
+    Assert.assertNull(optimizedSequence().get(partitionData(PARTITION_B)));
+  }
+
+  private OptimizingQueue buildOptimizingQueue(TableRuntimeMeta tableRuntimeMeta) {
+    return new OptimizingQueue(
+        tableService(),
+        defaultResourceGroup(),
+        quotaProvider,
+        planExecutor,
+        Collections.singletonList(tableRuntimeMeta),
+        1);
+  }
+
+  private Map<String, List<TaskRuntime>> pollAllTasks(OptimizingQueue queue) {
+    List<TaskRuntime> tasks = Lists.newArrayList();
+    TaskRuntime task = queue.pollTask(MAX_POLLING_TIME);
+    while (task != null) {
+      tasks.add(task);
+      task = queue.pollTask(0);
+    }
+    return tasks.stream().collect(Collectors.groupingBy(TaskRuntime::getPartition));
+  }
+
+  private void completeTasks(List<TaskRuntime> tasks) {
+    for (TaskRuntime task : tasks) {
+      task.schedule(optimizerThread);
+      task.ack(optimizerThread);
+      task.complete(
+          optimizerThread,
+          buildOptimizingTaskResult(task.getTaskId(), optimizerThread.getThreadId()));
+    }
+  }
+
+  private void failTask(TaskRuntime task) {
+    task.schedule(optimizerThread);
+    task.ack(optimizerThread);
+    task.complete(
+        optimizerThread,
+        buildOptimizingTaskFailed(task.getTaskId(), optimizerThread.getThreadId()));
+  }
+
+  private TableRuntimeMeta initTableWithChangeFiles(int retryNumber) {
+    KeyedTable table = loadTable().asKeyedTable();
+    table
+        .updateProperties()
+        .set(TableProperties.SELF_OPTIMIZING_PROGRESSIVE_COMMIT_ENABLED, "true")
+        .set(TableProperties.SELF_OPTIMIZING_EXECUTE_RETRY_NUMBER, String.valueOf(retryNumber))
+        .set(TableProperties.SELF_OPTIMIZING_MINOR_TRIGGER_FILE_CNT, "1")
+        .commit();
+    for (int i = 0; i < 2; i++) {
+      MixedDataTestHelpers.writeAndCommitChangeStore(
+          table,
+          i + 1L,
+          ChangeAction.INSERT,
+          Lists.newArrayList(
+              MixedDataTestHelpers.createRecord(2 * i + 1, "aaa", 0L, "2022-01-01T12:00:00"),
+              MixedDataTestHelpers.createRecord(2 * i + 2, "bbb", 0L, "2022-01-02T12:00:00")),
+          false);
+    }
+
+    ArcticTable arcticTable = loadTable();
+    TableRuntimeMeta tableRuntimeMeta = new TableRuntimeMeta();
+    tableRuntimeMeta.setCatalogName(serverTableIdentifier().getCatalog());
+    tableRuntimeMeta.setDbName(serverTableIdentifier().getDatabase());
+    tableRuntimeMeta.setTableName(serverTableIdentifier().getTableName());
+    tableRuntimeMeta.setTableId(serverTableIdentifier().getId());
+    tableRuntimeMeta.setFormat(TableFormat.MIXED_ICEBERG);
+    tableRuntimeMeta.setTableStatus(OptimizingStatus.PENDING);
+    tableRuntimeMeta.setTableConfig(TableConfiguration.parseConfig(arcticTable.properties()));
+    tableRuntimeMeta.setOptimizerGroup(defaultResourceGroup().getName());
+    TableRuntime runtime = tableRuntimeMeta.constructTableRuntime(tableService());
+    runtime.refresh(tableService().loadTable(serverTableIdentifier()));
+    return tableRuntimeMeta;
+  }
+
+  private TableRuntimeMeta reloadTableRuntimeMeta() {
+    TableRuntimeMeta tableRuntimeMeta =
+        new Persistency().selectTableRuntimeMeta(serverTableIdentifier().getId());
+    tableRuntimeMeta.constructTableRuntime(tableService());
+    return tableRuntimeMeta;
+  }
+
+  private ArcticTable loadTable() {
+    return (ArcticTable) tableService().loadTable(serverTableIdentifier()).originalTable();
+  }
+
+  private StructLikeMap<Long> optimizedSequence() {
+    return ArcticTableUtil.readOptimizedSequence(loadTable().asKeyedTable());
+  }
+
+  private StructLike partitionData(String partition) {
+    return ArcticDataFiles.data(loadTable().spec(), partition);
+  }
+
+  private OptimizingTaskResult buildOptimizingTaskResult(OptimizingTaskId taskId, int threadId) {
+    TableOptimizing.OptimizingOutput output = new RewriteFilesOutput(null, null, null);
+    OptimizingTaskResult optimizingTaskResult = new OptimizingTaskResult(taskId, threadId);
+    optimizingTaskResult.setTaskOutput(SerializationUtil.simpleSerialize(output));
+    return optimizingTaskResult;
+  }
+
+  private OptimizingTaskResult buildOptimizingTaskFailed(OptimizingTaskId taskId, int threadId) {
+    OptimizingTaskResult optimizingTaskResult = new OptimizingTaskResult(taskId, threadId);
+    optimizingTaskResult.setErrorMessage("error");
+    return optimizingTaskResult;
+  }
+
+  private static class Persistency extends PersistentBase {
+
+    public TableRuntimeMeta selectTableRuntimeMeta(long tableId) {
+      return getAs(TableMetaMapper.class, TableMetaMapper::selectTableRuntimeMetas).stream()
+          .filter(meta -> meta.getTableId() == tableId)
+          .findFirst()
+          .orElseThrow(() -> new IllegalStateException("Table runtime not found: " + tableId));
+    }
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.server.optimizing.plan;
+
+import com.netease.arctic.server.optimizing.OptimizingConfig;
+import com.netease.arctic.server.table.TableRuntime;
+import com.netease.arctic.table.TableProperties;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.Pair;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class TestCommonPartitionEvaluator {
+
+  private static final PartitionSpec SPEC = PartitionSpec.unpartitioned();
+  private static final long MB = 1024 * 1024;
+  private static final long KB = 1024;
+
+  private static int fileId = 0;
+
+  @Test
+  public void testReadAmplificationWithoutDeletes() {
+    CommonPartitionEvaluator evaluator = evaluator(2);
+    evaluator.addFile(dataFile(MB, 100), Collections.emptyList());
+    evaluator.addFile(dataFile(2 * MB, 100), Collections.emptyList());
+
+    Assert.assertEquals(1, evaluator.getReadAmplification(), 0);
+    Assert.assertFalse(evaluator.isMinorNecessary());
+  }
+
+  @Test
+  public void testMinorNecessaryByReadAmplification() {
+    // two fragment files sharing an equality delete file read it twice:
+    // (2MB + 2 * (1MB + 4MB open file cost)) / 2MB = 6
+    DeleteFile eqDelete = eqDeleteFile(MB);
+    List<CommonPartitionEvaluator> evaluators = Lists.newArrayList();
+    for (double trigger : new double[] {-1, 2, 6, 10}) {
+      CommonPartitionEvaluator evaluator = evaluator(trigger);
+      evaluator.addFile(dataFile(MB, 100), Collections.singletonList(eqDelete));
+      evaluator.addFile(dataFile(MB, 100), Collections.singletonList(eqDelete));
+      Assert.assertEquals(6, evaluator.getReadAmplification(), 0.0001);
+      evaluators.add(evaluator);
+    }
+
+    Assert.assertFalse(evaluators.get(0).isMinorNecessary());
+    Assert.assertTrue(evaluators.get(1).isMinorNecessary());
+    Assert.assertTrue(evaluators.get(2).isMinorNecessary());
+    Assert.assertFalse(evaluators.get(3).isMinorNecessary());
+  }
+
+  @Test
+  public void testMinorNecessaryByPosDeletedReadAmplification() {
+    // 90 of the 100 rows of each file are deleted by positions, so 20MB of data files are read
+    // for 2MB of live rows
+    CommonPartitionEvaluator evaluator = evaluator(10);
+    for (int i = 0; i < 2; i++) {
+      evaluator.addFile(dataFile(10 * MB, 100), Collections.singletonList(posDeleteFile(KB, 90)));
+    }
+    Assert.assertTrue(evaluator.getReadAmplification() >= 10);
+    Assert.assertTrue(evaluator.isMinorNecessary());
+
+    evaluator = evaluator(10);
+    for (int i = 0; i < 2; i++) {
+      evaluator.addFile(dataFile(10 * MB, 100), Collections.singletonList(posDeleteFile(KB, 10)));
+    }
+    Assert.assertTrue(evaluator.getReadAmplification() < 10);
+    Assert.assertFalse(evaluator.isMinorNecessary());
+  }
+
+  @Test
+  public void testWeightOrderedByReadAmplificationLevel() {
+    // read amplification 1, level 0, the largest cost
+    CommonPartitionEvaluator noDeletes = evaluator(2);
+    for (int i = 0; i < 3; i++) {
+      noDeletes.addFile(dataFile(15 * MB, 100), Collections.emptyList());
+    }
+
+    // read amplification (1MB + 900KB + 4MB) / 1MB = 5.88, level 2
+    CommonPartitionEvaluator largeEqDelete = evaluator(2);
+    largeEqDelete.addFile(dataFile(MB, 100), Collections.singletonList(eqDeleteFile(900 * KB)));
+
+    // read amplification (2MB + 2 * (100KB + 4MB)) / 2MB = 5.1, level 2, a larger cost
+    CommonPartitionEvaluator sharedEqDelete = evaluator(2);
+    DeleteFile eqDelete = eqDeleteFile(100 * KB);
+    sharedEqDelete.addFile(dataFile(MB, 100), Collections.singletonList(eqDelete));
+    sharedEqDelete.addFile(dataFile(MB, 100), Collections.singletonList(eqDelete));
+
+    // read amplification (10MB + 1KB + 4MB) / 1MB = 14, level 7
+    CommonPartitionEvaluator posDeleted = evaluator(2);
+    posDeleted.addFile(dataFile(10 * MB, 100), Collections.singletonList(posDeleteFile(KB, 90)));
+
+    Assert.assertTrue(largeEqDelete.getReadAmplification() > sharedEqDelete.getReadAmplification());
+    Assert.assertTrue(largeEqDelete.getCost() < sharedEqDelete.getCost());
+    Assert.assertTrue(noDeletes.getCost() > posDeleted.getCost());
+
+    List<CommonPartitionEvaluator> evaluators =
+        Lists.newArrayList(noDeletes, largeEqDelete, sharedEqDelete, posDeleted);
+    evaluators.sort((e1, e2) -> e2.getWeight().compareTo(e1.getWeight()));
+    Assert.assertEquals(
+        Lists.newArrayList(posDeleted, sharedEqDelete, largeEqDelete, noDeletes), evaluators);
+  }
+
+  @Test
+  public void testWeightOrderedByCostWithoutTrigger() {
+    CommonPartitionEvaluator noDeletes = evaluator(-1);
+    noDeletes.addFile(dataFile(15 * MB, 100), Collections.emptyList());
+    noDeletes.addFile(dataFile(15 * MB, 100), Collections.emptyList());
+
+    CommonPartitionEvaluator posDeleted = evaluator(-1);
+    posDeleted.addFile(dataFile(10 * MB, 100), Collections.singletonList(posDeleteFile(KB, 90)));
+
+    Assert.assertTrue(posDeleted.getReadAmplification() > noDeletes.getReadAmplification());
+    Assert.assertTrue(noDeletes.getWeight().compareTo(posDeleted.getWeight()) > 0);
+  }
+
+  private static CommonPartitionEvaluator evaluator(double minorReadAmplification) {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            TableProperties.SELF_OPTIMIZING_MINOR_TRIGGER_READ_AMPLIFICATION,
+            String.valueOf(minorReadAmplification));
+    TableRuntime tableRuntime = Mockito.mock(TableRuntime.class);
+    Mockito.when(tableRuntime.getOptimizingConfig())
+        .thenReturn(OptimizingConfig.parseOptimizingConfig(properties));
+    // plan at time 0, so the minor trigger interval is not reached
+    return new CommonPartitionEvaluator(tableRuntime, Pair.of(SPEC.specId(), null), 0);
+  }
+
+  private static DataFile dataFile(long size, long records) {
+    return DataFiles.builder(SPEC)
+        .withPath("/data/data-" + fileId++ + ".parquet")
+        .withFileSizeInBytes(size)
+        .withRecordCount(records)
+        .build();
+  }
+
+  private static DeleteFile eqDeleteFile(long size) {
+    return FileMetadata.deleteFileBuilder(SPEC)
+        .ofEqualityDeletes(1)
+        .withPath("/data/eq-delete-" + fileId++ + ".parquet")
+        .withFileSizeInBytes(size)
+        .withRecordCount(1)
+        .build();
+  }
+
+  private static DeleteFile posDeleteFile(long size, long records) {
+    return FileMetadata.deleteFileBuilder(SPEC)
+        .ofPositionDeletes()
+        .withPath("/data/pos-delete-" + fileId++ + ".parquet")
+        .withFileSizeInBytes(size)
+        .withRecordCount(records)
+        .build();
+  }
+}
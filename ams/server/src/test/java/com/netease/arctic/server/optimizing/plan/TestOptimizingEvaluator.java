@@ -109,6 +109,24 @@ public class TestOptimizingEvaluator extends MixedTablePlanTestBase {
     assertInput(pendingInput, FileInfo.buildFileInfo(dataFiles));
   }
 
+  @Test
+  public void testReadAmplification() {
+    Assert.assertEquals(0, buildOptimizingEvaluator().getReadAmplification(), 0);
+
+    for (int i = 0; i < 2; i++) {
+      List<Record> newRecords =
+          OptimizingTestHelpers.generateRecord(
+              tableTestHelper(), i * 4 + 1, i * 4 + 4, "2022-01-01T12:00:00");
+      long transactionId = beginTransaction();
+      OptimizingTestHelpers.appendBase(
+          getArcticTable(),
+          tableTestHelper().writeBaseStore(getArcticTable(), transactionId, newRecords, false));
+    }
+
+    // without delete files, readers read nothing but the live data
+    Assert.assertEquals(1, buildOptimizingEvaluator().getReadAmplification(), 0.0001);
+  }
+
   protected OptimizingEvaluator buildOptimizingEvaluator() {
     return new OptimizingEvaluator(getTableRuntime(), getArcticTable());
   }
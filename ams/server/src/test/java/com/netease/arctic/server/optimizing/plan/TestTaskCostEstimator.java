@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.server.optimizing.plan;
+
+import com.netease.arctic.optimizing.OptimizingInputProperties;
+import com.netease.arctic.optimizing.RewriteFilesInput;
+import org.apache.iceberg.ContentFile;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.PartitionSpec;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestTaskCostEstimator {
+
+  private static final PartitionSpec SPEC = PartitionSpec.unpartitioned();
+
+  private static int fileId = 0;
+
+  @Test
+  public void testEstimateWithoutDeletes() {
+    OptimizingInputProperties properties =
+        estimate(
+            new DataFile[] {dataFile(100), dataFile(200)},
+            new DataFile[] {dataFile(300)},
+            new ContentFile<?>[0],
+            new ContentFile<?>[0]);
+    Assert.assertEquals(600, properties.getEstimatedInputBytes());
+    Assert.assertEquals(TaskCostEstimator.BASE_MEMORY, properties.getEstimatedMemory());
+  }
+
+  @Test
+  public void testEstimateWithDeletes() {
+    OptimizingInputProperties properties =
+        estimate(
+            new DataFile[] {dataFile(1000)},
+            new DataFile[0],
+            new ContentFile<?>[] {eqDeleteFile(100)},
+            new ContentFile<?>[] {posDeleteFile(50, 10)});
+    Assert.assertEquals(1150, properties.getEstimatedInputBytes());
+    Assert.assertEquals(
+        TaskCostEstimator.BASE_MEMORY
+            + 100 * TaskCostEstimator.EQ_DELETE_EXPANSION
+            + 10 * TaskCostEstimator.POS_DELETE_BYTES_PER_RECORD,
+        properties.getEstimatedMemory());
+  }
+
+  @Test
+  public void testEstimateMixedEqDeletes() {
+    // equality deletes of mixed tables are data files of the change store
+    OptimizingInputProperties properties =
+        estimate(
+            new DataFile[] {dataFile(1000)},
+            new DataFile[0],
+            new ContentFile<?>[] {dataFile(100), dataFile(200)},
+            new ContentFile<?>[0]);
+    Assert.assertEquals(1300, properties.getEstimatedInputBytes());
+    Assert.assertEquals(
+        TaskCostEstimator.BASE_MEMORY + 300 * TaskCostEstimator.EQ_DELETE_EXPANSION,
+        properties.getEstimatedMemory());
+  }
+
+  @Test
+  public void testEstimatedPropertiesRoundTrip() {
+    OptimizingInputProperties properties =
+        estimate(
+            new DataFile[] {dataFile(1000)},
+            new DataFile[0],
+            new ContentFile<?>[] {eqDeleteFile(100)},
+            new ContentFile<?>[0]);
+    OptimizingInputProperties parsed = OptimizingInputProperties.parse(properties.getProperties());
+    Assert.assertEquals(properties.getEstimatedMemory(), parsed.getEstimatedMemory());
+    Assert.assertEquals(properties.getEstimatedInputBytes(), parsed.getEstimatedInputBytes());
+  }
+
+  private OptimizingInputProperties estimate(
+      DataFile[] rewrittenDataFiles,
+      DataFile[] rePosDeletedDataFiles,
+      ContentFile<?>[] readOnlyDeleteFiles,
+      ContentFile<?>[] rewrittenDeleteFiles) {
+    RewriteFilesInput input =
+        new RewriteFilesInput(
+            rewrittenDataFiles,
+            rePosDeletedDataFiles,
+            readOnlyDeleteFiles,
+            rewrittenDeleteFiles,
+            null);
+    OptimizingInputProperties properties = new OptimizingInputProperties();
+    TaskCostEstimator.estimate(input, properties);
+    return properties;
+  }
+
+  private static DataFile dataFile(long size) {
+    return DataFiles.builder(SPEC)
+        .withPath("/data/data-" + fileId++ + ".parquet")
+        .withFileSizeInBytes(size)
+        .withRecordCount(1)
+        .build();
+  }
+
+  private static DeleteFile eqDeleteFile(long size) {
+    return FileMetadata.deleteFileBuilder(SPEC)
+        .ofEqualityDeletes(1)
+        .withPath("/data/eq-delete-" + fileId++ + ".parquet")
+        .withFileSizeInBytes(size)
+        .withRecordCount(1)
+        .build();
+  }
+
+  private static DeleteFile posDeleteFile(long size, long records) {
+    return FileMetadata.deleteFileBuilder(SPEC)
+        .ofPositionDeletes()
+        .withPath("/data/pos-delete-" + fileId++ + ".parquet")
+        .withFileSizeInBytes(size)
+        .withRecordCount(records)
+        .build();
+  }
+}
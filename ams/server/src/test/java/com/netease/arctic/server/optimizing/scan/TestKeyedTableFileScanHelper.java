@@ -245,6 +245,57 @@ public class TestKeyedTableFileScanHelper extends TableFileScanHelperTestBase {
     assertScanResult(scan, 0);
   }
 
+  @Test
+  public void testScanPruneEqDeleteByKeyRange() {
+    // write all the files into the same tree node
+    getArcticTable()
+        .updateProperties()
+        .set(TableProperties.BASE_FILE_INDEX_HASH_BUCKET, "1")
+        .set(TableProperties.CHANGE_FILE_INDEX_HASH_BUCKET, "1")
+        .commit();
+    ArrayList<Record> baseRecords =
+        Lists.newArrayList(
+            tableTestHelper().generateTestRecord(1, "111", 0, "2022-01-01T12:00:00"),
+            tableTestHelper().generateTestRecord(2, "222", 0, "2022-01-01T12:00:00"));
+    long transactionId = getArcticTable().beginTransaction("");
+    OptimizingTestHelpers.appendBase(
+        getArcticTable(),
+        tableTestHelper().writeBaseStore(getArcticTable(), transactionId, baseRecords, false));
+
+    ArrayList<Record> deleteRecords =
+        Lists.newArrayList(
+            tableTestHelper().generateTestRecord(10, "1010", 0, "2022-01-01T12:00:00"));
+    transactionId = getArcticTable().beginTransaction("");
+    appendChange(
+        tableTestHelper()
+            .writeChangeStore(
+                getArcticTable(), transactionId, ChangeAction.DELETE, deleteRecords, false));
+
+    List<TableFileScanHelper.FileScanResult> scan = scanFiles();
+    assertScanResult(scan, 1, 0);
+    Assert.assertEquals(1, scan.get(0).prunedDeleteFileCount());
+
+    transactionId = getArcticTable().beginTransaction("");
+    appendChange(
+        tableTestHelper()
+            .writeChangeStore(
+                getArcticTable(),
+                transactionId,
+                ChangeAction.DELETE,
+                Lists.newArrayList(baseRecords.get(0)),
+                false));
+
+    scan = scanFiles();
+    assertScanResult(scan, 1, 1);
+    Assert.assertEquals(1, scan.get(0).prunedDeleteFileCount());
+
+    // the stats are only used for pruning, not kept in the scan result
+    for (TableFileScanHelper.FileScanResult result : scan) {
+      Assert.assertNull(result.file().lowerBounds());
+      result.deleteFiles().forEach(deleteFile -> Assert.assertNull(deleteFile.lowerBounds()));
+    }
+  }
+
   protected KeyedTableFileScanHelper buildFileScanHelper() {
     long baseSnapshotId = IcebergTableUtil.getSnapshotId(getArcticTable().baseTable(), true);
     long changeSnapshotId = IcebergTableUtil.getSnapshotId(getArcticTable().changeTable(), true);
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.server.table;
+
+import com.netease.arctic.ams.api.CatalogMeta;
+import com.netease.arctic.ams.api.TableFormat;
+import com.netease.arctic.ams.api.properties.CatalogMetaProperties;
+import com.netease.arctic.catalog.CatalogTestHelper;
+import com.netease.arctic.hive.TestHMS;
+import com.netease.arctic.hive.catalog.HiveCatalogTestHelper;
+import com.netease.arctic.server.ArcticManagementConf;
+import com.netease.arctic.server.catalog.ExternalCatalog;
+import com.netease.arctic.server.manager.EventsManager;
+import com.netease.arctic.server.manager.MetricManager;
+import com.netease.arctic.server.utils.Configurations;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.catalog.Catalog;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.SupportsNamespaces;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Types;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/** Tests exploring the tables of an external hive catalog by the notification events. */
+public class TestIncrementalTableExploring {
+
+  private static final String CATALOG_NAME = "incremental_catalog";
+  private static final String DATABASE = "explored_db";
+  private static final String OTHER_DATABASE = "other_explored_db";
+  private static final Schema SCHEMA =
+      new Schema(Types.NestedField.required(1, "id", Types.IntegerType.get()));
+
+  @ClassRule public static DerbyPersistence DERBY = new DerbyPersistence();
+
+  @ClassRule public static TestHMS TEST_HMS = new TestHMS();
+
+  private static DefaultTableService TABLE_SERVICE = null;
+
+  @Rule public TemporaryFolder temp = new TemporaryFolder();
+
+  private CatalogMeta catalogMeta;
+  private Catalog icebergCatalog;
+
+  @BeforeClass
+  public static void initTableService() {
+    Configurations configurations = new Configurations();
+    configurations.set(ArcticManagementConf.REFRESH_EXTERNAL_CATALOGS_INCREMENTAL_ENABLED, true);
+    // explore by the tests only
+    configurations.set(ArcticManagementConf.REFRESH_EXTERNAL_CATALOGS_INTERVAL, 3600000L);
+    TABLE_SERVICE = new DefaultTableService(configurations);
+    TABLE_SERVICE.initialize();
+  }
+
+  @AfterClass
+  public static void disposeTableService() {
+    TABLE_SERVICE.dispose();
+    MetricManager.dispose();
+    EventsManager.dispose();
+  }
+
+  @Before
+  public void createCatalog() throws IOException {
+    CatalogTestHelper catalogTestHelper =
+        new HiveCatalogTestHelper(TableFormat.ICEBERG, TEST_HMS.getHiveConf());
+    catalogMeta = catalogTestHelper.buildCatalogMeta(temp.newFolder().getPath());
+    catalogMeta.setCatalogName(CATALOG_NAME);
+    icebergCatalog = catalogTestHelper.buildIcebergCatalog(catalogMeta);
+    ((SupportsNamespaces) icebergCatalog).createNamespace(Namespace.of(DATABASE));
+    ((SupportsNamespaces) icebergCatalog).createNamespace(Namespace.of(OTHER_DATABASE));
+    TABLE_SERVICE.createCatalog(catalogMeta);
+  }
+
+  @After
+  public void dropCatalog() {
+    for (String database : new String[] {DATABASE, OTHER_DATABASE}) {
+      icebergCatalog.listTables(Namespace.of(database)).forEach(icebergCatalog::dropTable);
+      ((SupportsNamespaces) icebergCatalog).dropNamespace(Namespace.of(database));
+    }
+    TABLE_SERVICE.exploreExternalCatalog();
+    TABLE_SERVICE.dropCatalog(CATALOG_NAME);
+  }
+
+  @Test
+  public void testExploreCreatedAndDroppedTables() throws Exception {
+    ExternalCatalog catalog = spyCatalog();
+    createTable(DATABASE, "table_1");
+    TABLE_SERVICE.exploreExternalCatalog();
+    Assert.assertEquals(Sets.newHashSet(DATABASE + ".table_1"), managedTables());
+
+    createTable(DATABASE, "table_2");
+    createTable(OTHER_DATABASE, "table_3");
+    icebergCatalog.dropTable(TableIdentifier.of(DATABASE, "table_1"));
+    TABLE_SERVICE.exploreExternalCatalog();
+    Assert.assertEquals(
+        Sets.newHashSet(DATABASE + ".table_2", OTHER_DATABASE + ".table_3"), managedTables());
+
+    icebergCatalog.dropTable(TableIdentifier.of(OTHER_DATABASE, "table_3"));
+    TABLE_SERVICE.exploreExternalCatalog();
+    Assert.assertEquals(Sets.newHashSet(DATABASE + ".table_2"), managedTables());
+    // only the first round lists all tables
+    Mockito.verify(catalog, Mockito.times(1)).listDatabases();
+  }
+
+  @Test
+  public void testExploreRenamedTable() throws Exception {
+    ExternalCatalog catalog = spyCatalog();
+    createTable(DATABASE, "table_1");
+    TABLE_SERVICE.exploreExternalCatalog();
+    Assert.assertEquals(Sets.newHashSet(DATABASE + ".table_1"), managedTables());
+
+    icebergCatalog.renameTable(
+        TableIdentifier.of(DATABASE, "table_1"), TableIdentifier.of(DATABASE, "table_2"));
+    TABLE_SERVICE.exploreExternalCatalog();
+    Assert.assertEquals(Sets.newHashSet(DATABASE + ".table_2"), managedTables());
+    Mockito.verify(catalog, Mockito.times(1)).listDatabases();
+  }
+
+  @Test
+  public void testExploreFilteredDatabase() throws Exception {
+    CatalogMeta filteredMeta = catalogMeta.deepCopy();
+    filteredMeta.getCatalogProperties().put(CatalogMetaProperties.KEY_DATABASE_FILTER, DATABASE);
+    TABLE_SERVICE.updateCatalog(filteredMeta);
+    ExternalCatalog catalog = spyCatalog();
+    TABLE_SERVICE.exploreExternalCatalog();
+
+    createTable(DATABASE, "table_1");
+    createTable(OTHER_DATABASE, "table_2");
+    TABLE_SERVICE.exploreExternalCatalog();
+    Assert.assertEquals(Sets.newHashSet(DATABASE + ".table_1"), managedTables());
+    Mockito.verify(catalog, Mockito.times(1)).listDatabases();
+
+    // tables included by the updated filter are found by listing all tables again
+    TABLE_SERVICE.updateCatalog(catalogMeta);
+    TABLE_SERVICE.exploreExternalCatalog();
+    Assert.assertEquals(
+        Sets.newHashSet(DATABASE + ".table_1", OTHER_DATABASE + ".table_2"), managedTables());
+    Mockito.verify(catalog, Mockito.times(2)).listDatabases();
+  }
+
+  @Test
+  public void testListAllTablesIfChangesUnknown() throws Exception {
+    ExternalCatalog catalog = spyCatalog();
+    TABLE_SERVICE.exploreExternalCatalog();
+
+    Mockito.doReturn(null).when(catalog).pollTableChanges();
+    createTable(DATABASE, "table_1");
+    TABLE_SERVICE.exploreExternalCatalog();
+    Assert.assertEquals(Sets.newHashSet(DATABASE + ".table_1"), managedTables());
+    Mockito.verify(catalog, Mockito.times(2)).listDatabases();
+  }
+
+  private void createTable(String database, String tableName) {
+    icebergCatalog.createTable(TableIdentifier.of(database, tableName), SCHEMA);
+  }
+
+  private Set<String> managedTables() {
+    return TABLE_SERVICE.listManagedTables(CATALOG_NAME).stream()
+        .map(identifier -> identifier.getDatabase() + "." + identifier.getTableName())
+        .collect(Collectors.toSet());
+  }
+
+  /** Replace the catalog of the table service by a spy to verify how its tables are explored. */
+  @SuppressWarnings("unchecked")
+  private ExternalCatalog spyCatalog() throws Exception {
+    Field field = DefaultTableService.class.getDeclaredField("externalCatalogMap");
+    field.setAccessible(true);
+    Map<String, ExternalCatalog> catalogs =
+        (Map<String, ExternalCatalog>) field.get(TABLE_SERVICE);
+    ExternalCatalog catalog = Mockito.spy(catalogs.get(CATALOG_NAME));
+    catalogs.put(CATALOG_NAME, catalog);
+    return catalog;
+  }
+}
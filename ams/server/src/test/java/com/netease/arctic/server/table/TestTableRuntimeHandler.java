@@ -107,6 +107,13 @@ public class TestTableRuntimeHandler extends AMSTableTestBase {
             .isCleanOrphanEnabled());
     Assert.assertFalse(handler.getConfigChangedTables().get(0).second().isCleanOrphanEnabled());
 
+    // test partitions prepared, which does not change the status
+    int statusChangedCount = handler.getStatusChangedTables().size();
+    tableService().getRuntime(createTableId).partitionsPrepared();
+    Assert.assertEquals(1, handler.getPreparedTables().size());
+    validateTableRuntime(handler.getPreparedTables().get(0));
+    Assert.assertEquals(statusChangedCount, handler.getStatusChangedTables().size());
+
     // drop table
     dropTable();
     Assert.assertEquals(1, handler.getRemovedTables().size());
@@ -133,6 +140,7 @@ public class TestTableRuntimeHandler extends AMSTableTestBase {
         Lists.newArrayList();
     private final List<Pair<ArcticTable, TableRuntime>> addedTables = Lists.newArrayList();
     private final List<TableRuntime> removedTables = Lists.newArrayList();
+    private final List<TableRuntime> preparedTables = Lists.newArrayList();
     private boolean disposed = false;
 
     @Override
@@ -146,6 +154,11 @@ public class TestTableRuntimeHandler extends AMSTableTestBase {
       configChangedTables.add(Pair.of(tableRuntime, originalConfig));
     }
 
+    @Override
+    protected void handlePartitionsPrepared(TableRuntime tableRuntime) {
+      preparedTables.add(tableRuntime);
+    }
+
     @Override
     protected void handleTableAdded(AmoroTable<?> table, TableRuntime tableRuntime) {
       addedTables.add(Pair.of((ArcticTable) table.originalTable(), tableRuntime));
@@ -186,6 +199,10 @@ public class TestTableRuntimeHandler extends AMSTableTestBase {
       return removedTables;
     }
 
+    public List<TableRuntime> getPreparedTables() {
+      return preparedTables;
+    }
+
     public boolean isDisposed() {
       return disposed;
     }
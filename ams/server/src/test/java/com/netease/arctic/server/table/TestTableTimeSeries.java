@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.server.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.netease.arctic.server.metrics.TimeSeries;
+import com.netease.arctic.server.optimizing.MetricsSummary;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class TestTableTimeSeries {
+
+  // retains 100 ms
+  private static final List<TimeSeries.Resolution> RESOLUTIONS =
+      ImmutableList.of(new TimeSeries.Resolution(10, 10));
+
+  @Test
+  public void testEvictPartition() {
+    TableTimeSeries timeSeries = new TableTimeSeries(2, RESOLUTIONS);
+    timeSeries.recordFiles(TableTimeSeries.TABLE, 0, files(1, 0));
+    timeSeries.recordFiles("p1", 0, files(1, 0));
+    timeSeries.recordFiles("p2", 10, files(1, 0));
+    timeSeries.recordFiles("p1", 20, files(1, 0));
+
+    // p2 is updated least recently, the table is never evicted
+    timeSeries.recordFiles("p3", 30, files(1, 0));
+    assertEquals(
+        ImmutableSet.of(TableTimeSeries.TABLE, "p1", "p3"), timeSeries.metrics().keySet());
+    assertTrue(timeSeries.points("p2", TableTimeSeries.DATA_FILES, 0, 30).isEmpty());
+    assertEquals(2, timeSeries.points("p1", TableTimeSeries.DATA_FILES, 0, 30).size());
+  }
+
+  @Test
+  public void testExpire() {
+    TableTimeSeries timeSeries = new TableTimeSeries(2, RESOLUTIONS);
+    timeSeries.recordFiles(TableTimeSeries.TABLE, 0, files(1, 0));
+    timeSeries.recordFiles("p1", 0, files(1, 0));
+    timeSeries.recordFiles("p2", 50, files(1, 0));
+
+    timeSeries.expire(100);
+    assertEquals(
+        ImmutableSet.of(TableTimeSeries.TABLE, "p1", "p2"), timeSeries.metrics().keySet());
+
+    // all values of p1 are out of the retention, the table is kept even if expired
+    timeSeries.expire(101);
+    assertEquals(ImmutableSet.of(TableTimeSeries.TABLE, "p2"), timeSeries.metrics().keySet());
+    timeSeries.expire(151);
+    assertEquals(ImmutableSet.of(TableTimeSeries.TABLE), timeSeries.metrics().keySet());
+  }
+
+  @Test
+  public void testRecordEvaluation() {
+    TableTimeSeries timeSeries = new TableTimeSeries(2, RESOLUTIONS);
+    timeSeries.recordFiles("p0", 0, files(1, 0));
+    timeSeries.recordEvaluation(
+        200,
+        2,
+        files(12, 9),
+        ImmutableMap.of("p1", 1.0, "p3", 3.0),
+        ImmutableMap.of("p1", files(10, 1), "p2", files(1, 5), "p3", files(1, 3)));
+
+    // p0 is expired, the partitions are chosen by read amplification, then by delete files
+    assertEquals(
+        ImmutableSet.of(TableTimeSeries.TABLE, "p1", "p3"), timeSeries.metrics().keySet());
+    assertEquals(
+        ImmutableList.of(
+            TableTimeSeries.DATA_FILES,
+            TableTimeSeries.DELETE_FILES,
+            TableTimeSeries.DELETE_RATIO,
+            TableTimeSeries.READ_AMPLIFICATION,
+            TableTimeSeries.RECORDS),
+        timeSeries.metrics().get("p3"));
+    assertEquals(5, timeSeries.metrics().get(TableTimeSeries.TABLE).size());
+    List<TimeSeries.Point> points =
+        timeSeries.points("p3", TableTimeSeries.DELETE_FILES, 200, 200);
+    assertEquals(1, points.size());
+    assertEquals(3, points.get(0).getAvg(), 0.0001);
+
+    // without read amplification, the partitions with the most delete files are chosen
+    timeSeries = new TableTimeSeries(2, RESOLUTIONS);
+    timeSeries.recordEvaluation(
+        0,
+        1,
+        null,
+        ImmutableMap.of(),
+        ImmutableMap.of("p1", files(10, 1), "p2", files(1, 5), "p3", files(1, 3)));
+    assertEquals(
+        ImmutableSet.of(TableTimeSeries.TABLE, "p2", "p3"), timeSeries.metrics().keySet());
+    assertEquals(4, timeSeries.metrics().get("p2").size());
+  }
+
+  @Test
+  public void testEvaluationNotEvictingItsPartitions() {
+    TableTimeSeries timeSeries = new TableTimeSeries(2, RESOLUTIONS);
+    timeSeries.recordEvaluation(
+        0,
+        1,
+        null,
+        ImmutableMap.of("p1", 3.0, "p2", 2.0, "p3", 1.0),
+        ImmutableMap.of("p1", files(1, 1), "p2", files(1, 1), "p3", files(1, 1)));
+    assertEquals(
+        ImmutableSet.of(TableTimeSeries.TABLE, "p1", "p2"), timeSeries.metrics().keySet());
+
+    // p2 is evicted for p3, but p1 keeps its history
+    timeSeries.recordEvaluation(
+        10,
+        1,
+        null,
+        ImmutableMap.of("p1", 3.0, "p2", 1.0, "p3", 4.0),
+        ImmutableMap.of("p1", files(1, 1), "p2", files(1, 1), "p3", files(1, 1)));
+    assertEquals(
+        ImmutableSet.of(TableTimeSeries.TABLE, "p1", "p3"), timeSeries.metrics().keySet());
+    assertEquals(2, timeSeries.points("p1", TableTimeSeries.READ_AMPLIFICATION, 0, 10).size());
+    assertEquals(2, timeSeries.points("p1", TableTimeSeries.DATA_FILES, 0, 10).size());
+    assertEquals(5, timeSeries.metrics().get("p3").size());
+
+    // a partition of the same evaluation is never evicted
+    timeSeries.record("p4", TableTimeSeries.DATA_FILES, 10, 1, true);
+    assertEquals(
+        ImmutableSet.of(TableTimeSeries.TABLE, "p1", "p3"), timeSeries.metrics().keySet());
+  }
+
+  @Test
+  public void testOptimizingNotEvictingPartitions() {
+    TableTimeSeries timeSeries = new TableTimeSeries(2, RESOLUTIONS);
+    timeSeries.recordFiles("p1", 0, files(1, 0));
+    timeSeries.recordOptimizing(
+        10,
+        100,
+        new MetricsSummary(),
+        ImmutableMap.of("p2", new MetricsSummary(), "p3", new MetricsSummary()));
+    assertEquals(2, timeSeries.metrics().size() - 1);
+    assertTrue(timeSeries.metrics().containsKey("p1"));
+    assertEquals(
+        ImmutableList.of(
+            TableTimeSeries.OPTIMIZING_DURATION,
+            TableTimeSeries.OPTIMIZING_INPUT_SIZE,
+            TableTimeSeries.OPTIMIZING_OUTPUT_SIZE,
+            TableTimeSeries.OPTIMIZING_THROUGHPUT),
+        timeSeries.metrics().get(TableTimeSeries.TABLE));
+  }
+
+  @Test
+  public void testPartitionResolutions() {
+    TableTimeSeries timeSeries =
+        new TableTimeSeries(
+            2,
+            ImmutableList.of(
+                new TimeSeries.Resolution(10, 10), new TimeSeries.Resolution(100, 10)));
+    timeSeries.recordFiles(TableTimeSeries.TABLE, 10, files(1, 0));
+    timeSeries.recordFiles(TableTimeSeries.TABLE, 20, files(3, 0));
+    timeSeries.recordFiles("p1", 10, files(1, 0));
+    timeSeries.recordFiles("p1", 20, files(3, 0));
+
+    // the table keeps the finest resolution, the partitions only the coarser one
+    assertEquals(
+        2, timeSeries.points(TableTimeSeries.TABLE, TableTimeSeries.DATA_FILES, 0, 20).size());
+    List<TimeSeries.Point> points = timeSeries.points("p1", TableTimeSeries.DATA_FILES, 0, 20);
+    assertEquals(1, points.size());
+    assertEquals(0, points.get(0).getTimestamp());
+    assertEquals(2, points.get(0).getAvg(), 0.0001);
+  }
+
+  @Test
+  public void testWithoutPartitions() {
+    TableTimeSeries timeSeries = new TableTimeSeries(0, RESOLUTIONS);
+    timeSeries.recordFiles(TableTimeSeries.TABLE, 0, files(1, 0));
+    timeSeries.recordEvaluation(
+        0, 2, null, ImmutableMap.of("p1", 2.0), ImmutableMap.of("p1", files(1, 1)));
+    assertEquals(ImmutableSet.of(TableTimeSeries.TABLE), timeSeries.metrics().keySet());
+
+    assertThrows(IllegalArgumentException.class, () -> new TableTimeSeries(-1, RESOLUTIONS));
+  }
+
+  @Test
+  public void testFileCounts() {
+    TableTimeSeries.FileCounts files = new TableTimeSeries.FileCounts();
+    assertEquals(0, files.getDeleteRatio(), 0);
+
+    files.add(2, 1, 100, 10).add(new TableTimeSeries.FileCounts().add(1, 2, 100, 30));
+    assertEquals(3, files.getDataFiles());
+    assertEquals(3, files.getDeleteFiles());
+    assertEquals(200, files.getRecords());
+    assertEquals(40, files.getDeletes());
+    assertEquals(0.2, files.getDeleteRatio(), 0.0001);
+  }
+
+  private static TableTimeSeries.FileCounts files(long dataFiles, long deleteFiles) {
+    return new TableTimeSeries.FileCounts().add(dataFiles, deleteFiles, dataFiles * 10, 0);
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.server.table.executor;
+
+import com.netease.arctic.ams.api.metrics.Gauge;
+import com.netease.arctic.BasicTableTestHelper;
+import com.netease.arctic.TableTestHelper;
+import com.netease.arctic.ams.api.TableFormat;
+import com.netease.arctic.catalog.BasicCatalogTestHelper;
+import com.netease.arctic.catalog.CatalogTestHelper;
+import com.netease.arctic.server.manager.MetricManager;
+import com.netease.arctic.server.table.AMSTableTestBase;
+import com.netease.arctic.server.table.TableMetrics;
+import com.netease.arctic.server.table.TableRuntime;
+import com.netease.arctic.server.table.TableTimeSeries;
+import com.netease.arctic.table.ArcticTable;
+import com.netease.arctic.table.TableProperties;
+import com.netease.arctic.table.UnkeyedTable;
+import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@RunWith(Parameterized.class)
+public class TestTableRuntimeRefreshExecutor extends AMSTableTestBase {
+
+  @Parameterized.Parameters(name = "{0}, {1}")
+  public static Object[] parameters() {
+    return new Object[][] {
+      {new BasicCatalogTestHelper(TableFormat.MIXED_ICEBERG), new BasicTableTestHelper(true, true)},
+      {new BasicCatalogTestHelper(TableFormat.MIXED_ICEBERG), new BasicTableTestHelper(false, true)}
+    };
+  }
+
+  public TestTableRuntimeRefreshExecutor(
+      CatalogTestHelper catalogTestHelper, TableTestHelper tableTestHelper) {
+    super(catalogTestHelper, tableTestHelper, true);
+  }
+
+  @Test
+  public void testEvaluateReadAmplificationWithOptimizingDisabled() {
+    ArcticTable table = loadTable();
+    table.updateProperties().set(TableProperties.ENABLE_SELF_OPTIMIZING, "false").commit();
+    writeAndCommitBaseStore(table, 1);
+
+    TableRuntime tableRuntime = tableService().getRuntime(serverTableIdentifier());
+    Assert.assertEquals(0, readAmplificationGauge(), 0);
+    TableRuntimeRefreshExecutor executor =
+        new TableRuntimeRefreshExecutor(tableService(), 1, 60000, 60000);
+    executor.execute(tableRuntime);
+
+    Assert.assertFalse(tableRuntime.isOptimizingEnabled());
+    Assert.assertNull(tableRuntime.getPendingInput());
+    Assert.assertTrue(tableRuntime.getLastEvaluatingTime() > 0);
+    // only data files without deletes are read
+    Assert.assertEquals(1, readAmplificationGauge(), 0.0001);
+    Assert.assertEquals(tableRuntime.getReadAmplification(), readAmplificationGauge(), 0);
+    // the files and the read amplification are kept in the time series of the table and partition
+    Map<String, List<String>> metrics = tableRuntime.getTimeSeries().metrics();
+    Assert.assertEquals(2, metrics.size());
+    Assert.assertTrue(
+        metrics.get(TableTimeSeries.TABLE).contains(TableTimeSeries.READ_AMPLIFICATION));
+    Assert.assertTrue(metrics.get(TableTimeSeries.TABLE).contains(TableTimeSeries.DATA_FILES));
+
+    // not evaluated again within the evaluating interval
+    long lastEvaluatingTime = tableRuntime.getLastEvaluatingTime();
+    writeAndCommitBaseStore(loadTable(), 101);
+    executor.execute(tableRuntime);
+    Assert.assertEquals(lastEvaluatingTime, tableRuntime.getLastEvaluatingTime());
+
+    executor = new TableRuntimeRefreshExecutor(tableService(), 1, 60000, 0);
+    tableRuntime.setLastEvaluatingTime(0);
+    executor.execute(tableRuntime);
+    Assert.assertTrue(tableRuntime.getLastEvaluatingTime() > 0);
+    Assert.assertEquals(1, readAmplificationGauge(), 0.0001);
+  }
+
+  private ArcticTable loadTable() {
+    return (ArcticTable) tableService().loadTable(serverTableIdentifier()).originalTable();
+  }
+
+  private void writeAndCommitBaseStore(ArcticTable table, int start) {
+    UnkeyedTable baseTable =
+        table.isKeyedTable() ? table.asKeyedTable().baseTable() : table.asUnkeyedTable();
+    List<Record> records = Lists.newArrayList();
+    for (int i = start; i < start + 100; i++) {
+      records.add(
+          tableTestHelper()
+              .generateTestRecord(
+                  i, "name" + i, 0L, LocalDateTime.of(2022, 1, 1, 12, 0, 0).toString()));
+    }
+    List<DataFile> dataFiles = tableTestHelper().writeBaseStore(baseTable, 0, records, false);
+    AppendFiles appendFiles = baseTable.newAppend();
+    dataFiles.forEach(appendFiles::appendFile);
+    appendFiles.commit();
+  }
+
+  @SuppressWarnings("unchecked")
+  private double readAmplificationGauge() {
+    return MetricManager.getInstance().getGlobalRegistry().getMetrics().entrySet().stream()
+        .filter(
+            entry ->
+                entry.getKey().getDefine().equals(TableMetrics.TABLE_OPTIMIZING_READ_AMPLIFICATION)
+                    && serverTableIdentifier()
+                        .getTableName()
+                        .equals(entry.getKey().valueOfTag("table")))
+        .map(entry -> ((Gauge<Double>) entry.getValue()).getValue())
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("The gauge is not registered"));
+  }
+}
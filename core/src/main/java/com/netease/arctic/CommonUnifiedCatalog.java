@@ -18,13 +18,20 @@
 
 package com.netease.arctic;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.netease.arctic.ams.api.CatalogMeta;
 import com.netease.arctic.ams.api.TableFormat;
+import com.netease.arctic.ams.api.properties.CatalogMetaProperties;
 import com.netease.arctic.table.TableIdentifier;
 import com.netease.arctic.table.TableMetaStore;
 import com.netease.arctic.utils.CatalogUtil;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.Pair;
+import org.apache.iceberg.util.PropertyUtil;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -43,6 +50,9 @@ public class CommonUnifiedCatalog implements UnifiedCatalog {
 
   private TableMetaStore tableMetaStore;
 
+  /** Formats of the tables resolved before, null if the cache is disabled. */
+  private volatile Cache<Pair<String, String>, TableFormat> tableFormats;
+
   public CommonUnifiedCatalog(
       Supplier<CatalogMeta> catalogMetaSupplier, Map<String, String> properties) {
     CatalogMeta catalogMeta = catalogMetaSupplier.get();
@@ -52,6 +62,7 @@ public class CommonUnifiedCatalog implements UnifiedCatalog {
     this.properties.putAll(properties);
     this.metaSupplier = catalogMetaSupplier;
     initializeFormatCatalogs();
+    this.tableFormats = buildTableFormatCache();
   }
 
   @Override
@@ -76,6 +87,13 @@ public class CommonUnifiedCatalog implements UnifiedCatalog {
 
   @Override
   public boolean exist(String database, String table) {
+    TableFormat format = cachedFormat(database, table);
+    if (format != null && formatCatalogs.containsKey(format)) {
+      if (formatCatalogs.get(format).exist(database, table)) {
+        return true;
+      }
+      invalidateFormat(database, table);
+    }
     return formatCatalogAsOrder(TableFormat.values())
         .anyMatch(formatCatalog -> formatCatalog.exist(database, table));
   }
@@ -106,22 +124,35 @@ public class CommonUnifiedCatalog implements UnifiedCatalog {
       throw new NoSuchDatabaseException("Database: " + database + " does not exist.");
     }
 
-    return formatCatalogAsOrder(
-            TableFormat.MIXED_HIVE,
-            TableFormat.MIXED_ICEBERG,
-            TableFormat.ICEBERG,
-            TableFormat.PAIMON)
-        .map(
-            formatCatalog -> {
-              try {
-                return formatCatalog.loadTable(database, table);
-              } catch (NoSuchTableException e) {
-                return null;
-              }
-            })
-        .filter(Objects::nonNull)
-        .findFirst()
-        .orElseThrow(() -> new NoSuchTableException("Table: " + table + " does not exist."));
+    TableFormat format = cachedFormat(database, table);
+    if (format != null && formatCatalogs.containsKey(format)) {
+      try {
+        return formatCatalogs.get(format).loadTable(database, table);
+      } catch (NoSuchTableException e) {
+        // the table is dropped or recreated in another format
+        invalidateFormat(database, table);
+      }
+    }
+
+    AmoroTable<?> amoroTable =
+        formatCatalogAsOrder(
+                TableFormat.MIXED_HIVE,
+                TableFormat.MIXED_ICEBERG,
+                TableFormat.ICEBERG,
+                TableFormat.PAIMON)
+            .map(
+                formatCatalog -> {
+                  try {
+                    return formatCatalog.loadTable(database, table);
+                  } catch (NoSuchTableException e) {
+                    return null;
+                  }
+                })
+            .filter(Objects::nonNull)
+            .findFirst()
+            .orElseThrow(() -> new NoSuchTableException("Table: " + table + " does not exist."));
+    cacheFormat(database, table, amoroTable.format());
+    return amoroTable;
   }
 
   @Override
@@ -153,6 +184,7 @@ public class CommonUnifiedCatalog implements UnifiedCatalog {
         .map(
             tableName -> {
               TableFormat format = tableNameToFormat.get(tableName);
+              cacheFormat(database, tableName, format);
               return TableIDWithFormat.of(
                   TableIdentifier.of(this.meta.getCatalogName(), database, tableName), format);
             })
@@ -166,6 +198,8 @@ public class CommonUnifiedCatalog implements UnifiedCatalog {
       return findFirstFormatCatalog(t.format()).dropTable(database, table, purge);
     } catch (NoSuchTableException e) {
       return false;
+    } finally {
+      invalidateFormat(database, table);
     }
   }
 
@@ -179,6 +213,7 @@ public class CommonUnifiedCatalog implements UnifiedCatalog {
     this.tableMetaStore = CatalogUtil.buildMetaStore(newMeta);
     this.meta = newMeta;
     this.initializeFormatCatalogs();
+    this.tableFormats = buildTableFormatCache();
   }
 
   @Override
@@ -204,6 +239,48 @@ public class CommonUnifiedCatalog implements UnifiedCatalog {
     this.formatCatalogs = formatCatalogs;
   }
 
+  private Cache<Pair<String, String>, TableFormat> buildTableFormatCache() {
+    Map<String, String> catalogProperties =
+        meta.getCatalogProperties() == null ? Maps.newHashMap() : meta.getCatalogProperties();
+    long expirationIntervalMs =
+        PropertyUtil.propertyAsLong(
+            catalogProperties,
+            CatalogMetaProperties.TABLE_FORMAT_CACHE_EXPIRATION_INTERVAL_MS,
+            CatalogMetaProperties.TABLE_FORMAT_CACHE_EXPIRATION_INTERVAL_MS_DEFAULT);
+    long maxSize =
+        PropertyUtil.propertyAsLong(
+            catalogProperties,
+            CatalogMetaProperties.TABLE_FORMAT_CACHE_MAX_SIZE,
+            CatalogMetaProperties.TABLE_FORMAT_CACHE_MAX_SIZE_DEFAULT);
+    if (expirationIntervalMs <= 0 || maxSize <= 0) {
+      return null;
+    }
+    return Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofMillis(expirationIntervalMs))
+        .build();
+  }
+
+  @VisibleForTesting
+  TableFormat cachedFormat(String database, String table) {
+    Cache<Pair<String, String>, TableFormat> cache = tableFormats;
+    return cache == null ? null : cache.getIfPresent(Pair.of(database, table));
+  }
+
+  private void cacheFormat(String database, String table, TableFormat format) {
+    Cache<Pair<String, String>, TableFormat> cache = tableFormats;
+    if (cache != null) {
+      cache.put(Pair.of(database, table), format);
+    }
+  }
+
+  private void invalidateFormat(String database, String table) {
+    Cache<Pair<String, String>, TableFormat> cache = tableFormats;
+    if (cache != null) {
+      cache.invalidate(Pair.of(database, table));
+    }
+  }
+
   /** get format catalogs as given format order */
   private Stream<FormatCatalog> formatCatalogAsOrder(TableFormat... formats) {
     return Stream.of(formats).filter(formatCatalogs::containsKey).map(formatCatalogs::get);
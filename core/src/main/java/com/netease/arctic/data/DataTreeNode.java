@@ -35,36 +35,76 @@ import java.util.Objects;
  * </ul>
  *
  * index = hashCode(data) & mask;
+ *
+ * <p>A node is also identified by the primitive id mask + 1 + index, the static methods on ids
+ * could be used to relate nodes without creating the node objects.
  */
 public final class DataTreeNode implements Serializable {
 
+  /** Nodes of the trees up to this size are shared, since every file refers to its node. */
+  private static final int CACHED_NODES = 1024;
+
+  private static final DataTreeNode[] NODES = new DataTreeNode[CACHED_NODES];
+
+  static {
+    for (int id = 1; id < CACHED_NODES; id++) {
+      long mask = maskOfId(id);
+      NODES[id] = new DataTreeNode(mask, id - mask - 1);
+    }
+  }
+
   private final long mask;
   private final long index;
 
-  public static final DataTreeNode ROOT = new DataTreeNode(0, 0);
+  public static final DataTreeNode ROOT = NODES[1];
 
   public static DataTreeNode of(long mask, long index) {
     if (index > mask) {
       throw new IllegalArgumentException("index can not be greater than mask");
     }
+    long id = mask + 1 + index;
+    if (id < CACHED_NODES && (mask & (mask + 1)) == 0) {
+      return NODES[(int) id];
+    }
     return new DataTreeNode(mask, index);
   }
 
   public static DataTreeNode ofId(long id) {
+    if (id > 0 && id < CACHED_NODES) {
+      return NODES[(int) id];
+    }
     long mask = maskOfId(id);
     long index = id - mask - 1;
     return new DataTreeNode(mask, index);
   }
 
   public static long maskOfId(long id) {
-    long temp = id;
-    int i = 0;
-    while (temp != 1) {
-      temp = temp >> 1;
-      i++;
+    return Long.highestOneBit(id) - 1;
+  }
+
+  public static long indexOfId(long id) {
+    return id - Long.highestOneBit(id);
+  }
+
+  /**
+   * Whether the node of the id is the same node or a son of the node of another id, as {@link
+   * #isSonOf(DataTreeNode)}.
+   */
+  public static boolean isSonOf(long id, long anotherId) {
+    if (id == anotherId) {
+      return true;
     }
+    long mask = maskOfId(id);
+    long anotherMask = maskOfId(anotherId);
+    if (mask <= anotherMask) {
+      return false;
+    }
+    return (indexOfId(id) & anotherMask) == indexOfId(anotherId);
+  }
 
-    return (1L << i) - 1;
+  /** Whether the nodes of the ids are on the same path from the root, so their data may overlap. */
+  public static boolean isRelated(long id, long anotherId) {
+    return isSonOf(id, anotherId) || isSonOf(anotherId, id);
   }
 
   private DataTreeNode(long mask, long index) {
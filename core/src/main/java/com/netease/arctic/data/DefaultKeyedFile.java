@@ -54,6 +54,11 @@ public class DefaultKeyedFile implements PrimaryKeyedFile, Serializable {
     return new DefaultKeyedFile(dataFile, fileMeta);
   }
 
+  /** Wrap a {@link DataFile} with the {@link FileMeta} already parsed, e.g. by a remote planner. */
+  public static DefaultKeyedFile of(DataFile dataFile, FileMeta fileMeta) {
+    return new DefaultKeyedFile(dataFile, fileMeta);
+  }
+
   @Override
   public Long transactionId() {
     return meta.transactionId();
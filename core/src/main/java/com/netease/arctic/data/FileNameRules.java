@@ -206,13 +206,22 @@ public class FileNameRules {
    * @return node, return node(0,0) if path is not arctic file format.
    */
   public static DataTreeNode parseFileNodeFromFileName(String path) {
+    return DataTreeNode.ofId(parseFileNodeIdFromFileName(path));
+  }
+
+  /**
+   * Parse keyed file node id from file name, see {@link DataTreeNode#getId()}.
+   *
+   * @param path path
+   * @return node id, return the id of node(0,0) if path is not arctic file format.
+   */
+  public static long parseFileNodeIdFromFileName(String path) {
     path = TableFileUtil.getFileName(path);
     Matcher matcher = KEYED_FILE_NAME_PATTERN.matcher(path);
     if (matchArcticFileFormat(matcher)) {
-      long nodeId = Long.parseLong(matcher.group(1));
-      return DataTreeNode.ofId(nodeId);
+      return Long.parseLong(matcher.group(1));
     } else {
-      return DataTreeNode.ROOT;
+      return DataTreeNode.ROOT.getId();
     }
   }
 
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.data;
+
+import org.apache.iceberg.ContentFile;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The range of the primary key of a file by the lower and upper bounds of the key columns in its
+ * metrics. A key could only be in the file if every column is in the bounds of the column, so the
+ * range is exact for a single column key and a superset of the keys of the file otherwise.
+ *
+ * <p>Null values are not in the bounds, so a column that may have null values could match a null
+ * value of another range even if their bounds do not overlap.
+ */
+public class PrimaryKeyRange {
+
+  private final Comparator<Object>[] comparators;
+  private final Object[] lowers;
+  private final Object[] uppers;
+  private final boolean[] mayHaveNulls;
+
+  private PrimaryKeyRange(
+      Comparator<Object>[] comparators,
+      Object[] lowers,
+      Object[] uppers,
+      boolean[] mayHaveNulls) {
+    this.comparators = comparators;
+    this.lowers = lowers;
+    this.uppers = uppers;
+    this.mayHaveNulls = mayHaveNulls;
+  }
+
+  /**
+   * Return the key range of the file, or null if any key column has no bounds, e.g. its metrics
+   * are disabled or it has only null values.
+   *
+   * @param file a data or delete file
+   * @param keyType the struct type of the primary key
+   */
+  @SuppressWarnings("unchecked")
+  public static PrimaryKeyRange of(ContentFile<?> file, Types.StructType keyType) {
+    Map<Integer, ByteBuffer> lowerBounds = file.lowerBounds();
+    Map<Integer, ByteBuffer> upperBounds = file.upperBounds();
+    Map<Integer, Long> nullValueCounts = file.nullValueCounts();
+    if (lowerBounds == null || upperBounds == null) {
+      return null;
+    }
+    List<Types.NestedField> fields = keyType.fields();
+    Comparator<Object>[] comparators = new Comparator[fields.size()];
+    Object[] lowers = new Object[fields.size()];
+    Object[] uppers = new Object[fields.size()];
+    boolean[] mayHaveNulls = new boolean[fields.size()];
+    for (int i = 0; i < fields.size(); i++) {
+      Types.NestedField field = fields.get(i);
+      ByteBuffer lower = lowerBounds.get(field.fieldId());
+      ByteBuffer upper = upperBounds.get(field.fieldId());
+      if (!field.type().isPrimitiveType() || lower == null || upper == null) {
+        return null;
+      }
+      comparators[i] = Comparators.forType(field.type().asPrimitiveType());
+      lowers[i] = Conversions.fromByteBuffer(field.type(), lower);
+      uppers[i] = Conversions.fromByteBuffer(field.type(), upper);
+      Long nullValueCount = nullValueCounts == null ? null : nullValueCounts.get(field.fieldId());
+      mayHaveNulls[i] = nullValueCount == null || nullValueCount > 0;
+    }
+    return new PrimaryKeyRange(comparators, lowers, uppers, mayHaveNulls);
+  }
+
+  /**
+   * Whether the key may be in the range.
+   *
+   * @param key the key laid out as the key type, whose values are in the internal representation
+   */
+  public boolean mayContain(StructLike key) {
+    for (int i = 0; i < lowers.length; i++) {
+      Object value = key.get(i, Object.class);
+      if (value == null) {
+        // the bounds do not tell whether the file has null values
+        continue;
+      }
+      if (comparators[i].compare(value, lowers[i]) < 0
+          || comparators[i].compare(value, uppers[i]) > 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Whether any key may be in both ranges, the ranges must be of the same key type. */
+  public boolean overlaps(PrimaryKeyRange other) {
+    for (int i = 0; i < lowers.length; i++) {
+      if (mayHaveNulls[i] && other.mayHaveNulls[i]) {
+        continue;
+      }
+      if (comparators[i].compare(uppers[i], other.lowers[i]) < 0
+          || comparators[i].compare(other.uppers[i], lowers[i]) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
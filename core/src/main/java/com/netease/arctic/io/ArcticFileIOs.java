@@ -24,8 +24,10 @@ import com.netease.arctic.table.TableProperties;
 import com.netease.arctic.utils.CatalogUtil;
 import org.apache.iceberg.hadoop.HadoopFileIO;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.util.PropertyUtil;
 
+import java.util.Collections;
 import java.util.Map;
 
 public class ArcticFileIOs {
@@ -39,6 +41,34 @@ public class ArcticFileIOs {
       TableMetaStore tableMetaStore,
       Map<String, String> catalogProperties) {
     tableProperties = CatalogUtil.mergeCatalogPropertiesToTable(tableProperties, catalogProperties);
+    ArcticHadoopFileIO fileIO =
+        newHadoopFileIO(tableIdentifier, tableLocation, tableProperties, tableMetaStore);
+    if (PropertyUtil.propertyAsBoolean(
+        tableProperties,
+        TableProperties.WRITE_ASYNC_UPLOAD_ENABLED,
+        TableProperties.WRITE_ASYNC_UPLOAD_ENABLED_DEFAULT)) {
+      fileIO.enableAsyncUpload(
+          PropertyUtil.propertyAsInt(
+              tableProperties,
+              TableProperties.WRITE_ASYNC_UPLOAD_PART_SIZE,
+              TableProperties.WRITE_ASYNC_UPLOAD_PART_SIZE_DEFAULT),
+          PropertyUtil.propertyAsInt(
+              tableProperties,
+              TableProperties.WRITE_ASYNC_UPLOAD_MAX_BUFFERED_PARTS,
+              TableProperties.WRITE_ASYNC_UPLOAD_MAX_BUFFERED_PARTS_DEFAULT),
+          PropertyUtil.propertyAsLong(
+              tableProperties,
+              TableProperties.WRITE_ASYNC_UPLOAD_MAX_BUFFERED_BYTES,
+              TableProperties.WRITE_ASYNC_UPLOAD_MAX_BUFFERED_BYTES_DEFAULT));
+    }
+    return fileIO;
+  }
+
+  private static ArcticHadoopFileIO newHadoopFileIO(
+      TableIdentifier tableIdentifier,
+      String tableLocation,
+      Map<String, String> tableProperties,
+      TableMetaStore tableMetaStore) {
     if (!CLOSE_TRASH
         && PropertyUtil.propertyAsBoolean(
             tableProperties,
@@ -63,6 +93,29 @@ public class ArcticFileIOs {
     return new ArcticHadoopFileIO(tableMetaStore);
   }
 
+  /**
+   * Return the hadoop conf to set on the writers of the files created by the given io, see {@link
+   * ArcticHadoopFileIO#writerHadoopConf()}.
+   */
+  public static Map<String, String> writerHadoopConf(FileIO io) {
+    if (io instanceof ArcticHadoopFileIO) {
+      return ((ArcticHadoopFileIO) io).writerHadoopConf();
+    }
+    return Collections.emptyMap();
+  }
+
+  /** Return the writer properties with the {@link #writerHadoopConf} of the given io. */
+  public static Map<String, String> withWriterHadoopConf(
+      Map<String, String> properties, FileIO io) {
+    Map<String, String> hadoopConf = writerHadoopConf(io);
+    if (hadoopConf.isEmpty()) {
+      return properties;
+    }
+    Map<String, String> writerProperties = Maps.newHashMap(hadoopConf);
+    writerProperties.putAll(properties);
+    return writerProperties;
+  }
+
   public static ArcticFileIO buildAdaptIcebergFileIO(TableMetaStore tableMetaStore, FileIO io) {
     if (io instanceof HadoopFileIO) {
       return buildHadoopFileIO(tableMetaStore);
@@ -19,11 +19,13 @@
 package com.netease.arctic.io;
 
 import com.netease.arctic.table.TableMetaStore;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.RemoteIterator;
+import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.hadoop.HadoopFileIO;
 import org.apache.iceberg.hadoop.Util;
 import org.apache.iceberg.io.FileInfo;
@@ -33,12 +35,17 @@ import org.apache.iceberg.io.SupportsPrefixOperations;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Stream;
 
 /** Implementation of {@link ArcticFileIO} for hadoop file system with authentication. */
@@ -47,6 +54,10 @@ public class ArcticHadoopFileIO extends HadoopFileIO
 
   private final TableMetaStore tableMetaStore;
   private boolean fileRecycleEnabled;
+  private int asyncUploadPartSize = 0;
+  private int asyncUploadMaxBufferedParts = 0;
+  private Semaphore asyncUploadPartBudget;
+  private transient volatile Map<String, String> writerHadoopConf;
 
   ArcticHadoopFileIO(TableMetaStore tableMetaStore) {
     super(tableMetaStore.getConfiguration());
@@ -65,7 +76,63 @@ public class ArcticHadoopFileIO extends HadoopFileIO
 
   @Override
   public OutputFile newOutputFile(String path) {
-    return tableMetaStore.doAs(() -> super.newOutputFile(path));
+    OutputFile outputFile = tableMetaStore.doAs(() -> super.newOutputFile(path));
+    // orc writers open the path with the file system and conf of a HadoopOutputFile, keep it
+    if (asyncUploadPartSize > 0 && FileFormat.fromFileName(path) != FileFormat.ORC) {
+      return new AsyncUploadOutputFile(
+          outputFile,
+          asyncUploadPartSize,
+          asyncUploadMaxBufferedParts,
+          asyncUploadPartBudget,
+          tableMetaStore);
+    }
+    return outputFile;
+  }
+
+  /**
+   * Upload the parts of the written files asynchronously.
+   *
+   * @param partSize the bytes of a part
+   * @param maxBufferedParts the max parts of a file kept in memory
+   * @param maxBufferedBytes the max bytes of the parts waiting for upload of all files
+   * @see AsyncUploadOutputStream
+   */
+  public void enableAsyncUpload(int partSize, int maxBufferedParts, long maxBufferedBytes) {
+    Preconditions.checkArgument(partSize > 0, "Illegal part size: %s", partSize);
+    Preconditions.checkArgument(
+        maxBufferedParts > 1, "Illegal max buffered parts: %s", maxBufferedParts);
+    Preconditions.checkArgument(
+        maxBufferedBytes >= partSize,
+        "Illegal max buffered bytes: %s, less than the part size",
+        maxBufferedBytes);
+    this.asyncUploadPartSize = partSize;
+    this.asyncUploadMaxBufferedParts = maxBufferedParts;
+    this.asyncUploadPartBudget =
+        new Semaphore((int) Math.min(Integer.MAX_VALUE, maxBufferedBytes / partSize));
+  }
+
+  /**
+   * Return the entries of the hadoop conf that writers of the files of this io should set on their
+   * own conf. Iceberg parquet writers only take the conf of a {@link
+   * org.apache.iceberg.hadoop.HadoopOutputFile} and create a default one for the {@link
+   * AsyncUploadOutputFile}s, so the entries of the table conf different from the defaults are
+   * returned when uploading asynchronously.
+   */
+  Map<String, String> writerHadoopConf() {
+    if (asyncUploadPartSize <= 0) {
+      return Collections.emptyMap();
+    }
+    if (writerHadoopConf == null) {
+      Configuration defaults = new Configuration();
+      Map<String, String> entries = Maps.newHashMap();
+      for (Map.Entry<String, String> entry : conf()) {
+        if (!Objects.equals(entry.getValue(), defaults.getRaw(entry.getKey()))) {
+          entries.put(entry.getKey(), entry.getValue());
+        }
+      }
+      writerHadoopConf = Collections.unmodifiableMap(entries);
+    }
+    return writerHadoopConf;
   }
 
   @Override
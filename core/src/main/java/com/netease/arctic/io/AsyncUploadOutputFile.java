@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.io;
+
+import com.netease.arctic.table.TableMetaStore;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.PositionOutputStream;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * An {@link OutputFile} whose streams upload their parts asynchronously. Writers checking the type
+ * of the file, like {@code instanceof HadoopOutputFile}, should check the {@link #unwrap}ped one.
+ * Writers that can't unwrap it, like the iceberg parquet writers, should be given the {@link
+ * ArcticFileIOs#writerHadoopConf} of the io.
+ */
+public class AsyncUploadOutputFile implements OutputFile {
+
+  private final OutputFile delegate;
+  private final int partSize;
+  private final int maxBufferedParts;
+  private final Semaphore partBudget;
+  private final TableMetaStore tableMetaStore;
+
+  public AsyncUploadOutputFile(OutputFile delegate, int partSize, int maxBufferedParts) {
+    this(
+        delegate,
+        partSize,
+        maxBufferedParts,
+        new Semaphore(maxBufferedParts),
+        TableMetaStore.EMPTY);
+  }
+
+  public AsyncUploadOutputFile(
+      OutputFile delegate,
+      int partSize,
+      int maxBufferedParts,
+      Semaphore partBudget,
+      TableMetaStore tableMetaStore) {
+    this.delegate = delegate;
+    this.partSize = partSize;
+    this.maxBufferedParts = maxBufferedParts;
+    this.partBudget = partBudget;
+    this.tableMetaStore = tableMetaStore;
+  }
+
+  /** Return the file written by the async upload streams, or the file itself if not wrapped. */
+  public static OutputFile unwrap(OutputFile file) {
+    return file instanceof AsyncUploadOutputFile ? ((AsyncUploadOutputFile) file).delegate : file;
+  }
+
+  @Override
+  public PositionOutputStream create() {
+    return new AsyncUploadOutputStream(
+        delegate.create(), partSize, maxBufferedParts, partBudget, tableMetaStore);
+  }
+
+  @Override
+  public PositionOutputStream createOrOverwrite() {
+    return new AsyncUploadOutputStream(
+        delegate.createOrOverwrite(), partSize, maxBufferedParts, partBudget, tableMetaStore);
+  }
+
+  @Override
+  public String location() {
+    return delegate.location();
+  }
+
+  @Override
+  public InputFile toInputFile() {
+    return delegate.toInputFile();
+  }
+
+  @Override
+  public String toString() {
+    return delegate.toString();
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.io;
+
+import com.netease.arctic.table.TableMetaStore;
+import org.apache.iceberg.io.PositionOutputStream;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.ThreadPools;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * An output stream buffering the written bytes in parts, full parts are written to the underlying
+ * stream by a shared pool of upload threads in the order they are written. Writers go on encoding
+ * while the previous parts are uploaded, and closing the stream only waits for the last parts.
+ *
+ * <p>Besides the part being written, a stream keeps at most maxBufferedParts - 1 parts in memory,
+ * and each of them takes a permit of the part budget shared with the other streams of the file io.
+ * A writer waits for one of its uploaded parts to be released when it holds as many parts as it
+ * can, and writes the part on its own thread when it holds none and the budget is used up. The
+ * first part grows from a small buffer, so small files do not hold a whole part.
+ *
+ * <p>The underlying stream is written by the upload threads within {@link TableMetaStore#doAs}.
+ */
+public class AsyncUploadOutputStream extends PositionOutputStream {
+
+  private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+  private static final int UPLOAD_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+  private final PositionOutputStream delegate;
+  private final int partSize;
+  private final int maxBufferedParts;
+  private final Semaphore partBudget;
+  private final TableMetaStore tableMetaStore;
+  private final BlockingQueue<byte[]> freeParts;
+  private int heldParts = 0;
+
+  private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+  private byte[] buffer;
+  private int count = 0;
+  private long pos = 0;
+  private boolean closed = false;
+
+  public AsyncUploadOutputStream(
+      PositionOutputStream delegate, int partSize, int maxBufferedParts) {
+    this(
+        delegate,
+        partSize,
+        maxBufferedParts,
+        new Semaphore(maxBufferedParts),
+        TableMetaStore.EMPTY);
+  }
+
+  public AsyncUploadOutputStream(
+      PositionOutputStream delegate,
+      int partSize,
+      int maxBufferedParts,
+      Semaphore partBudget,
+      TableMetaStore tableMetaStore) {
+    Preconditions.checkArgument(partSize > 0, "Illegal part size: %s", partSize);
+    Preconditions.checkArgument(
+        maxBufferedParts > 1, "Illegal max buffered parts: %s", maxBufferedParts);
+    this.delegate = delegate;
+    this.partSize = partSize;
+    this.maxBufferedParts = maxBufferedParts;
+    this.partBudget = partBudget;
+    this.tableMetaStore = tableMetaStore;
+    this.freeParts = new ArrayBlockingQueue<>(maxBufferedParts);
+    this.buffer = new byte[Math.min(partSize, INITIAL_BUFFER_SIZE)];
+  }
+
+  @Override
+  public long getPos() {
+    return pos;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    ensureOpen();
+    ensureCapacity();
+    buffer[count++] = (byte) b;
+    pos++;
+    if (count == partSize) {
+      uploadPart();
+    }
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    ensureOpen();
+    while (len > 0) {
+      ensureCapacity();
+      int length = Math.min(len, buffer.length - count);
+      System.arraycopy(b, off, buffer, count, length);
+      count += length;
+      pos += length;
+      off += length;
+      len -= length;
+      if (count == partSize) {
+        uploadPart();
+      }
+    }
+  }
+
+  /** Upload the buffered bytes and wait until they are written to the underlying stream. */
+  @Override
+  public void flush() throws IOException {
+    ensureOpen();
+    if (count > 0) {
+      uploadPart();
+    }
+    awaitPending();
+    delegate.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      if (count > 0) {
+        uploadPart();
+      }
+      awaitPending();
+    } finally {
+      buffer = null;
+      freeParts.clear();
+      partBudget.release(heldParts);
+      heldParts = 0;
+      delegate.close();
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream is closed");
+    }
+    if (pending.isCompletedExceptionally()) {
+      awaitPending();
+    }
+  }
+
+  private void ensureCapacity() {
+    if (count == buffer.length && buffer.length < partSize) {
+      buffer = Arrays.copyOf(buffer, (int) Math.min(partSize, buffer.length * 2L));
+    }
+  }
+
+  private void uploadPart() throws IOException {
+    byte[] part = buffer;
+    int length = count;
+    byte[] next = freeParts.poll();
+    if (next == null && heldParts < maxBufferedParts - 1 && partBudget.tryAcquire()) {
+      heldParts++;
+      next = new byte[partSize];
+    }
+    if (next == null && heldParts == 0) {
+      // no part of the budget is left for this stream, write the part on the caller thread
+      awaitPending();
+      try {
+        writePart(part, length);
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      count = 0;
+      return;
+    }
+    if (next == null) {
+      next = takeFreePart();
+    }
+    pending =
+        pending
+            .thenRunAsync(() -> writePart(part, length), UploadPool.INSTANCE)
+            .whenComplete((ignored, error) -> freeParts.offer(part));
+    buffer = next.length == partSize ? next : new byte[partSize];
+    count = 0;
+  }
+
+  private void writePart(byte[] part, int length) {
+    tableMetaStore.doAs(
+        () -> {
+          try {
+            delegate.write(part, 0, length);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          return null;
+        });
+  }
+
+  private byte[] takeFreePart() throws IOException {
+    try {
+      return freeParts.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a free part");
+    }
+  }
+
+  private void awaitPending() throws IOException {
+    try {
+      pending.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) cause).getCause();
+      }
+      throw new IOException("Failed to upload the part", cause);
+    }
+  }
+
+  private static class UploadPool {
+    private static final ExecutorService INSTANCE =
+        ThreadPools.newWorkerPool("arctic-async-upload", UPLOAD_THREADS);
+  }
+}
@@ -20,6 +20,7 @@ package com.netease.arctic.io.reader;
 
 import com.netease.arctic.data.ChangedLsn;
 import com.netease.arctic.data.DataTreeNode;
+import com.netease.arctic.data.PrimaryKeyRange;
 import com.netease.arctic.data.PrimaryKeyedFile;
 import com.netease.arctic.io.ArcticFileIO;
 import com.netease.arctic.io.CloseableIterableWrapper;
@@ -47,6 +48,7 @@ import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
@@ -55,10 +57,13 @@ import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.Filter;
 import org.apache.iceberg.util.StructProjection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -76,6 +81,8 @@ import java.util.stream.Collectors;
  */
 public abstract class ArcticDeleteFilter<T> {
 
+  private static final Logger LOG = LoggerFactory.getLogger(ArcticDeleteFilter.class);
+
   private static final Schema POS_DELETE_SCHEMA =
       new Schema(
           org.apache.iceberg.MetadataColumns.DELETE_FILE_PATH,
@@ -89,6 +96,7 @@ public abstract class ArcticDeleteFilter<T> {
           org.apache.iceberg.MetadataColumns.DELETE_FILE_POS.fieldId());
 
   private final Set<PrimaryKeyedFile> eqDeletes;
+  private final List<PrimaryKeyedFile> dataFiles;
   private final List<DeleteFile> posDeletes;
   private final Schema requiredSchema;
   private final Accessor<StructLike> dataTransactionIdAccessor;
@@ -99,6 +107,9 @@ public abstract class ArcticDeleteFilter<T> {
   private final Schema deleteSchema;
   private final Filter<Record> deleteNodeFilter;
   private CloseablePredicate<T> eqPredicate;
+  private StructLikeBaseMap<ChangedLsn> eqDeleteMap;
+  private StructProjection eqDataPKProjection;
+  private long prunedEqDeletes;
   private Map<String, Set<Long>> positionMap;
   private final Accessor<StructLike> posAccessor;
   private final Accessor<StructLike> filePathAccessor;
@@ -147,6 +158,10 @@ public abstract class ArcticDeleteFilter<T> {
     }
     this.posDeletes = new ArrayList<>(map.values());
 
+    this.dataFiles =
+        keyedTableScanTask.dataTasks().stream()
+            .map(ArcticFileScanTask::file)
+            .collect(Collectors.toList());
     this.pathSets =
         keyedTableScanTask.dataTasks().stream()
             .map(s -> s.file().path().toString())
@@ -217,6 +232,67 @@ public abstract class ArcticDeleteFilter<T> {
         apply(records, applyEqDeletes().or(applyPosDeletes())), eqPredicate);
   }
 
+  /** @return true if there are any position or equality deletes to apply */
+  public boolean hasDeletes() {
+    return !eqDeletes.isEmpty() || !posDeletes.isEmpty();
+  }
+
+  /** @return true if there are any equality deletes to apply */
+  public boolean hasEqDeletes() {
+    return !eqDeletes.isEmpty();
+  }
+
+  /**
+   * Return a predicate testing whether a record is deleted by position or equality deletes, for
+   * readers applying the deletes by themselves, e.g. the columnar readers. The predicate should be
+   * closed after reading to release the equality delete map.
+   */
+  public CloseablePredicate<T> deletedPredicate() {
+    Predicate<T> isDeleted = applyPosDeletes().or(applyEqDeletes());
+    return new CloseablePredicate<>(isDeleted, this::closeEqDeletes);
+  }
+
+  /**
+   * Test whether the row is deleted by equality deletes. The row must be laid out as {@link
+   * #requiredSchema()}, and it is not retained by this method, so it could be a reused view over
+   * columnar data instead of a materialized record.
+   */
+  public boolean isEqDeleted(StructLike row) {
+    if (eqDeletes.isEmpty()) {
+      return false;
+    }
+    if (eqDeleteMap == null) {
+      applyEqDeletes();
+    }
+    ChangedLsn deleteLsn = eqDeleteMap.get(eqDataPKProjection.wrap(row));
+    if (deleteLsn == null) {
+      return false;
+    }
+    return deleteLsn.compareTo(dataLSN(row)) > 0;
+  }
+
+  /** Release the equality delete map loaded to test rows, e.g. by {@link #isEqDeleted}. */
+  public void closeEqDeletes() throws IOException {
+    if (eqPredicate != null) {
+      eqPredicate.close();
+    }
+  }
+
+  /** The number of equality deletes skipped since they are out of the key ranges of data files. */
+  @VisibleForTesting
+  long prunedEqDeletes() {
+    return prunedEqDeletes;
+  }
+
+  /** @return positions of the data file deleted by position deletes, never null */
+  public Set<Long> deletedPositions(String dataPath) {
+    if (posDeletes.isEmpty()) {
+      return Collections.emptySet();
+    }
+    Set<Long> positions = positionMap().get(dataPath);
+    return positions == null ? Collections.emptySet() : positions;
+  }
+
   public void setCurrentDataPath(String currentDataPath) {
     this.currentDataPath = currentDataPath;
     this.currentPosSet = null;
@@ -265,6 +341,8 @@ public abstract class ArcticDeleteFilter<T> {
 
     StructLikeBaseMap<ChangedLsn> structLikeMap =
         structLikeCollections.createStructLikeMap(pkSchema.asStruct());
+    List<PrimaryKeyRange> dataKeyRanges = dataKeyRanges(pkSchema.asStruct());
+    long prunedDeletes = 0;
     // init map
     try (CloseableIterable<StructLike> deletes = structLikeIterable) {
       Iterator<StructLike> it =
@@ -274,6 +352,10 @@ public abstract class ArcticDeleteFilter<T> {
       while (it.hasNext()) {
         StructLike structLike = it.next();
         StructLike deletePK = deletePKProjectRow.copyFor(structLike);
+        if (dataKeyRanges != null && !mayContain(dataKeyRanges, deletePK)) {
+          prunedDeletes++;
+          continue;
+        }
         ChangedLsn deleteLsn = deleteLSN(structLike);
 
         ChangedLsn old = structLikeMap.get(deletePK);
@@ -284,6 +366,10 @@ public abstract class ArcticDeleteFilter<T> {
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
+    if (prunedDeletes > 0) {
+      LOG.debug("Skipped {} equality deletes out of the key ranges of data files", prunedDeletes);
+    }
+    this.prunedEqDeletes = prunedDeletes;
 
     Predicate<T> isInDeleteSet =
         record -> {
@@ -298,10 +384,37 @@ public abstract class ArcticDeleteFilter<T> {
           return deleteLsn.compareTo(dataLSN) > 0;
         };
 
+    this.eqDeleteMap = structLikeMap;
+    this.eqDataPKProjection = StructProjection.create(requiredSchema, pkSchema);
     this.eqPredicate = new CloseablePredicate<>(isInDeleteSet, structLikeMap);
     return isInDeleteSet;
   }
 
+  private static boolean mayContain(List<PrimaryKeyRange> ranges, StructLike key) {
+    for (int i = 0; i < ranges.size(); i++) {
+      if (ranges.get(i).mayContain(key)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Return the primary key ranges of the data files, deletes out of all ranges could not delete
+   * any record read, or null if any data file has no key bounds.
+   */
+  private List<PrimaryKeyRange> dataKeyRanges(Types.StructType keyType) {
+    List<PrimaryKeyRange> ranges = Lists.newArrayListWithCapacity(dataFiles.size());
+    for (PrimaryKeyedFile dataFile : dataFiles) {
+      PrimaryKeyRange range = PrimaryKeyRange.of(dataFile, keyType);
+      if (range == null) {
+        return null;
+      }
+      ranges.add(range);
+    }
+    return ranges;
+  }
+
   private CloseableIterable<T> applyEqDeletes(
       CloseableIterable<T> records, Predicate<T> predicate) {
     if (eqDeletes.isEmpty()) {
@@ -367,6 +480,27 @@ public abstract class ArcticDeleteFilter<T> {
       return record -> false;
     }
 
+    Map<String, Set<Long>> positionMap = positionMap();
+
+    return item -> {
+      Set<Long> posSet;
+      if (currentDataPath != null) {
+        if (currentPosSet == null) {
+          currentPosSet = positionMap.get(currentDataPath);
+        }
+        posSet = currentPosSet;
+      } else {
+        posSet = positionMap.get(filePath(item));
+      }
+
+      if (posSet == null) {
+        return false;
+      }
+      return posSet.contains(pos(item));
+    };
+  }
+
+  private Map<String, Set<Long>> positionMap() {
     // if there are fewer deletes than a reasonable number to keep in memory, use a set
     if (positionMap == null) {
       positionMap = new HashMap<>();
@@ -386,23 +520,7 @@ public abstract class ArcticDeleteFilter<T> {
         posSet.add((Long) POSITION_ACCESSOR.get(deleteRecord));
       }
     }
-
-    return item -> {
-      Set<Long> posSet;
-      if (currentDataPath != null) {
-        if (currentPosSet == null) {
-          currentPosSet = positionMap.get(currentDataPath);
-        }
-        posSet = currentPosSet;
-      } else {
-        posSet = positionMap.get(filePath(item));
-      }
-
-      if (posSet == null) {
-        return false;
-      }
-      return posSet.contains(pos(item));
-    };
+    return positionMap;
   }
 
   private CloseableIterable<T> apply(CloseableIterable<T> records, Predicate<T> predicate) {
@@ -21,6 +21,7 @@ package com.netease.arctic.io.reader;
 import com.netease.arctic.io.ArcticFileIO;
 import com.netease.arctic.io.CloseablePredicate;
 import com.netease.arctic.optimizing.RewriteFilesInput;
+import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.utils.ContentFiles;
 import com.netease.arctic.utils.map.StructLikeBaseMap;
 import com.netease.arctic.utils.map.StructLikeCollections;
@@ -30,6 +31,7 @@ import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.FileContent;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.data.InternalRecordWrapper;
@@ -66,6 +68,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Special point:
@@ -74,12 +77,17 @@ import java.util.stream.Collectors;
  *   <li>Apply all delete file to all data file
  *   <li>EQUALITY_DELETES only be written by flink in current, so the schemas of all
  *       EQUALITY_DELETES is primary key
+ *   <li>If the data files and EQUALITY_DELETES are all sorted by the delete key, the deletes are
+ *       merged with the data instead of being loaded into a {@link StructLikeBaseMap}
  * </ul>
  */
 public abstract class CombinedDeleteFilter<T extends StructLike> {
 
   private static final Logger LOG = LoggerFactory.getLogger(CombinedDeleteFilter.class);
 
+  // sorted eq-delete files are merged at most this many times before they are loaded into a map
+  private static final int MAX_SORT_MERGES = 4;
+
   private static final Schema POS_DELETE_SCHEMA = DeleteSchemaUtil.pathPosSchema();
 
   private static final Accessor<StructLike> FILENAME_ACCESSOR =
@@ -107,6 +115,7 @@ public abstract class CombinedDeleteFilter<T extends StructLike> {
 
   private final long dataRecordCnt;
   private final boolean filterEqDelete;
+  private final boolean sortMergeEqDelete;
 
   protected CombinedDeleteFilter(
       RewriteFilesInput rewriteFilesInput,
@@ -151,7 +160,27 @@ public abstract class CombinedDeleteFilter<T extends StructLike> {
     if (structLikeCollections != null) {
       this.structLikeCollections = structLikeCollections;
     }
-    this.filterEqDelete = filterEqDelete();
+    this.sortMergeEqDelete = sortMergeEqDelete();
+    this.filterEqDelete = !sortMergeEqDelete && filterEqDelete();
+  }
+
+  /**
+   * Whether to merge the eq deletes with the data by the delete key, which only holds a record of
+   * each delete file in memory. The sort orders of all data files and eq delete files must sort
+   * them by the delete key.
+   */
+  private boolean sortMergeEqDelete() {
+    ArcticTable table = input.getTable();
+    if (eqDeletes.isEmpty() || table == null || !table.isUnkeyedTable()) {
+      return false;
+    }
+    Map<Integer, SortOrder> sortOrders = table.asUnkeyedTable().sortOrders();
+    return Stream.<ContentFile<?>>concat(Arrays.stream(input.dataFiles()), eqDeletes.stream())
+        .allMatch(
+            file ->
+                file.sortOrderId() != null
+                    && SortedEqDeleteMerger.isSortedBy(
+                        sortOrders.get(file.sortOrderId()), deleteSchema));
   }
 
   /**
@@ -172,6 +201,11 @@ public abstract class CombinedDeleteFilter<T extends StructLike> {
     return filterEqDelete;
   }
 
+  @VisibleForTesting
+  public boolean isSortMergeEqDelete() {
+    return sortMergeEqDelete;
+  }
+
   protected abstract InputFile getInputFile(String location);
 
   protected abstract ArcticFileIO getArcticFileIo();
@@ -229,6 +263,13 @@ public abstract class CombinedDeleteFilter<T extends StructLike> {
     InternalRecordWrapper internalRecordWrapper =
         new InternalRecordWrapper(deleteSchema.asStruct());
 
+    if (sortMergeEqDelete) {
+      return sortMergeEqDeletes(internalRecordWrapper);
+    }
+    return hashEqDeletes(internalRecordWrapper);
+  }
+
+  private Predicate<StructForDelete<T>> hashEqDeletes(InternalRecordWrapper internalRecordWrapper) {
     BloomFilter<StructLike> bloomFilter = null;
     if (filterEqDelete) {
       LOG.debug(
@@ -305,6 +346,63 @@ public abstract class CombinedDeleteFilter<T extends StructLike> {
     return isInDeleteSet;
   }
 
+  private Predicate<StructForDelete<T>> sortMergeEqDeletes(
+      InternalRecordWrapper internalRecordWrapper) {
+    List<CloseableIterable<RecordWithLsn>> deleteFiles =
+        Lists.transform(
+            eqDeletes,
+            s ->
+                CloseableIterable.transform(
+                    openEqDeletes(s), r -> new RecordWithLsn(s.dataSequenceNumber(), r)));
+    SortedEqDeleteMerger<RecordWithLsn, Long> merger =
+        new SortedEqDeleteMerger<>(
+            deleteFiles,
+            deleteSchema.asStruct(),
+            recordWithLsn -> internalRecordWrapper.copyFor(recordWithLsn.getRecord().copy()),
+            RecordWithLsn::getLsn,
+            MAX_SORT_MERGES);
+    if (!merger.isSorted()) {
+      LOG.warn("Eq-delete files are not sorted as declared, load them into a map instead");
+      return hashEqDeletes(internalRecordWrapper);
+    }
+    LOG.debug("Merge {} sorted eq-delete files with the data", eqDeletes.size());
+
+    Predicate<StructForDelete<T>> isInDeleteSet =
+        new Predicate<StructForDelete<T>>() {
+          private Predicate<StructForDelete<T>> hashed;
+
+          @Override
+          public boolean test(StructForDelete<T> structForDelete) {
+            if (hashed == null) {
+              StructLike dataPk = internalRecordWrapper.copyFor(structForDelete.getPk());
+              Long deleteLsn = merger.deleteLsn(dataPk);
+              if (!merger.isAbandoned()) {
+                return deleteLsn != null && deleteLsn.compareTo(structForDelete.getLsn()) > 0;
+              }
+              // merging again for every data file costs more than loading the deletes once
+              LOG.debug(
+                  "Eq-delete files are merged {} times, load them into a map instead",
+                  merger.merges());
+              merger.close();
+              hashed = hashEqDeletes(internalRecordWrapper);
+            }
+            return hashed.test(structForDelete);
+          }
+        };
+
+    this.eqPredicate = new CloseablePredicate<>(isInDeleteSet, merger);
+    return isInDeleteSet;
+  }
+
+  private CloseableIterable<Record> openEqDeletes(DeleteFile file) {
+    CloseableIterable<Record> records = openFile(file, deleteSchema);
+    ArcticFileIO io = getArcticFileIo();
+    if (io == null) {
+      return records;
+    }
+    return CloseableIterable.combine(() -> io.doAs(records::iterator), records);
+  }
+
   private CloseableIterable<StructForDelete<T>> applyEqDeletes(
       CloseableIterable<StructForDelete<T>> records) {
     Predicate<StructForDelete<T>> remainingRows = applyEqDeletes().negate();
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.io.reader;
+
+import org.apache.iceberg.NullOrder;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortDirection;
+import org.apache.iceberg.SortField;
+import org.apache.iceberg.SortOrder;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Types;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Looks up equality deletes by merging the delete files sorted by the delete key, instead of
+ * loading all of them into a map. Only the current record of every delete file is held in memory.
+ *
+ * <p>The keys should be looked up in ascending order. When a key is less than the last key merged,
+ * e.g. the first key of the next data file, the delete files are opened and merged again from the
+ * beginning, so a sequence of sorted data files is still filtered correctly. The merge is abandoned
+ * instead when the delete files have been merged maxMerges times, and the caller should look up
+ * the deletes in another way then, see {@link #isAbandoned()}.
+ *
+ * @param <R> the type of the delete records
+ * @param <L> the type of the sequence comparing deletes and data
+ */
+class SortedEqDeleteMerger<R, L extends Comparable<L>> implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SortedEqDeleteMerger.class);
+
+  private final List<CloseableIterable<R>> deleteFiles;
+  private final Function<R, StructLike> keyOf;
+  private final Function<R, L> lsnOf;
+  private final Comparator<StructLike> keyComparator;
+  private final PriorityQueue<DeleteFileCursor> cursors;
+  private final int maxMerges;
+
+  private boolean opened = false;
+  private boolean abandoned = false;
+  private StructLike lastKey;
+  private L lastLsn;
+  private int merges = 0;
+
+  /**
+   * @param deleteFiles the delete files, each one could be iterated multiple times
+   * @param keyType the struct type of the delete key
+   * @param keyOf returns the delete key of a record, which is not changed by the following records
+   * @param lsnOf returns the sequence of a delete record
+   * @param maxMerges the max times to merge the delete files from the beginning
+   */
+  SortedEqDeleteMerger(
+      List<CloseableIterable<R>> deleteFiles,
+      Types.StructType keyType,
+      Function<R, StructLike> keyOf,
+      Function<R, L> lsnOf,
+      int maxMerges) {
+    this.deleteFiles = deleteFiles;
+    this.maxMerges = maxMerges;
+    this.keyOf = keyOf;
+    this.lsnOf = lsnOf;
+    this.keyComparator = Comparators.forType(keyType);
+    this.cursors =
+        new PriorityQueue<>(
+            Math.max(1, deleteFiles.size()), (c1, c2) -> keyComparator.compare(c1.key, c2.key));
+  }
+
+  /**
+   * Whether the sort order sorts records by the key ascending with nulls first, the order of
+   * {@link Comparators#forType(Types.StructType)}. Trailing sort fields are allowed, since the
+   * records are still sorted by the key.
+   */
+  static boolean isSortedBy(SortOrder sortOrder, Schema keySchema) {
+    if (sortOrder == null || sortOrder.fields().size() < keySchema.columns().size()) {
+      return false;
+    }
+    List<Types.NestedField> keyFields = keySchema.columns();
+    for (int i = 0; i < keyFields.size(); i++) {
+      SortField field = sortOrder.fields().get(i);
+      if (field.sourceId() != keyFields.get(i).fieldId()
+          || !field.transform().isIdentity()
+          || field.direction() != SortDirection.ASC
+          || field.nullOrder() != NullOrder.NULLS_FIRST) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Read all delete files once to check that their records are sorted by the key. The sort orders
+   * of the files are only declared by the writers, and an unsorted file could not be merged.
+   */
+  boolean isSorted() {
+    for (CloseableIterable<R> deleteFile : deleteFiles) {
+      try (CloseableIterator<R> iterator = deleteFile.iterator()) {
+        StructLike previous = null;
+        while (iterator.hasNext()) {
+          StructLike key = keyOf.apply(iterator.next());
+          if (previous != null && keyComparator.compare(key, previous) < 0) {
+            return false;
+          }
+          previous = key;
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Return the greatest sequence of the deletes of the key, or null if the key is not deleted or
+   * the merge is abandoned.
+   *
+   * @param key the key of a data record, it is not retained
+   */
+  L deleteLsn(StructLike key) {
+    Preconditions.checkState(!abandoned, "The merge of the equality deletes is abandoned");
+    if (!opened || (lastKey != null && keyComparator.compare(key, lastKey) < 0)) {
+      if (merges >= maxMerges) {
+        LOG.debug("Abandon merging {} equality delete files again", deleteFiles.size());
+        abandoned = true;
+        closeCursors();
+        return null;
+      }
+      reopen();
+    }
+    while (!cursors.isEmpty() && keyComparator.compare(cursors.peek().key, key) <= 0) {
+      mergeNextKey();
+    }
+    if (lastKey != null && keyComparator.compare(lastKey, key) == 0) {
+      return lastLsn;
+    }
+    return null;
+  }
+
+  /** Whether the merge is abandoned, the deletes of the last and following keys are unknown. */
+  boolean isAbandoned() {
+    return abandoned;
+  }
+
+  /** Times the delete files are merged from the beginning. */
+  int merges() {
+    return merges;
+  }
+
+  /** Consume the deletes of the least key in all delete files. */
+  private void mergeNextKey() {
+    StructLike key = cursors.peek().key;
+    L lsn = null;
+    while (!cursors.isEmpty() && keyComparator.compare(cursors.peek().key, key) == 0) {
+      DeleteFileCursor cursor = cursors.poll();
+      if (lsn == null || lsn.compareTo(cursor.lsn) < 0) {
+        lsn = cursor.lsn;
+      }
+      if (cursor.advance()) {
+        cursors.add(cursor);
+      }
+    }
+    lastKey = key;
+    lastLsn = lsn;
+  }
+
+  private void reopen() {
+    closeCursors();
+    if (opened) {
+      LOG.debug("Merge {} equality delete files again for a less key", deleteFiles.size());
+    }
+    for (CloseableIterable<R> deleteFile : deleteFiles) {
+      DeleteFileCursor cursor = new DeleteFileCursor(deleteFile.iterator());
+      if (cursor.advance()) {
+        cursors.add(cursor);
+      }
+    }
+    opened = true;
+    lastKey = null;
+    lastLsn = null;
+    merges++;
+  }
+
+  private void closeCursors() {
+    while (!cursors.isEmpty()) {
+      cursors.poll().close();
+    }
+  }
+
+  @Override
+  public void close() {
+    closeCursors();
+  }
+
+  private class DeleteFileCursor {
+    private final CloseableIterator<R> iterator;
+    private StructLike key;
+    private L lsn;
+
+    private DeleteFileCursor(CloseableIterator<R> iterator) {
+      this.iterator = iterator;
+    }
+
+    /** Move to the next delete record, the cursor is closed if there is none. */
+    private boolean advance() {
+      if (!iterator.hasNext()) {
+        close();
+        return false;
+      }
+      R record = iterator.next();
+      StructLike nextKey = keyOf.apply(record);
+      if (key != null && keyComparator.compare(nextKey, key) < 0) {
+        close();
+        throw new IllegalStateException("Equality delete file is not sorted by the delete key");
+      }
+      key = nextKey;
+      lsn = lsnOf.apply(record);
+      return true;
+    }
+
+    private void close() {
+      try {
+        iterator.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
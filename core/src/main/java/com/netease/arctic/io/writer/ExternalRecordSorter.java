@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.io.writer;
+
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.avro.Avro;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.avro.DataReader;
+import org.apache.iceberg.data.avro.DataWriter;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.SortedMerge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sorts records with bounded memory. Records are buffered in memory until they are spilled as a
+ * sorted run to a local avro file, and the sorted records are read by merging the runs with the
+ * records left in memory. Runs are spilled to the spill directory, or the default temporary
+ * directory if it is not set.
+ */
+class ExternalRecordSorter implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ExternalRecordSorter.class);
+
+  private final Schema schema;
+  private final Comparator<Record> comparator;
+  private final List<Record> buffer = Lists.newArrayList();
+  private final List<File> runs = Lists.newArrayList();
+  private final File spillDirectory;
+
+  ExternalRecordSorter(Schema schema, Comparator<Record> comparator, File spillDirectory) {
+    this.schema = schema;
+    this.comparator = comparator;
+    this.spillDirectory = spillDirectory;
+  }
+
+  /** Add a record, which is copied since writers may reuse it. */
+  void add(Record record) {
+    buffer.add(record.copy());
+  }
+
+  /** The records buffered in memory, which are not spilled. */
+  int bufferedRecords() {
+    return buffer.size();
+  }
+
+  /** Write the buffered records to local disk as a sorted run. */
+  void spill() throws IOException {
+    if (buffer.isEmpty()) {
+      return;
+    }
+    buffer.sort(comparator);
+    if (spillDirectory != null && !spillDirectory.isDirectory() && !spillDirectory.mkdirs()) {
+      throw new IOException("Failed to create the spill directory " + spillDirectory);
+    }
+    File file = File.createTempFile("arctic-sorted-run-", ".avro", spillDirectory);
+    runs.add(file);
+    try (FileAppender<Record> appender =
+        Avro.write(Files.localOutput(file))
+            .schema(schema)
+            .createWriterFunc(DataWriter::create)
+            .overwrite()
+            .build()) {
+      appender.addAll(buffer);
+    }
+    LOG.debug("Spilled {} records to {}", buffer.size(), file);
+    buffer.clear();
+  }
+
+  /** Return all records added in order, the sorter should be closed after reading them. */
+  CloseableIterable<Record> sorted() {
+    buffer.sort(comparator);
+    if (runs.isEmpty()) {
+      return CloseableIterable.withNoopClose(buffer);
+    }
+    List<CloseableIterable<Record>> sortedRuns = Lists.newArrayListWithCapacity(runs.size() + 1);
+    for (File run : runs) {
+      sortedRuns.add(
+          Avro.read(Files.localInput(run))
+              .project(schema)
+              .createReaderFunc(DataReader::create)
+              .build());
+    }
+    sortedRuns.add(CloseableIterable.withNoopClose(buffer));
+    return new SortedMerge<>(comparator, sortedRuns);
+  }
+
+  @Override
+  public void close() {
+    buffer.clear();
+    for (File run : runs) {
+      if (!run.delete()) {
+        LOG.warn("Failed to delete the sorted run {}", run);
+      }
+    }
+    runs.clear();
+  }
+}
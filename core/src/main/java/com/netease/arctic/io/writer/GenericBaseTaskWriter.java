@@ -20,18 +20,51 @@ package com.netease.arctic.io.writer;
 
 import com.netease.arctic.io.ArcticFileIO;
 import com.netease.arctic.table.PrimaryKeySpec;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.data.InternalRecordWrapper;
 import org.apache.iceberg.data.Record;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileAppenderFactory;
+import org.apache.iceberg.io.WriteResult;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.util.StructProjection;
 
-/** Implementation of {@link BaseTaskWriter} to write {@link Record}. */
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of {@link BaseTaskWriter} to write {@link Record}.
+ *
+ * <p>If sorting by primary key, the records of every writer key are sorted before they are written
+ * when the writer completes, so the files written have disjoint key ranges. At most
+ * sortSpillRecords records are buffered in memory. When they are reached, the records of the
+ * largest writer keys are spilled to the sort spill directory as sorted runs, until half of them
+ * are released, so the small writer keys are not spilled as tiny runs every time.
+ */
 public class GenericBaseTaskWriter extends BaseTaskWriter<Record> {
 
   private final InternalRecordWrapper wrapper;
+  private final Schema schema;
+  private final PartitionSpec spec;
+  private final SortOrder sortOrder;
+  private final int sortSpillRecords;
+  private final File sortSpillDirectory;
+  private final Comparator<Record> primaryKeyComparator;
+  private final Map<DataWriterKey, ExternalRecordSorter> sorters = Maps.newHashMap();
+  private int bufferedRecords = 0;
 
   public GenericBaseTaskWriter(
       FileFormat format,
@@ -44,6 +77,46 @@ public class GenericBaseTaskWriter extends BaseTaskWriter<Record> {
       PartitionSpec spec,
       PrimaryKeySpec primaryKeySpec,
       boolean orderedWriter) {
+    this(
+        format,
+        appenderFactory,
+        outputFileFactory,
+        io,
+        targetFileSize,
+        mask,
+        schema,
+        spec,
+        primaryKeySpec,
+        orderedWriter,
+        false,
+        0,
+        null,
+        null);
+  }
+
+  /**
+   * @param sortByPrimaryKey whether to sort the records of every file by primary key
+   * @param sortSpillRecords the records buffered in memory before spilling them to local disk
+   * @param sortOrder the sort order of the table sorting by primary key recorded in the files
+   *     written, or null if the table does not declare it
+   * @param sortSpillDirectory the local directory to spill the sorted runs, or null to use the
+   *     default temporary directory
+   */
+  public GenericBaseTaskWriter(
+      FileFormat format,
+      FileAppenderFactory<Record> appenderFactory,
+      OutputFileFactory outputFileFactory,
+      ArcticFileIO io,
+      long targetFileSize,
+      long mask,
+      Schema schema,
+      PartitionSpec spec,
+      PrimaryKeySpec primaryKeySpec,
+      boolean orderedWriter,
+      boolean sortByPrimaryKey,
+      int sortSpillRecords,
+      SortOrder sortOrder,
+      String sortSpillDirectory) {
     super(
         format,
         appenderFactory,
@@ -56,6 +129,108 @@ public class GenericBaseTaskWriter extends BaseTaskWriter<Record> {
         primaryKeySpec,
         orderedWriter);
     this.wrapper = new InternalRecordWrapper(schema.asStruct());
+    this.schema = schema;
+    this.spec = spec;
+    if (sortByPrimaryKey && primaryKeySpec != null) {
+      Preconditions.checkArgument(
+          sortSpillRecords > 0, "Illegal sort spill records: %s", sortSpillRecords);
+      this.primaryKeyComparator = primaryKeyComparator(schema, primaryKeySpec);
+      this.sortSpillRecords = sortSpillRecords;
+      this.sortOrder = sortOrder;
+      this.sortSpillDirectory = sortSpillDirectory == null ? null : new File(sortSpillDirectory);
+    } else {
+      this.primaryKeyComparator = null;
+      this.sortSpillRecords = 0;
+      this.sortOrder = null;
+      this.sortSpillDirectory = null;
+    }
+  }
+
+  private static Comparator<Record> primaryKeyComparator(
+      Schema schema, PrimaryKeySpec primaryKeySpec) {
+    Schema keySchema = new Schema(primaryKeySpec.primaryKeyStruct().fields());
+    Comparator<StructLike> keyComparator = Comparators.forType(keySchema.asStruct());
+    InternalRecordWrapper leftWrapper = new InternalRecordWrapper(schema.asStruct());
+    InternalRecordWrapper rightWrapper = new InternalRecordWrapper(schema.asStruct());
+    StructProjection leftKey = StructProjection.create(schema, keySchema);
+    StructProjection rightKey = StructProjection.create(schema, keySchema);
+    return (left, right) ->
+        keyComparator.compare(
+            leftKey.wrap(leftWrapper.wrap(left)), rightKey.wrap(rightWrapper.wrap(right)));
+  }
+
+  @Override
+  public void write(Record row) throws IOException {
+    if (primaryKeyComparator == null) {
+      super.write(row);
+      return;
+    }
+    DataWriterKey writerKey = buildWriterKey(row);
+    ExternalRecordSorter sorter = sorters.get(writerKey);
+    if (sorter == null) {
+      sorter = new ExternalRecordSorter(schema, primaryKeyComparator, sortSpillDirectory);
+      sorters.put(writerKey.copy(), sorter);
+    }
+    sorter.add(row);
+    if (++bufferedRecords >= sortSpillRecords) {
+      spillLargestSorters();
+    }
+  }
+
+  private void spillLargestSorters() throws IOException {
+    List<ExternalRecordSorter> largestSorters = Lists.newArrayList(sorters.values());
+    largestSorters.sort(
+        Comparator.comparingInt(ExternalRecordSorter::bufferedRecords).reversed());
+    for (ExternalRecordSorter sorter : largestSorters) {
+      if (bufferedRecords <= sortSpillRecords / 2) {
+        break;
+      }
+      bufferedRecords -= sorter.bufferedRecords();
+      sorter.spill();
+    }
+  }
+
+  @Override
+  public WriteResult complete() throws IOException {
+    try {
+      for (ExternalRecordSorter sorter : sorters.values()) {
+        try (CloseableIterable<Record> records = sorter.sorted()) {
+          for (Record record : records) {
+            super.write(record);
+          }
+        }
+        sorter.close();
+      }
+    } finally {
+      closeSorters();
+    }
+    WriteResult result = super.complete();
+    if (sortOrder == null) {
+      return result;
+    }
+    DataFile[] dataFiles =
+        Arrays.stream(result.dataFiles())
+            .map(file -> DataFiles.builder(spec).copy(file).withSortOrder(sortOrder).build())
+            .toArray(DataFile[]::new);
+    return WriteResult.builder().addDataFiles(dataFiles).build();
+  }
+
+  @Override
+  public void abort() throws IOException {
+    closeSorters();
+    super.abort();
+  }
+
+  @Override
+  public void close() throws IOException {
+    closeSorters();
+    super.close();
+  }
+
+  private void closeSorters() {
+    sorters.values().forEach(ExternalRecordSorter::close);
+    sorters.clear();
+    bufferedRecords = 0;
   }
 
   @Override
@@ -19,6 +19,7 @@
 package com.netease.arctic.io.writer;
 
 import com.netease.arctic.data.ChangeAction;
+import com.netease.arctic.io.ArcticFileIOs;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.table.ChangeTable;
 import com.netease.arctic.table.KeyedTable;
@@ -30,6 +31,7 @@ import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.MetricsModes;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.data.GenericAppenderFactory;
 import org.apache.iceberg.data.Record;
@@ -58,6 +60,7 @@ public class GenericTaskWriters {
     private int taskId = 0;
     private ChangeAction changeAction = ChangeAction.INSERT;
     private boolean orderedWriter = false;
+    private String sortSpillDirectory;
 
     Builder(ArcticTable table) {
       this.table = table;
@@ -97,6 +100,11 @@ public class GenericTaskWriters {
       return this;
     }
 
+    public Builder withSortSpillDirectory(String sortSpillDirectory) {
+      this.sortSpillDirectory = sortSpillDirectory;
+      return this;
+    }
+
     public GenericBaseTaskWriter buildBaseWriter() {
       writeBasePreconditions();
       FileFormat fileFormat =
@@ -117,9 +125,34 @@ public class GenericTaskWriters {
                   TableProperties.BASE_FILE_INDEX_HASH_BUCKET,
                   TableProperties.BASE_FILE_INDEX_HASH_BUCKET_DEFAULT)
               - 1;
+      boolean sortByPrimaryKey =
+          primaryKeySpec != null
+              && PropertyUtil.propertyAsBoolean(
+                  table.properties(),
+                  TableProperties.BASE_WRITE_SORT_BY_PRIMARY_KEY_ENABLED,
+                  TableProperties.BASE_WRITE_SORT_BY_PRIMARY_KEY_ENABLED_DEFAULT);
+      GenericAppenderFactory appenderFactory =
+          new GenericAppenderFactory(base.schema(), table.spec());
+      appenderFactory.setAll(ArcticFileIOs.writerHadoopConf(table.io()));
+      SortOrder sortOrder = null;
+      if (sortByPrimaryKey) {
+        // keep the whole key bounds of the sorted files to skip them by key
+        primaryKeySpec
+            .fieldNames()
+            .forEach(
+                name ->
+                    appenderFactory.set(
+                        org.apache.iceberg.TableProperties.METRICS_MODE_COLUMN_CONF_PREFIX + name,
+                        MetricsModes.Full.get().toString()));
+        sortOrder =
+            base.sortOrders().values().stream()
+                .filter(order -> order.satisfies(primaryKeySpec.sortOrder()))
+                .findFirst()
+                .orElse(null);
+      }
       return new GenericBaseTaskWriter(
           fileFormat,
-          new GenericAppenderFactory(base.schema(), table.spec()),
+          appenderFactory,
           new CommonOutputFileFactory(
               base.location(),
               table.spec(),
@@ -135,7 +168,14 @@ public class GenericTaskWriters {
           base.schema(),
           table.spec(),
           primaryKeySpec,
-          orderedWriter);
+          orderedWriter,
+          sortByPrimaryKey,
+          PropertyUtil.propertyAsInt(
+              table.properties(),
+              TableProperties.BASE_WRITE_SORT_SPILL_RECORDS,
+              TableProperties.BASE_WRITE_SORT_SPILL_RECORDS_DEFAULT),
+          sortOrder,
+          sortSpillDirectory);
     }
 
     public SortedPosDeleteWriter<Record> buildBasePosDeleteWriter(
@@ -150,6 +190,7 @@ public class GenericTaskWriters {
                   .toUpperCase(Locale.ENGLISH)));
       GenericAppenderFactory appenderFactory =
           new GenericAppenderFactory(base.schema(), table.spec());
+      appenderFactory.setAll(ArcticFileIOs.writerHadoopConf(table.io()));
       appenderFactory.set(
           org.apache.iceberg.TableProperties.METRICS_MODE_COLUMN_CONF_PREFIX
               + MetadataColumns.DELETE_FILE_PATH.name(),
@@ -199,9 +240,12 @@ public class GenericTaskWriters {
                   TableProperties.CHANGE_FILE_INDEX_HASH_BUCKET_DEFAULT)
               - 1;
       Schema changeWriteSchema = SchemaUtil.changeWriteSchema(change.schema());
+      GenericAppenderFactory appenderFactory =
+          new GenericAppenderFactory(changeWriteSchema, table.spec());
+      appenderFactory.setAll(ArcticFileIOs.writerHadoopConf(table.io()));
       return new GenericChangeTaskWriter(
           fileFormat,
-          new GenericAppenderFactory(changeWriteSchema, table.spec()),
+          appenderFactory,
           new CommonOutputFileFactory(
               change.location(),
               table.spec(),
@@ -23,13 +23,14 @@ import static com.netease.arctic.log.TimeFormats.SQL_TIMESTAMP_FORMAT;
 import static com.netease.arctic.log.TimeFormats.SQL_TIME_FORMAT;
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.netease.arctic.log.data.LogArrayData;
 import com.netease.arctic.log.data.LogMapData;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.Types;
 
@@ -43,21 +44,18 @@ import java.time.LocalTime;
 import java.time.ZoneOffset;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQueries;
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
- * Tool class used to convert from {@link JsonNode} to {@link LogData}. {@link T} indicate an actual
- * value wrapped within {@link LogData}
+ * Tool class used to convert the tokens of a {@link JsonParser} to {@link LogData}, without
+ * building a tree of the JSON first. {@link T} indicate an actual value wrapped within {@link
+ * LogData}
  */
 public class JsonToLogDataConverters<T> implements Serializable {
 
   private static final long serialVersionUID = 647419880134661188L;
-  private final boolean failOnMissingField = false;
   LogData.Factory<T> factory;
   LogArrayData.Factory arrayFactory;
   LogMapData.Factory mapFactory;
@@ -72,52 +70,80 @@ public class JsonToLogDataConverters<T> implements Serializable {
   }
 
   /**
-   * Converter to convert {@link JsonNode} to log data.
+   * Converter to convert the current token of a {@link JsonParser}, together with the tokens of its
+   * children, to log data. The parser is left at the last token of the converted value.
+   */
+  interface JsonToLogDataConverter extends Serializable {
+    Object convert(JsonParser parser) throws IOException;
+  }
+
+  /**
+   * Converter to convert a JSON object to the actual value of log data.
    *
    * @param <T> to indicate the log data type
    */
-  interface JsonToLogDataConverter<T> extends Converter<JsonNode, Object, Void, T> {}
+  interface JsonToActualValueConverter<T> extends Serializable {
+    /**
+     * @param reuse the actual value to fill if the factory supports it, or null
+     * @return the actual value, or null if the JSON is null or empty
+     */
+    T convert(JsonParser parser, T reuse) throws IOException;
+  }
+
+  public JsonToActualValueConverter<T> createActualValueConverter(Types.StructType structType) {
+    final Type[] fieldTypes = fieldTypes(structType);
+    final Map<String, Integer> positions = fieldPositions(structType);
+    final JsonToLogDataConverter[] fieldConverters = createConverters(fieldTypes);
+    return (parser, reuse) -> {
+      JsonToken token = parser.getCurrentToken();
+      if (token == null || token == JsonToken.VALUE_NULL) {
+        return null;
+      }
+      Object[] struct = readStruct(parser, positions, fieldConverters);
+      return factory.createActualValue(reuse, struct, fieldTypes);
+    };
+  }
 
-  public JsonToLogDataConverter<T> createConverter(Type type) {
+  public JsonToLogDataConverter createConverter(Type type) {
     return wrapIntoNullableConverter(createNotNullConverter(type));
   }
 
-  private JsonToLogDataConverter<T> createNotNullConverter(Type type) {
+  private JsonToLogDataConverter createNotNullConverter(Type type) {
     switch (type.typeId()) {
       case BOOLEAN:
-        return this::convertToBoolean;
+        return JsonToLogDataConverters::convertToBoolean;
       case INTEGER:
-        return this::convertToInt;
+        return JsonToLogDataConverters::convertToInt;
       case LONG:
-        return this::convertToLong;
+        return JsonToLogDataConverters::convertToLong;
       case FLOAT:
-        return this::convertToFloat;
+        return JsonToLogDataConverters::convertToFloat;
       case DOUBLE:
-        return this::convertToDouble;
+        return JsonToLogDataConverters::convertToDouble;
       case DATE:
-        return this::convertToDate;
+        return JsonToLogDataConverters::convertToDate;
       case TIME:
         // For the type: Flink only support TimeType with default precision (second) now. The
         // precision of time is
         // not supported in Flink, so we can think of it as a simple time type directly.
         // For the data: Flink uses int that support mills to represent time data, so it supports
         // mills precision.
-        return this::convertToTime;
+        return JsonToLogDataConverters::convertToTime;
       case TIMESTAMP:
         Types.TimestampType timestamp = (Types.TimestampType) type;
         if (timestamp.shouldAdjustToUTC()) {
-          return this::convertToTimestampWithLocalZone;
+          return JsonToLogDataConverters::convertToTimestampWithLocalZone;
         } else {
-          return this::convertToTimestamp;
+          return JsonToLogDataConverters::convertToTimestamp;
         }
       case STRING:
-        return this::convertToString;
+        return JsonToLogDataConverters::convertToString;
       case UUID:
       case FIXED:
       case BINARY:
-        return this::convertToBytes;
+        return JsonToLogDataConverters::convertToBytes;
       case DECIMAL:
-        return this::convertDecimal;
+        return JsonToLogDataConverters::convertDecimal;
       case LIST:
         return createListConverter(type);
       case MAP:
@@ -129,41 +155,28 @@ public class JsonToLogDataConverters<T> implements Serializable {
     }
   }
 
-  private JsonToLogDataConverter<T> createStructConverter(Type type) {
-    final List<Types.NestedField> fields = type.asNestedType().asStructType().fields();
-    final Type[] fieldTypes = fields.stream().map(Types.NestedField::type).toArray(Type[]::new);
-    final String[] fieldNames = fields.stream().map(Types.NestedField::name).toArray(String[]::new);
-    final List<JsonToLogDataConverter<T>> fieldConverters =
-        Arrays.stream(fieldTypes).map(this::createConverter).collect(Collectors.toList());
-
-    return (jsonNode, context) -> {
-      ObjectNode node = (ObjectNode) jsonNode;
-      int arity = fieldNames.length;
-      Object[] struct = new Object[arity];
-      for (int i = 0; i < arity; i++) {
-        String fieldName = fieldNames[i];
-        JsonNode field = node.get(fieldName);
-        Object convertedField = convertField(fieldConverters.get(i), fieldName, field, context);
-        struct[i] = convertedField;
-      }
-
-      return factory.createActualValue(struct, fieldTypes);
-    };
+  private JsonToLogDataConverter createStructConverter(Type type) {
+    final Types.StructType structType = type.asNestedType().asStructType();
+    final Type[] fieldTypes = fieldTypes(structType);
+    final Map<String, Integer> positions = fieldPositions(structType);
+    final JsonToLogDataConverter[] fieldConverters = createConverters(fieldTypes);
+    return parser ->
+        factory.createActualValue(readStruct(parser, positions, fieldConverters), fieldTypes);
   }
 
-  private JsonToLogDataConverter<T> createMapConverter(Type type) {
+  private JsonToLogDataConverter createMapConverter(Type type) {
     Types.MapType map = type.asNestedType().asMapType();
     Types.NestedField keyField = map.field(map.keyId());
     Types.NestedField valueField = map.field(map.valueId());
-    final JsonToLogDataConverter<T> keyConverter = createConverter(keyField.type());
-    final JsonToLogDataConverter<T> valueConverter = createConverter(valueField.type());
-    return (jsonNode, context) -> {
-      Iterator<Map.Entry<String, JsonNode>> fields = jsonNode.fields();
+    final JsonToLogDataConverter keyConverter = createConverter(keyField.type());
+    final JsonToLogDataConverter valueConverter = createConverter(valueField.type());
+    return parser -> {
+      checkToken(parser, JsonToken.START_OBJECT);
       Map<Object, Object> result = new HashMap<>();
-      while (fields.hasNext()) {
-        Map.Entry<String, JsonNode> entry = fields.next();
-        Object key = keyConverter.convert(TextNode.valueOf(entry.getKey()), context);
-        Object value = valueConverter.convert(entry.getValue(), context);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        Object key = convertKey(keyConverter, parser.getCurrentName());
+        parser.nextToken();
+        Object value = valueConverter.convert(parser);
         key = convertSecondTimeIfNecessary(keyField.type(), key);
         value = convertSecondTimeIfNecessary(valueField.type(), value);
         result.put(key, value);
@@ -172,29 +185,29 @@ public class JsonToLogDataConverters<T> implements Serializable {
     };
   }
 
-  private JsonToLogDataConverter<T> createListConverter(Type type) {
+  private JsonToLogDataConverter createListConverter(Type type) {
     Types.ListType list = type.asNestedType().asListType();
     Types.NestedField elementField = list.field(list.elementId());
-    JsonToLogDataConverter<T> elementConverter = createConverter(elementField.type());
+    JsonToLogDataConverter elementConverter = createConverter(elementField.type());
     Type elementType = elementField.type();
 
-    return (jsonNode, context) -> {
-      final ArrayNode node = (ArrayNode) jsonNode;
-      Object[] array = null;
-      for (int i = 0; i < node.size(); i++) {
-        final JsonNode innerNode = node.get(i);
-        Object value = elementConverter.convert(innerNode, context);
+    return parser -> {
+      checkToken(parser, JsonToken.START_ARRAY);
+      List<Object> values = Lists.newArrayList();
+      Class<?> flinkValueClass = null;
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        Object value = elementConverter.convert(parser);
         Object flinkValue = convertSecondTimeIfNecessary(elementType, value);
-        if (flinkValue != null) {
-          if (array == null) {
-            Class<?> flinkValueClass = flinkValue.getClass();
-            array = (Object[]) Array.newInstance(flinkValueClass, node.size());
-          }
-          array[i] = flinkValue;
+        if (flinkValue != null && flinkValueClass == null) {
+          flinkValueClass = flinkValue.getClass();
         }
+        values.add(flinkValue);
       }
-      array = array == null ? new Object[node.size()] : array;
-      return arrayFactory.create(array);
+      Object[] array =
+          flinkValueClass == null
+              ? new Object[values.size()]
+              : (Object[]) Array.newInstance(flinkValueClass, values.size());
+      return arrayFactory.create(values.toArray(array));
     };
   }
 
@@ -202,126 +215,173 @@ public class JsonToLogDataConverters<T> implements Serializable {
     return factory.convertIfNecessary(type, object);
   }
 
-  private Object convertDecimal(JsonNode jsonNode, Void context) {
-    if (jsonNode.isBigDecimal()) {
-      return jsonNode.decimalValue();
+  private JsonToLogDataConverter[] createConverters(Type[] fieldTypes) {
+    JsonToLogDataConverter[] converters = new JsonToLogDataConverter[fieldTypes.length];
+    for (int i = 0; i < fieldTypes.length; i++) {
+      converters[i] = createConverter(fieldTypes[i]);
+    }
+    return converters;
+  }
+
+  private static Type[] fieldTypes(Types.StructType structType) {
+    return structType.fields().stream().map(Types.NestedField::type).toArray(Type[]::new);
+  }
+
+  private static Map<String, Integer> fieldPositions(Types.StructType structType) {
+    List<Types.NestedField> fields = structType.fields();
+    Map<String, Integer> positions = Maps.newHashMapWithExpectedSize(fields.size());
+    for (int i = 0; i < fields.size(); i++) {
+      positions.put(fields.get(i).name(), i);
+    }
+    return positions;
+  }
+
+  /**
+   * Read the fields of a JSON object by their names. Missing fields are null, and unknown fields
+   * are skipped.
+   */
+  private static Object[] readStruct(
+      JsonParser parser, Map<String, Integer> positions, JsonToLogDataConverter[] fieldConverters)
+      throws IOException {
+    checkToken(parser, JsonToken.START_OBJECT);
+    Object[] struct = new Object[fieldConverters.length];
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      Integer pos = positions.get(parser.getCurrentName());
+      parser.nextToken();
+      if (pos == null) {
+        parser.skipChildren();
+      } else {
+        struct[pos] = fieldConverters[pos].convert(parser);
+      }
+    }
+    return struct;
+  }
+
+  /** Keys of JSON objects are always names, which are converted as JSON strings. */
+  private static Object convertKey(JsonToLogDataConverter keyConverter, String key)
+      throws IOException {
+    try (JsonParser keyParser = TextNode.valueOf(key).traverse()) {
+      keyParser.nextToken();
+      return keyConverter.convert(keyParser);
+    }
+  }
+
+  private static Object convertDecimal(JsonParser parser) throws IOException {
+    if (parser.getCurrentToken().isNumeric()) {
+      return parser.getDecimalValue();
     } else {
-      return new BigDecimal(jsonNode.asText());
+      return new BigDecimal(parser.getText());
     }
   }
 
-  private Object convertToBytes(JsonNode jsonNode, Void context) {
+  private static Object convertToBytes(JsonParser parser) throws IOException {
     try {
-      return jsonNode.binaryValue();
+      return parser.getBinaryValue();
     } catch (IOException e) {
       throw new JsonParseException("Unable to deserialize byte array.", e);
     }
   }
 
-  private Object convertToString(JsonNode jsonNode, Void context) {
-    if (jsonNode.isContainerNode()) {
-      return jsonNode.toString();
+  private static Object convertToString(JsonParser parser) throws IOException {
+    JsonToken token = parser.getCurrentToken();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      return parser.readValueAsTree().toString();
     } else {
-      return jsonNode.asText();
+      return parser.getText();
     }
   }
 
-  private Object convertToTimestampWithLocalZone(JsonNode jsonNode, Void context) {
+  private static Object convertToTimestampWithLocalZone(JsonParser parser) throws IOException {
     TemporalAccessor parsedTimestampWithLocalZone =
-        ISO8601_TIMESTAMP_WITH_LOCAL_TIMEZONE_FORMAT.parse(jsonNode.asText());
+        ISO8601_TIMESTAMP_WITH_LOCAL_TIMEZONE_FORMAT.parse(parser.getText());
     LocalTime localTime = parsedTimestampWithLocalZone.query(TemporalQueries.localTime());
     LocalDate localDate = parsedTimestampWithLocalZone.query(TemporalQueries.localDate());
 
     return LocalDateTime.of(localDate, localTime).toInstant(ZoneOffset.UTC);
   }
 
-  private Object convertToTimestamp(JsonNode jsonNode, Void context) {
+  private static Object convertToTimestamp(JsonParser parser) throws IOException {
     TemporalAccessor parsedTimestamp;
-    parsedTimestamp = SQL_TIMESTAMP_FORMAT.parse(jsonNode.asText());
+    parsedTimestamp = SQL_TIMESTAMP_FORMAT.parse(parser.getText());
     LocalTime localTime = parsedTimestamp.query(TemporalQueries.localTime());
     LocalDate localDate = parsedTimestamp.query(TemporalQueries.localDate());
 
     return LocalDateTime.of(localDate, localTime);
   }
 
-  private boolean convertToBoolean(JsonNode jsonNode, Void context) {
-    if (jsonNode.isBoolean()) {
+  private static boolean convertToBoolean(JsonParser parser) throws IOException {
+    JsonToken token = parser.getCurrentToken();
+    if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
       // avoid redundant toString and parseBoolean, for better performance
-      return jsonNode.asBoolean();
+      return parser.getBooleanValue();
     } else {
-      return Boolean.parseBoolean(jsonNode.asText().trim());
+      return Boolean.parseBoolean(parser.getText().trim());
     }
   }
 
-  private int convertToInt(JsonNode jsonNode, Void context) {
-    if (jsonNode.canConvertToInt()) {
+  private static int convertToInt(JsonParser parser) throws IOException {
+    if (parser.getCurrentToken().isNumeric()) {
       // avoid redundant toString and parseInt, for better performance
-      return jsonNode.asInt();
+      return parser.getValueAsInt();
     } else {
-      return Integer.parseInt(jsonNode.asText().trim());
+      return Integer.parseInt(parser.getText().trim());
     }
   }
 
-  private long convertToLong(JsonNode jsonNode, Void context) {
-    if (jsonNode.canConvertToLong()) {
+  private static long convertToLong(JsonParser parser) throws IOException {
+    if (parser.getCurrentToken().isNumeric()) {
       // avoid redundant toString and parseLong, for better performance
-      return jsonNode.asLong();
+      return parser.getValueAsLong();
     } else {
-      return Long.parseLong(jsonNode.asText().trim());
+      return Long.parseLong(parser.getText().trim());
     }
   }
 
-  private float convertToFloat(JsonNode jsonNode, Void context) {
-    if (jsonNode.isDouble()) {
+  private static float convertToFloat(JsonParser parser) throws IOException {
+    if (parser.getCurrentToken() == JsonToken.VALUE_NUMBER_FLOAT) {
       // avoid redundant toString and parseDouble, for better performance
-      return (float) jsonNode.asDouble();
+      return (float) parser.getDoubleValue();
     } else {
-      return Float.parseFloat(jsonNode.asText().trim());
+      return Float.parseFloat(parser.getText().trim());
     }
   }
 
-  private double convertToDouble(JsonNode jsonNode, Void context) {
-    if (jsonNode.isDouble()) {
+  private static double convertToDouble(JsonParser parser) throws IOException {
+    if (parser.getCurrentToken().isNumeric()) {
       // avoid redundant toString and parseDouble, for better performance
-      return jsonNode.asDouble();
+      return parser.getDoubleValue();
     } else {
-      return Double.parseDouble(jsonNode.asText().trim());
+      return Double.parseDouble(parser.getText().trim());
     }
   }
 
-  private int convertToDate(JsonNode jsonNode, Void context) {
-    LocalDate date = ISO_LOCAL_DATE.parse(jsonNode.asText()).query(TemporalQueries.localDate());
+  private static int convertToDate(JsonParser parser) throws IOException {
+    LocalDate date = ISO_LOCAL_DATE.parse(parser.getText()).query(TemporalQueries.localDate());
     return (int) date.toEpochDay();
   }
 
-  private long convertToTime(JsonNode jsonNode, Void context) {
-    TemporalAccessor parsedTime = SQL_TIME_FORMAT.parse(jsonNode.asText());
+  private static long convertToTime(JsonParser parser) throws IOException {
+    TemporalAccessor parsedTime = SQL_TIME_FORMAT.parse(parser.getText());
     LocalTime localTime = parsedTime.query(TemporalQueries.localTime());
 
     // get number of nanos of the day
     return localTime.toNanoOfDay();
   }
 
-  private Object convertField(
-      JsonToLogDataConverter<T> fieldConverter, String fieldName, JsonNode field, Void context) {
-    if (field == null) {
-      if (failOnMissingField) {
-        throw new JsonParseException("Could not find field with name '" + fieldName + "'.");
-      } else {
-        return null;
-      }
-    } else {
-      return fieldConverter.convert(field, context);
+  private static void checkToken(JsonParser parser, JsonToken expected) {
+    if (parser.getCurrentToken() != expected) {
+      throw new JsonParseException(
+          "Expect " + expected + " but got " + parser.getCurrentToken() + ".");
     }
   }
 
-  private static <T> JsonToLogDataConverter<T> wrapIntoNullableConverter(
-      JsonToLogDataConverter<T> converter) {
-    return (source, context) -> {
-      if (source == null || source.isNull() || source.isMissingNode()) {
+  private static JsonToLogDataConverter wrapIntoNullableConverter(
+      JsonToLogDataConverter converter) {
+    return parser -> {
+      if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
         return null;
       }
-      return converter.convert(source, context);
+      return converter.convert(parser);
     };
   }
 
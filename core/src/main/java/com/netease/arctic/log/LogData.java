@@ -110,6 +110,16 @@ public interface LogData<T> {
   interface Factory<T> extends Serializable {
     T createActualValue(Object[] objects, Type[] fieldTypes);
 
+    /**
+     * Create the actual value, filling the reused one instead of allocating a new one if the factory
+     * supports it.
+     *
+     * @param reuse the actual value to fill, which is not referenced by anyone else, or null
+     */
+    default T createActualValue(T reuse, Object[] objects, Type[] fieldTypes) {
+      return createActualValue(objects, fieldTypes);
+    }
+
     LogData<T> create(T t, Object... headers);
 
     Class<?> getActualValueClass();
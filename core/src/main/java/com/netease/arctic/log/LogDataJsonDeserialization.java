@@ -21,16 +21,12 @@ package com.netease.arctic.log;
 import static com.netease.arctic.utils.FlipUtil.convertToBoolean;
 import static org.apache.iceberg.relocated.com.google.common.base.Preconditions.checkArgument;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.netease.arctic.log.data.LogArrayData;
 import com.netease.arctic.log.data.LogMapData;
 import org.apache.iceberg.Schema;
-import org.apache.iceberg.relocated.com.google.common.base.Predicate;
 import org.apache.iceberg.relocated.com.google.common.primitives.Longs;
-import org.apache.iceberg.types.Type;
-import org.apache.iceberg.types.Types;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,58 +36,64 @@ import java.io.Serializable;
 /**
  * Deserialization that deserializes a JSON bytes array into an instance of {@link LogData} through
  * {@link LogData.Factory#create(Object, Object...)}
+ *
+ * <p>The header is read in place and the version and upstream id bytes are shared between
+ * consecutive messages carrying the same values, and the JSON is converted straight from the tokens
+ * of the parser, so decoding the messages of one poll neither copies the message nor builds a JSON
+ * tree for every record. An instance is therefore not thread-safe.
  */
 public class LogDataJsonDeserialization<T> implements Serializable {
   private static final long serialVersionUID = -5741370033707067127L;
   private static final Logger LOG = LoggerFactory.getLogger(LogDataJsonDeserialization.class);
   private static final int ROW_BEGINNING_POS = 18;
 
-  private final JsonToLogDataConverters.JsonToLogDataConverter<T> jsonToLogDataConverter;
+  private final JsonToLogDataConverters.JsonToActualValueConverter<T> jsonToActualValueConverter;
   private final LogData.Factory<T> factory;
 
   /** Object mapper for parsing the JSON. */
   private final ObjectMapper objectMapper = new ObjectMapper();
 
+  private transient byte[] versionBytes;
+  private transient byte[] upstreamIdBytes;
+
   public LogDataJsonDeserialization(
       Schema schema,
       LogData.Factory<T> factory,
       LogArrayData.Factory arrayFactory,
       LogMapData.Factory mapFactory) {
     this.factory = factory;
-    this.jsonToLogDataConverter =
+    this.jsonToActualValueConverter =
         new JsonToLogDataConverters<>(factory, arrayFactory, mapFactory)
-            .createConverter(schema.asStruct());
-    boolean hasDecimalType = hasDecimalType(schema.asStruct());
-    if (hasDecimalType) {
-      objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
-    }
+            .createActualValueConverter(schema.asStruct());
   }
 
-  private boolean hasDecimalType(Types.StructType structType) {
-    return structType.fields().stream()
-        .map(Types.NestedField::type)
-        .anyMatch(
-            (Predicate<Type>)
-                type -> {
-                  if (type.typeId() == Type.TypeID.STRUCT) {
-                    boolean hasDecimalType = hasDecimalType((Types.StructType) type);
-                    if (hasDecimalType) {
-                      return true;
-                    }
-                  }
-                  return type.typeId() == Type.TypeID.DECIMAL;
-                });
+  public LogData<T> deserialize(byte[] message) throws IOException {
+    return deserialize(message, null);
   }
 
-  public LogData<T> deserialize(byte[] message) throws IOException {
+  /**
+   * Deserialize the message, filling the reused actual value if the factory supports it.
+   *
+   * @param reuse an actual value not referenced by anyone else, e.g. of a dropped message, or null
+   */
+  public LogData<T> deserialize(byte[] message, T reuse) throws IOException {
     try {
       checkArgument(message != null, "message is null.");
       checkArgument(message.length >= ROW_BEGINNING_POS, "message is illegal.");
-      byte[] versionBytes = Bytes.subByte(message, 0, 4);
-      byte[] upstreamIdBytes = Bytes.subByte(message, 4, 4);
-      long epicNo = Longs.fromByteArray(Bytes.subByte(message, 8, 8));
-      byte flip = Bytes.subByte(message, 16, 1)[0];
-      byte changeActionByte = Bytes.subByte(message, 17, 1)[0];
+      versionBytes = reuseOrCopy(versionBytes, message, 0, 4);
+      upstreamIdBytes = reuseOrCopy(upstreamIdBytes, message, 4, 4);
+      long epicNo =
+          Longs.fromBytes(
+              message[8],
+              message[9],
+              message[10],
+              message[11],
+              message[12],
+              message[13],
+              message[14],
+              message[15]);
+      byte flip = message[16];
+      byte changeActionByte = message[17];
 
       boolean flipBoolean = convertToBoolean(flip);
 
@@ -101,9 +103,13 @@ public class LogDataJsonDeserialization<T> implements Serializable {
         return factory.create(null, versionBytes, upstreamIdBytes, epicNo, true, changeActionByte);
       }
 
-      byte[] actualValueBytes = Bytes.subByte(message, 18, message.length - 18);
-      final JsonNode root = objectMapper.readTree(actualValueBytes);
-      actualValue = (T) jsonToLogDataConverter.convert(root, null);
+      try (JsonParser parser =
+          objectMapper
+              .getFactory()
+              .createParser(message, ROW_BEGINNING_POS, message.length - ROW_BEGINNING_POS)) {
+        parser.nextToken();
+        actualValue = jsonToActualValueConverter.convert(parser, reuse);
+      }
       return factory.create(
           actualValue, versionBytes, upstreamIdBytes, epicNo, false, changeActionByte);
     } catch (Throwable t) {
@@ -111,4 +117,21 @@ public class LogDataJsonDeserialization<T> implements Serializable {
       throw t;
     }
   }
+
+  /** Return {@code last} if it holds the same bytes as the range of the message, else a copy. */
+  private static byte[] reuseOrCopy(byte[] last, byte[] message, int off, int length) {
+    if (last != null && last.length == length) {
+      boolean same = true;
+      for (int i = 0; i < length; i++) {
+        if (last[i] != message[off + i]) {
+          same = false;
+          break;
+        }
+      }
+      if (same) {
+        return last;
+      }
+    }
+    return Bytes.subByte(message, off, length);
+  }
 }
@@ -24,6 +24,7 @@ import static org.apache.iceberg.TableProperties.DELETE_DEFAULT_FILE_FORMAT;
 
 import com.netease.arctic.data.DataTreeNode;
 import com.netease.arctic.io.ArcticFileIO;
+import com.netease.arctic.io.ArcticFileIOs;
 import com.netease.arctic.io.writer.SetTreeNode;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.utils.map.StructLikeCollections;
@@ -65,6 +66,8 @@ public abstract class AbstractRewriteFilesExecutor
 
   private static final Logger LOG = LoggerFactory.getLogger(AbstractRewriteFilesExecutor.class);
 
+  private static final int PIPELINE_BATCH_SIZE = 1024;
+
   protected final RewriteFilesInput input;
 
   protected ArcticTable table;
@@ -141,11 +144,11 @@ public abstract class AbstractRewriteFilesExecutor
     return posDeleteWriter.result().deleteFiles();
   }
 
-  private List<DataFile> rewriterDataFiles() throws Exception {
+  protected List<DataFile> rewriterDataFiles() throws Exception {
     List<DataFile> result = Lists.newArrayList();
     TaskWriter<Record> writer = dataWriter();
 
-    try (CloseableIterator<Record> records = dataReader.readData().iterator()) {
+    try (CloseableIterator<Record> records = readDataToRewrite()) {
       while (records.hasNext()) {
         Record record = records.next();
         writer.write(record);
@@ -159,6 +162,23 @@ public abstract class AbstractRewriteFilesExecutor
     return result;
   }
 
+  private CloseableIterator<Record> readDataToRewrite() {
+    boolean pipelined =
+        PropertyUtil.propertyAsBoolean(
+            table.properties(),
+            com.netease.arctic.table.TableProperties.SELF_OPTIMIZING_PIPELINE_ENABLED,
+            com.netease.arctic.table.TableProperties.SELF_OPTIMIZING_PIPELINE_ENABLED_DEFAULT);
+    if (!pipelined) {
+      return dataReader.readData().iterator();
+    }
+    int queueSize =
+        PropertyUtil.propertyAsInt(
+            table.properties(),
+            com.netease.arctic.table.TableProperties.SELF_OPTIMIZING_PIPELINE_QUEUE_SIZE,
+            com.netease.arctic.table.TableProperties.SELF_OPTIMIZING_PIPELINE_QUEUE_SIZE_DEFAULT);
+    return new PipelinedRecordIterator<>(dataReader.readData(), io, PIPELINE_BATCH_SIZE, queueSize);
+  }
+
   protected FileFormat dataFileFormat() {
     String formatAsString =
         table.properties().getOrDefault(DEFAULT_FILE_FORMAT, DEFAULT_FILE_FORMAT_DEFAULT);
@@ -173,6 +193,7 @@ public abstract class AbstractRewriteFilesExecutor
 
   protected FileAppenderFactory<Record> fullMetricAppenderFactory(PartitionSpec spec) {
     GenericAppenderFactory appenderFactory = new GenericAppenderFactory(table.schema(), spec);
+    appenderFactory.setAll(ArcticFileIOs.writerHadoopConf(table.io()));
     appenderFactory.setAll(table.properties());
     appenderFactory.set(
         org.apache.iceberg.TableProperties.METRICS_MODE_COLUMN_CONF_PREFIX
@@ -18,11 +18,16 @@
 
 package com.netease.arctic.optimizing;
 
+import static com.netease.arctic.table.TableProperties.SELF_OPTIMIZING_ROW_GROUP_COPY_ENABLED;
+import static com.netease.arctic.table.TableProperties.SELF_OPTIMIZING_ROW_GROUP_COPY_ENABLED_DEFAULT;
+
+import com.netease.arctic.io.ArcticFileIOs;
 import com.netease.arctic.io.reader.GenericCombinedIcebergDataReader;
 import com.netease.arctic.io.writer.GenericIcebergPartitionedFanoutWriter;
 import com.netease.arctic.io.writer.IcebergFanoutPosDeleteWriter;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.utils.map.StructLikeCollections;
+import org.apache.iceberg.DataFile;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.TableProperties;
@@ -35,7 +40,9 @@ import org.apache.iceberg.io.FileWriter;
 import org.apache.iceberg.io.OutputFileFactory;
 import org.apache.iceberg.io.TaskWriter;
 import org.apache.iceberg.io.UnpartitionedWriter;
+import org.apache.iceberg.util.PropertyUtil;
 
+import java.util.List;
 import java.util.UUID;
 
 /** OptimizingExecutor for iceberg format. */
@@ -83,13 +90,33 @@ public class IcebergRewriteExecutor extends AbstractRewriteFilesExecutor {
         UUID.randomUUID().toString());
   }
 
+  @Override
+  protected List<DataFile> rewriterDataFiles() throws Exception {
+    boolean rowGroupCopyEnabled =
+        PropertyUtil.propertyAsBoolean(
+            table.properties(),
+            SELF_OPTIMIZING_ROW_GROUP_COPY_ENABLED,
+            SELF_OPTIMIZING_ROW_GROUP_COPY_ENABLED_DEFAULT);
+    if (rowGroupCopyEnabled
+        && ParquetRowGroupRewriter.canRewrite(input, table.asUnkeyedTable(), dataFileFormat())) {
+      List<DataFile> dataFiles =
+          new ParquetRowGroupRewriter(
+                  table.asUnkeyedTable(), io, outputFileFactory(), partition(), targetSize())
+              .rewrite(input.rewrittenDataFiles());
+      if (dataFiles != null) {
+        return dataFiles;
+      }
+    }
+    return super.rewriterDataFiles();
+  }
+
   @Override
   protected TaskWriter<Record> dataWriter() {
-    OutputFileFactory outputFileFactory =
-        OutputFileFactory.builderFor(table.asUnkeyedTable(), table.spec().specId(), 0).build();
+    OutputFileFactory outputFileFactory = outputFileFactory();
 
     GenericAppenderFactory appenderFactory =
         new GenericAppenderFactory(table.schema(), table.spec());
+    appenderFactory.setAll(ArcticFileIOs.writerHadoopConf(table.io()));
     appenderFactory.setAll(table.properties());
 
     if (table.spec().isUnpartitioned()) {
@@ -107,6 +134,10 @@ public class IcebergRewriteExecutor extends AbstractRewriteFilesExecutor {
     }
   }
 
+  private OutputFileFactory outputFileFactory() {
+    return OutputFileFactory.builderFor(table.asUnkeyedTable(), table.spec().specId(), 0).build();
+  }
+
   private PartitionSpec fileSpec() {
     return table.asUnkeyedTable().specs().get(input.allFiles()[0].specId());
   }
@@ -39,6 +39,18 @@ public class OptimizingInputProperties {
 
   public static final String TASK_EXECUTOR_FACTORY_IMPL = "task-executor-factory-impl";
 
+  /** The heap memory the task is estimated to need, in bytes. */
+  public static final String ESTIMATED_MEMORY_IN_BYTES = "estimated-memory-bytes";
+
+  /** The bytes the task is estimated to read, as a measure of its cpu cost. */
+  public static final String ESTIMATED_INPUT_BYTES = "estimated-input-bytes";
+
+  /** The equality delete files related to the data files of the task by their tree nodes. */
+  public static final String EQ_DELETE_RELATED_FILES = "eq-delete-related-files";
+
+  /** The related equality delete files pruned since their key ranges do not overlap. */
+  public static final String EQ_DELETE_PRUNED_FILES = "eq-delete-pruned-files";
+
   private final Map<String, String> properties;
 
   private OptimizingInputProperties(Map<String, String> properties) {
@@ -78,6 +90,22 @@ public class OptimizingInputProperties {
     return this;
   }
 
+  public OptimizingInputProperties setEstimatedMemory(long estimatedMemory) {
+    properties.put(ESTIMATED_MEMORY_IN_BYTES, String.valueOf(estimatedMemory));
+    return this;
+  }
+
+  public OptimizingInputProperties setEstimatedInputBytes(long estimatedInputBytes) {
+    properties.put(ESTIMATED_INPUT_BYTES, String.valueOf(estimatedInputBytes));
+    return this;
+  }
+
+  public OptimizingInputProperties setEqDeletePruning(long relatedFiles, long prunedFiles) {
+    properties.put(EQ_DELETE_RELATED_FILES, String.valueOf(relatedFiles));
+    properties.put(EQ_DELETE_PRUNED_FILES, String.valueOf(prunedFiles));
+    return this;
+  }
+
   public OptimizingInputProperties needMoveFile2HiveLocation() {
     properties.put(MOVE_FILE_TO_HIVE_LOCATION, "true");
     return this;
@@ -103,6 +131,36 @@ public class OptimizingInputProperties {
     return properties.get(TASK_EXECUTOR_FACTORY_IMPL);
   }
 
+  /** @return the estimated memory of the task in bytes, or 0 if it is not estimated */
+  public long getEstimatedMemory() {
+    String s = properties.get(ESTIMATED_MEMORY_IN_BYTES);
+    return StringUtils.isBlank(s) ? 0 : Long.parseLong(s);
+  }
+
+  /** @return the estimated input bytes of the task, or 0 if it is not estimated */
+  public long getEstimatedInputBytes() {
+    String s = properties.get(ESTIMATED_INPUT_BYTES);
+    return StringUtils.isBlank(s) ? 0 : Long.parseLong(s);
+  }
+
+  /**
+   * @return the count of the equality delete files related to each data file of the task, or 0 if
+   *     it is not counted
+   */
+  public long getEqDeleteRelatedFiles() {
+    String s = properties.get(EQ_DELETE_RELATED_FILES);
+    return StringUtils.isBlank(s) ? 0 : Long.parseLong(s);
+  }
+
+  /**
+   * @return the count of the related equality delete files pruned by the key range of each data
+   *     file of the task, or 0 if it is not counted
+   */
+  public long getEqDeletePrunedFiles() {
+    String s = properties.get(EQ_DELETE_PRUNED_FILES);
+    return StringUtils.isBlank(s) ? 0 : Long.parseLong(s);
+  }
+
   public boolean getMoveFile2HiveLocation() {
     String s = properties.get(MOVE_FILE_TO_HIVE_LOCATION);
     if (StringUtils.isBlank(s)) {
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.optimizing;
+
+import com.netease.arctic.io.ArcticFileIO;
+import com.netease.arctic.table.UnkeyedTable;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.MetricsConfig;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.encryption.EncryptedOutputFile;
+import org.apache.iceberg.encryption.PlaintextEncryptionManager;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFileFactory;
+import org.apache.iceberg.parquet.ParquetSchemaUtil;
+import org.apache.iceberg.parquet.ParquetUtil;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.io.DelegatingPositionOutputStream;
+import org.apache.parquet.io.DelegatingSeekableInputStream;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.PositionOutputStream;
+import org.apache.parquet.io.SeekableInputStream;
+import org.apache.parquet.schema.MessageType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Rewrites parquet data files by copying their row groups into the target files without decoding
+ * any row, which is only correct when no row is deleted and all files share the table schema.
+ */
+class ParquetRowGroupRewriter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ParquetRowGroupRewriter.class);
+
+  private final UnkeyedTable table;
+  private final ArcticFileIO io;
+  private final OutputFileFactory outputFileFactory;
+  private final StructLike partition;
+  private final long targetSize;
+
+  ParquetRowGroupRewriter(
+      UnkeyedTable table,
+      ArcticFileIO io,
+      OutputFileFactory outputFileFactory,
+      StructLike partition,
+      long targetSize) {
+    this.table = table;
+    this.io = io;
+    this.outputFileFactory = outputFileFactory;
+    this.partition = partition;
+    this.targetSize = targetSize;
+  }
+
+  /** Whether the files of the input could be rewritten by copying row groups. */
+  static boolean canRewrite(RewriteFilesInput input, UnkeyedTable table, FileFormat targetFormat) {
+    if (targetFormat != FileFormat.PARQUET
+        || !ArrayUtils.isEmpty(input.rePosDeletedDataFiles())
+        || !ArrayUtils.isEmpty(input.deleteFiles())
+        || !(table.encryption() instanceof PlaintextEncryptionManager)) {
+      return false;
+    }
+    return Arrays.stream(input.rewrittenDataFiles())
+        .allMatch(
+            file -> file.format() == FileFormat.PARQUET && file.specId() == table.spec().specId());
+  }
+
+  /**
+   * Copy the row groups of the files into files of the target size.
+   *
+   * @return the written files, or null if the files could not be copied since their schema differs
+   *     from the table schema
+   */
+  List<DataFile> rewrite(DataFile[] dataFiles) throws IOException {
+    MessageType schema = ParquetSchemaUtil.convert(table.schema(), "table");
+    List<ParquetMetadata> footers = Lists.newArrayListWithCapacity(dataFiles.length);
+    for (DataFile dataFile : dataFiles) {
+      ParquetMetadata footer = readFooter(io.newInputFile(dataFile.path().toString()));
+      if (!schema.equals(footer.getFileMetaData().getSchema())) {
+        LOG.info(
+            "Fall back to rewrite rows since the schema of {} differs from the table schema",
+            dataFile.path());
+        return null;
+      }
+      footers.add(footer);
+    }
+
+    long rowGroupSize =
+        PropertyUtil.propertyAsLong(
+            table.properties(),
+            TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES,
+            TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES_DEFAULT);
+    Map<String, String> keyValueMetadata = footers.get(0).getFileMetaData().getKeyValueMetaData();
+    List<DataFile> result = Lists.newArrayList();
+    EncryptedOutputFile outputFile = null;
+    ParquetFileWriter writer = null;
+    for (int i = 0; i < dataFiles.length; i++) {
+      if (writer == null) {
+        outputFile =
+            partition == null
+                ? outputFileFactory.newOutputFile()
+                : outputFileFactory.newOutputFile(table.spec(), partition);
+        writer =
+            new ParquetFileWriter(
+                new ParquetOutputFile(outputFile.encryptingOutputFile()),
+                schema,
+                ParquetFileWriter.Mode.CREATE,
+                rowGroupSize,
+                0);
+        writer.start();
+      }
+      try (SeekableInputStream stream =
+          new ParquetInputStream(io.newInputFile(dataFiles[i].path().toString()).newStream())) {
+        writer.appendRowGroups(stream, footers.get(i).getBlocks(), false);
+      }
+      if (writer.getPos() >= targetSize) {
+        result.add(complete(writer, outputFile, keyValueMetadata));
+        writer = null;
+      }
+    }
+    if (writer != null) {
+      result.add(complete(writer, outputFile, keyValueMetadata));
+    }
+    LOG.info("Copied row groups of {} files into {} files", dataFiles.length, result.size());
+    return result;
+  }
+
+  private DataFile complete(
+      ParquetFileWriter writer, EncryptedOutputFile outputFile, Map<String, String> metadata)
+      throws IOException {
+    writer.end(metadata);
+    ParquetMetadata footer = writer.getFooter();
+    Metrics metrics =
+        ParquetUtil.footerMetrics(footer, Stream.empty(), MetricsConfig.forTable(table));
+    return DataFiles.builder(table.spec())
+        .withPath(outputFile.encryptingOutputFile().location())
+        .withFormat(FileFormat.PARQUET)
+        .withPartition(partition)
+        .withFileSizeInBytes(writer.getPos())
+        .withMetrics(metrics)
+        .withSplitOffsets(ParquetUtil.getSplitOffsets(footer))
+        .build();
+  }
+
+  private static ParquetMetadata readFooter(InputFile inputFile) throws IOException {
+    try (ParquetFileReader reader =
+        ParquetFileReader.open(
+            new org.apache.parquet.io.InputFile() {
+              @Override
+              public long getLength() {
+                return inputFile.getLength();
+              }
+
+              @Override
+              public SeekableInputStream newStream() {
+                return new ParquetInputStream(inputFile.newStream());
+              }
+            })) {
+      return reader.getFooter();
+    }
+  }
+
+  private static class ParquetInputStream extends DelegatingSeekableInputStream {
+    private final org.apache.iceberg.io.SeekableInputStream delegate;
+
+    ParquetInputStream(org.apache.iceberg.io.SeekableInputStream delegate) {
+      super(delegate);
+      this.delegate = delegate;
+    }
+
+    @Override
+    public long getPos() throws IOException {
+      return delegate.getPos();
+    }
+
+    @Override
+    public void seek(long newPos) throws IOException {
+      delegate.seek(newPos);
+    }
+  }
+
+  private static class ParquetOutputFile implements OutputFile {
+    private final org.apache.iceberg.io.OutputFile file;
+
+    ParquetOutputFile(org.apache.iceberg.io.OutputFile file) {
+      this.file = file;
+    }
+
+    @Override
+    public PositionOutputStream create(long blockSizeHint) {
+      return new ParquetOutputStream(file.create());
+    }
+
+    @Override
+    public PositionOutputStream createOrOverwrite(long blockSizeHint) {
+      return new ParquetOutputStream(file.createOrOverwrite());
+    }
+
+    @Override
+    public boolean supportsBlockSize() {
+      return false;
+    }
+
+    @Override
+    public long defaultBlockSize() {
+      return 0;
+    }
+
+    @Override
+    public String getPath() {
+      return file.location();
+    }
+  }
+
+  private static class ParquetOutputStream extends DelegatingPositionOutputStream {
+    private final org.apache.iceberg.io.PositionOutputStream delegate;
+
+    ParquetOutputStream(org.apache.iceberg.io.PositionOutputStream delegate) {
+      super(delegate);
+      this.delegate = delegate;
+    }
+
+    @Override
+    public long getPos() throws IOException {
+      return delegate.getPos();
+    }
+  }
+}
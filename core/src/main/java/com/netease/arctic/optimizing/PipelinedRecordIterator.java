@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.optimizing;
+
+import com.netease.arctic.io.ArcticFileIO;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Iterates records read by another thread, so reading, decoding and filtering deleted rows overlap
+ * with the writing of the consumer. Records are handed over in batches through a bounded queue,
+ * which limits the records buffered in memory to about batchSize * queueSize.
+ *
+ * <p>The records must not be reused by the underlying reader.
+ */
+class PipelinedRecordIterator<T> implements CloseableIterator<T> {
+
+  private static final long OFFER_TIMEOUT_MS = 100;
+
+  private final List<T> endOfData = new ArrayList<>(0);
+  private final BlockingQueue<List<T>> queue;
+  private final Thread readerThread;
+  private volatile boolean closed = false;
+  private volatile Throwable failure;
+
+  private Iterator<T> current = Collections.emptyIterator();
+  private boolean finished = false;
+
+  PipelinedRecordIterator(
+      CloseableIterable<T> records, ArcticFileIO io, int batchSize, int queueSize) {
+    Preconditions.checkArgument(batchSize > 0, "Illegal batch size: %s", batchSize);
+    Preconditions.checkArgument(queueSize > 0, "Illegal queue size: %s", queueSize);
+    this.queue = new ArrayBlockingQueue<>(queueSize);
+    this.readerThread =
+        new Thread(
+            () -> read(records, io, batchSize),
+            "optimizing-record-reader-" + Thread.currentThread().getName());
+    readerThread.setDaemon(true);
+    readerThread.start();
+  }
+
+  private void read(CloseableIterable<T> records, ArcticFileIO io, int batchSize) {
+    try {
+      io.doAs(
+          () -> {
+            try (CloseableIterator<T> iterator = records.iterator()) {
+              List<T> batch = new ArrayList<>(batchSize);
+              while (!closed && iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() >= batchSize) {
+                  offer(batch);
+                  batch = new ArrayList<>(batchSize);
+                }
+              }
+              if (!batch.isEmpty()) {
+                offer(batch);
+              }
+            }
+            return null;
+          });
+    } catch (Throwable t) {
+      failure = t;
+    } finally {
+      try {
+        offer(endOfData);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void offer(List<T> batch) throws InterruptedException {
+    while (!closed) {
+      if (queue.offer(batch, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!current.hasNext()) {
+      if (finished) {
+        return false;
+      }
+      List<T> batch;
+      try {
+        batch = queue.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while waiting for records", e);
+      }
+      if (batch == endOfData) {
+        finished = true;
+        if (failure != null) {
+          throw failure instanceof RuntimeException
+              ? (RuntimeException) failure
+              : new RuntimeException("Failed to read records", failure);
+        }
+        return false;
+      }
+      current = batch.iterator();
+    }
+    return true;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return current.next();
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    queue.clear();
+    try {
+      // wait for the reader to close the files it opened
+      readerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
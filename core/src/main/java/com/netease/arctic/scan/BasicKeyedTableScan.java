@@ -20,10 +20,12 @@ package com.netease.arctic.scan;
 
 import com.netease.arctic.data.DataTreeNode;
 import com.netease.arctic.data.DefaultKeyedFile;
+import com.netease.arctic.data.PrimaryKeyRange;
 import com.netease.arctic.scan.expressions.BasicPartitionEvaluator;
 import com.netease.arctic.table.BasicKeyedTable;
 import com.netease.arctic.table.TableProperties;
 import com.netease.arctic.utils.ArcticTableUtil;
+import com.netease.arctic.utils.map.LongObjectMap;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.StructLike;
@@ -31,7 +33,11 @@ import org.apache.iceberg.TableScan;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.BinPacking;
 import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.StructLikeMap;
@@ -41,11 +47,12 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -60,8 +67,14 @@ public class BasicKeyedTableScan implements KeyedTableScan {
   private final int lookBack;
   private final long openFileCost;
   private final long splitSize;
+  private final boolean planCacheEnabled;
+  private KeyedTableScanPlanCache planCache = KeyedTableScanPlanCache.getInstance();
   private Double splitTaskByDeleteRatio;
   private Expression expression;
+  private boolean includeColumnStats = false;
+  private ExecutorService planExecutor;
+  private long relatedDeleteFiles = 0;
+  private long prunedDeleteFiles = 0;
 
   public BasicKeyedTableScan(BasicKeyedTable table) {
     this.table = table;
@@ -78,6 +91,11 @@ public class BasicKeyedTableScan implements KeyedTableScan {
             table.properties(),
             TableProperties.SPLIT_LOOKBACK,
             TableProperties.SPLIT_LOOKBACK_DEFAULT);
+    this.planCacheEnabled =
+        PropertyUtil.propertyAsBoolean(
+            table.properties(),
+            TableProperties.READ_PLAN_CACHE_ENABLED,
+            TableProperties.READ_PLAN_CACHE_ENABLED_DEFAULT);
     this.fileScanTasks = StructLikeMap.create(table.spec().partitionType());
   }
 
@@ -98,8 +116,46 @@ public class BasicKeyedTableScan implements KeyedTableScan {
     return this;
   }
 
+  @Override
+  public KeyedTableScan includeColumnStats() {
+    this.includeColumnStats = true;
+    return this;
+  }
+
+  @VisibleForTesting
+  BasicKeyedTableScan withPlanCache(KeyedTableScanPlanCache planCache) {
+    this.planCache = planCache;
+    return this;
+  }
+
+  @Override
+  public KeyedTableScan planWith(ExecutorService executorService) {
+    this.planExecutor = executorService;
+    return this;
+  }
+
   @Override
   public CloseableIterable<CombinedScanTask> planTasks() {
+    if (planCacheEnabled) {
+      KeyedTableScanPlanCache.PlanKey key =
+          new KeyedTableScanPlanCache.PlanKey(
+              table,
+              expression,
+              splitTaskByDeleteRatio,
+              includeColumnStats,
+              splitSize,
+              lookBack,
+              openFileCost);
+      return CloseableIterable.withNoopClose(
+          planCache.get(key, () -> Lists.newArrayList(doPlanTasks())));
+    }
+    return doPlanTasks();
+  }
+
+  private CloseableIterable<CombinedScanTask> doPlanTasks() {
+    if (planExecutor != null) {
+      return planTasksByPartition();
+    }
     // base file
     CloseableIterable<ArcticFileScanTask> baseFileList;
     baseFileList = planBaseFiles();
@@ -117,7 +173,11 @@ public class BasicKeyedTableScan implements KeyedTableScan {
         groupFilesByPartition(table.spec(), changeFileList, baseFileList);
     LOG.info("planning table {} need plan partition size {}", table.id(), partitionedFiles.size());
     partitionedFiles.forEach(this::partitionPlan);
-    LOG.info("planning table {} partitionPlan end", table.id());
+    LOG.info(
+        "planning table {} partitionPlan end, pruned {} of {} equality delete files by key ranges",
+        table.id(),
+        prunedDeleteFiles,
+        relatedDeleteFiles);
     // 2.split node task (FileScanTask -> FileScanTask List)
     split();
     LOG.info("planning table {} split end", table.id());
@@ -126,6 +186,47 @@ public class BasicKeyedTableScan implements KeyedTableScan {
         CloseableIterable.withNoopClose(splitTasks), splitSize, lookBack, openFileCost);
   }
 
+  /**
+   * Plan tasks with manifests read by the plan executor. Nodes of a partition are only planned and
+   * split when the previous partition has been consumed, and the files of the partition are
+   * released after that. The returned tasks could be iterated only once.
+   */
+  private CloseableIterable<CombinedScanTask> planTasksByPartition() {
+    CloseableIterable<ArcticFileScanTask> baseFileList = planBaseFiles();
+    CloseableIterable<ArcticFileScanTask> changeFileList;
+    if (table.primaryKeySpec().primaryKeyExisted()) {
+      changeFileList = planChangeFiles();
+    } else {
+      changeFileList = CloseableIterable.empty();
+    }
+    StructLikeMap<Collection<ArcticFileScanTask>> partitionedFiles =
+        groupFilesByPartition(table.spec(), changeFileList, baseFileList);
+    LOG.info("planning table {} need plan partition size {}", table.id(), partitionedFiles.size());
+    List<StructLike> partitions = Lists.newArrayList(partitionedFiles.keySet());
+    Iterator<NodeFileScanTask> nodeTasks =
+        Iterators.concat(
+            Iterators.transform(
+                partitions.iterator(),
+                partition -> {
+                  Collection<ArcticFileScanTask> files = partitionedFiles.remove(partition);
+                  List<NodeFileScanTask> partitionTasks = new ArrayList<>();
+                  for (NodeFileScanTask task : planNodes(files)) {
+                    splitTask(task, partitionTasks);
+                  }
+                  return partitionTasks.iterator();
+                }));
+    AtomicBoolean iterated = new AtomicBoolean(false);
+    Iterable<NodeFileScanTask> onceIterable =
+        () -> {
+          Preconditions.checkState(
+              !iterated.getAndSet(true),
+              "Tasks planned with a plan executor could only be iterated once");
+          return nodeTasks;
+        };
+    return combineNode(
+        CloseableIterable.withNoopClose(onceIterable), splitSize, lookBack, openFileCost);
+  }
+
   @Override
   public KeyedTableScan enableSplitTaskByDeleteRatio(double splitTaskByDeleteRatio) {
     this.splitTaskByDeleteRatio = splitTaskByDeleteRatio;
@@ -137,6 +238,12 @@ public class BasicKeyedTableScan implements KeyedTableScan {
     if (this.expression != null) {
       scan = scan.filter(this.expression);
     }
+    if (includeColumnStats) {
+      scan = scan.includeColumnStats();
+    }
+    if (planExecutor != null) {
+      scan = scan.planWith(planExecutor);
+    }
     CloseableIterable<FileScanTask> fileScanTasks = scan.planFiles();
     return CloseableIterable.transform(
         fileScanTasks,
@@ -160,6 +267,12 @@ public class BasicKeyedTableScan implements KeyedTableScan {
         table.changeTable().newScan().fromSequence(partitionOptimizedSequence);
 
     changeTableScan = changeTableScan.filter(partitionExpressions);
+    if (includeColumnStats) {
+      changeTableScan = (ChangeTableIncrementalScan) changeTableScan.includeColumnStats();
+    }
+    if (planExecutor != null) {
+      changeTableScan = (ChangeTableIncrementalScan) changeTableScan.planWith(planExecutor);
+    }
 
     return CloseableIterable.transform(changeTableScan.planFiles(), s -> (ArcticFileScanTask) s);
   }
@@ -168,44 +281,47 @@ public class BasicKeyedTableScan implements KeyedTableScan {
     fileScanTasks.forEach(
         (structLike, fileScanTasks1) -> {
           for (NodeFileScanTask task : fileScanTasks1) {
-            if (task.dataTasks().size() < 2) {
-              splitTasks.add(task);
-              continue;
-            }
-
-            if (splitTaskByDeleteRatio != null) {
-              long deleteWeight =
-                  task.arcticEquityDeletes().stream()
-                      .mapToLong(s -> s.file().fileSizeInBytes())
-                      .map(s -> s + openFileCost)
-                      .sum();
-
-              long dataWeight =
-                  task.dataTasks().stream()
-                      .mapToLong(s -> s.file().fileSizeInBytes())
-                      .map(s -> s + openFileCost)
-                      .sum();
-              double deleteRatio = deleteWeight * 1.0 / dataWeight;
-
-              if (deleteRatio < splitTaskByDeleteRatio) {
-                long targetSize =
-                    Math.min(
-                        new Double(deleteWeight / splitTaskByDeleteRatio).longValue(), splitSize);
-                split(task, targetSize);
-                continue;
-              }
-            }
-
-            if (task.cost() <= splitSize) {
-              splitTasks.add(task);
-              continue;
-            }
-            split(task, splitSize);
+            splitTask(task, splitTasks);
           }
         });
   }
 
-  private void split(NodeFileScanTask task, long targetSize) {
+  private void splitTask(NodeFileScanTask task, List<NodeFileScanTask> output) {
+    if (task.dataTasks().size() < 2) {
+      output.add(task);
+      return;
+    }
+
+    if (splitTaskByDeleteRatio != null) {
+      long deleteWeight =
+          task.arcticEquityDeletes().stream()
+              .mapToLong(s -> s.file().fileSizeInBytes())
+              .map(s -> s + openFileCost)
+              .sum();
+
+      long dataWeight =
+          task.dataTasks().stream()
+              .mapToLong(s -> s.file().fileSizeInBytes())
+              .map(s -> s + openFileCost)
+              .sum();
+      double deleteRatio = deleteWeight * 1.0 / dataWeight;
+
+      if (deleteRatio < splitTaskByDeleteRatio) {
+        long targetSize =
+            Math.min(new Double(deleteWeight / splitTaskByDeleteRatio).longValue(), splitSize);
+        split(task, targetSize, output);
+        return;
+      }
+    }
+
+    if (task.cost() <= splitSize) {
+      output.add(task);
+      return;
+    }
+    split(task, splitSize, output);
+  }
+
+  private void split(NodeFileScanTask task, long targetSize, List<NodeFileScanTask> output) {
     CloseableIterable<NodeFileScanTask> tasksIterable =
         splitNode(
             CloseableIterable.withNoopClose(task.dataTasks()),
@@ -213,7 +329,7 @@ public class BasicKeyedTableScan implements KeyedTableScan {
             targetSize,
             lookBack,
             openFileCost);
-    splitTasks.addAll(Lists.newArrayList(tasksIterable));
+    output.addAll(Lists.newArrayList(tasksIterable));
   }
 
   public CloseableIterable<NodeFileScanTask> splitNode(
@@ -235,7 +351,36 @@ public class BasicKeyedTableScan implements KeyedTableScan {
       List<ArcticFileScanTask> datafiles, List<ArcticFileScanTask> deleteFiles) {
     // TODO Optimization: Add files in batch
     return new NodeFileScanTask(
-        Stream.concat(datafiles.stream(), deleteFiles.stream()).collect(Collectors.toList()));
+        Stream.concat(datafiles.stream(), overlappingDeletes(datafiles, deleteFiles).stream())
+            .collect(Collectors.toList()));
+  }
+
+  /**
+   * Drop the equality delete files whose primary key range could not overlap the range of any data
+   * file, the ranges are only known when the column stats are included.
+   */
+  private List<ArcticFileScanTask> overlappingDeletes(
+      List<ArcticFileScanTask> dataTasks, List<ArcticFileScanTask> deleteTasks) {
+    if (!includeColumnStats || deleteTasks.isEmpty()) {
+      return deleteTasks;
+    }
+    Types.StructType keyType = table.primaryKeySpec().primaryKeyStruct();
+    List<PrimaryKeyRange> dataRanges = new ArrayList<>(dataTasks.size());
+    for (ArcticFileScanTask dataTask : dataTasks) {
+      PrimaryKeyRange range = PrimaryKeyRange.of(dataTask.file(), keyType);
+      if (range == null) {
+        return deleteTasks;
+      }
+      dataRanges.add(range);
+    }
+    List<ArcticFileScanTask> result = new ArrayList<>(deleteTasks.size());
+    for (ArcticFileScanTask deleteTask : deleteTasks) {
+      PrimaryKeyRange range = PrimaryKeyRange.of(deleteTask.file(), keyType);
+      if (range == null || dataRanges.stream().anyMatch(range::overlaps)) {
+        result.add(deleteTask);
+      }
+    }
+    return result;
   }
 
   public CloseableIterable<CombinedScanTask> combineNode(
@@ -256,35 +401,36 @@ public class BasicKeyedTableScan implements KeyedTableScan {
    * belonged to 2. Find all data nodes, traverse, and find the delete that intersects them
    */
   private void partitionPlan(StructLike partition, Collection<ArcticFileScanTask> keyedTableTasks) {
-    Map<DataTreeNode, NodeFileScanTask> nodeFileScanTaskMap = new HashMap<>();
+    fileScanTasks.put(partition, planNodes(keyedTableTasks));
+  }
+
+  private List<NodeFileScanTask> planNodes(Collection<ArcticFileScanTask> keyedTableTasks) {
+    LongObjectMap<NodeFileScanTask> nodeFileScanTaskMap = new LongObjectMap<>();
     // planfiles() cannot guarantee the uniqueness of the file,
     // so Set<path> here is used to remove duplicate files
     Set<String> pathSets = new HashSet<>();
     keyedTableTasks.forEach(
         task -> {
-          if (!pathSets.contains(task.file().path().toString())) {
-            pathSets.add(task.file().path().toString());
+          if (pathSets.add(task.file().path().toString())) {
             DataTreeNode treeNode = task.file().node();
-            NodeFileScanTask nodeFileScanTask =
-                nodeFileScanTaskMap.getOrDefault(treeNode, new NodeFileScanTask(treeNode));
-            nodeFileScanTask.addFile(task);
-            nodeFileScanTaskMap.put(treeNode, nodeFileScanTask);
+            nodeFileScanTaskMap
+                .computeIfAbsent(treeNode.getId(), id -> new NodeFileScanTask(treeNode))
+                .addFile(task);
           }
         });
 
     nodeFileScanTaskMap.forEach(
-        (treeNode, nodeFileScanTask) -> {
+        (nodeId, nodeFileScanTask) -> {
           if (!nodeFileScanTask.isDataNode()) {
             return;
           }
 
           nodeFileScanTaskMap.forEach(
-              (treeNode1, nodeFileScanTask1) -> {
-                if (!treeNode1.equals(treeNode)
-                    && (treeNode1.isSonOf(treeNode) || treeNode.isSonOf(treeNode1))) {
+              (nodeId1, nodeFileScanTask1) -> {
+                if (nodeId1 != nodeId && DataTreeNode.isRelated(nodeId, nodeId1)) {
                   List<ArcticFileScanTask> deletes =
                       nodeFileScanTask1.arcticEquityDeletes().stream()
-                          .filter(file -> file.file().node().equals(treeNode1))
+                          .filter(file -> file.file().node().getId() == nodeId1)
                           .collect(Collectors.toList());
 
                   nodeFileScanTask.addTasks(deletes);
@@ -294,14 +440,19 @@ public class BasicKeyedTableScan implements KeyedTableScan {
 
     List<NodeFileScanTask> fileScanTaskList = new ArrayList<>();
     nodeFileScanTaskMap.forEach(
-        (treeNode, nodeFileScanTask) -> {
+        (nodeId, nodeFileScanTask) -> {
           if (!nodeFileScanTask.isDataNode()) {
             return;
           }
+          List<ArcticFileScanTask> deletes = nodeFileScanTask.arcticEquityDeletes();
+          List<ArcticFileScanTask> overlappingDeletes =
+              overlappingDeletes(nodeFileScanTask.dataTasks(), deletes);
+          relatedDeleteFiles += deletes.size();
+          prunedDeleteFiles += deletes.size() - overlappingDeletes.size();
+          nodeFileScanTask.setArcticEquityDeletes(overlappingDeletes);
           fileScanTaskList.add(nodeFileScanTask);
         });
-
-    fileScanTasks.put(partition, fileScanTaskList);
+    return fileScanTaskList;
   }
 
   public StructLikeMap<Collection<ArcticFileScanTask>> groupFilesByPartition(
@@ -21,6 +21,8 @@ package com.netease.arctic.scan;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.io.CloseableIterable;
 
+import java.util.concurrent.ExecutorService;
+
 /** API for configuring a {@link com.netease.arctic.table.KeyedTable} scan. */
 public interface KeyedTableScan {
 
@@ -32,6 +34,22 @@ public interface KeyedTableScan {
    */
   KeyedTableScan filter(Expression expr);
 
+  /**
+   * Config this scan to load the column stats of each planned file, which are dropped by default.
+   *
+   * @return scan based on this that loads column stats
+   */
+  KeyedTableScan includeColumnStats();
+
+  /**
+   * Config this scan to read manifests with the given executor. The partitions are then planned
+   * one at a time while the tasks are consumed, and the returned tasks could be iterated only once.
+   *
+   * @param executorService the executor to read manifests
+   * @return scan based on this that plans with the executor
+   */
+  KeyedTableScan planWith(ExecutorService executorService);
+
   /**
    * Plan the {@link CombinedScanTask tasks} for this scan.
    *
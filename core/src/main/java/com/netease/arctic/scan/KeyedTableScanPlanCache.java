@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.scan;
+
+import static com.netease.arctic.ams.api.metrics.MetricDefine.defineGauge;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.netease.arctic.ams.api.metrics.Gauge;
+import com.netease.arctic.ams.api.metrics.Metric;
+import com.netease.arctic.ams.api.metrics.MetricDefine;
+import com.netease.arctic.ams.api.metrics.MetricKey;
+import com.netease.arctic.ams.api.metrics.MetricSet;
+import com.netease.arctic.table.KeyedTable;
+import com.netease.arctic.table.TableProperties;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionUtil;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Types;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A JVM wide cache of the {@link CombinedScanTask}s planned by {@link BasicKeyedTableScan}, keyed
+ * by the table, the base and change snapshots, the partition properties and everything else that
+ * decides the plan. The cache is bounded by the number of files in the cached plans, which could be
+ * changed by the system property {@value #MAX_FILES_PROPERTY}.
+ *
+ * <p>The node tasks are mutable, so every caller gets its own copy of the cached tasks. The hit and
+ * miss counts are exposed by {@link #getMetrics()} and logged at most once per {@link
+ * #STATS_REPORT_INTERVAL}.
+ */
+public class KeyedTableScanPlanCache implements MetricSet {
+
+  private static final Logger LOG = LoggerFactory.getLogger(KeyedTableScanPlanCache.class);
+
+  public static final String MAX_FILES_PROPERTY = "arctic.read.plan-cache.max-files";
+  public static final long MAX_FILES_DEFAULT = 1_000_000L;
+  private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(10);
+  private static final Duration STATS_REPORT_INTERVAL = Duration.ofMinutes(1);
+
+  public static final MetricDefine PLAN_CACHE_HIT_COUNT =
+      defineGauge("keyed_table_scan_plan_cache_hit_count")
+          .withDescription("Number of keyed table scans planned from the plan cache")
+          .build();
+
+  public static final MetricDefine PLAN_CACHE_MISS_COUNT =
+      defineGauge("keyed_table_scan_plan_cache_miss_count")
+          .withDescription("Number of keyed table scans planned and put into the plan cache")
+          .build();
+
+  public static final MetricDefine PLAN_CACHE_EVICTION_COUNT =
+      defineGauge("keyed_table_scan_plan_cache_eviction_count")
+          .withDescription("Number of plans evicted from the plan cache")
+          .build();
+
+  public static final MetricDefine PLAN_CACHE_SIZE =
+      defineGauge("keyed_table_scan_plan_cache_size")
+          .withDescription("Estimated number of plans in the plan cache")
+          .build();
+
+  private static final KeyedTableScanPlanCache INSTANCE =
+      new KeyedTableScanPlanCache(Long.getLong(MAX_FILES_PROPERTY, MAX_FILES_DEFAULT));
+
+  private final Cache<PlanKey, List<CombinedScanTask>> plans;
+  private final AtomicLong lastStatsReportTime = new AtomicLong(System.currentTimeMillis());
+  private final Map<MetricKey, Metric> metrics;
+
+  KeyedTableScanPlanCache(long maxFiles) {
+    this.plans =
+        Caffeine.newBuilder()
+            .maximumWeight(maxFiles)
+            .weigher((PlanKey key, List<CombinedScanTask> tasks) -> fileCount(tasks))
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .recordStats()
+            .build();
+    this.metrics =
+        ImmutableMap.of(
+            new MetricKey(PLAN_CACHE_HIT_COUNT, null),
+            (Gauge<Long>) () -> plans.stats().hitCount(),
+            new MetricKey(PLAN_CACHE_MISS_COUNT, null),
+            (Gauge<Long>) () -> plans.stats().missCount(),
+            new MetricKey(PLAN_CACHE_EVICTION_COUNT, null),
+            (Gauge<Long>) () -> plans.stats().evictionCount(),
+            new MetricKey(PLAN_CACHE_SIZE, null),
+            (Gauge<Long>) plans::estimatedSize);
+  }
+
+  public static KeyedTableScanPlanCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns a copy of the cached plan of the key, or plans it and caches the result.
+   *
+   * @param key key of the plan
+   * @param planner planner to call when the plan is not cached
+   * @return the planned tasks, owned by the caller
+   */
+  public List<CombinedScanTask> get(PlanKey key, Supplier<List<CombinedScanTask>> planner) {
+    List<CombinedScanTask> tasks =
+        plans.get(
+            key,
+            k -> {
+              LOG.info("Plan {} and put it into the plan cache", k);
+              return planner.get();
+            });
+    reportStats();
+    return copyOf(tasks);
+  }
+
+  /** Hit and miss counts of the cache. */
+  public CacheStats stats() {
+    return plans.stats();
+  }
+
+  /** Gauges of the hit, miss and eviction counts and the size of the cache. */
+  @Override
+  public Map<MetricKey, Metric> getMetrics() {
+    return metrics;
+  }
+
+  public void invalidateAll() {
+    plans.invalidateAll();
+  }
+
+  private void reportStats() {
+    long now = System.currentTimeMillis();
+    long lastReportTime = lastStatsReportTime.get();
+    if (now - lastReportTime >= STATS_REPORT_INTERVAL.toMillis()
+        && lastStatsReportTime.compareAndSet(lastReportTime, now)) {
+      CacheStats stats = plans.stats();
+      LOG.info(
+          "Plan cache hit {}, miss {}, hit rate {}, evicted {}, cached plans {}",
+          stats.hitCount(),
+          stats.missCount(),
+          String.format("%.2f", stats.hitRate()),
+          stats.evictionCount(),
+          plans.estimatedSize());
+    }
+  }
+
+  private static List<CombinedScanTask> copyOf(List<CombinedScanTask> tasks) {
+    List<CombinedScanTask> copies = new ArrayList<>(tasks.size());
+    for (CombinedScanTask combinedScanTask : tasks) {
+      List<NodeFileScanTask> nodeTasks = new ArrayList<>(combinedScanTask.tasks().size());
+      for (KeyedTableScanTask task : combinedScanTask.tasks()) {
+        NodeFileScanTask nodeTask = (NodeFileScanTask) task;
+        NodeFileScanTask copy = new NodeFileScanTask(nodeTask.treeNode());
+        copy.addTasks(nodeTask.baseTasks());
+        copy.addTasks(nodeTask.insertTasks());
+        copy.addTasks(nodeTask.arcticEquityDeletes());
+        nodeTasks.add(copy);
+      }
+      copies.add(new BaseCombinedScanTask(nodeTasks));
+    }
+    return copies;
+  }
+
+  private static int fileCount(List<CombinedScanTask> tasks) {
+    long files = 0;
+    for (CombinedScanTask combinedScanTask : tasks) {
+      for (KeyedTableScanTask task : combinedScanTask.tasks()) {
+        files += task.dataTasks().size() + task.arcticEquityDeletes().size();
+      }
+    }
+    return (int) Math.min(Integer.MAX_VALUE, Math.max(1, files));
+  }
+
+  /** Everything that decides the plan of a {@link BasicKeyedTableScan}. */
+  public static class PlanKey {
+    private final String table;
+    private final long baseSnapshotId;
+    private final long changeSnapshotId;
+    // the partition optimized sequence of tables without statistics files lives in here
+    private final String partitionProperties;
+    // the bound filter, equal to the filters with the same meaning, like a < 5 and a <= 4
+    private final Expression filter;
+    private final Set<Integer> filterFieldIds;
+    private final String sanitizedFilter;
+    private final Double splitTaskByDeleteRatio;
+    private final boolean includeColumnStats;
+    private final long splitSize;
+    private final int lookBack;
+    private final long openFileCost;
+
+    PlanKey(
+        KeyedTable table,
+        Expression filter,
+        Double splitTaskByDeleteRatio,
+        boolean includeColumnStats,
+        long splitSize,
+        int lookBack,
+        long openFileCost) {
+      this.table = table.id().toString();
+      this.baseSnapshotId = snapshotId(table.baseTable().currentSnapshot());
+      this.changeSnapshotId = snapshotId(table.changeTable().currentSnapshot());
+      this.partitionProperties =
+          table.baseTable().properties().get(TableProperties.TABLE_PARTITION_PROPERTIES);
+      Types.StructType struct = table.schema().asStruct();
+      Expression unbound =
+          filter == null ? Expressions.alwaysTrue() : Expressions.rewriteNot(filter);
+      this.filter = Binder.bind(struct, unbound, true);
+      this.filterFieldIds =
+          Binder.boundReferences(struct, Collections.singletonList(unbound), true);
+      this.sanitizedFilter = ExpressionUtil.toSanitizedString(unbound);
+      this.splitTaskByDeleteRatio = splitTaskByDeleteRatio;
+      this.includeColumnStats = includeColumnStats;
+      this.splitSize = splitSize;
+      this.lookBack = lookBack;
+      this.openFileCost = openFileCost;
+    }
+
+    private static long snapshotId(Snapshot snapshot) {
+      return snapshot == null ? -1 : snapshot.snapshotId();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlanKey that = (PlanKey) o;
+      return baseSnapshotId == that.baseSnapshotId
+          && changeSnapshotId == that.changeSnapshotId
+          && includeColumnStats == that.includeColumnStats
+          && splitSize == that.splitSize
+          && lookBack == that.lookBack
+          && openFileCost == that.openFileCost
+          && Objects.equals(table, that.table)
+          && Objects.equals(partitionProperties, that.partitionProperties)
+          && Objects.equals(filterFieldIds, that.filterFieldIds)
+          && filter.isEquivalentTo(that.filter)
+          && Objects.equals(splitTaskByDeleteRatio, that.splitTaskByDeleteRatio);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          table,
+          baseSnapshotId,
+          changeSnapshotId,
+          partitionProperties,
+          filterFieldIds,
+          splitTaskByDeleteRatio,
+          includeColumnStats,
+          splitSize,
+          lookBack,
+          openFileCost);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("table", table)
+          .add("baseSnapshotId", baseSnapshotId)
+          .add("changeSnapshotId", changeSnapshotId)
+          .add("filter", sanitizedFilter)
+          .toString();
+    }
+  }
+}
@@ -130,6 +130,10 @@ public class NodeFileScanTask implements KeyedTableScanTask {
     }
   }
 
+  public void setArcticEquityDeletes(List<ArcticFileScanTask> deleteFiles) {
+    this.deleteFiles = deleteFiles;
+  }
+
   public void addTasks(List<ArcticFileScanTask> files) {
     files.forEach(this::addFile);
   }
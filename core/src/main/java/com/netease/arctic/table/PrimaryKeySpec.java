@@ -20,6 +20,7 @@ package com.netease.arctic.table;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.types.Types;
@@ -82,6 +83,17 @@ public class PrimaryKeySpec implements Serializable {
     return pkFields.get(index);
   }
 
+  /**
+   * Returns the sort order sorting records by the primary key columns ascending with nulls first,
+   * which is the order of comparing {@link #primaryKeyStruct()} by {@link
+   * org.apache.iceberg.types.Comparators#forType(Types.StructType)}.
+   */
+  public SortOrder sortOrder() {
+    SortOrder.Builder builder = SortOrder.builderFor(schema);
+    pkFields.forEach(field -> builder.asc(field.fieldName()));
+    return builder.build();
+  }
+
   public Types.StructType primaryKeyStruct() {
     return Types.StructType.of(
         pkFields.stream()
@@ -37,6 +37,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import sun.security.krb5.KrbException;
 
+import javax.security.auth.Subject;
+
 import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -49,6 +51,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Arrays;
 import java.util.Base64;
@@ -57,6 +60,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /** Stores hadoop config files for {@link ArcticTable} */
 public class TableMetaStore implements Serializable {
@@ -87,6 +91,12 @@ public class TableMetaStore implements Serializable {
   private static final String HADOOP_USER_PROPERTY = "HADOOP_USER_NAME";
   private static final String KRB5_CONF_PROPERTY = "java.security.krb5.conf";
 
+  /**
+   * Interval of re-validating the cached ugi, kerberos ugi will check TGT and re-login from keytab
+   * at most once in this interval for the lock-free path of {@link #doAs(Callable)}.
+   */
+  private static final long UGI_CACHE_REFRESH_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
+
   private static Field UGI_PRINCIPLE_FIELD;
   private static Field UGI_KEYTAB_FIELD;
   private static boolean UGI_REFLECT;
@@ -125,6 +135,8 @@ public class TableMetaStore implements Serializable {
 
   private transient RuntimeContext runtimeContext;
   private transient String authInformation;
+  private transient volatile UserGroupInformation cachedUgi;
+  private transient volatile long cachedUgiExpireTime;
 
   public static Builder builder() {
     return new Builder();
@@ -206,7 +218,40 @@ public class TableMetaStore implements Serializable {
     if (disableAuth) {
       return call(callable);
     }
-    return Objects.requireNonNull(getUGI()).doAs((PrivilegedAction<T>) () -> call(callable));
+    UserGroupInformation ugi = Objects.requireNonNull(cachedUGI());
+    // already running inside the security context of this ugi, no need to doAs again
+    if (isCurrentUGI(ugi)) {
+      return call(callable);
+    }
+    return ugi.doAs((PrivilegedAction<T>) () -> call(callable));
+  }
+
+  /**
+   * Return the ugi without holding the lock of this object if it has been validated in {@link
+   * #UGI_CACHE_REFRESH_INTERVAL_MS}, otherwise fall back to {@link #getUGI()}.
+   */
+  private UserGroupInformation cachedUGI() {
+    UserGroupInformation ugi = cachedUgi;
+    if (ugi != null && System.currentTimeMillis() < cachedUgiExpireTime) {
+      return ugi;
+    }
+    ugi = getUGI();
+    cachedUgiExpireTime = System.currentTimeMillis() + UGI_CACHE_REFRESH_INTERVAL_MS;
+    cachedUgi = ugi;
+    return ugi;
+  }
+
+  private static boolean isCurrentUGI(UserGroupInformation ugi) {
+    Subject subject = Subject.getSubject(AccessController.getContext());
+    if (subject == null) {
+      return false;
+    }
+    try {
+      // UserGroupInformation is equal only if the subjects are the same one
+      return ugi.equals(UserGroupInformation.getCurrentUser());
+    } catch (IOException e) {
+      return false;
+    }
   }
 
   /**
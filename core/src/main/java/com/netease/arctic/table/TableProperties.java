@@ -83,6 +83,37 @@ public class TableProperties {
       "self-optimizing.execute.num-retries";
   public static final int SELF_OPTIMIZING_EXECUTE_RETRY_NUMBER_DEFAULT = 5;
 
+  /**
+   * Commit the partitions of a keyed table optimizing process as soon as all tasks of the partition
+   * succeed, instead of committing all partitions after the whole process succeeds.
+   */
+  public static final String SELF_OPTIMIZING_PROGRESSIVE_COMMIT_ENABLED =
+      "self-optimizing.commit.progressive.enabled";
+
+  public static final boolean SELF_OPTIMIZING_PROGRESSIVE_COMMIT_ENABLED_DEFAULT = false;
+
+  /**
+   * Rewrite parquet files of iceberg tables without deletes by copying their row groups into the
+   * target files, instead of decoding and encoding every row.
+   */
+  public static final String SELF_OPTIMIZING_ROW_GROUP_COPY_ENABLED =
+      "self-optimizing.rewrite.row-group-copy.enabled";
+
+  public static final boolean SELF_OPTIMIZING_ROW_GROUP_COPY_ENABLED_DEFAULT = false;
+
+  /**
+   * Read and filter the rows to rewrite on another thread than the one writing them, the two
+   * threads exchange rows through a queue holding at most the configured number of batches.
+   */
+  public static final String SELF_OPTIMIZING_PIPELINE_ENABLED =
+      "self-optimizing.rewrite.pipeline.enabled";
+
+  public static final boolean SELF_OPTIMIZING_PIPELINE_ENABLED_DEFAULT = false;
+
+  public static final String SELF_OPTIMIZING_PIPELINE_QUEUE_SIZE =
+      "self-optimizing.rewrite.pipeline.queue-size";
+  public static final int SELF_OPTIMIZING_PIPELINE_QUEUE_SIZE_DEFAULT = 8;
+
   public static final String SELF_OPTIMIZING_TARGET_SIZE = "self-optimizing.target-size";
   public static final long SELF_OPTIMIZING_TARGET_SIZE_DEFAULT = 134217728; // 128 MB
 
@@ -107,6 +138,17 @@ public class TableProperties {
       "self-optimizing.minor.trigger.interval";
   public static final int SELF_OPTIMIZING_MINOR_TRIGGER_INTERVAL_DEFAULT = 3600000; // 1 h
 
+  /**
+   * Trigger minor optimizing of a partition once the estimated read amplification of readers
+   * merging its delete files on read reaches the value, where 1 means no rows are deleted, and
+   * optimize the partitions reaching multiples of the value first. A value not greater than 0
+   * disables it.
+   */
+  public static final String SELF_OPTIMIZING_MINOR_TRIGGER_READ_AMPLIFICATION =
+      "self-optimizing.minor.trigger.read-amplification";
+
+  public static final double SELF_OPTIMIZING_MINOR_TRIGGER_READ_AMPLIFICATION_DEFAULT = -1;
+
   public static final String SELF_OPTIMIZING_MAJOR_TRIGGER_DUPLICATE_RATIO =
       "self-optimizing.major.trigger.duplicate-ratio";
   public static final double SELF_OPTIMIZING_MAJOR_TRIGGER_DUPLICATE_RATIO_DEFAULT = 0.1;
@@ -237,6 +279,21 @@ public class TableProperties {
   public static final String BASE_FILE_INDEX_HASH_BUCKET = "base.file-index.hash-bucket";
   public static final int BASE_FILE_INDEX_HASH_BUCKET_DEFAULT = 4;
 
+  /**
+   * Sort the records of every base file written by the primary key, so the key ranges of files and
+   * row groups hardly overlap, and readers could skip them by the key bounds in their metrics.
+   */
+  public static final String BASE_WRITE_SORT_BY_PRIMARY_KEY_ENABLED =
+      "base.write.sort-by-primary-key.enabled";
+
+  public static final boolean BASE_WRITE_SORT_BY_PRIMARY_KEY_ENABLED_DEFAULT = false;
+
+  /** The records buffered in memory by a sorting writer, sorted runs are spilled to local disk. */
+  public static final String BASE_WRITE_SORT_SPILL_RECORDS =
+      "base.write.sort-by-primary-key.spill-records";
+
+  public static final int BASE_WRITE_SORT_SPILL_RECORDS_DEFAULT = 100000;
+
   public static final String CHANGE_FILE_INDEX_HASH_BUCKET = "change.file-index.hash-bucket";
   public static final int CHANGE_FILE_INDEX_HASH_BUCKET_DEFAULT = 4;
 
@@ -244,6 +301,32 @@ public class TableProperties {
       org.apache.iceberg.TableProperties.WRITE_TARGET_FILE_SIZE_BYTES;
   public static final long WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT = 134217728; // 128 MB
 
+  /**
+   * Write new files through a buffer whose full parts are uploaded by background threads, so
+   * writers keep encoding while the previous parts are uploaded and close only waits for the last.
+   */
+  public static final String WRITE_ASYNC_UPLOAD_ENABLED = "write.upload.async.enabled";
+
+  public static final boolean WRITE_ASYNC_UPLOAD_ENABLED_DEFAULT = false;
+  public static final String WRITE_ASYNC_UPLOAD_PART_SIZE = "write.upload.async.part-size-bytes";
+  public static final int WRITE_ASYNC_UPLOAD_PART_SIZE_DEFAULT = 8 * 1024 * 1024; // 8 MB
+
+  /** The max parts of a file buffered in memory, including the one being written. */
+  public static final String WRITE_ASYNC_UPLOAD_MAX_BUFFERED_PARTS =
+      "write.upload.async.max-buffered-parts";
+
+  public static final int WRITE_ASYNC_UPLOAD_MAX_BUFFERED_PARTS_DEFAULT = 4;
+
+  /**
+   * The max bytes of the parts waiting for upload, shared by all the files written through the
+   * file io of a table. Writers upload on their own thread when it is used up.
+   */
+  public static final String WRITE_ASYNC_UPLOAD_MAX_BUFFERED_BYTES =
+      "write.upload.async.max-buffered-bytes";
+
+  public static final long WRITE_ASYNC_UPLOAD_MAX_BUFFERED_BYTES_DEFAULT =
+      64 * 1024 * 1024; // 64 MB
+
   public static final String UPSERT_ENABLED = "write.upsert.enabled";
   public static final boolean UPSERT_ENABLED_DEFAULT = false;
 
@@ -276,6 +359,15 @@ public class TableProperties {
   public static final String SPLIT_OPEN_FILE_COST =
       org.apache.iceberg.TableProperties.SPLIT_OPEN_FILE_COST;
   public static final long SPLIT_OPEN_FILE_COST_DEFAULT = 4 * 1024 * 1024; // 4MB
+
+  /**
+   * Cache the planned tasks of keyed table scans in the JVM, repeated scans on the same base and
+   * change snapshots with the same filter skip planning.
+   */
+  public static final String READ_PLAN_CACHE_ENABLED = "read.plan-cache.enabled";
+
+  public static final boolean READ_PLAN_CACHE_ENABLED_DEFAULT = false;
+
   /** log store related properties */
   public static final String ENABLE_LOG_STORE = "log-store.enabled";
 
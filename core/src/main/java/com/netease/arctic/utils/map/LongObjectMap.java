@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.utils.map;
+
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * A hash map from primitive long keys to non-null values with open addressing, which does not box
+ * the keys or allocate an entry per mapping. It is used by planning structures keyed by ids, like
+ * the ids of {@link com.netease.arctic.data.DataTreeNode}. Mappings could not be removed.
+ */
+public class LongObjectMap<V> {
+
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private long[] keys;
+  private Object[] values;
+  private int size = 0;
+  private int threshold;
+
+  public LongObjectMap() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public LongObjectMap(int expectedSize) {
+    Preconditions.checkArgument(expectedSize >= 0, "Illegal expected size: %s", expectedSize);
+    allocate(tableSizeFor((int) Math.ceil(expectedSize / LOAD_FACTOR)));
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public boolean containsKey(long key) {
+    return values[slot(key)] != null;
+  }
+
+  @SuppressWarnings("unchecked")
+  public V get(long key) {
+    return (V) values[slot(key)];
+  }
+
+  /**
+   * Associate the value with the key.
+   *
+   * @return the previous value of the key, or null if there was none
+   */
+  @SuppressWarnings("unchecked")
+  public V put(long key, V value) {
+    Preconditions.checkNotNull(value, "Value could not be null");
+    int slot = slot(key);
+    V previous = (V) values[slot];
+    values[slot] = value;
+    if (previous == null) {
+      keys[slot] = key;
+      afterInsert();
+    }
+    return previous;
+  }
+
+  @SuppressWarnings("unchecked")
+  public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+    int slot = slot(key);
+    V value = (V) values[slot];
+    if (value == null) {
+      value = mappingFunction.apply(key);
+      Preconditions.checkNotNull(value, "Value could not be null");
+      keys[slot] = key;
+      values[slot] = value;
+      afterInsert();
+    }
+    return value;
+  }
+
+  /** Iterate the mappings in no particular order, the map must not be changed meanwhile. */
+  @SuppressWarnings("unchecked")
+  public void forEach(EntryConsumer<? super V> consumer) {
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        consumer.accept(keys[i], (V) values[i]);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public List<V> values() {
+    List<V> result = new ArrayList<>(size);
+    for (Object value : values) {
+      if (value != null) {
+        result.add((V) value);
+      }
+    }
+    return result;
+  }
+
+  /** Return the slot of the key, or the empty slot the key should be put into. */
+  private int slot(long key) {
+    int mask = keys.length - 1;
+    int slot = hash(key) & mask;
+    while (values[slot] != null && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void afterInsert() {
+    size++;
+    if (size > threshold) {
+      long[] oldKeys = keys;
+      Object[] oldValues = values;
+      allocate(oldKeys.length * 2);
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldValues[i] != null) {
+          int slot = slot(oldKeys[i]);
+          keys[slot] = oldKeys[i];
+          values[slot] = oldValues[i];
+        }
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new Object[capacity];
+    threshold = (int) (capacity * LOAD_FACTOR);
+  }
+
+  private static int hash(long key) {
+    // spread the sequential ids over the table
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  private static int tableSizeFor(int capacity) {
+    int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+    return Math.max(size, 2);
+  }
+
+  @FunctionalInterface
+  public interface EntryConsumer<V> {
+    void accept(long key, V value);
+  }
+}
@@ -49,6 +49,11 @@ public class StructLikeCollections implements Serializable {
     this.backendBaseDir = backendBaseDir;
   }
 
+  /** The local directory to spill to, or null to use the default temporary directory. */
+  public String getBackendBaseDir() {
+    return backendBaseDir;
+  }
+
   public <T> StructLikeBaseMap<T> createStructLikeMap(Types.StructType type) {
     if (!enableSpillableMap) {
       return StructLikeMemoryMap.create(type);
@@ -60,6 +60,32 @@ public class TestTreeNode {
     Assert.assertEquals(DataTreeNode.of(7, 3), DataTreeNode.ofId(11));
   }
 
+  @Test
+  public void testNodeIdRelation() {
+    DataTreeNode[] nodes = {
+      DataTreeNode.of(0, 0),
+      DataTreeNode.of(1, 1),
+      DataTreeNode.of(3, 1),
+      DataTreeNode.of(3, 2),
+      DataTreeNode.of(7, 5),
+      DataTreeNode.of(2047, 1029),
+      DataTreeNode.of(4095, 1029)
+    };
+    for (DataTreeNode node : nodes) {
+      Assert.assertEquals(node.getMask(), DataTreeNode.maskOfId(node.getId()));
+      Assert.assertEquals(node.getIndex(), DataTreeNode.indexOfId(node.getId()));
+      for (DataTreeNode another : nodes) {
+        Assert.assertEquals(
+            node.isSonOf(another), DataTreeNode.isSonOf(node.getId(), another.getId()));
+        Assert.assertEquals(
+            node.isSonOf(another) || another.isSonOf(node),
+            DataTreeNode.isRelated(node.getId(), another.getId()));
+      }
+    }
+    // nodes of small trees are shared
+    Assert.assertSame(DataTreeNode.ofId(13), DataTreeNode.of(7, 5));
+  }
+
   private void assertParentNode(DataTreeNode node) {
     Assert.assertEquals(node, node.left().parent());
     Assert.assertEquals(node, node.right().parent());
@@ -21,7 +21,11 @@ package com.netease.arctic;
 import com.netease.arctic.ams.api.CatalogMeta;
 import com.netease.arctic.ams.api.TableFormat;
 import com.netease.arctic.catalog.CatalogTestHelper;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Types;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.ClassRule;
@@ -68,4 +72,24 @@ public class TestUnifiedCatalog {
     Assert.assertNotNull(catalog);
     Assert.assertEquals(CommonUnifiedCatalog.class.getName(), catalog.getClass().getName());
   }
+
+  @Test
+  public void testTableFormatCache() {
+    CommonUnifiedCatalog catalog = new CommonUnifiedCatalog(() -> meta, Maps.newHashMap());
+    catalog.createDatabase("db");
+    testedCatalog
+        .buildIcebergCatalog(meta)
+        .createTable(
+            TableIdentifier.of(Namespace.of("db"), "tbl"),
+            new Schema(Types.NestedField.required(1, "id", Types.IntegerType.get())));
+    Assert.assertNull(catalog.cachedFormat("db", "tbl"));
+
+    Assert.assertEquals(TableFormat.ICEBERG, catalog.loadTable("db", "tbl").format());
+    Assert.assertEquals(TableFormat.ICEBERG, catalog.cachedFormat("db", "tbl"));
+    Assert.assertTrue(catalog.exist("db", "tbl"));
+
+    Assert.assertTrue(catalog.dropTable("db", "tbl", true));
+    Assert.assertNull(catalog.cachedFormat("db", "tbl"));
+    Assert.assertFalse(catalog.exist("db", "tbl"));
+  }
 }
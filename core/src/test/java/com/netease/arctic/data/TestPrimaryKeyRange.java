@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.netease.arctic.data;
+
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.expressions.Literal;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.UnicodeUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+public class TestPrimaryKeyRange {
+
+  private static final Schema KEY_SCHEMA =
+      new Schema(
+          Types.NestedField.optional(1, "id", Types.IntegerType.get()),
+          Types.NestedField.optional(2, "name", Types.StringType.get()));
+
+  private static final Types.StructType SINGLE_KEY_TYPE =
+      Types.StructType.of(KEY_SCHEMA.findField("id"));
+
+  @Test
+  public void testSingleColumnKey() {
+    PrimaryKeyRange range = PrimaryKeyRange.of(dataFile(1, 10, "a", "m", 0L), SINGLE_KEY_TYPE);
+    Assert.assertNotNull(range);
+
+    Assert.assertTrue(range.mayContain(singleKey(1)));
+    Assert.assertTrue(range.mayContain(singleKey(5)));
+    Assert.assertTrue(range.mayContain(singleKey(10)));
+    Assert.assertFalse(range.mayContain(singleKey(0)));
+    Assert.assertFalse(range.mayContain(singleKey(11)));
+  }
+
+  @Test
+  public void testMultiColumnKey() {
+    PrimaryKeyRange range =
+        PrimaryKeyRange.of(dataFile(1, 10, "a", "m", 0L), KEY_SCHEMA.asStruct());
+    Assert.assertNotNull(range);
+
+    Assert.assertTrue(range.mayContain(key(1, "a")));
+    Assert.assertTrue(range.mayContain(key(10, "m")));
+    // every column is in its bounds, though the file may not have the key
+    Assert.assertTrue(range.mayContain(key(10, "a")));
+    Assert.assertFalse(range.mayContain(key(5, "n")));
+    Assert.assertFalse(range.mayContain(key(11, "b")));
+    Assert.assertFalse(range.mayContain(key(0, "z")));
+  }
+
+  @Test
+  public void testNullKeyColumns() {
+    PrimaryKeyRange range =
+        PrimaryKeyRange.of(dataFile(1, 10, "a", "m", 1L), KEY_SCHEMA.asStruct());
+    Assert.assertNotNull(range);
+
+    // null values are not in the bounds, so a null column never excludes the key
+    Assert.assertTrue(range.mayContain(key(null, "b")));
+    Assert.assertTrue(range.mayContain(key(5, null)));
+    Assert.assertTrue(range.mayContain(key(null, null)));
+    // the other column still excludes the key
+    Assert.assertFalse(range.mayContain(key(null, "z")));
+    Assert.assertFalse(range.mayContain(key(11, null)));
+  }
+
+  @Test
+  public void testTruncatedStringBounds() {
+    String lower = "abcdefghij";
+    String upper = "abcdefghzz";
+    // the bounds written by the metrics are truncated to a prefix of the values
+    CharSequence truncatedLower = UnicodeUtil.truncateStringMin(Literal.of(lower), 4).value();
+    CharSequence truncatedUpper = UnicodeUtil.truncateStringMax(Literal.of(upper), 4).value();
+    Assert.assertEquals("abcd", truncatedLower.toString());
+    Assert.assertEquals("abce", truncatedUpper.toString());
+
+    PrimaryKeyRange range =
+        PrimaryKeyRange.of(
+            dataFile(1, 1, truncatedLower.toString(), truncatedUpper.toString(), 0L),
+            KEY_SCHEMA.asStruct());
+    Assert.assertNotNull(range);
+
+    Assert.assertTrue(range.mayContain(key(1, lower)));
+    Assert.assertTrue(range.mayContain(key(1, upper)));
+    Assert.assertTrue(range.mayContain(key(1, "abcd")));
+    Assert.assertTrue(range.mayContain(key(1, "abcdzzzzzz")));
+    Assert.assertFalse(range.mayContain(key(1, "abc")));
+    Assert.assertFalse(range.mayContain(key(1, "abcf")));
+  }
+
+  @Test
+  public void testMissingBounds() {
+    DataFile file =
+        DataFiles.builder(PartitionSpec.unpartitioned())
+            .withPath("/path/to/data-no-metrics.parquet")
+            .withFormat(FileFormat.PARQUET)
+            .withFileSizeInBytes(10)
+            .withRecordCount(1)
+            .build();
+    Assert.assertNull(PrimaryKeyRange.of(file, KEY_SCHEMA.asStruct()));
+
+    DataFile noNameBounds =
+        dataFile(
+            ImmutableMap.of(1, Conversions.toByteBuffer(Types.IntegerType.get(), 1)),
+            ImmutableMap.of(1, Conversions.toByteBuffer(Types.IntegerType.get(), 10)),
+            ImmutableMap.of(1, 0L, 2, 1L));
+    Assert.assertNull(PrimaryKeyRange.of(noNameBounds, KEY_SCHEMA.asStruct()));
+    Assert.assertNotNull(PrimaryKeyRange.of(noNameBounds, SINGLE_KEY_TYPE));
+  }
+
+  @Test
+  public void testOverlaps() {
+    PrimaryKeyRange range = PrimaryKeyRange.of(dataFile(1, 10, "a", "m", 0L), SINGLE_KEY_TYPE);
+    PrimaryKeyRange overlapped =
+        PrimaryKeyRange.of(dataFile(10, 20, "a", "m", 0L), SINGLE_KEY_TYPE);
+    PrimaryKeyRange disjoint = PrimaryKeyRange.of(dataFile(11, 20, "a", "m", 0L), SINGLE_KEY_TYPE);
+    Assert.assertTrue(range.overlaps(overlapped));
+    Assert.assertTrue(overlapped.overlaps(range));
+    Assert.assertFalse(range.overlaps(disjoint));
+    Assert.assertFalse(disjoint.overlaps(range));
+
+    // both ranges may have null keys, which are out of the bounds
+    PrimaryKeyRange withNulls = PrimaryKeyRange.of(dataFile(1, 10, "a", "m", 1L), SINGLE_KEY_TYPE);
+    PrimaryKeyRange disjointWithNulls =
+        PrimaryKeyRange.of(dataFile(11, 20, "a", "m", 1L), SINGLE_KEY_TYPE);
+    Assert.assertTrue(withNulls.overlaps(disjointWithNulls));
+    Assert.assertFalse(withNulls.overlaps(disjoint));
+  }
+
+  private static DataFile dataFile(
+      int lowerId, int upperId, String lowerName, String upperName, long nullCount) {
+    return dataFile(
+        ImmutableMap.of(
+            1, Conversions.toByteBuffer(Types.IntegerType.get(), lowerId),
+            2, Conversions.toByteBuffer(Types.StringType.get(), lowerName)),
+        ImmutableMap.of(
+            1, Conversions.toByteBuffer(Types.IntegerType.get(), upperId),
+            2, Conversions.toByteBuffer(Types.StringType.get(), upperName)),
+        ImmutableMap.of(1, nullCount, 2, nullCount));
+  }
+
+  private static DataFile dataFile(
+      Map<Integer, ByteBuffer> lowerBounds,
+      Map<Integer, ByteBuffer> upperBounds,
+      Map<Integer, Long> nullValueCounts) {
+    return DataFiles.builder(PartitionSpec.unpartitioned())
+        .withPath("/path/to/data-" + lowerBounds.hashCode() + ".parquet")
+        .withFormat(FileFormat.PARQUET)
+        .withFileSizeInBytes(10)
+        .withMetrics(new Metrics(10L, null, null, nullValueCounts, null, lowerBounds, upperBounds))
+        .build();
+  }
+
+  private static GenericRecord singleKey(Integer id) {
+    GenericRecord key = GenericRecord.create(SINGLE_KEY_TYPE);
+    key.set(0, id);
+    return key;
+  }
+
+  private static GenericRecord key(Integer id, String name) {
+    GenericRecord key = GenericRecord.create(KEY_SCHEMA);
+    key.set(0, id);
+    key.set(1, name);
+    return key;
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.io;
+
+import com.netease.arctic.table.TableMetaStore;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.security.UserGroupInformation;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.security.PrivilegedAction;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class TestArcticHadoopFileIODoAs {
+
+  private TableMetaStore tableMetaStore;
+  private ArcticHadoopFileIO fileIO;
+
+  @Before
+  public void setUp() throws IOException {
+    String user = UserGroupInformation.getCurrentUser().getShortUserName();
+    tableMetaStore =
+        TableMetaStore.builder()
+            .withSimpleAuth(user)
+            .withConfiguration(new Configuration())
+            .buildForTest();
+    fileIO = ArcticFileIOs.buildHadoopFileIO(tableMetaStore);
+  }
+
+  @Test
+  public void testDoAsRunWithTableUgi() throws IOException {
+    UserGroupInformation ugi = tableMetaStore.getUGI();
+    Assert.assertEquals(ugi, fileIO.doAs(UserGroupInformation::getCurrentUser));
+    // nested doAs inside the same security context
+    UserGroupInformation nested =
+        ugi.doAs(
+            (PrivilegedAction<UserGroupInformation>)
+                () -> fileIO.doAs(UserGroupInformation::getCurrentUser));
+    Assert.assertEquals(ugi, nested);
+  }
+
+  @Test
+  public void testDoAsSkippedInSameSecurityContext() throws IOException {
+    UserGroupInformation ugi = tableMetaStore.getUGI();
+    Assert.assertEquals(1, (int) fileIO.doAs(TestArcticHadoopFileIODoAs::ugiDoAsDepth));
+    // the nested doAs runs the callable directly instead of entering the ugi again
+    int nestedDepth =
+        ugi.doAs(
+            (PrivilegedAction<Integer>)
+                () -> fileIO.doAs(TestArcticHadoopFileIODoAs::ugiDoAsDepth));
+    Assert.assertEquals(1, nestedDepth);
+  }
+
+  @Test
+  public void testDoAsWithCachedUgi() throws Exception {
+    // validate and cache the ugi
+    fileIO.doAs(() -> null);
+
+    // getUGI() is synchronized on the table meta store, the cached ugi must not need the lock
+    CountDownLatch locked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    UserGroupInformation ugi;
+    try {
+      executor.submit(
+          () -> {
+            synchronized (tableMetaStore) {
+              locked.countDown();
+              release.await();
+            }
+            return null;
+          });
+      locked.await();
+      Future<UserGroupInformation> future =
+          executor.submit(() -> fileIO.doAs(UserGroupInformation::getCurrentUser));
+      ugi = future.get(10, TimeUnit.SECONDS);
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+    Assert.assertEquals(tableMetaStore.getUGI(), ugi);
+  }
+
+  private static int ugiDoAsDepth() {
+    return (int)
+        Arrays.stream(Thread.currentThread().getStackTrace())
+            .filter(
+                element ->
+                    element.getClassName().equals(UserGroupInformation.class.getName())
+                        && element.getMethodName().equals("doAs"))
+            .count();
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.io;
+
+import com.netease.arctic.table.TableMetaStore;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetWriter;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.PositionOutputStream;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.base.Strings;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+
+public class TestAsyncUploadOutputStream {
+
+  @Rule public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testWriteManyParts() throws IOException {
+    File file = new File(temp.getRoot(), "data");
+    OutputFile outputFile = new AsyncUploadOutputFile(Files.localOutput(file), 1000, 2);
+    byte[] expected = new byte[10 * 1000 + 123];
+    new Random(1).nextBytes(expected);
+
+    try (PositionOutputStream out = outputFile.create()) {
+      out.write(expected[0]);
+      out.write(expected, 1, 2500);
+      Assert.assertEquals(2501, out.getPos());
+      for (int i = 2501; i < expected.length; i++) {
+        out.write(expected[i]);
+      }
+      Assert.assertEquals(expected.length, out.getPos());
+    }
+    Assert.assertArrayEquals(expected, java.nio.file.Files.readAllBytes(file.toPath()));
+  }
+
+  @Test
+  public void testFlush() throws IOException {
+    File file = new File(temp.getRoot(), "data");
+    try (PositionOutputStream out =
+        new AsyncUploadOutputStream(Files.localOutput(file).create(), 1000, 2)) {
+      out.write(new byte[10]);
+      out.flush();
+      Assert.assertEquals(10, file.length());
+    }
+  }
+
+  @Test
+  public void testSharedPartBudget() throws IOException {
+    Semaphore partBudget = new Semaphore(1);
+    File first = new File(temp.getRoot(), "first");
+    File second = new File(temp.getRoot(), "second");
+    byte[] expected = new byte[10 * 100 + 12];
+    new Random(1).nextBytes(expected);
+
+    PositionOutputStream firstOut =
+        new AsyncUploadOutputStream(
+            Files.localOutput(first).create(), 100, 4, partBudget, TableMetaStore.EMPTY);
+    firstOut.write(expected, 0, 250);
+    Assert.assertEquals(0, partBudget.availablePermits());
+
+    // the second stream writes on the caller thread while the budget is used up
+    try (PositionOutputStream secondOut =
+        new AsyncUploadOutputStream(
+            Files.localOutput(second).create(), 100, 4, partBudget, TableMetaStore.EMPTY)) {
+      secondOut.write(expected);
+      Assert.assertEquals(1000, second.length());
+    }
+
+    firstOut.write(expected, 250, expected.length - 250);
+    firstOut.close();
+    Assert.assertEquals(1, partBudget.availablePermits());
+    Assert.assertArrayEquals(expected, java.nio.file.Files.readAllBytes(first.toPath()));
+    Assert.assertArrayEquals(expected, java.nio.file.Files.readAllBytes(second.toPath()));
+  }
+
+  @Test
+  public void testUploadFailure() throws IOException {
+    PositionOutputStream failing =
+        new PositionOutputStream() {
+          @Override
+          public long getPos() {
+            return 0;
+          }
+
+          @Override
+          public void write(int b) throws IOException {
+            throw new IOException("upload failed");
+          }
+
+          @Override
+          public void write(byte[] b, int off, int len) throws IOException {
+            throw new IOException("upload failed");
+          }
+        };
+    AsyncUploadOutputStream out = new AsyncUploadOutputStream(failing, 10, 2);
+    out.write(new byte[100]);
+    IOException exception = Assert.assertThrows(IOException.class, out::close);
+    Assert.assertEquals("upload failed", exception.getMessage());
+  }
+
+  @Test
+  public void testWriteParquetWithTableConf() throws IOException {
+    Configuration conf = new Configuration();
+    conf.setInt("parquet.columnindex.truncate.length", 8);
+    ArcticHadoopFileIO io =
+        ArcticFileIOs.buildHadoopFileIO(
+            TableMetaStore.builder().withConfiguration(conf).buildForTest());
+    io.enableAsyncUpload(1000, 2, 10 * 1000);
+    Map<String, String> writerConf = ArcticFileIOs.writerHadoopConf(io);
+    Assert.assertEquals("8", writerConf.get("parquet.columnindex.truncate.length"));
+
+    // parquet writers take a default conf for the wrapped file and lose the table conf
+    Assert.assertEquals(40, writeParquetColumnIndexLength(io, "default.parquet", conf, null));
+    Assert.assertEquals(8, writeParquetColumnIndexLength(io, "table.parquet", conf, writerConf));
+  }
+
+  private int writeParquetColumnIndexLength(
+      ArcticHadoopFileIO io, String name, Configuration conf, Map<String, String> writerConf)
+      throws IOException {
+    Schema schema = new Schema(Types.NestedField.required(1, "data", Types.StringType.get()));
+    Record record = GenericRecord.create(schema);
+    record.setField("data", Strings.repeat("a", 40));
+    String path = new File(temp.getRoot(), name).getAbsolutePath();
+    OutputFile outputFile = io.newOutputFile(path);
+    Assert.assertTrue(outputFile instanceof AsyncUploadOutputFile);
+
+    Parquet.WriteBuilder builder =
+        Parquet.write(outputFile)
+            .schema(schema)
+            .createWriterFunc(GenericParquetWriter::buildWriter);
+    if (writerConf != null) {
+      builder.setAll(writerConf);
+    }
+    try (FileAppender<Record> appender = builder.build()) {
+      appender.add(record);
+    }
+
+    try (ParquetFileReader reader =
+        ParquetFileReader.open(HadoopInputFile.fromPath(new Path(path), conf))) {
+      ColumnChunkMetaData column = reader.getRowGroups().get(0).getColumns().get(0);
+      return reader.readColumnIndex(column).getMinValues().get(0).remaining();
+    }
+  }
+}
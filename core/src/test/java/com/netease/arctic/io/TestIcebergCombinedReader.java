@@ -26,9 +26,12 @@ import com.netease.arctic.io.reader.CombinedDeleteFilter;
 import com.netease.arctic.io.reader.GenericCombinedIcebergDataReader;
 import com.netease.arctic.optimizing.RewriteFilesInput;
 import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileMetadata;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TestHelpers;
@@ -69,6 +72,12 @@ public class TestIcebergCombinedReader extends TableTestBase {
 
   private RewriteFilesInput filterEqDeleteScanTask;
 
+  private RewriteFilesInput sortedScanTask;
+
+  private RewriteFilesInput unsortedEqDeleteScanTask;
+
+  private RewriteFilesInput sortedDataFilesScanTask;
+
   public TestIcebergCombinedReader(boolean partitionedTable, FileFormat fileFormat) {
     super(
         new BasicCatalogTestHelper(TableFormat.ICEBERG),
@@ -172,6 +181,60 @@ public class TestIcebergCombinedReader extends TableTestBase {
             new DeleteFile[] {},
             new DeleteFile[] {},
             getArcticTable());
+
+    getArcticTable().asUnkeyedTable().replaceSortOrder().asc("id").commit();
+    SortOrder sortOrder = getArcticTable().asUnkeyedTable().sortOrder();
+    DataFile sortedDataFile =
+        DataFiles.builder(getArcticTable().spec())
+            .copy(dataFile)
+            .withSortOrder(sortOrder)
+            .build();
+    DeleteFile sortedEqDeleteFile =
+        FileMetadata.deleteFileBuilder(getArcticTable().spec())
+            .copy(eqDeleteFile)
+            .withSortOrder(sortOrder)
+            .build();
+    sortedScanTask =
+        new RewriteFilesInput(
+            new DataFile[] {MixedDataTestHelpers.wrapIcebergDataFile(sortedDataFile, 1L)},
+            new DataFile[] {MixedDataTestHelpers.wrapIcebergDataFile(sortedDataFile, 1L)},
+            new DeleteFile[] {
+              MixedDataTestHelpers.wrapIcebergDeleteFile(sortedEqDeleteFile, 2L),
+              MixedDataTestHelpers.wrapIcebergDeleteFile(posDeleteFile, 3L)
+            },
+            new DeleteFile[] {},
+            getArcticTable());
+
+    // declared sorted, but the records are not
+    DeleteFile unsortedEqDeleteFile =
+        FileMetadata.deleteFileBuilder(getArcticTable().spec())
+            .copy(
+                FileHelpers.writeDeleteFile(
+                    getArcticTable().asUnkeyedTable(),
+                    outputFileFactory.newOutputFile(partitionData).encryptingOutputFile(),
+                    partitionData,
+                    Arrays.asList(idRecord.copy("id", 3), idRecord.copy("id", 1)),
+                    idSchema))
+            .withSortOrder(sortOrder)
+            .build();
+    unsortedEqDeleteScanTask =
+        new RewriteFilesInput(
+            new DataFile[] {MixedDataTestHelpers.wrapIcebergDataFile(sortedDataFile, 1L)},
+            new DataFile[] {MixedDataTestHelpers.wrapIcebergDataFile(sortedDataFile, 1L)},
+            new DeleteFile[] {},
+            new DeleteFile[] {MixedDataTestHelpers.wrapIcebergDeleteFile(unsortedEqDeleteFile, 2L)},
+            getArcticTable());
+
+    // the keys go backwards at the start of every data file
+    DataFile[] sortedDataFiles = new DataFile[6];
+    Arrays.fill(sortedDataFiles, MixedDataTestHelpers.wrapIcebergDataFile(sortedDataFile, 1L));
+    sortedDataFilesScanTask =
+        new RewriteFilesInput(
+            sortedDataFiles,
+            sortedDataFiles,
+            new DeleteFile[] {},
+            new DeleteFile[] {MixedDataTestHelpers.wrapIcebergDeleteFile(sortedEqDeleteFile, 2L)},
+            getArcticTable());
     filterEqDeleteScanTask =
         new RewriteFilesInput(
             new DataFile[] {MixedDataTestHelpers.wrapIcebergDataFile(dataFile, 1L)},
@@ -292,4 +355,96 @@ public class TestIcebergCombinedReader extends TableTestBase {
     }
     dataReader.close();
   }
+
+  @Test
+  public void readDataSortMergeEqDelete() throws IOException {
+    GenericCombinedIcebergDataReader dataReader =
+        new GenericCombinedIcebergDataReader(
+            getArcticTable().io(),
+            getArcticTable().schema(),
+            getArcticTable().spec(),
+            null,
+            false,
+            IdentityPartitionConverters::convertConstant,
+            false,
+            null,
+            sortedScanTask);
+
+    Assert.assertTrue(dataReader.getDeleteFilter().isSortMergeEqDelete());
+
+    try (CloseableIterable<Record> records = dataReader.readData()) {
+      Assert.assertEquals(1, Iterables.size(records));
+      Record record = Iterables.getFirst(records, null);
+      Assert.assertEquals(record.get(0), 3);
+    }
+
+    try (CloseableIterable<Record> records = dataReader.readDeletedData()) {
+      Assert.assertEquals(2, Iterables.size(records));
+    }
+    dataReader.close();
+  }
+
+  @Test
+  public void readDataFallbackForUnsortedEqDelete() throws IOException {
+    GenericCombinedIcebergDataReader dataReader =
+        new GenericCombinedIcebergDataReader(
+            getArcticTable().io(),
+            getArcticTable().schema(),
+            getArcticTable().spec(),
+            null,
+            false,
+            IdentityPartitionConverters::convertConstant,
+            false,
+            null,
+            unsortedEqDeleteScanTask);
+
+    Assert.assertTrue(dataReader.getDeleteFilter().isSortMergeEqDelete());
+    try (CloseableIterable<Record> records = dataReader.readData()) {
+      Assert.assertEquals(1, Iterables.size(records));
+      Record record = Iterables.getFirst(records, null);
+      Assert.assertEquals(record.get(0), 2);
+    }
+    dataReader.close();
+  }
+
+  @Test
+  public void readDataFallbackAfterMaxSortMerges() throws IOException {
+    GenericCombinedIcebergDataReader dataReader =
+        new GenericCombinedIcebergDataReader(
+            getArcticTable().io(),
+            getArcticTable().schema(),
+            getArcticTable().spec(),
+            null,
+            false,
+            IdentityPartitionConverters::convertConstant,
+            false,
+            null,
+            sortedDataFilesScanTask);
+
+    Assert.assertTrue(dataReader.getDeleteFilter().isSortMergeEqDelete());
+    try (CloseableIterable<Record> records = dataReader.readData()) {
+      List<Object> ids = Lists.newArrayList();
+      records.forEach(record -> ids.add(record.get(0)));
+      Assert.assertEquals(12, ids.size());
+      Assert.assertFalse(ids.contains(1));
+    }
+    dataReader.close();
+  }
+
+  @Test
+  public void readDataUnsortedEqDelete() {
+    GenericCombinedIcebergDataReader dataReader =
+        new GenericCombinedIcebergDataReader(
+            getArcticTable().io(),
+            getArcticTable().schema(),
+            getArcticTable().spec(),
+            null,
+            false,
+            IdentityPartitionConverters::convertConstant,
+            false,
+            null,
+            scanTask);
+    Assert.assertFalse(dataReader.getDeleteFilter().isSortMergeEqDelete());
+    dataReader.close();
+  }
 }
@@ -28,9 +28,11 @@ import com.netease.arctic.catalog.BasicCatalogTestHelper;
 import com.netease.arctic.catalog.CatalogTestHelper;
 import com.netease.arctic.catalog.TableTestBase;
 import com.netease.arctic.data.ChangeAction;
+import com.netease.arctic.io.writer.GenericBaseTaskWriter;
 import com.netease.arctic.io.writer.GenericTaskWriters;
 import com.netease.arctic.io.writer.SortedPosDeleteWriter;
 import com.netease.arctic.scan.TableEntriesScan;
+import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.table.TableProperties;
 import com.netease.arctic.table.UnkeyedTable;
 import com.netease.arctic.utils.ArcticTableUtil;
@@ -42,18 +44,23 @@ import org.apache.iceberg.FileContent;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.RowDelta;
+import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.data.Record;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
 import org.junit.Assert;
 import org.junit.Assume;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -135,6 +142,118 @@ public class TestTaskWriter extends TableTestBase {
     Assert.assertEquals(Sets.newHashSet(insertRecords), Sets.newHashSet(readRecords));
   }
 
+  @Test
+  public void testBaseWriterWithAsyncUpload() {
+    getArcticTable()
+        .updateProperties()
+        .set(TableProperties.WRITE_ASYNC_UPLOAD_ENABLED, "true")
+        .set(TableProperties.WRITE_ASYNC_UPLOAD_PART_SIZE, "1024")
+        .set(TableProperties.WRITE_ASYNC_UPLOAD_MAX_BUFFERED_BYTES, "2048")
+        .commit();
+    ArcticTable table = getMixedFormatCatalog().loadTable(tableTestHelper().id());
+    Assert.assertTrue(
+        table.io().newOutputFile(table.location() + "/test.parquet")
+            instanceof AsyncUploadOutputFile);
+
+    List<Record> insertRecords = Lists.newArrayList();
+    for (int id = 1; id <= 1000; id++) {
+      insertRecords.add(
+          tableTestHelper().generateTestRecord(id, "name-" + id, 0, "2022-01-01T12:00:00"));
+    }
+    List<DataFile> files = tableTestHelper().writeBaseStore(table, 1L, insertRecords, false);
+    Assert.assertTrue(files.stream().anyMatch(file -> file.fileSizeInBytes() > 1024));
+
+    UnkeyedTable baseStore = ArcticTableUtil.baseStore(table);
+    AppendFiles appendFiles = baseStore.newAppend();
+    files.forEach(appendFiles::appendFile);
+    appendFiles.commit();
+
+    List<Record> readRecords =
+        tableTestHelper().readBaseStore(table, Expressions.alwaysTrue(), null, false);
+    Assert.assertEquals(Sets.newHashSet(insertRecords), Sets.newHashSet(readRecords));
+  }
+
+  @Test
+  public void testSortedBaseWriter() throws IOException {
+    Assume.assumeTrue(isKeyedTable());
+    UnkeyedTable baseStore = ArcticTableUtil.baseStore(getArcticTable());
+    baseStore.replaceSortOrder().asc("id").commit();
+    SortOrder sortOrder = baseStore.sortOrder();
+    getArcticTable()
+        .updateProperties()
+        .set(TableProperties.BASE_WRITE_SORT_BY_PRIMARY_KEY_ENABLED, "true")
+        .set(TableProperties.BASE_WRITE_SORT_SPILL_RECORDS, "3")
+        .commit();
+
+    List<Record> insertRecords = Lists.newArrayList();
+    for (int id = 20; id > 0; id--) {
+      insertRecords.add(tableTestHelper().generateTestRecord(id, "john", 0, "2022-01-01T12:00:00"));
+    }
+    List<DataFile> files =
+        tableTestHelper().writeBaseStore(getArcticTable(), 1L, insertRecords, false);
+    Assert.assertEquals(4, files.size());
+
+    int idFieldId = getArcticTable().schema().findField("id").fieldId();
+    for (DataFile file : files) {
+      Assert.assertEquals(sortOrder.orderId(), (int) file.sortOrderId());
+      List<Integer> ids = Lists.newArrayList();
+      MixedDataTestHelpers.readDataFile(file.format(), baseStore.schema(), file.path())
+          .forEach(record -> ids.add((Integer) record.getField("id")));
+      List<Integer> sortedIds = Lists.newArrayList(ids);
+      sortedIds.sort(Integer::compareTo);
+      Assert.assertEquals(sortedIds, ids);
+      Assert.assertEquals(
+          ids.get(0),
+          Conversions.fromByteBuffer(Types.IntegerType.get(), file.lowerBounds().get(idFieldId)));
+      Assert.assertEquals(
+          ids.get(ids.size() - 1),
+          Conversions.fromByteBuffer(Types.IntegerType.get(), file.upperBounds().get(idFieldId)));
+    }
+
+    AppendFiles appendFiles = baseStore.newAppend();
+    files.forEach(appendFiles::appendFile);
+    appendFiles.commit();
+    List<Record> readRecords =
+        tableTestHelper().readBaseStore(getArcticTable(), Expressions.alwaysTrue(), null, false);
+    Assert.assertEquals(Sets.newHashSet(insertRecords), Sets.newHashSet(readRecords));
+  }
+
+  @Test
+  public void testSortedBaseWriterSpillDirectory() throws IOException {
+    Assume.assumeTrue(isKeyedTable());
+    getArcticTable()
+        .updateProperties()
+        .set(TableProperties.BASE_WRITE_SORT_BY_PRIMARY_KEY_ENABLED, "true")
+        .set(TableProperties.BASE_WRITE_SORT_SPILL_RECORDS, "3")
+        .commit();
+    File spillDirectory = new File(temp.newFolder(), "spill");
+
+    List<Record> insertRecords = Lists.newArrayList();
+    for (int id = 20; id > 0; id--) {
+      insertRecords.add(tableTestHelper().generateTestRecord(id, "john", 0, "2022-01-01T12:00:00"));
+    }
+    GenericBaseTaskWriter writer =
+        GenericTaskWriters.builderFor(getArcticTable())
+            .withTransactionId(1L)
+            .withSortSpillDirectory(spillDirectory.getAbsolutePath())
+            .buildBaseWriter();
+    for (Record record : insertRecords) {
+      writer.write(record);
+    }
+    Assert.assertTrue(spillDirectory.isDirectory());
+    Assert.assertTrue(spillDirectory.list().length > 0);
+    DataFile[] files = writer.complete().dataFiles();
+    Assert.assertEquals(0, spillDirectory.list().length);
+
+    UnkeyedTable baseStore = ArcticTableUtil.baseStore(getArcticTable());
+    AppendFiles appendFiles = baseStore.newAppend();
+    Arrays.stream(files).forEach(appendFiles::appendFile);
+    appendFiles.commit();
+    List<Record> readRecords =
+        tableTestHelper().readBaseStore(getArcticTable(), Expressions.alwaysTrue(), null, false);
+    Assert.assertEquals(Sets.newHashSet(insertRecords), Sets.newHashSet(readRecords));
+  }
+
   @Test
   public void testBasePosDeleteWriter() throws IOException {
     String fileFormat =
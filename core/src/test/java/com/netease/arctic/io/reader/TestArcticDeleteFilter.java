@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.netease.arctic.io.reader;
+
+import com.netease.arctic.data.ChangeAction;
+import com.netease.arctic.io.CloseablePredicate;
+import com.netease.arctic.io.MixedDataTestHelpers;
+import com.netease.arctic.io.TableDataTestBase;
+import com.netease.arctic.scan.CombinedScanTask;
+import com.netease.arctic.scan.KeyedTableScanTask;
+import com.netease.arctic.table.KeyedTable;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+public class TestArcticDeleteFilter extends TableDataTestBase {
+
+  @Test
+  public void testPruneEqDeletesOutOfKeyRanges() throws IOException {
+    // delete (id=2) in the key range of the base file, and keys out of the ranges of all files
+    List<Record> deletes = Lists.newArrayList(allRecords.get(1));
+    for (int id = 100; id < 116; id++) {
+      deletes.add(tableTestHelper().generateTestRecord(id, "nobody", 0, "2022-01-01T12:00:00"));
+    }
+    writeChangeStore(5L, ChangeAction.DELETE, deletes);
+
+    KeyedTable table = getArcticTable().asKeyedTable();
+    long prunedDeletes = 0;
+    try (CloseableIterable<CombinedScanTask> tasks = table.newScan().planTasks()) {
+      for (CombinedScanTask combinedTask : tasks) {
+        for (KeyedTableScanTask task : combinedTask.tasks()) {
+          TestDeleteFilter filter = new TestDeleteFilter(task, table);
+          try (CloseablePredicate<Record> ignored = filter.deletedPredicate()) {
+            prunedDeletes += filter.prunedEqDeletes();
+          }
+        }
+      }
+    }
+    Assert.assertTrue("Deletes out of the key ranges should be pruned", prunedDeletes > 0);
+
+    // the pruning never skips a delete of the data read
+    Set<Record> records =
+        Sets.newHashSet(MixedDataTestHelpers.readKeyedTable(table, Expressions.alwaysTrue()));
+    // expect: (id=1),(id=3),(id=6)
+    Set<Record> expectRecords = Sets.newHashSet();
+    expectRecords.add(allRecords.get(0));
+    expectRecords.add(allRecords.get(2));
+    expectRecords.add(allRecords.get(5));
+    Assert.assertEquals(expectRecords, records);
+  }
+
+  private static class TestDeleteFilter extends ArcticDeleteFilter<Record> {
+
+    private final KeyedTable table;
+
+    TestDeleteFilter(KeyedTableScanTask task, KeyedTable table) {
+      super(task, table.schema(), table.schema(), table.primaryKeySpec());
+      this.table = table;
+    }
+
+    @Override
+    protected StructLike asStructLike(Record record) {
+      return record;
+    }
+
+    @Override
+    protected InputFile getInputFile(String location) {
+      return table.io().newInputFile(location);
+    }
+  }
+}
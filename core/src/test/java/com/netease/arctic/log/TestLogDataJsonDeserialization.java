@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.log;
+
+import com.netease.arctic.data.ChangeAction;
+import com.netease.arctic.log.data.LogArrayData;
+import com.netease.arctic.utils.IdGenerator;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.relocated.com.google.common.primitives.Longs;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class TestLogDataJsonDeserialization extends FormatTestBase {
+
+  private static final byte[] UPSTREAM_ID = IdGenerator.generateUpstreamId();
+
+  private final Schema schema =
+      new Schema(
+          Types.NestedField.optional(1, "f_int", Types.IntegerType.get()),
+          Types.NestedField.optional(2, "f_long", Types.LongType.get()),
+          Types.NestedField.optional(3, "f_string", Types.StringType.get()),
+          Types.NestedField.optional(4, "f_decimal", Types.DecimalType.of(18, 9)),
+          Types.NestedField.optional(
+              5,
+              "f_struct",
+              Types.StructType.of(
+                  Types.NestedField.optional(6, "f_sub_boolean", Types.BooleanType.get()),
+                  Types.NestedField.optional(7, "f_sub_double", Types.DoubleType.get()))),
+          Types.NestedField.optional(
+              8, "f_list", Types.ListType.ofOptional(9, Types.LongType.get())),
+          Types.NestedField.optional(
+              10,
+              "f_map",
+              Types.MapType.ofOptional(11, 12, Types.LongType.get(), Types.StringType.get())));
+
+  /** Fills the reused pojo, like a factory of mutable rows. */
+  private final LogData.Factory<UserPojo> reusingFactory =
+      new LogData.Factory<UserPojo>() {
+        @Override
+        public UserPojo createActualValue(Object[] objects, Type[] fieldTypes) {
+          return factory.createActualValue(objects, fieldTypes);
+        }
+
+        @Override
+        public UserPojo createActualValue(UserPojo reuse, Object[] objects, Type[] fieldTypes) {
+          if (reuse == null) {
+            return createActualValue(objects, fieldTypes);
+          }
+          reuse.objects = objects;
+          return reuse;
+        }
+
+        @Override
+        public LogData<UserPojo> create(UserPojo userPojo, Object... headers) {
+          return factory.create(userPojo, headers);
+        }
+
+        @Override
+        public Class<?> getActualValueClass() {
+          return factory.getActualValueClass();
+        }
+
+        @Override
+        public Object convertIfNecessary(Type primitiveType, Object obj) {
+          return factory.convertIfNecessary(primitiveType, obj);
+        }
+      };
+
+  @Test
+  public void testDeserializeTokens() throws IOException {
+    LogDataJsonDeserialization<UserPojo> deserialization =
+        new LogDataJsonDeserialization<>(schema, factory, arrayFactory, mapFactory);
+    String json =
+        "{\"f_unknown\":{\"f_int\":7,\"f_list\":[1,{\"a\":[]}]},\"f_int\":\"12\","
+            + "\"f_long\":1234567890123,\"f_string\":{\"k\":[1,2]},"
+            + "\"f_decimal\":123456789.123456789,"
+            + "\"f_struct\":{\"f_sub_double\":1.5,\"f_sub_boolean\":true},"
+            + "\"f_list\":[1,null,3],\"f_map\":{\"1\":\"a\",\"2\":null}}";
+    LogData<UserPojo> logData = deserialization.deserialize(message(7L, ChangeAction.INSERT, json));
+
+    Assert.assertArrayEquals(UPSTREAM_ID, logData.getUpstreamIdBytes());
+    Assert.assertEquals(7L, logData.getEpicNo());
+    Assert.assertFalse(logData.getFlip());
+    Assert.assertEquals(ChangeAction.INSERT, logData.getChangeAction());
+    Object[] row = logData.getActualValue().objects;
+    Assert.assertEquals(12, row[0]);
+    Assert.assertEquals(1234567890123L, row[1]);
+    // a container in a string field is kept as its JSON
+    Assert.assertEquals("{\"k\":[1,2]}", row[2]);
+    // decimals are read exactly rather than through doubles
+    Assert.assertEquals(new BigDecimal("123456789.123456789"), row[3]);
+    Assert.assertArrayEquals(new Object[] {true, 1.5d}, ((UserPojo) row[4]).objects);
+    Assert.assertEquals(new GenericArrayData(new Long[] {1L, null, 3L}, 3, false), row[5]);
+    GenericMapData map = (GenericMapData) row[6];
+    Assert.assertEquals(2, map.size());
+    Assert.assertArrayEquals(new Object[] {1L, 2L}, sorted(map.keyArray()));
+  }
+
+  @Test
+  public void testDeserializeNullsAndMissingFields() throws IOException {
+    LogDataJsonDeserialization<UserPojo> deserialization =
+        new LogDataJsonDeserialization<>(schema, factory, arrayFactory, mapFactory);
+    LogData<UserPojo> logData =
+        deserialization.deserialize(
+            message(1L, ChangeAction.DELETE, "{\"f_int\":null,\"f_struct\":{},\"f_list\":[]}"));
+    Object[] row = logData.getActualValue().objects;
+    Assert.assertEquals(7, row.length);
+    Assert.assertNull(row[0]);
+    Assert.assertNull(row[1]);
+    Assert.assertArrayEquals(new Object[] {null, null}, ((UserPojo) row[4]).objects);
+    Assert.assertEquals(0, ((GenericArrayData) row[5]).size());
+    Assert.assertNull(row[6]);
+
+    Assert.assertNull(
+        deserialization.deserialize(message(1L, ChangeAction.INSERT, "null")).getActualValue());
+  }
+
+  @Test
+  public void testReuseActualValue() throws IOException {
+    LogDataJsonDeserialization<UserPojo> deserialization =
+        new LogDataJsonDeserialization<>(schema, reusingFactory, arrayFactory, mapFactory);
+    LogData<UserPojo> first =
+        deserialization.deserialize(
+            message(1L, ChangeAction.INSERT, "{\"f_int\":1,\"f_string\":\"a\"}"), null);
+    UserPojo row = first.getActualValue();
+    Assert.assertEquals(1, row.objects[0]);
+
+    LogData<UserPojo> second =
+        deserialization.deserialize(
+            message(2L, ChangeAction.UPDATE_AFTER, "{\"f_int\":2,\"f_long\":3}"), row);
+    Assert.assertSame(row, second.getActualValue());
+    Assert.assertEquals(2L, second.getEpicNo());
+    Assert.assertEquals(ChangeAction.UPDATE_AFTER, second.getChangeAction());
+    Assert.assertEquals(2, row.objects[0]);
+    Assert.assertEquals(3L, row.objects[1]);
+    // fields of the former message are not left behind
+    Assert.assertNull(row.objects[2]);
+
+    // the headers of consecutive messages are shared
+    Assert.assertSame(first.getUpstreamIdBytes(), second.getUpstreamIdBytes());
+    Assert.assertSame(first.getVersionBytes(), second.getVersionBytes());
+  }
+
+  @Test
+  public void testDeserializeFlip() throws IOException {
+    LogDataJsonDeserialization<UserPojo> deserialization =
+        new LogDataJsonDeserialization<>(schema, reusingFactory, arrayFactory, mapFactory);
+    byte[] flip = message(3L, ChangeAction.INSERT, "");
+    flip[16] = 1;
+    LogData<UserPojo> logData = deserialization.deserialize(flip, new UserPojo());
+    Assert.assertTrue(logData.getFlip());
+    Assert.assertNull(logData.getActualValue());
+  }
+
+  private static byte[] message(long epicNo, ChangeAction changeAction, String json) {
+    byte[] payload = json.getBytes(StandardCharsets.UTF_8);
+    byte[] message = new byte[18 + payload.length];
+    System.arraycopy(FormatVersion.FORMAT_VERSION_V1.asBytes(), 0, message, 0, 4);
+    System.arraycopy(UPSTREAM_ID, 0, message, 4, 4);
+    System.arraycopy(Longs.toByteArray(epicNo), 0, message, 8, 8);
+    message[16] = 0;
+    message[17] = changeAction.toByteValue();
+    System.arraycopy(payload, 0, message, 18, payload.length);
+    return message;
+  }
+
+  private static Object[] sorted(LogArrayData array) {
+    Object[] values = new Object[array.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = array.getLong(i);
+    }
+    Arrays.sort(values);
+    return values;
+  }
+}
@@ -18,6 +18,10 @@
 
 package com.netease.arctic.optimizing;
 
+import static com.netease.arctic.table.TableProperties.SELF_OPTIMIZING_PIPELINE_ENABLED;
+import static com.netease.arctic.table.TableProperties.SELF_OPTIMIZING_PIPELINE_QUEUE_SIZE;
+import static com.netease.arctic.table.TableProperties.SELF_OPTIMIZING_ROW_GROUP_COPY_ENABLED;
+
 import com.netease.arctic.BasicTableTestHelper;
 import com.netease.arctic.ams.api.TableFormat;
 import com.netease.arctic.catalog.BasicCatalogTestHelper;
@@ -63,6 +67,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RunWith(Parameterized.class)
 public class IcebergRewriteExecutorTest extends TableTestBase {
@@ -209,6 +214,17 @@ public class IcebergRewriteExecutorTest extends TableTestBase {
     readAllData();
   }
 
+  @Test
+  public void readAllDataInPipeline() throws IOException {
+    getArcticTable()
+        .asUnkeyedTable()
+        .updateProperties()
+        .set(SELF_OPTIMIZING_PIPELINE_ENABLED, "true")
+        .set(SELF_OPTIMIZING_PIPELINE_QUEUE_SIZE, "1")
+        .commit();
+    readAllData();
+  }
+
   @Test
   public void readOnlyData() throws IOException {
     IcebergRewriteExecutor executor =
@@ -228,6 +244,102 @@ public class IcebergRewriteExecutorTest extends TableTestBase {
     Assert.assertTrue(output.getDeleteFiles() == null || output.getDeleteFiles().length == 0);
   }
 
+  @Test
+  public void rewriteByCopyingRowGroups() throws IOException {
+    Assume.assumeTrue(fileFormat == FileFormat.PARQUET);
+    getArcticTable()
+        .asUnkeyedTable()
+        .updateProperties()
+        .set(SELF_OPTIMIZING_ROW_GROUP_COPY_ENABLED, "true")
+        .commit();
+    DataFile[] inputFiles = rowGroupCopyInputFiles();
+    RewriteFilesOutput output = rewriteByCopyingRowGroups(inputFiles);
+
+    Assert.assertEquals(1, output.getDataFiles().length);
+    DataFile dataFile = output.getDataFiles()[0];
+    Assert.assertEquals(7, dataFile.recordCount());
+    Assert.assertEquals(
+        getArcticTable().io().newInputFile(dataFile.path().toString()).getLength(),
+        dataFile.fileSizeInBytes());
+    // rewriting rows would write a single row group, copying keeps the row group of each input
+    Assert.assertEquals(inputFiles.length, dataFile.splitOffsets().size());
+    Assert.assertEquals(7, readIds(output.getDataFiles()).size());
+  }
+
+  @Test
+  public void rewriteByCopyingRowGroupsRollingAtTargetSize() throws IOException {
+    Assume.assumeTrue(fileFormat == FileFormat.PARQUET);
+    getArcticTable()
+        .asUnkeyedTable()
+        .updateProperties()
+        .set(SELF_OPTIMIZING_ROW_GROUP_COPY_ENABLED, "true")
+        .set(com.netease.arctic.table.TableProperties.SELF_OPTIMIZING_TARGET_SIZE, "1")
+        .commit();
+    DataFile[] inputFiles = rowGroupCopyInputFiles();
+    RewriteFilesOutput output = rewriteByCopyingRowGroups(inputFiles);
+
+    // every input exceeds the target size, so a new file is rolled after each of them
+    Assert.assertEquals(inputFiles.length, output.getDataFiles().length);
+    for (int i = 0; i < inputFiles.length; i++) {
+      DataFile dataFile = output.getDataFiles()[i];
+      Assert.assertEquals(inputFiles[i].recordCount(), dataFile.recordCount());
+      Assert.assertEquals(1, dataFile.splitOffsets().size());
+      Assert.assertEquals(
+          getArcticTable().io().newInputFile(dataFile.path().toString()).getLength(),
+          dataFile.fileSizeInBytes());
+    }
+    Assert.assertEquals(7, readIds(output.getDataFiles()).size());
+  }
+
+  /** The data file of the test with 3 records, and two more data files of 2 records. */
+  private DataFile[] rowGroupCopyInputFiles() throws IOException {
+    StructLike partitionData = getPartitionData();
+    OutputFileFactory outputFileFactory =
+        OutputFileFactory.builderFor(getArcticTable().asUnkeyedTable(), 0, 2)
+            .format(fileFormat)
+            .build();
+    List<DataFile> dataFiles = Lists.newArrayList(dataScanTask.rewrittenDataFiles());
+    for (int id = 4; id < 8; id += 2) {
+      dataFiles.add(
+          FileHelpers.writeDataFile(
+              getArcticTable().asUnkeyedTable(),
+              outputFileFactory.newOutputFile(partitionData).encryptingOutputFile(),
+              partitionData,
+              Arrays.asList(
+                  MixedDataTestHelpers.createRecord(id, "jake", 3, "1970-01-01T08:00:00"),
+                  MixedDataTestHelpers.createRecord(id + 1, "mary", 4, "1970-01-01T08:00:00"))));
+    }
+    return dataFiles.toArray(new DataFile[0]);
+  }
+
+  private RewriteFilesOutput rewriteByCopyingRowGroups(DataFile[] inputFiles) {
+    RewriteFilesInput input =
+        new RewriteFilesInput(
+            inputFiles,
+            new DataFile[] {},
+            new DeleteFile[] {},
+            new DeleteFile[] {},
+            getArcticTable());
+    IcebergRewriteExecutor executor =
+        new IcebergRewriteExecutor(input, getArcticTable(), StructLikeCollections.DEFAULT);
+    return executor.execute();
+  }
+
+  private Set<Integer> readIds(DataFile[] dataFiles) throws IOException {
+    Set<Integer> ids = Sets.newHashSet();
+    for (DataFile dataFile : dataFiles) {
+      try (CloseableIterable<Record> records =
+          openFile(
+              dataFile.path().toString(),
+              dataFile.format(),
+              getArcticTable().schema(),
+              new HashMap<>())) {
+        records.forEach(record -> ids.add((Integer) record.getField("id")));
+      }
+    }
+    return ids;
+  }
+
   private CloseableIterable<Record> openFile(
       String path, FileFormat fileFormat, Schema fileProjection, Map<Integer, ?> idToConstant) {
     InputFile input = getArcticTable().io().newInputFile(path);
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.netease.arctic.optimizing;
+
+import com.netease.arctic.io.ArcticFileIO;
+import com.netease.arctic.io.ArcticFileIOs;
+import com.netease.arctic.table.TableMetaStore;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestPipelinedRecordIterator {
+
+  private static final long TIMEOUT_MS = 30_000;
+
+  private final ArcticFileIO io = ArcticFileIOs.buildHadoopFileIO(TableMetaStore.EMPTY);
+
+  @Test(timeout = TIMEOUT_MS)
+  public void readAllRecords() {
+    RecordSource source = new RecordSource(10, -1);
+    List<Integer> records = Lists.newArrayList();
+    try (PipelinedRecordIterator<Integer> iterator =
+        new PipelinedRecordIterator<>(source, io, 3, 2)) {
+      iterator.forEachRemaining(records::add);
+    }
+    Assert.assertEquals(Lists.newArrayList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), records);
+    Assert.assertTrue(source.closed.get());
+  }
+
+  @Test(timeout = TIMEOUT_MS)
+  public void readEmptyInput() {
+    RecordSource source = new RecordSource(0, -1);
+    try (PipelinedRecordIterator<Integer> iterator =
+        new PipelinedRecordIterator<>(source, io, 3, 2)) {
+      Assert.assertFalse(iterator.hasNext());
+      Assert.assertFalse(iterator.hasNext());
+      Assert.assertThrows(NoSuchElementException.class, iterator::next);
+    }
+    Assert.assertTrue(source.closed.get());
+  }
+
+  @Test(timeout = TIMEOUT_MS)
+  public void rethrowReaderFailure() {
+    RecordSource source = new RecordSource(10, 5);
+    List<Integer> records = Lists.newArrayList();
+    try (PipelinedRecordIterator<Integer> iterator =
+        new PipelinedRecordIterator<>(source, io, 2, 2)) {
+      IllegalStateException failure =
+          Assert.assertThrows(
+              IllegalStateException.class, () -> iterator.forEachRemaining(records::add));
+      Assert.assertEquals("Failed to read record 5", failure.getMessage());
+    }
+    // the records of the completed batches are handed over before the failure
+    Assert.assertEquals(Lists.newArrayList(0, 1, 2, 3), records);
+    Assert.assertTrue(source.closed.get());
+  }
+
+  @Test(timeout = TIMEOUT_MS)
+  public void closeWhileReaderBlocked() throws InterruptedException {
+    RecordSource source = new RecordSource(Integer.MAX_VALUE, -1);
+    PipelinedRecordIterator<Integer> iterator = new PipelinedRecordIterator<>(source, io, 1, 1);
+    Assert.assertEquals(0, (int) iterator.next());
+    // one record is consumed, one is queued and the reader waits to offer the next one
+    while (source.read.get() < 3) {
+      Thread.sleep(10);
+    }
+    Thread.sleep(200);
+    Assert.assertEquals(3, source.read.get());
+    Assert.assertFalse(source.closed.get());
+
+    iterator.close();
+    // close returns only after the reader thread has closed the source and exited
+    Assert.assertTrue(source.closed.get());
+    Assert.assertEquals(3, source.read.get());
+  }
+
+  /** Produces ascending integers, optionally failing when the given record is read. */
+  private static class RecordSource implements CloseableIterable<Integer> {
+    private final int size;
+    private final int failAt;
+    private final AtomicInteger read = new AtomicInteger(0);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    RecordSource(int size, int failAt) {
+      this.size = size;
+      this.failAt = failAt;
+    }
+
+    @Override
+    public CloseableIterator<Integer> iterator() {
+      return new CloseableIterator<Integer>() {
+        @Override
+        public boolean hasNext() {
+          return read.get() < size;
+        }
+
+        @Override
+        public Integer next() {
+          int record = read.get();
+          if (record == failAt) {
+            throw new IllegalStateException("Failed to read record " + record);
+          }
+          return read.getAndIncrement();
+        }
+
+        @Override
+        public void close() {
+          closed.set(true);
+        }
+      };
+    }
+
+    @Override
+    public void close() {}
+  }
+}
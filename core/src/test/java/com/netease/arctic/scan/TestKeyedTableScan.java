@@ -18,12 +18,19 @@
 
 package com.netease.arctic.scan;
 
+import com.netease.arctic.ams.api.metrics.Gauge;
+import com.netease.arctic.ams.api.metrics.MetricDefine;
+import com.netease.arctic.ams.api.metrics.MetricKey;
+import com.netease.arctic.data.ChangeAction;
 import com.netease.arctic.io.MixedDataTestHelpers;
 import com.netease.arctic.io.TableDataTestBase;
 import com.netease.arctic.io.writer.GenericChangeTaskWriter;
 import com.netease.arctic.io.writer.GenericTaskWriters;
+import com.netease.arctic.table.TableProperties;
 import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.StructLike;
 import org.apache.iceberg.data.Record;
+import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.WriteResult;
@@ -34,7 +41,10 @@ import org.junit.Test;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class TestKeyedTableScan extends TableDataTestBase {
 
@@ -46,10 +56,154 @@ public class TestKeyedTableScan extends TableDataTestBase {
     assertFileCount(6, 2, 1);
   }
 
+  @Test
+  public void testScanWithPlanExecutor() throws IOException {
+    writeInsertFileIntoBaseStore();
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      assertFileCount(
+          getArcticTable().asKeyedTable().newScan().planWith(executorService), 6, 2, 1);
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  public void testIterateTasksPlannedWithExecutorTwice() throws IOException {
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      CloseableIterable<CombinedScanTask> combinedScanTasks =
+          getArcticTable().asKeyedTable().newScan().planWith(executorService).planTasks();
+      try (CloseableIterator<CombinedScanTask> tasks = combinedScanTasks.iterator()) {
+        Assert.assertTrue(tasks.hasNext());
+        tasks.forEachRemaining(task -> {});
+      }
+      // the partitions are released while consumed, a second pass must not silently be empty
+      Assert.assertThrows(IllegalStateException.class, combinedScanTasks::iterator);
+      combinedScanTasks.close();
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  public void testScanWithPlanCache() throws IOException {
+    getArcticTable()
+        .updateProperties()
+        .set(TableProperties.READ_PLAN_CACHE_ENABLED, "true")
+        .commit();
+    KeyedTableScanPlanCache planCache =
+        new KeyedTableScanPlanCache(KeyedTableScanPlanCache.MAX_FILES_DEFAULT);
+    assertFileCount(newScan(planCache), 4, 2, 1);
+    assertFileCount(newScan(planCache), 4, 2, 1);
+    Assert.assertEquals(1, planCache.stats().hitCount());
+    Assert.assertEquals(1, planCache.stats().missCount());
+
+    // new snapshot of base store is planned again
+    writeInsertFileIntoBaseStore();
+    assertFileCount(newScan(planCache), 6, 2, 1);
+    Assert.assertEquals(2, planCache.stats().missCount());
+
+    // the legacy partition optimized sequence lives in the partition properties
+    StructLike partition;
+    try (CloseableIterable<CombinedScanTask> tasks = newScan(planCache).planTasks()) {
+      partition =
+          tasks.iterator().next().tasks().iterator().next().dataTasks().get(0).file().partition();
+    }
+    Assert.assertEquals(3, planCache.stats().hitCount());
+    getArcticTable()
+        .asKeyedTable()
+        .baseTable()
+        .updatePartitionProperties(null)
+        .set(partition, "key", "value")
+        .commit();
+    assertFileCount(newScan(planCache), 6, 2, 1);
+    Assert.assertEquals(3, planCache.stats().missCount());
+  }
+
+  @Test
+  public void testPlanCacheReturnsCopies() throws IOException {
+    getArcticTable()
+        .updateProperties()
+        .set(TableProperties.READ_PLAN_CACHE_ENABLED, "true")
+        .commit();
+    KeyedTableScanPlanCache planCache =
+        new KeyedTableScanPlanCache(KeyedTableScanPlanCache.MAX_FILES_DEFAULT);
+    try (CloseableIterable<CombinedScanTask> tasks = newScan(planCache).planTasks()) {
+      for (CombinedScanTask combinedScanTask : tasks) {
+        for (KeyedTableScanTask task : combinedScanTask.tasks()) {
+          ((NodeFileScanTask) task).setArcticEquityDeletes(Collections.emptyList());
+        }
+      }
+    }
+    assertFileCount(newScan(planCache), 4, 2, 1);
+    Assert.assertEquals(1, planCache.stats().hitCount());
+  }
+
+  @Test
+  public void testPlanCacheKeyedByBoundFilter() throws IOException {
+    getArcticTable()
+        .updateProperties()
+        .set(TableProperties.READ_PLAN_CACHE_ENABLED, "true")
+        .commit();
+    KeyedTableScanPlanCache planCache =
+        new KeyedTableScanPlanCache(KeyedTableScanPlanCache.MAX_FILES_DEFAULT);
+    newScan(planCache).filter(Expressions.lessThan("id", 5)).planTasks().close();
+    // the same filter written differently hits the cache
+    newScan(planCache).filter(Expressions.lessThanOrEqual("id", 4)).planTasks().close();
+    newScan(planCache)
+        .filter(Expressions.not(Expressions.greaterThanOrEqual("id", 5)))
+        .planTasks()
+        .close();
+    Assert.assertEquals(2, planCache.stats().hitCount());
+    Assert.assertEquals(1, planCache.stats().missCount());
+
+    newScan(planCache).filter(Expressions.lessThan("id", 6)).planTasks().close();
+    newScan(planCache).filter(Expressions.lessThan("ts", 5L)).planTasks().close();
+    Assert.assertEquals(3, planCache.stats().missCount());
+
+    Assert.assertEquals(2L, gaugeValue(planCache, KeyedTableScanPlanCache.PLAN_CACHE_HIT_COUNT));
+    Assert.assertEquals(3L, gaugeValue(planCache, KeyedTableScanPlanCache.PLAN_CACHE_MISS_COUNT));
+    Assert.assertEquals(3L, gaugeValue(planCache, KeyedTableScanPlanCache.PLAN_CACHE_SIZE));
+  }
+
+  private static long gaugeValue(KeyedTableScanPlanCache planCache, MetricDefine define) {
+    Gauge<?> gauge = (Gauge<?>) planCache.getMetrics().get(new MetricKey(define, null));
+    return gauge.getValue().longValue();
+  }
+
+  private KeyedTableScan newScan(KeyedTableScanPlanCache planCache) {
+    return ((BasicKeyedTableScan) getArcticTable().asKeyedTable().newScan())
+        .withPlanCache(planCache);
+  }
+
+  @Test
+  public void testScanPruneEqDeleteByKeyRange() throws IOException {
+    // the delete file of the root node is related to all data nodes of the partition
+    getArcticTable()
+        .updateProperties()
+        .set(TableProperties.CHANGE_FILE_INDEX_HASH_BUCKET, "1")
+        .commit();
+    writeChangeStore(
+        6L,
+        ChangeAction.DELETE,
+        Collections.singletonList(
+            tableTestHelper().generateTestRecord(100, "tom", 0, "2022-01-01T12:00:00")));
+
+    // the key range of the delete file does not overlap any data file
+    assertFileCount(getArcticTable().asKeyedTable().newScan().includeColumnStats(), 4, 2, 1);
+  }
+
   private void assertFileCount(int baseFileCnt, int insertFileCnt, int equDeleteFileCnt)
       throws IOException {
-    CloseableIterable<CombinedScanTask> combinedScanTasks =
-        getArcticTable().asKeyedTable().newScan().planTasks();
+    assertFileCount(
+        getArcticTable().asKeyedTable().newScan(), baseFileCnt, insertFileCnt, equDeleteFileCnt);
+  }
+
+  private void assertFileCount(
+      KeyedTableScan scan, int baseFileCnt, int insertFileCnt, int equDeleteFileCnt)
+      throws IOException {
+    CloseableIterable<CombinedScanTask> combinedScanTasks = scan.planTasks();
     final List<ArcticFileScanTask> allBaseTasks = new ArrayList<>();
     final List<ArcticFileScanTask> allInsertTasks = new ArrayList<>();
     final List<ArcticFileScanTask> allEquDeleteTasks = new ArrayList<>();
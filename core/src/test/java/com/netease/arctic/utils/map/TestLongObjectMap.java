@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.utils.map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class TestLongObjectMap {
+
+  @Test
+  public void testPutAndGet() {
+    LongObjectMap<String> map = new LongObjectMap<>(2);
+    Map<Long, String> expected = new HashMap<>();
+    Random random = new Random(100);
+    for (int i = 0; i < 10000; i++) {
+      long key = random.nextInt(2000) - 1000;
+      String value = String.valueOf(i);
+      if (random.nextBoolean()) {
+        Assert.assertEquals(expected.put(key, value), map.put(key, value));
+      } else {
+        Assert.assertEquals(
+            expected.computeIfAbsent(key, k -> value), map.computeIfAbsent(key, k -> value));
+      }
+    }
+
+    Assert.assertEquals(expected.size(), map.size());
+    Assert.assertEquals(expected.size(), map.values().size());
+    expected.forEach((key, value) -> Assert.assertEquals(value, map.get(key)));
+    Assert.assertFalse(map.containsKey(5000));
+    Assert.assertNull(map.get(5000));
+    int[] count = {0};
+    map.forEach(
+        (key, value) -> {
+          Assert.assertEquals(expected.get(key), value);
+          count[0]++;
+        });
+    Assert.assertEquals(expected.size(), count[0]);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testPutNull() {
+    new LongObjectMap<String>().put(1, null);
+  }
+}
@@ -36,6 +36,7 @@ import org.apache.flink.table.data.MapData;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.data.StringData;
 import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.types.RowKind;
 import org.apache.flink.util.FlinkRuntimeException;
 import org.apache.iceberg.relocated.com.google.common.primitives.Longs;
 import org.apache.iceberg.types.Type;
@@ -367,13 +368,28 @@ public class LogRecordV1 implements LogData<RowData>, Serializable {
           checkNotNull(objects);
           checkArgument(objects.length > 0, "can't construct a instance used by GenericRowData.");
           GenericRowData row = new GenericRowData(objects.length);
+          setFields(row, objects, fieldTypes);
+          return row;
+        }
+
+        @Override
+        public RowData createActualValue(RowData reuse, Object[] objects, Type[] fieldTypes) {
+          if (!(reuse instanceof GenericRowData) || reuse.getArity() != objects.length) {
+            return createActualValue(objects, fieldTypes);
+          }
+          GenericRowData row = (GenericRowData) reuse;
+          row.setRowKind(RowKind.INSERT);
+          setFields(row, objects, fieldTypes);
+          return row;
+        }
+
+        private void setFields(GenericRowData row, Object[] objects, Type[] fieldTypes) {
           for (int i = 0; i < objects.length; i++) {
             Object obj = objects[i];
             Type type = fieldTypes[i];
             obj = convertIfNecessary(type, obj);
             row.setField(i, obj);
           }
-          return row;
         }
 
         public Object convertIfNecessary(Type primitiveType, Object obj) {
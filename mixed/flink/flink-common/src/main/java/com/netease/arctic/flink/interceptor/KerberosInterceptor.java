@@ -24,20 +24,35 @@ import net.sf.cglib.proxy.MethodProxy;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Set;
 
 /** Using cglib proxy to avoid proxy object having different class */
 public class KerberosInterceptor implements MethodInterceptor, Serializable {
 
   private static final long serialVersionUID = 1L;
   private final ArcticFileIO arcticFileIO;
+  private final Set<String> methodsWithoutDoAs;
 
   public KerberosInterceptor(ArcticFileIO arcticFileIO) {
+    this(arcticFileIO, Collections.emptySet());
+  }
+
+  /**
+   * @param methodsWithoutDoAs names of the methods called without entering the security context,
+   *     they should not access the file system, like the methods called for every record
+   */
+  public KerberosInterceptor(ArcticFileIO arcticFileIO, Set<String> methodsWithoutDoAs) {
     this.arcticFileIO = arcticFileIO;
+    this.methodsWithoutDoAs = methodsWithoutDoAs;
   }
 
   @Override
   public Object intercept(Object o, Method method, Object[] args, MethodProxy proxy)
       throws Throwable {
+    if (methodsWithoutDoAs.contains(method.getName())) {
+      return proxy.invokeSuper(o, args);
+    }
     Object res;
     try {
       res =
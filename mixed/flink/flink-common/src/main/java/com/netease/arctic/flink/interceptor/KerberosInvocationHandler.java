@@ -23,8 +23,12 @@ import com.netease.arctic.io.ArcticFileIO;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Proxy for iceberg-flink class. To support kerberos. Using jdk proxy can surrogate an instance
@@ -36,10 +40,22 @@ public class KerberosInvocationHandler<T> implements InvocationHandler, Serializ
 
   private static final long serialVersionUID = 1L;
   private final ArcticFileIO arcticFileIO;
+  private final Set<String> methodsWithoutDoAs;
   private T obj;
+  /** Methods already made accessible, the proxy class passes the same method instances. */
+  private transient Set<Method> accessibleMethods;
 
   public KerberosInvocationHandler(ArcticFileIO arcticFileIO) {
+    this(arcticFileIO, Collections.emptySet());
+  }
+
+  /**
+   * @param methodsWithoutDoAs names of the methods called without entering the security context,
+   *     they should not access the file system, like the methods called for every record
+   */
+  public KerberosInvocationHandler(ArcticFileIO arcticFileIO, Set<String> methodsWithoutDoAs) {
     this.arcticFileIO = arcticFileIO;
+    this.methodsWithoutDoAs = methodsWithoutDoAs;
   }
 
   public Object getProxy(T obj) {
@@ -50,14 +66,20 @@ public class KerberosInvocationHandler<T> implements InvocationHandler, Serializ
 
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    if (methodsWithoutDoAs.contains(method.getName())) {
+      try {
+        return invokeMethod(method, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
     Object res;
     try {
       res =
           arcticFileIO.doAs(
               () -> {
                 try {
-                  method.setAccessible(true);
-                  return method.invoke(obj, args);
+                  return invokeMethod(method, args);
                 } catch (Throwable e) {
                   throw new RuntimeException(e);
                 }
@@ -67,4 +89,16 @@ public class KerberosInvocationHandler<T> implements InvocationHandler, Serializ
     }
     return res;
   }
+
+  private Object invokeMethod(Method method, Object[] args)
+      throws InvocationTargetException, IllegalAccessException {
+    if (accessibleMethods == null) {
+      accessibleMethods = ConcurrentHashMap.newKeySet();
+    }
+    if (!accessibleMethods.contains(method)) {
+      method.setAccessible(true);
+      accessibleMethods.add(method);
+    }
+    return method.invoke(obj, args);
+  }
 }
@@ -29,4 +29,19 @@ public class MetricConstant {
   /** The end time of arctic table's initialization when it used as build table in temporal join. */
   public static final String TEMPORAL_TABLE_INITIALIZATION_END_TIMESTAMP =
       "temporalTableInitializationEndTimestamp";
+
+  /** The time spent on the last planning of the change table in the source enumerator. */
+  public static final String SOURCE_PLAN_LATENCY_MS = "sourcePlanLatencyMs";
+
+  /**
+   * The time between the commit of the last discovered change snapshot and the moment its splits
+   * were handed to the source enumerator.
+   */
+  public static final String SOURCE_DISCOVERY_LAG_MS = "sourceDiscoveryLagMs";
+
+  /** The time the last split waited to be opened by the source reader. */
+  public static final String SOURCE_SPLIT_OPEN_LATENCY_MS = "sourceSplitOpenLatencyMs";
+
+  /** The number of splits the source reader opened in the background before they were read. */
+  public static final String SOURCE_PREFETCHED_SPLITS = "sourcePrefetchedSplits";
 }
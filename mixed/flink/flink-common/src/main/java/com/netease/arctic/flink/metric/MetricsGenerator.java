@@ -36,7 +36,16 @@ import java.time.ZoneId;
  */
 public class MetricsGenerator implements Serializable {
   private static final Logger LOG = LoggerFactory.getLogger(MetricsGenerator.class);
+
+  /** Records of the most loaded writer divided by the average in the last checkpoint. */
+  public static final String SHUFFLE_SKEW = "shuffle-skew";
+
+  /** Times the tree nodes are reassigned to other writers. */
+  public static final String SHUFFLE_REBALANCE_COUNT = "shuffle-rebalance-count";
+
   private long currentLatency;
+  private double shuffleSkew = 1.0;
+  private long shuffleRebalanceCount;
   private final boolean latencyEnable;
   private final boolean metricEnable;
   private final Schema schema;
@@ -125,4 +134,19 @@ public class MetricsGenerator implements Serializable {
   public long getCurrentLatency() {
     return currentLatency;
   }
+
+  public void recordShuffleSkew(double skew, boolean rebalanced) {
+    this.shuffleSkew = skew;
+    if (rebalanced) {
+      shuffleRebalanceCount++;
+    }
+  }
+
+  public double getShuffleSkew() {
+    return shuffleSkew;
+  }
+
+  public long getShuffleRebalanceCount() {
+    return shuffleRebalanceCount;
+  }
 }
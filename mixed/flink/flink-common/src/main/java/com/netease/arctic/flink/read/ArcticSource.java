@@ -85,7 +85,11 @@ public class ArcticSource<T>
   @Override
   public SourceReader<T, ArcticSplit> createReader(SourceReaderContext readerContext) {
     return new ArcticSourceReader<>(
-        readerFunction, readerContext.getConfiguration(), readerContext, dimTable);
+        readerFunction,
+        readerContext.getConfiguration(),
+        readerContext,
+        dimTable,
+        scanContext.isReaderPrefetch());
   }
 
   @Override
@@ -18,6 +18,8 @@
 
 package com.netease.arctic.flink.read.hybrid.enumerator;
 
+import static com.netease.arctic.flink.metric.MetricConstant.SOURCE_DISCOVERY_LAG_MS;
+import static com.netease.arctic.flink.metric.MetricConstant.SOURCE_PLAN_LATENCY_MS;
 import static com.netease.arctic.flink.read.hybrid.enumerator.ArcticEnumeratorOffset.EARLIEST_SNAPSHOT_ID;
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_STARTUP_MODE;
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_STARTUP_MODE_LATEST;
@@ -101,7 +103,13 @@ public class ArcticSourceEnumerator extends AbstractArcticEnumerator {
     this.context = enumContext;
     this.splitAssigner = splitAssigner;
     this.scanContext = scanContext;
-    this.continuousSplitPlanner = new ContinuousSplitPlannerImpl(loader);
+    ContinuousSplitPlannerImpl planner =
+        new ContinuousSplitPlannerImpl(loader, scanContext.isPlanAsync());
+    if (enumContext.metricGroup() != null) {
+      enumContext.metricGroup().gauge(SOURCE_PLAN_LATENCY_MS, planner::planLatencyMs);
+      enumContext.metricGroup().gauge(SOURCE_DISCOVERY_LAG_MS, planner::discoveryLagMs);
+    }
+    this.continuousSplitPlanner = planner;
     this.snapshotDiscoveryIntervalMs = scanContext.monitorInterval().toMillis();
     this.enumeratorPosition = new AtomicReference<>();
     if (enumState != null) {
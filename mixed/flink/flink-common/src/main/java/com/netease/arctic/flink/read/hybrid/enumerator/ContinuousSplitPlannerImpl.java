@@ -33,11 +33,19 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.flink.annotation.Internal;
 import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -46,6 +54,11 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  * <p>{@link ContinuousEnumerationResult#splits()} includes the {@link SnapshotSplit}s and {@link
  * ChangelogSplit}s.
+ *
+ * <p>If the asynchronous planning is enabled, the next window of the change table is planned in
+ * the background right after a window has been handed out. The following {@link #planSplits} call
+ * takes the ready result and only plans the snapshots committed after it, instead of planning the
+ * whole window itself.
  */
 @Internal
 public class ContinuousSplitPlannerImpl implements ContinuousSplitPlanner {
@@ -55,12 +68,35 @@ public class ContinuousSplitPlannerImpl implements ContinuousSplitPlanner {
   protected final ArcticTableLoader loader;
   protected static final AtomicInteger splitCount = new AtomicInteger();
 
+  private final boolean planAsync;
+  private transient ExecutorService planExecutor;
+  /** The window of the change table planned in the background, starting from {@link #nextFrom}. */
+  private transient Future<ContinuousEnumerationResult> nextWindow;
+
+  private transient Long nextFrom;
+  private volatile long planLatencyMs;
+  private volatile long discoveryLagMs;
+
   public ContinuousSplitPlannerImpl(ArcticTableLoader loader) {
+    this(loader, false);
+  }
+
+  public ContinuousSplitPlannerImpl(ArcticTableLoader loader, boolean planAsync) {
     this.loader = loader;
+    this.planAsync = planAsync;
+  }
+
+  @VisibleForTesting
+  ContinuousSplitPlannerImpl(ArcticTableLoader loader, ExecutorService planExecutor) {
+    this(loader, true);
+    this.planExecutor = planExecutor;
   }
 
   @Override
   public void close() throws IOException {
+    if (planExecutor != null) {
+      planExecutor.shutdownNow();
+    }
     if (loader != null) {
       loader.close();
     }
@@ -72,11 +108,110 @@ public class ContinuousSplitPlannerImpl implements ContinuousSplitPlanner {
     if (table == null) {
       table = loadArcticTable(loader).asKeyedTable();
     }
-    table.refresh();
+    ContinuousEnumerationResult result;
     if (lastOffset != null) {
-      return discoverIncrementalSplits(lastOffset, filters);
+      result = planAsync ? takeNextWindow(lastOffset) : null;
+      if (result == null || result.isEmpty()) {
+        result = planIncrementalSplits(lastOffset, filters);
+      } else {
+        result = catchUp(result, filters);
+      }
     } else {
-      return discoverInitialSplits(filters);
+      table.refresh();
+      result = discoverInitialSplits(filters);
+    }
+    updateDiscoveryLag(result);
+    if (planAsync) {
+      planNextWindow(result.toOffset().isEmpty() ? lastOffset : result.toOffset(), filters);
+    }
+    return result;
+  }
+
+  /** The time in milliseconds spent on the last planning of the change table. */
+  public long planLatencyMs() {
+    return planLatencyMs;
+  }
+
+  /**
+   * The time in milliseconds between the commit of the last discovered change snapshot and the
+   * moment its splits were returned by {@link #planSplits}.
+   */
+  public long discoveryLagMs() {
+    return discoveryLagMs;
+  }
+
+  private ContinuousEnumerationResult planIncrementalSplits(
+      ArcticEnumeratorOffset lastOffset, List<Expression> filters) {
+    long start = System.currentTimeMillis();
+    table.refresh();
+    ContinuousEnumerationResult result = discoverIncrementalSplits(lastOffset, filters);
+    planLatencyMs = System.currentTimeMillis() - start;
+    return result;
+  }
+
+  /**
+   * Take the window planned in the background. It always waits for the background planning, so
+   * the table is never refreshed or planned by two threads at the same time.
+   *
+   * @return the planned window, or null if there is no window planned from {@code lastOffset}
+   */
+  private ContinuousEnumerationResult takeNextWindow(ArcticEnumeratorOffset lastOffset) {
+    if (nextWindow == null) {
+      return null;
+    }
+    Future<ContinuousEnumerationResult> window = nextWindow;
+    nextWindow = null;
+    try {
+      ContinuousEnumerationResult result = window.get();
+      return Objects.equals(nextFrom, lastOffset.changeSnapshotId()) ? result : null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while planning the change table of " + table, e);
+    } catch (ExecutionException e) {
+      LOG.warn("Failed to plan the next window of table {} in background, re-plan it.", table, e);
+      return null;
+    }
+  }
+
+  /**
+   * The window planned in the background only covers the snapshots committed before it was
+   * planned, so plan the snapshots committed since then up to the latest one and append them, in
+   * order not to delay them to the next discovery.
+   */
+  private ContinuousEnumerationResult catchUp(
+      ContinuousEnumerationResult window, List<Expression> filters) {
+    ContinuousEnumerationResult latest = planIncrementalSplits(window.toOffset(), filters);
+    if (latest.isEmpty()) {
+      return window;
+    }
+    List<ArcticSplit> splits = Lists.newArrayList(window.splits());
+    splits.addAll(latest.splits());
+    return new ContinuousEnumerationResult(splits, window.fromOffset(), latest.toOffset());
+  }
+
+  private void planNextWindow(ArcticEnumeratorOffset fromOffset, List<Expression> filters) {
+    if (fromOffset == null || fromOffset.isEmpty()) {
+      return;
+    }
+    if (planExecutor == null) {
+      planExecutor =
+          Executors.newSingleThreadExecutor(
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("arctic-change-planner-%d")
+                  .build());
+    }
+    nextFrom = fromOffset.changeSnapshotId();
+    nextWindow = planExecutor.submit(() -> planIncrementalSplits(fromOffset, filters));
+  }
+
+  private void updateDiscoveryLag(ContinuousEnumerationResult result) {
+    if (result.isEmpty() || result.toOffset().changeSnapshotId() == null) {
+      return;
+    }
+    Snapshot snapshot = table.changeTable().snapshot(result.toOffset().changeSnapshotId());
+    if (snapshot != null) {
+      discoveryLagMs = Math.max(0, System.currentTimeMillis() - snapshot.timestampMillis());
     }
   }
 
@@ -42,6 +42,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -56,17 +57,45 @@ public class ArcticSourceReader<T>
   public ReaderOutput<T> output;
   /** SourceEvents may be received before this#pollNext. */
   private volatile boolean maxWatermarkToBeEmitted = false;
+  /** If true, keep one more split assigned so that the split reader could prefetch it. */
+  private final boolean prefetch;
 
   public ArcticSourceReader(
       ReaderFunction<T> readerFunction,
       Configuration config,
       SourceReaderContext context,
       boolean populateRowTime) {
+    this(readerFunction, config, context, populateRowTime, false);
+  }
+
+  public ArcticSourceReader(
+      ReaderFunction<T> readerFunction,
+      Configuration config,
+      SourceReaderContext context,
+      boolean populateRowTime,
+      boolean prefetch) {
+    this(
+        readerFunction,
+        config,
+        context,
+        populateRowTime,
+        prefetch,
+        new HybridSplitReaderMetrics(context.metricGroup()));
+  }
+
+  private ArcticSourceReader(
+      ReaderFunction<T> readerFunction,
+      Configuration config,
+      SourceReaderContext context,
+      boolean populateRowTime,
+      boolean prefetch,
+      HybridSplitReaderMetrics metrics) {
     super(
-        () -> new HybridSplitReader<>(readerFunction, context),
+        () -> new HybridSplitReader<>(readerFunction, context, prefetch, metrics),
         new ArcticRecordEmitter<T>(populateRowTime),
         config,
         context);
+    this.prefetch = prefetch;
   }
 
   @Override
@@ -79,6 +108,14 @@ public class ArcticSourceReader<T>
     context.sendSourceEventToCoordinator(ReaderStartedEvent.INSTANCE);
   }
 
+  @Override
+  public void addSplits(List<ArcticSplit> splits) {
+    super.addSplits(splits);
+    if (prefetch && getNumberOfCurrentlyAssignedSplits() < 2) {
+      requestSplit(Collections.emptyList());
+    }
+  }
+
   @Override
   protected void onSplitFinished(Map<String, ArcticSplitState> finishedSplitIds) {
     requestSplit(Lists.newArrayList(finishedSplitIds.keySet()));
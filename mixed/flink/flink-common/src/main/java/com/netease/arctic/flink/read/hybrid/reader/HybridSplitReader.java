@@ -29,17 +29,27 @@ import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitsChange;
 import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * A hybrid source split reader that could read {@link SnapshotSplit} and {@link ChangelogSplit}.
+ *
+ * <p>If prefetching is enabled, the next queued split is opened in the background as soon as the
+ * current split starts being read, so the footers and the first row group of its first file are
+ * already loaded when the reader switches to it.
  */
 public class HybridSplitReader<T> implements SplitReader<ArcticRecordWithOffset<T>, ArcticSplit> {
   private static final Logger LOG = LoggerFactory.getLogger(HybridSplitReader.class);
@@ -47,14 +57,31 @@ public class HybridSplitReader<T> implements SplitReader<ArcticRecordWithOffset<
   private final ReaderFunction<T> openSplitFunction;
   private final int indexOfSubtask;
   private final Queue<ArcticSplit> splits;
+  private final boolean prefetch;
+  private final HybridSplitReaderMetrics metrics;
 
   private CloseableIterator<RecordsWithSplitIds<ArcticRecordWithOffset<T>>> currentReader;
   private String currentSplitId;
 
+  private ExecutorService prefetchExecutor;
+  private ArcticSplit prefetchedSplit;
+  private Future<CloseableIterator<RecordsWithSplitIds<ArcticRecordWithOffset<T>>>>
+      prefetchedReader;
+
   public HybridSplitReader(ReaderFunction<T> openSplitFunction, SourceReaderContext context) {
+    this(openSplitFunction, context, false, new HybridSplitReaderMetrics(null));
+  }
+
+  HybridSplitReader(
+      ReaderFunction<T> openSplitFunction,
+      SourceReaderContext context,
+      boolean prefetch,
+      HybridSplitReaderMetrics metrics) {
     this.openSplitFunction = openSplitFunction;
     this.indexOfSubtask = context.getIndexOfSubtask();
     this.splits = new ArrayDeque<>();
+    this.prefetch = prefetch;
+    this.metrics = metrics;
   }
 
   @Override
@@ -64,8 +91,9 @@ public class HybridSplitReader<T> implements SplitReader<ArcticRecordWithOffset<
         return new RecordsBySplits<>(Collections.emptyMap(), Collections.emptySet());
       }
       ArcticSplit arcticSplit = splits.poll();
-      currentReader = openSplitFunction.apply(arcticSplit);
+      currentReader = openSplit(arcticSplit);
       currentSplitId = arcticSplit.splitId();
+      prefetchNextSplit();
     }
     if (currentReader.hasNext()) {
       // Because Iterator#next() doesn't support checked exception,
@@ -105,6 +133,9 @@ public class HybridSplitReader<T> implements SplitReader<ArcticRecordWithOffset<
                         ChangelogSplit.class.getSimpleName()));
               }
             });
+    if (currentReader != null) {
+      prefetchNextSplit();
+    }
   }
 
   @Override
@@ -116,6 +147,82 @@ public class HybridSplitReader<T> implements SplitReader<ArcticRecordWithOffset<
     if (currentReader != null) {
       currentReader.close();
     }
+    if (prefetchExecutor != null) {
+      prefetchExecutor.shutdown();
+    }
+    if (prefetchedReader != null) {
+      try {
+        prefetchedReader.get().close();
+      } catch (ExecutionException e) {
+        LOG.warn(
+            "Split reader {} failed to prefetch split {}.", indexOfSubtask, prefetchedSplit, e);
+      }
+      prefetchedReader = null;
+      prefetchedSplit = null;
+    }
+  }
+
+  private CloseableIterator<RecordsWithSplitIds<ArcticRecordWithOffset<T>>> openSplit(
+      ArcticSplit arcticSplit) throws IOException {
+    long start = System.currentTimeMillis();
+    CloseableIterator<RecordsWithSplitIds<ArcticRecordWithOffset<T>>> reader = null;
+    if (prefetchedSplit == arcticSplit) {
+      Future<CloseableIterator<RecordsWithSplitIds<ArcticRecordWithOffset<T>>>> future =
+          prefetchedReader;
+      prefetchedSplit = null;
+      prefetchedReader = null;
+      try {
+        reader = future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while opening split " + arcticSplit);
+      } catch (ExecutionException e) {
+        LOG.warn(
+            "Split reader {} failed to prefetch split {}, open it again.",
+            indexOfSubtask,
+            arcticSplit,
+            e.getCause());
+      }
+    }
+    boolean prefetched = reader != null;
+    if (!prefetched) {
+      reader = openSplitFunction.apply(arcticSplit);
+    }
+    metrics.splitOpened(System.currentTimeMillis() - start, prefetched);
+    return reader;
+  }
+
+  /**
+   * Open the next queued split in the background. Checking {@link CloseableIterator#hasNext()}
+   * opens its first file, which reads the file footer and the first row group.
+   */
+  private void prefetchNextSplit() {
+    ArcticSplit nextSplit = splits.peek();
+    if (!prefetch || nextSplit == null || prefetchedReader != null) {
+      return;
+    }
+    if (prefetchExecutor == null) {
+      prefetchExecutor =
+          Executors.newSingleThreadExecutor(
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("arctic-split-prefetch-" + indexOfSubtask + "-%d")
+                  .build());
+    }
+    prefetchedSplit = nextSplit;
+    prefetchedReader =
+        prefetchExecutor.submit(
+            () -> {
+              CloseableIterator<RecordsWithSplitIds<ArcticRecordWithOffset<T>>> reader =
+                  openSplitFunction.apply(nextSplit);
+              try {
+                reader.hasNext();
+              } catch (RuntimeException e) {
+                reader.close();
+                throw e;
+              }
+              return reader;
+            });
   }
 
   private RecordsWithSplitIds<ArcticRecordWithOffset<T>> finishSplit() throws IOException {
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.flink.read.hybrid.reader;
+
+import static com.netease.arctic.flink.metric.MetricConstant.SOURCE_PREFETCHED_SPLITS;
+import static com.netease.arctic.flink.metric.MetricConstant.SOURCE_SPLIT_OPEN_LATENCY_MS;
+
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.metrics.SimpleCounter;
+
+/**
+ * Metrics of the {@link HybridSplitReader}s created by one {@link ArcticSourceReader}. They are
+ * registered once per source reader, as the split readers may be recreated during the job.
+ */
+class HybridSplitReaderMetrics {
+  private final Counter prefetchedSplits;
+  private volatile long splitOpenLatencyMs;
+
+  HybridSplitReaderMetrics(MetricGroup metricGroup) {
+    if (metricGroup != null) {
+      this.prefetchedSplits = metricGroup.counter(SOURCE_PREFETCHED_SPLITS);
+      metricGroup.gauge(SOURCE_SPLIT_OPEN_LATENCY_MS, () -> splitOpenLatencyMs);
+    } else {
+      this.prefetchedSplits = new SimpleCounter();
+    }
+  }
+
+  void splitOpened(long latencyMs, boolean prefetched) {
+    this.splitOpenLatencyMs = latencyMs;
+    if (prefetched) {
+      prefetchedSplits.inc();
+    }
+  }
+
+  long splitOpenLatencyMs() {
+    return splitOpenLatencyMs;
+  }
+
+  long prefetchedSplits() {
+    return prefetchedSplits.getCount();
+  }
+}
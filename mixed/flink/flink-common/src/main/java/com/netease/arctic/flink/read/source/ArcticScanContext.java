@@ -20,6 +20,8 @@ package com.netease.arctic.flink.read.source;
 
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.ARCTIC_READ_FILE;
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.ARCTIC_READ_MODE;
+import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_PLAN_ASYNC_ENABLED;
+import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_READER_PREFETCH_ENABLED;
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_STARTUP_MODE;
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_STARTUP_MODE_EARLIEST;
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_STARTUP_MODE_LATEST;
@@ -48,6 +50,8 @@ public class ArcticScanContext extends ScanContext implements Serializable {
 
   private final String scanStartupMode;
   private final boolean batchMode;
+  private final boolean planAsync;
+  private final boolean readerPrefetch;
 
   protected ArcticScanContext(Builder builder) {
     super(
@@ -78,6 +82,8 @@ public class ArcticScanContext extends ScanContext implements Serializable {
         builder.endTag);
     this.scanStartupMode = builder.scanStartupMode;
     this.batchMode = builder.batchMode;
+    this.planAsync = builder.planAsync;
+    this.readerPrefetch = builder.readerPrefetch;
   }
 
   public boolean caseSensitive() {
@@ -149,6 +155,14 @@ public class ArcticScanContext extends ScanContext implements Serializable {
     return batchMode;
   }
 
+  public boolean isPlanAsync() {
+    return planAsync;
+  }
+
+  public boolean isReaderPrefetch() {
+    return readerPrefetch;
+  }
+
   public static class Builder {
     private boolean caseSensitive = FlinkReadOptions.CASE_SENSITIVE_OPTION.defaultValue();
     private Long snapshotId = FlinkReadOptions.SNAPSHOT_ID.defaultValue();
@@ -187,6 +201,8 @@ public class ArcticScanContext extends ScanContext implements Serializable {
     private String endTag = FlinkReadOptions.END_TAG.defaultValue();
     private String scanStartupMode;
     private boolean batchMode = false;
+    private boolean planAsync = SCAN_PLAN_ASYNC_ENABLED.defaultValue();
+    private boolean readerPrefetch = SCAN_READER_PREFETCH_ENABLED.defaultValue();
 
     private Builder() {}
 
@@ -325,6 +341,16 @@ public class ArcticScanContext extends ScanContext implements Serializable {
       return this;
     }
 
+    public Builder planAsync(boolean planAsync) {
+      this.planAsync = planAsync;
+      return this;
+    }
+
+    public Builder readerPrefetch(boolean readerPrefetch) {
+      this.readerPrefetch = readerPrefetch;
+      return this;
+    }
+
     public Builder fromProperties(Map<String, String> properties) {
       Configuration config = new Configuration();
       properties.forEach(config::setString);
@@ -349,7 +375,9 @@ public class ArcticScanContext extends ScanContext implements Serializable {
           .scanStartupMode(properties.get(SCAN_STARTUP_MODE.key()))
           .includeColumnStats(config.get(INCLUDE_COLUMN_STATS))
           .maxPlanningSnapshotCount(config.get(MAX_PLANNING_SNAPSHOT_COUNT))
-          .maxAllowedPlanningFailures(maxAllowedPlanningFailures);
+          .maxAllowedPlanningFailures(maxAllowedPlanningFailures)
+          .planAsync(config.get(SCAN_PLAN_ASYNC_ENABLED))
+          .readerPrefetch(config.get(SCAN_READER_PREFETCH_ENABLED));
     }
 
     public ArcticScanContext build() {
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.flink.read.source.log.kafka;
+
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.MeterView;
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.metrics.SimpleCounter;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decode metrics of the log-store source, registered per split, i.e. per kafka topic partition,
+ * under the group {@code arcticLogDecode.topic.<topic>.partition.<partition>}.
+ *
+ * <p>It is created once per source reader and shared by its split readers, which may be recreated
+ * during the job.
+ */
+public class LogKafkaDecodeMetrics {
+  public static final String ARCTIC_LOG_DECODE_GROUP = "arcticLogDecode";
+  public static final String TOPIC_GROUP = "topic";
+  public static final String PARTITION_GROUP = "partition";
+  public static final String DECODED_RECORDS = "decodedRecords";
+  public static final String DECODED_RECORDS_PER_SECOND = "decodedRecordsPerSecond";
+  public static final String DECODED_BYTES = "decodedBytes";
+  public static final String DECODED_BYTES_PER_SECOND = "decodedBytesPerSecond";
+  public static final String DECODE_TIME_NANOS_PER_RECORD = "decodeTimeNanosPerRecord";
+
+  private final MetricGroup metricGroup;
+  private final Map<TopicPartition, SplitDecodeMetrics> splitMetrics = new ConcurrentHashMap<>();
+
+  public LogKafkaDecodeMetrics(MetricGroup metricGroup) {
+    this.metricGroup = metricGroup == null ? null : metricGroup.addGroup(ARCTIC_LOG_DECODE_GROUP);
+  }
+
+  /**
+   * Record the messages of a topic partition decoded in one poll.
+   *
+   * @param tp the topic partition
+   * @param records the number of decoded messages
+   * @param bytes the total size of the decoded messages
+   * @param nanos the time spent on decoding
+   */
+  public void recordDecoded(TopicPartition tp, int records, long bytes, long nanos) {
+    if (records == 0) {
+      return;
+    }
+    SplitDecodeMetrics metrics = splitMetrics.computeIfAbsent(tp, this::register);
+    metrics.records.inc(records);
+    metrics.bytes.inc(bytes);
+    metrics.nanosPerRecord = nanos / records;
+  }
+
+  public long decodedRecords(TopicPartition tp) {
+    SplitDecodeMetrics metrics = splitMetrics.get(tp);
+    return metrics == null ? 0 : metrics.records.getCount();
+  }
+
+  public long decodedBytes(TopicPartition tp) {
+    SplitDecodeMetrics metrics = splitMetrics.get(tp);
+    return metrics == null ? 0 : metrics.bytes.getCount();
+  }
+
+  private SplitDecodeMetrics register(TopicPartition tp) {
+    SplitDecodeMetrics metrics = new SplitDecodeMetrics();
+    if (metricGroup != null) {
+      MetricGroup group =
+          metricGroup
+              .addGroup(TOPIC_GROUP, tp.topic())
+              .addGroup(PARTITION_GROUP, String.valueOf(tp.partition()));
+      group.counter(DECODED_RECORDS, metrics.records);
+      group.meter(DECODED_RECORDS_PER_SECOND, new MeterView(metrics.records));
+      group.counter(DECODED_BYTES, metrics.bytes);
+      group.meter(DECODED_BYTES_PER_SECOND, new MeterView(metrics.bytes));
+      group.gauge(DECODE_TIME_NANOS_PER_RECORD, () -> metrics.nanosPerRecord);
+    }
+    return metrics;
+  }
+
+  private static class SplitDecodeMetrics {
+    private final Counter records = new SimpleCounter();
+    private final Counter bytes = new SimpleCounter();
+    private volatile long nanosPerRecord;
+  }
+}
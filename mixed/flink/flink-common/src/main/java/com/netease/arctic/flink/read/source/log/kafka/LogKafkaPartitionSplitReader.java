@@ -33,6 +33,7 @@ import org.apache.flink.connector.kafka.source.metrics.KafkaSourceReaderMetrics;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.types.RowKind;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.common.TopicPartition;
@@ -96,6 +97,7 @@ public class LogKafkaPartitionSplitReader extends KafkaPartitionSplitReader {
   private final LogSourceHelper logReadHelper;
   private final boolean logRetractionEnable;
   private final boolean logConsumerAppendOnly;
+  private final LogKafkaDecodeMetrics decodeMetrics;
 
   public LogKafkaPartitionSplitReader(
       Properties props,
@@ -105,7 +107,28 @@ public class LogKafkaPartitionSplitReader extends KafkaPartitionSplitReader {
       boolean logRetractionEnable,
       LogSourceHelper logReadHelper,
       String logConsumerChangelogMode) {
+    this(
+        props,
+        context,
+        kafkaSourceReaderMetrics,
+        new LogKafkaDecodeMetrics(context.metricGroup()),
+        schema,
+        logRetractionEnable,
+        logReadHelper,
+        logConsumerChangelogMode);
+  }
+
+  public LogKafkaPartitionSplitReader(
+      Properties props,
+      SourceReaderContext context,
+      KafkaSourceReaderMetrics kafkaSourceReaderMetrics,
+      LogKafkaDecodeMetrics decodeMetrics,
+      Schema schema,
+      boolean logRetractionEnable,
+      LogSourceHelper logReadHelper,
+      String logConsumerChangelogMode) {
     super(props, context, kafkaSourceReaderMetrics);
+    this.decodeMetrics = decodeMetrics;
 
     this.logDataJsonDeserialization =
         new LogDataJsonDeserialization<>(
@@ -188,15 +211,27 @@ public class LogKafkaPartitionSplitReader extends KafkaPartitionSplitReader {
     return recordsBySplits;
   }
 
+  /**
+   * Decode the records of one poll partition by partition. The deserializer reuses the decoded
+   * headers across the messages of a partition, and the decode throughput and bytes of each
+   * partition are reported to {@link LogKafkaDecodeMetrics}. The records kept are handed over
+   * together, so only the row of a dropped record is reused to decode the next one.
+   */
   private ConsumerRecords<byte[], byte[]> convertToLogRecord(
       ConsumerRecords<byte[], byte[]> consumerRecords) throws IOException {
-    Map<TopicPartition, List<ConsumerRecord<byte[], byte[]>>> records = new HashMap<>();
+    Set<TopicPartition> partitions = consumerRecords.partitions();
+    Map<TopicPartition, List<ConsumerRecord<byte[], byte[]>>> records =
+        Maps.newHashMapWithExpectedSize(partitions.size());
 
-    for (TopicPartition tp : consumerRecords.partitions()) {
+    for (TopicPartition tp : partitions) {
       List<ConsumerRecord<byte[], byte[]>> rs = consumerRecords.records(tp);
       List<ConsumerRecord<byte[], byte[]>> recordsForSplit = new ArrayList<>(rs.size());
       records.put(tp, recordsForSplit);
 
+      long decodeStart = System.nanoTime();
+      int decodedRecords = 0;
+      long decodedBytes = 0;
+      RowData reusableRow = null;
       for (ConsumerRecord<byte[], byte[]> consumerRecord : rs) {
         byte[] value = consumerRecord.value();
         boolean magicFormat = checkMagicNum(value);
@@ -205,11 +240,17 @@ public class LogKafkaPartitionSplitReader extends KafkaPartitionSplitReader {
               "Can't deserialize arctic log queue message due to it does not contain magic number.");
         }
 
-        LogData<RowData> logData = logDataJsonDeserialization.deserialize(value);
+        LogData<RowData> logData = logDataJsonDeserialization.deserialize(value, reusableRow);
+        reusableRow = null;
+        decodedRecords++;
+        decodedBytes += value.length;
         if (!logData.getFlip() && filterByRowKind(logData.getActualValue())) {
-          LOG.info(
-              "filter the rowData, because of logConsumerAppendOnly is true, and rowData={}.",
-              logData.getActualValue());
+          if (LOG.isDebugEnabled()) {
+            LOG.debug(
+                "filter the rowData, because of logConsumerAppendOnly is true, and rowData={}.",
+                logData.getActualValue());
+          }
+          reusableRow = logData.getActualValue();
           continue;
         }
 
@@ -231,6 +272,8 @@ public class LogKafkaPartitionSplitReader extends KafkaPartitionSplitReader {
         }
         recordsForSplit.add(LogRecordWithRetractInfo.of(consumerRecord, logData));
       }
+      decodeMetrics.recordDecoded(
+          tp, decodedRecords, decodedBytes, System.nanoTime() - decodeStart);
     }
     return new ConsumerRecords<>(records);
   }
@@ -277,6 +320,7 @@ public class LogKafkaPartitionSplitReader extends KafkaPartitionSplitReader {
           Math.min(stoppingOffsetFromConsumer, retractingInfo.getRevertStartingOffset() - 2);
       int startIndex = findIndexOfOffset(consumerRecords, stoppingOffset);
 
+      RowData reusableRow = null;
       for (int i = startIndex; i >= 0; i--) {
         ConsumerRecord<byte[], byte[]> r = consumerRecords.get(i);
 
@@ -284,7 +328,8 @@ public class LogKafkaPartitionSplitReader extends KafkaPartitionSplitReader {
           finishRetract.add(tp);
           break;
         }
-        LogData<RowData> logData = logDataJsonDeserialization.deserialize(r.value());
+        LogData<RowData> logData = logDataJsonDeserialization.deserialize(r.value(), reusableRow);
+        reusableRow = null;
 
         if (!Objects.equals(logData.getUpstreamId(), retractingInfo.getUpstreamId())
             || logData.getEpicNo() <= retractingInfo.getEpicNo()) {
@@ -292,6 +337,7 @@ public class LogKafkaPartitionSplitReader extends KafkaPartitionSplitReader {
               "won't retract other job or the success ckp epic data, upstreamId: {}, epicNo: {}",
               logData.getUpstreamId(),
               logData.getEpicNo());
+          reusableRow = logData.getActualValue();
         } else {
           RowData actualValue = logReadHelper.turnRowKind(logData.getActualValue());
           recordsForSplit.add(
@@ -119,12 +119,15 @@ public class LogKafkaSource extends KafkaSource<RowData> {
 
     final KafkaSourceReaderMetrics kafkaSourceReaderMetrics =
         new KafkaSourceReaderMetrics(readerContext.metricGroup());
+    final LogKafkaDecodeMetrics decodeMetrics =
+        new LogKafkaDecodeMetrics(readerContext.metricGroup());
     Supplier<LogKafkaPartitionSplitReader> splitReaderSupplier =
         () ->
             new LogKafkaPartitionSplitReader(
                 props,
                 readerContext,
                 kafkaSourceReaderMetrics,
+                decodeMetrics,
                 schema,
                 logRetractionEnable,
                 logReadHelper,
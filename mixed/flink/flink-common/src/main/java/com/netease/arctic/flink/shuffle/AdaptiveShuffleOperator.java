@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.flink.shuffle;
+
+import com.netease.arctic.flink.metric.MetricsGenerator;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.streaming.api.CheckpointingMode;
+import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
+import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+import org.apache.flink.table.data.RowData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tags every row with the writer subtask it is shuffled to, counting the rows of each shuffle unit
+ * and rebalancing the units across the writers before the checkpoint barrier is emitted.
+ *
+ * <p>A unit is only moved between two checkpoints, so the rows of a key sent by this subtask go to
+ * one writer in a checkpoint and are committed in the order of the checkpoints. As the barrier of
+ * a writer is not aligned in at-least-once mode, the units are never moved then.
+ */
+class AdaptiveShuffleOperator extends AbstractStreamOperator<Tuple2<Integer, RowData>>
+    implements OneInputStreamOperator<RowData, Tuple2<Integer, RowData>> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AdaptiveShuffleOperator.class);
+
+  private final RoundRobinShuffleRulePolicy.RoundRobinPartitioner partitioner;
+  private final int units;
+  private final int writerParallelism;
+  private final double skewThreshold;
+  private final MetricsGenerator metricsGenerator;
+
+  private transient ShuffleAssignment assignment;
+  private transient boolean rebalanceEnabled;
+  private transient Tuple2<Integer, RowData> reuse;
+
+  AdaptiveShuffleOperator(
+      RoundRobinShuffleRulePolicy.RoundRobinPartitioner partitioner,
+      int units,
+      int writerParallelism,
+      double skewThreshold,
+      MetricsGenerator metricsGenerator) {
+    this.partitioner = partitioner;
+    this.units = units;
+    this.writerParallelism = writerParallelism;
+    this.skewThreshold = skewThreshold;
+    this.metricsGenerator = metricsGenerator;
+  }
+
+  @Override
+  public void open() throws Exception {
+    super.open();
+    this.assignment = new ShuffleAssignment(units, writerParallelism);
+    this.reuse = new Tuple2<>();
+    this.rebalanceEnabled =
+        getOperatorConfig().getCheckpointMode() == CheckpointingMode.EXACTLY_ONCE;
+    if (!rebalanceEnabled) {
+      LOG.warn("Shuffle units are not rebalanced since the checkpoint mode is not exactly-once");
+    }
+    getMetricGroup().gauge(MetricsGenerator.SHUFFLE_SKEW, metricsGenerator::getShuffleSkew);
+    getMetricGroup()
+        .gauge(
+            MetricsGenerator.SHUFFLE_REBALANCE_COUNT, metricsGenerator::getShuffleRebalanceCount);
+  }
+
+  @Override
+  public void processElement(StreamRecord<RowData> element) throws Exception {
+    RowData row = element.getValue();
+    reuse.f0 = assignment.assign(partitioner.shuffleHash(row));
+    reuse.f1 = row;
+    output.collect(element.replace(reuse));
+  }
+
+  @Override
+  public void prepareSnapshotPreBarrier(long checkpointId) throws Exception {
+    super.prepareSnapshotPreBarrier(checkpointId);
+    // the skew is still measured if the units are never moved
+    boolean rebalanced = assignment.rebalance(rebalanceEnabled ? skewThreshold : Double.MAX_VALUE);
+    metricsGenerator.recordShuffleSkew(assignment.skew(), rebalanced);
+    if (rebalanced) {
+      LOG.info(
+          "Rebalanced shuffle units of subtask {} before checkpoint {}, skew {}",
+          getRuntimeContext().getIndexOfThisSubtask(),
+          checkpointId,
+          assignment.skew());
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.flink.shuffle;
+
+import com.netease.arctic.data.DataTreeNode;
+import com.netease.arctic.flink.metric.MetricsGenerator;
+import com.netease.arctic.table.DistributionHashMode;
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.functions.Partitioner;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.table.data.RowData;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A shuffle policy starting from the assignment of {@link RoundRobinShuffleRulePolicy}, which
+ * moves the hot shuffle units, tree nodes or hashes of partitions, from the overloaded writers to
+ * the idle ones at checkpoints. Any writer could write any tree node since the writers only share
+ * the mask of the nodes.
+ */
+public class AdaptiveShuffleRulePolicy implements ShuffleRulePolicy<RowData, ShuffleKey> {
+
+  /** Shuffle units of each writer if the hashes of partitions are shuffled. */
+  private static final int UNITS_PER_WRITER = 16;
+
+  private final RoundRobinShuffleRulePolicy policy;
+  private final int downStreamOperatorParallelism;
+  private final double skewThreshold;
+
+  public AdaptiveShuffleRulePolicy(
+      RoundRobinShuffleRulePolicy policy, int downStreamOperatorParallelism, double skewThreshold) {
+    this.policy = policy;
+    this.downStreamOperatorParallelism = downStreamOperatorParallelism;
+    this.skewThreshold = skewThreshold;
+  }
+
+  /**
+   * Shuffle the rows to the writers, the returned stream should be consumed by the writers with the
+   * parallelism of this policy.
+   */
+  public DataStream<RowData> shuffle(DataStream<RowData> input, MetricsGenerator metricsGenerator) {
+    RoundRobinShuffleRulePolicy.RoundRobinPartitioner partitioner =
+        (RoundRobinShuffleRulePolicy.RoundRobinPartitioner) policy.generatePartitioner();
+    int units =
+        partitioner.shuffleHashCount() > 0
+            ? partitioner.shuffleHashCount()
+            : downStreamOperatorParallelism * UNITS_PER_WRITER;
+    return input
+        .transform(
+            AdaptiveShuffleOperator.class.getSimpleName(),
+            new TupleTypeInfo<>(Types.INT, input.getType()),
+            new AdaptiveShuffleOperator(
+                partitioner, units, downStreamOperatorParallelism, skewThreshold, metricsGenerator))
+        .setParallelism(input.getParallelism())
+        .partitionCustom(new AssignedSubtaskPartitioner(), new AssignedSubtaskSelector())
+        .map(new AssignedRowExtractor(), input.getType())
+        .setParallelism(downStreamOperatorParallelism);
+  }
+
+  @Override
+  public KeySelector<RowData, ShuffleKey> generateKeySelector() {
+    return policy.generateKeySelector();
+  }
+
+  /** The static partitioner of the round-robin policy, use {@link #shuffle} instead. */
+  @Override
+  public Partitioner<ShuffleKey> generatePartitioner() {
+    return policy.generatePartitioner();
+  }
+
+  @Override
+  public DistributionHashMode getPolicyType() {
+    return policy.getPolicyType();
+  }
+
+  @Override
+  public Map<Integer, Set<DataTreeNode>> getSubtaskTreeNodes() {
+    return policy.getSubtaskTreeNodes();
+  }
+
+  static class AssignedSubtaskSelector implements KeySelector<Tuple2<Integer, RowData>, Integer> {
+    @Override
+    public Integer getKey(Tuple2<Integer, RowData> value) {
+      return value.f0;
+    }
+  }
+
+  static class AssignedSubtaskPartitioner implements Partitioner<Integer> {
+    @Override
+    public int partition(Integer subtask, int numPartitions) {
+      return subtask;
+    }
+  }
+
+  static class AssignedRowExtractor implements MapFunction<Tuple2<Integer, RowData>, RowData> {
+    @Override
+    public RowData map(Tuple2<Integer, RowData> value) {
+      return value.f1;
+    }
+  }
+}
@@ -200,9 +200,6 @@ public class RoundRobinShuffleRulePolicy implements ShuffleRulePolicy<RowData, S
 
     @Override
     public int partition(ShuffleKey key, int numPartitions) {
-      if (helper != null) {
-        helper.open();
-      }
       checkNotNull(key);
       RowData row = checkNotNull(key.getRow());
 
@@ -211,6 +208,14 @@ public class RoundRobinShuffleRulePolicy implements ShuffleRulePolicy<RowData, S
           String.format(
               "shuffle arctic record numPartition:%s is diff with writer parallelism:%s.",
               numPartitions, this.downStreamOperatorParallelism));
+      return shuffleHash(row) % numPartitions;
+    }
+
+    /** The hash routing a row, the row is fed into subtask {@code hash % numPartitions}. */
+    int shuffleHash(RowData row) {
+      if (helper != null) {
+        helper.open();
+      }
       Integer factorIndex = null;
       if (distributionHashMode.isSupportPrimaryKey()) {
         long pkHashCode = helper.hashKeyValue(row);
@@ -222,14 +227,23 @@ public class RoundRobinShuffleRulePolicy implements ShuffleRulePolicy<RowData, S
         partitionHashCode = helper.hashPartitionValue(row);
       }
       if (factorIndex != null && partitionHashCode != null) {
-        return Math.abs(Objects.hash(factorIndex, partitionHashCode)) % numPartitions;
+        return Math.abs(Objects.hash(factorIndex, partitionHashCode));
       } else if (factorIndex != null) {
-        return factorIndex % numPartitions;
+        return factorIndex;
       } else if (partitionHashCode != null) {
-        return partitionHashCode % numPartitions;
+        return partitionHashCode;
       } else {
         return 0;
       }
     }
+
+    /** Number of the distinct shuffle hashes, or -1 if they are not bounded. */
+    int shuffleHashCount() {
+      if (distributionHashMode.isSupportPrimaryKey()
+          && !distributionHashMode.isSupportPartition()) {
+        return factor;
+      }
+      return -1;
+    }
   }
 }
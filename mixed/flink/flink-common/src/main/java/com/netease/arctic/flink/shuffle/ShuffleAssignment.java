@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.flink.shuffle;
+
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Assignment of shuffle units to writer subtasks, which starts as the static assignment of {@link
+ * RoundRobinShuffleRulePolicy}, unit {@code u} to subtask {@code u % subtasks}, and moves the
+ * units from the overloaded subtasks to the idle ones by the records counted since the last
+ * rebalance.
+ */
+class ShuffleAssignment {
+
+  /** Do not rebalance by too few records, which do not tell the distribution of the keys. */
+  static final long MIN_RECORDS_TO_REBALANCE = 1000;
+
+  private final int subtasks;
+  private final long[] unitRecords;
+  private int[] unitSubtasks;
+  private double skew = 1.0;
+
+  ShuffleAssignment(int units, int subtasks) {
+    Preconditions.checkArgument(units > 0, "Illegal shuffle units: %s", units);
+    Preconditions.checkArgument(subtasks > 0, "Illegal subtasks: %s", subtasks);
+    this.subtasks = subtasks;
+    this.unitRecords = new long[units];
+    this.unitSubtasks = IntStream.range(0, units).map(unit -> unit % subtasks).toArray();
+  }
+
+  /** Count a record of the shuffle hash and return the subtask it is assigned to. */
+  int assign(int shuffleHash) {
+    int unit = Math.floorMod(shuffleHash, unitRecords.length);
+    unitRecords[unit]++;
+    return unitSubtasks[unit];
+  }
+
+  /**
+   * Reassign the units by the records counted since the last call if the most loaded subtask
+   * receives skewThreshold times the average records or more, the counted records are cleared.
+   *
+   * @return whether any unit is assigned to another subtask
+   */
+  boolean rebalance(double skewThreshold) {
+    long[] loads = loads(unitSubtasks);
+    long total = Arrays.stream(loads).sum();
+    long maxLoad = Arrays.stream(loads).max().orElse(0);
+    skew = total == 0 ? 1.0 : (double) maxLoad * subtasks / total;
+
+    boolean rebalanced = false;
+    if (total >= MIN_RECORDS_TO_REBALANCE && skew >= skewThreshold) {
+      int[] balanced = balance();
+      if (Arrays.stream(loads(balanced)).max().orElse(0) < maxLoad) {
+        rebalanced = !Arrays.equals(balanced, unitSubtasks);
+        unitSubtasks = balanced;
+      }
+    }
+    Arrays.fill(unitRecords, 0);
+    return rebalanced;
+  }
+
+  /** Records of the most loaded subtask divided by the average, counted by the last rebalance. */
+  double skew() {
+    return skew;
+  }
+
+  int subtaskOf(int unit) {
+    return unitSubtasks[unit];
+  }
+
+  /**
+   * Assign the units to the least loaded subtask from the heaviest one, a unit stays on its subtask
+   * unless another one is less loaded, so only the units that balance the loads are moved.
+   */
+  private int[] balance() {
+    int[] balanced = unitSubtasks.clone();
+    long[] loads = new long[subtasks];
+    int[] units =
+        IntStream.range(0, unitRecords.length)
+            .boxed()
+            .sorted(Comparator.comparingLong((Integer unit) -> -unitRecords[unit]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    for (int unit : units) {
+      if (unitRecords[unit] == 0) {
+        break;
+      }
+      int target = unitSubtasks[unit];
+      for (int subtask = 0; subtask < subtasks; subtask++) {
+        if (loads[subtask] < loads[target]) {
+          target = subtask;
+        }
+      }
+      balanced[unit] = target;
+      loads[target] += unitRecords[unit];
+    }
+    return balanced;
+  }
+
+  private long[] loads(int[] assignment) {
+    long[] loads = new long[subtasks];
+    for (int unit = 0; unit < unitRecords.length; unit++) {
+      loads[assignment[unit]] += unitRecords[unit];
+    }
+    return loads;
+  }
+}
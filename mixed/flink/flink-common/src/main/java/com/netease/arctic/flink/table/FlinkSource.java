@@ -260,7 +260,9 @@ public class FlinkSource {
           (InputFormatSourceFunction) IcebergClassUtil.getSourceFunction(source);
 
       InputFormat inputFormatProxy =
-          (InputFormat) ProxyUtil.getProxy(function.getFormat(), arcticTable.io());
+          (InputFormat)
+              ProxyUtil.getProxy(
+                  function.getFormat(), arcticTable.io(), ProxyUtil.INPUT_FORMAT_RECORD_METHODS);
       DataStreamSource sourceStream =
           env.createInput(inputFormatProxy, tfSource.getOutputType())
               .setParallelism(origin.getParallelism());
@@ -140,6 +140,39 @@ public class ArcticValidator extends ConnectorDescriptorValidator {
           .noDefaultValue()
           .withDescription("Optional timestamp used in case of \"timestamp\" startup mode");
 
+  public static final ConfigOption<Boolean> SCAN_PLAN_ASYNC_ENABLED =
+      ConfigOptions.key("scan.plan.async.enabled")
+          .booleanType()
+          .defaultValue(false)
+          .withDescription(
+              "Whether the arctic source enumerator plans the next window of the change table in"
+                  + " the background while the splits of the current window are being consumed.");
+
+  public static final ConfigOption<Boolean> SCAN_READER_PREFETCH_ENABLED =
+      ConfigOptions.key("scan.reader.prefetch.enabled")
+          .booleanType()
+          .defaultValue(false)
+          .withDescription(
+              "Whether the arctic source reader keeps one more split assigned and opens it in the"
+                  + " background, reading the file footers and the first row group before the"
+                  + " current split is finished.");
+
+  public static final ConfigOption<Boolean> WRITE_ADAPTIVE_SHUFFLE_ENABLED =
+      ConfigOptions.key("write.distribution.adaptive.enabled")
+          .booleanType()
+          .defaultValue(false)
+          .withDescription(
+              "Whether the hash distribution of the writer moves the hot tree nodes from the"
+                  + " overloaded writers to the idle ones at checkpoints.");
+
+  public static final ConfigOption<Double> WRITE_ADAPTIVE_SHUFFLE_SKEW_THRESHOLD =
+      ConfigOptions.key("write.distribution.adaptive.skew-threshold")
+          .doubleType()
+          .defaultValue(1.5)
+          .withDescription(
+              "The tree nodes are rebalanced when the records of the most loaded writer in a"
+                  + " checkpoint reach this times the average.");
+
   public static final ConfigOption<Boolean> SUBMIT_EMPTY_SNAPSHOTS =
       ConfigOptions.key("submit.empty.snapshots")
           .booleanType()
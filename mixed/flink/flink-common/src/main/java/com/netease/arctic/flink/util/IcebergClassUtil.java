@@ -113,7 +113,8 @@ public class IcebergClassUtil {
       ArcticFileIO arcticFileIO) {
     OneInputStreamOperator<WriteResult, Void> obj =
         newIcebergFilesCommitter(tableLoader, replacePartitions, branch, spec);
-    return (OneInputStreamOperator) ProxyUtil.getProxy(obj, arcticFileIO);
+    return (OneInputStreamOperator)
+        ProxyUtil.getProxy(obj, arcticFileIO, ProxyUtil.OPERATOR_RECORD_METHODS);
   }
 
   public static ProxyFactory<AbstractStreamOperator> getIcebergStreamWriterProxyFactory(
@@ -176,6 +177,7 @@ public class IcebergClassUtil {
     return ProxyUtil.getProxyFactory(
         FlinkInputFormat.class,
         arcticFileIO,
+        ProxyUtil.INPUT_FORMAT_RECORD_METHODS,
         new Class[] {
           TableLoader.class, Schema.class, FileIO.class, EncryptionManager.class, ScanContext.class
         },
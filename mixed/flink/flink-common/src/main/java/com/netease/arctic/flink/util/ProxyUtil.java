@@ -24,6 +24,9 @@ import com.netease.arctic.flink.interceptor.ProxyFactory;
 import com.netease.arctic.io.ArcticFileIO;
 import net.sf.cglib.proxy.Enhancer;
 import net.sf.cglib.proxy.MethodInterceptor;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+
+import java.util.Set;
 
 /**
  * A proxy util wraps an object with the kerberos authenticate ability by {@link
@@ -31,6 +34,29 @@ import net.sf.cglib.proxy.MethodInterceptor;
  */
 public class ProxyUtil {
 
+  /**
+   * Methods of stream operators called for every record or watermark. Operators enter the security
+   * context in open, snapshot, checkpoint notifications and close, where files are accessed.
+   */
+  public static final Set<String> OPERATOR_RECORD_METHODS =
+      ImmutableSet.of(
+          "processElement",
+          "processWatermark",
+          "processWatermarkStatus",
+          "processLatencyMarker",
+          "setKeyContextElement",
+          "setKeyContextElement1",
+          "setKeyContextElement2",
+          "getCurrentKey",
+          "setCurrentKey");
+
+  /**
+   * Methods of input formats called for every record. The input files of a split, and so the file
+   * systems bound to the security context, are all resolved while opening the split.
+   */
+  public static final Set<String> INPUT_FORMAT_RECORD_METHODS =
+      ImmutableSet.of("nextRecord", "reachedEnd");
+
   public static <T> Object getProxy(T obj, KerberosInvocationHandler<T> handler) {
     return handler.getProxy(obj);
   }
@@ -40,6 +66,11 @@ public class ProxyUtil {
     return getProxy(obj, handler);
   }
 
+  public static <T> Object getProxy(
+      T obj, ArcticFileIO arcticFileIO, Set<String> methodsWithoutDoAs) {
+    return getProxy(obj, new KerberosInvocationHandler<>(arcticFileIO, methodsWithoutDoAs));
+  }
+
   public static <T> T getProxy(
       Class<T> clazz, MethodInterceptor interceptor, Class[] argumentTypes, Object[] arguments) {
     Enhancer enhancer = new Enhancer();
@@ -58,4 +89,14 @@ public class ProxyUtil {
     return new ProxyFactory<T>(
         clazz, new KerberosInterceptor(arcticFileIO), argumentTypes, arguments);
   }
+
+  public static <T> ProxyFactory<T> getProxyFactory(
+      Class<T> clazz,
+      ArcticFileIO arcticFileIO,
+      Set<String> methodsWithoutDoAs,
+      Class[] argumentTypes,
+      Object[] arguments) {
+    return new ProxyFactory<T>(
+        clazz, new KerberosInterceptor(arcticFileIO, methodsWithoutDoAs), argumentTypes, arguments);
+  }
 }
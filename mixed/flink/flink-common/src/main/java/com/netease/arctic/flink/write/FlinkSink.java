@@ -27,6 +27,8 @@ import static com.netease.arctic.flink.table.descriptors.ArcticValidator.ARCTIC_
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.ARCTIC_WRITE_MAX_OPEN_FILE_SIZE_DEFAULT;
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.AUTO_EMIT_LOGSTORE_WATERMARK_GAP;
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SUBMIT_EMPTY_SNAPSHOTS;
+import static com.netease.arctic.flink.table.descriptors.ArcticValidator.WRITE_ADAPTIVE_SHUFFLE_ENABLED;
+import static com.netease.arctic.flink.table.descriptors.ArcticValidator.WRITE_ADAPTIVE_SHUFFLE_SKEW_THRESHOLD;
 import static com.netease.arctic.table.TableProperties.WRITE_DISTRIBUTION_HASH_MODE;
 import static com.netease.arctic.table.TableProperties.WRITE_DISTRIBUTION_HASH_MODE_DEFAULT;
 import static com.netease.arctic.table.TableProperties.WRITE_DISTRIBUTION_MODE;
@@ -34,6 +36,7 @@ import static com.netease.arctic.table.TableProperties.WRITE_DISTRIBUTION_MODE_D
 import static org.apache.flink.table.factories.FactoryUtil.SINK_PARALLELISM;
 
 import com.netease.arctic.flink.metric.MetricsGenerator;
+import com.netease.arctic.flink.shuffle.AdaptiveShuffleRulePolicy;
 import com.netease.arctic.flink.shuffle.RoundRobinShuffleRulePolicy;
 import com.netease.arctic.flink.shuffle.ShuffleHelper;
 import com.netease.arctic.flink.shuffle.ShuffleKey;
@@ -43,7 +46,6 @@ import com.netease.arctic.flink.table.descriptors.ArcticValidator;
 import com.netease.arctic.flink.util.ArcticUtils;
 import com.netease.arctic.flink.util.CompatibleFlinkPropertyUtil;
 import com.netease.arctic.flink.util.IcebergClassUtil;
-import com.netease.arctic.flink.util.ProxyUtil;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.table.DistributionHashMode;
 import com.netease.arctic.table.TableProperties;
@@ -206,6 +208,14 @@ public class FlinkSink {
       ShuffleRulePolicy<RowData, ShuffleKey> shufflePolicy =
           buildShuffleRulePolicy(
               helper, writeOperatorParallelism, distributionMode, overwrite, table);
+      if (shufflePolicy instanceof RoundRobinShuffleRulePolicy
+          && config.get(WRITE_ADAPTIVE_SHUFFLE_ENABLED)) {
+        shufflePolicy =
+            new AdaptiveShuffleRulePolicy(
+                (RoundRobinShuffleRulePolicy) shufflePolicy,
+                writeOperatorParallelism,
+                config.get(WRITE_ADAPTIVE_SHUFFLE_SKEW_THRESHOLD));
+      }
       LOG.info(
           "shuffle policy config={}, actual={}",
           distributionMode,
@@ -246,7 +256,10 @@ public class FlinkSink {
           ArcticUtils.getMetricsGenerator(
               metricsEventLatency, metricsEnable, table, flinkSchemaRowType, writeSchema);
 
-      if (shufflePolicy != null) {
+      if (shufflePolicy instanceof AdaptiveShuffleRulePolicy) {
+        rowDataInput =
+            ((AdaptiveShuffleRulePolicy) shufflePolicy).shuffle(rowDataInput, metricsGenerator);
+      } else if (shufflePolicy != null) {
         rowDataInput =
             rowDataInput.partitionCustom(
                 shufflePolicy.generatePartitioner(), shufflePolicy.generateKeySelector());
@@ -432,10 +445,7 @@ public class FlinkSink {
       return null;
     }
     tableLoader.switchLoadInternalTableForKeyedTable(ArcticUtils.isToBase(overwrite));
-    return (OneInputStreamOperator)
-        ProxyUtil.getProxy(
-            IcebergClassUtil.newIcebergFilesCommitter(
-                tableLoader, overwrite, branch, spec, arcticTable.io()),
-            arcticTable.io());
+    return IcebergClassUtil.newIcebergFilesCommitter(
+        tableLoader, overwrite, branch, spec, arcticTable.io());
   }
 }
@@ -24,6 +24,7 @@ import com.netease.arctic.hive.io.writer.AdaptHiveOutputFileFactory;
 import com.netease.arctic.hive.table.HiveLocationKind;
 import com.netease.arctic.hive.table.SupportHive;
 import com.netease.arctic.hive.utils.TableTypeUtil;
+import com.netease.arctic.io.ArcticFileIOs;
 import com.netease.arctic.io.writer.CommonOutputFileFactory;
 import com.netease.arctic.io.writer.OutputFileFactory;
 import com.netease.arctic.io.writer.SortedPosDeleteWriter;
@@ -186,7 +187,7 @@ public class FlinkTaskWriterBuilder implements TaskWriterBuilder<RowData> {
                 icebergTable,
                 schema,
                 flinkSchema,
-                table.properties(),
+                ArcticFileIOs.withWriterHadoopConf(table.properties(), table.io()),
                 table.spec(),
                 null,
                 null,
@@ -252,7 +253,7 @@ public class FlinkTaskWriterBuilder implements TaskWriterBuilder<RowData> {
                 keyedTable.changeTable(),
                 changeSchemaWithMeta,
                 flinkSchemaWithMeta,
-                keyedTable.properties(),
+                ArcticFileIOs.withWriterHadoopConf(keyedTable.properties(), keyedTable.io()),
                 keyedTable.spec(),
                 null,
                 null,
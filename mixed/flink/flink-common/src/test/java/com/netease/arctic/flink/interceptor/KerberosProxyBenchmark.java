@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.netease.arctic.flink.interceptor;
+
+import com.netease.arctic.flink.util.ProxyUtil;
+import com.netease.arctic.io.ArcticFileIO;
+import com.netease.arctic.io.ArcticFileIOs;
+import com.netease.arctic.table.TableMetaStore;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.security.UserGroupInformation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of a per-record call through the kerberos proxies, with and without entering the
+ * security context, compared to a direct call. Run it by the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class KerberosProxyBenchmark {
+
+  private RecordOperator direct;
+  private RecordOperator jdkProxyWithDoAs;
+  private RecordOperator jdkProxyWithoutDoAs;
+  private RecordOperator cglibProxyWithDoAs;
+  private RecordOperator cglibProxyWithoutDoAs;
+  private long value;
+
+  @Setup
+  public void setUp() throws IOException {
+    String user = UserGroupInformation.getCurrentUser().getShortUserName();
+    TableMetaStore tableMetaStore =
+        TableMetaStore.builder()
+            .withSimpleAuth(user)
+            .withConfiguration(new Configuration())
+            .buildForTest();
+    ArcticFileIO fileIO = ArcticFileIOs.buildHadoopFileIO(tableMetaStore);
+
+    direct = new SumOperator();
+    jdkProxyWithDoAs = (RecordOperator) ProxyUtil.getProxy(new SumOperator(), fileIO);
+    jdkProxyWithoutDoAs =
+        (RecordOperator)
+            ProxyUtil.getProxy(
+                new SumOperator(), fileIO, Collections.singleton("processElement"));
+    cglibProxyWithDoAs =
+        ProxyUtil.getProxy(
+            SumOperator.class, new KerberosInterceptor(fileIO), new Class[0], new Object[0]);
+    cglibProxyWithoutDoAs =
+        ProxyUtil.getProxy(
+            SumOperator.class,
+            new KerberosInterceptor(fileIO, Collections.singleton("processElement")),
+            new Class[0],
+            new Object[0]);
+  }
+
+  @Benchmark
+  public long direct() {
+    return direct.processElement(value++);
+  }
+
+  @Benchmark
+  public long jdkProxyWithDoAs() {
+    return jdkProxyWithDoAs.processElement(value++);
+  }
+
+  @Benchmark
+  public long jdkProxyWithoutDoAs() {
+    return jdkProxyWithoutDoAs.processElement(value++);
+  }
+
+  @Benchmark
+  public long cglibProxyWithDoAs() {
+    return cglibProxyWithDoAs.processElement(value++);
+  }
+
+  @Benchmark
+  public long cglibProxyWithoutDoAs() {
+    return cglibProxyWithoutDoAs.processElement(value++);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options =
+        new OptionsBuilder().include(KerberosProxyBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  public interface RecordOperator {
+    long processElement(long value);
+  }
+
+  public static class SumOperator implements RecordOperator {
+    private long sum = 0;
+
+    @Override
+    public long processElement(long value) {
+      sum += value;
+      return sum;
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.netease.arctic.flink.interceptor;
+
+import com.netease.arctic.flink.util.ProxyUtil;
+import com.netease.arctic.io.ArcticFileIO;
+import com.netease.arctic.io.ArcticFileIOs;
+import com.netease.arctic.table.TableMetaStore;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.security.UserGroupInformation;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+
+public class TestKerberosInterceptor {
+
+  private TableMetaStore tableMetaStore;
+  private ArcticFileIO fileIO;
+
+  @Before
+  public void setUp() throws IOException {
+    String user = UserGroupInformation.getCurrentUser().getShortUserName();
+    tableMetaStore =
+        TableMetaStore.builder()
+            .withSimpleAuth(user)
+            .withConfiguration(new Configuration())
+            .buildForTest();
+    fileIO = ArcticFileIOs.buildHadoopFileIO(tableMetaStore);
+  }
+
+  @Test
+  public void testRecordMethodsWithoutDoAs() {
+    SumOperator operator =
+        newProxy(new KerberosInterceptor(fileIO, Collections.singleton("processElement")));
+    UserGroupInformation ugi = tableMetaStore.getUGI();
+    Assert.assertEquals(ugi, operator.open());
+    operator.processElement(1);
+    Assert.assertNotEquals(ugi, operator.processUser());
+    operator.processElement(2);
+    Assert.assertEquals(3, operator.sum());
+  }
+
+  @Test
+  public void testAllMethodsWithDoAs() {
+    SumOperator operator = newProxy(new KerberosInterceptor(fileIO));
+    UserGroupInformation ugi = tableMetaStore.getUGI();
+    Assert.assertEquals(ugi, operator.open());
+    operator.processElement(1);
+    Assert.assertEquals(ugi, operator.processUser());
+    Assert.assertEquals(1, operator.sum());
+  }
+
+  @Test
+  public void testThrowOriginalException() {
+    SumOperator withDoAs = newProxy(new KerberosInterceptor(fileIO));
+    Assert.assertThrows(IllegalArgumentException.class, () -> withDoAs.processElement(-1));
+
+    SumOperator withoutDoAs =
+        newProxy(new KerberosInterceptor(fileIO, Collections.singleton("processElement")));
+    Assert.assertThrows(IllegalArgumentException.class, () -> withoutDoAs.processElement(-1));
+  }
+
+  private static SumOperator newProxy(KerberosInterceptor interceptor) {
+    return ProxyUtil.getProxy(SumOperator.class, interceptor, new Class[0], new Object[0]);
+  }
+
+  public static class SumOperator {
+    private long sum = 0;
+    private UserGroupInformation processUser;
+
+    public UserGroupInformation open() {
+      return currentUser();
+    }
+
+    public void processElement(long value) {
+      if (value < 0) {
+        throw new IllegalArgumentException("Negative value: " + value);
+      }
+      processUser = currentUser();
+      sum += value;
+    }
+
+    public UserGroupInformation processUser() {
+      return processUser;
+    }
+
+    public long sum() {
+      return sum;
+    }
+
+    private static UserGroupInformation currentUser() {
+      try {
+        return UserGroupInformation.getCurrentUser();
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.flink.interceptor;
+
+import com.netease.arctic.flink.util.ProxyUtil;
+import com.netease.arctic.io.ArcticFileIO;
+import com.netease.arctic.io.ArcticFileIOs;
+import com.netease.arctic.table.TableMetaStore;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.security.UserGroupInformation;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+
+public class TestKerberosInvocationHandler {
+
+  private TableMetaStore tableMetaStore;
+  private ArcticFileIO fileIO;
+
+  @Before
+  public void setUp() throws IOException {
+    String user = UserGroupInformation.getCurrentUser().getShortUserName();
+    tableMetaStore =
+        TableMetaStore.builder()
+            .withSimpleAuth(user)
+            .withConfiguration(new Configuration())
+            .buildForTest();
+    fileIO = ArcticFileIOs.buildHadoopFileIO(tableMetaStore);
+  }
+
+  @Test
+  public void testRecordMethodsWithoutDoAs() {
+    RecordOperator operator =
+        (RecordOperator)
+            ProxyUtil.getProxy(
+                new SumOperator(), fileIO, Collections.singleton("processElement"));
+    UserGroupInformation ugi = tableMetaStore.getUGI();
+    Assert.assertEquals(ugi, operator.open());
+    operator.processElement(1);
+    Assert.assertNotEquals(ugi, operator.processUser());
+    operator.processElement(2);
+    Assert.assertEquals(3, operator.sum());
+  }
+
+  @Test
+  public void testAllMethodsWithDoAs() {
+    RecordOperator operator = (RecordOperator) ProxyUtil.getProxy(new SumOperator(), fileIO);
+    UserGroupInformation ugi = tableMetaStore.getUGI();
+    Assert.assertEquals(ugi, operator.open());
+    operator.processElement(1);
+    Assert.assertEquals(ugi, operator.processUser());
+    Assert.assertEquals(1, operator.sum());
+  }
+
+  public interface RecordOperator {
+    UserGroupInformation open();
+
+    void processElement(long value);
+
+    UserGroupInformation processUser();
+
+    long sum();
+  }
+
+  private static class SumOperator implements RecordOperator {
+    private long sum = 0;
+    private UserGroupInformation processUser;
+
+    @Override
+    public UserGroupInformation open() {
+      return currentUser();
+    }
+
+    @Override
+    public void processElement(long value) {
+      processUser = currentUser();
+      sum += value;
+    }
+
+    @Override
+    public UserGroupInformation processUser() {
+      return processUser;
+    }
+
+    @Override
+    public long sum() {
+      return sum;
+    }
+
+    private static UserGroupInformation currentUser() {
+      try {
+        return UserGroupInformation.getCurrentUser();
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+}
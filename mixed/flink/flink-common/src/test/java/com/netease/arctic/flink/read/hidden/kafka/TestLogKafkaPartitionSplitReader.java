@@ -25,10 +25,12 @@ import static com.netease.arctic.flink.write.hidden.kafka.TestBaseLog.createLogD
 import static com.netease.arctic.flink.write.hidden.kafka.TestBaseLog.userSchema;
 import static com.netease.arctic.flink.write.hidden.kafka.TestHiddenLogOperators.createRowData;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import com.netease.arctic.flink.kafka.testutils.KafkaConfigGenerate;
 import com.netease.arctic.flink.kafka.testutils.KafkaContainerTest;
 import com.netease.arctic.flink.read.source.log.LogSourceHelper;
+import com.netease.arctic.flink.read.source.log.kafka.LogKafkaDecodeMetrics;
 import com.netease.arctic.flink.read.source.log.kafka.LogKafkaPartitionSplitReader;
 import com.netease.arctic.flink.read.source.log.kafka.LogRecordWithRetractInfo;
 import com.netease.arctic.flink.shuffle.LogRecordV1;
@@ -110,6 +112,20 @@ public class TestLogKafkaPartitionSplitReader {
     assignSplitsAndFetchUntilFinish(reader, 1, 20);
   }
 
+  @Test
+  public void testDecodeMetrics() throws IOException {
+    LogKafkaDecodeMetrics decodeMetrics =
+        new LogKafkaDecodeMetrics(UnregisteredMetricsGroup.createSourceReaderMetricGroup());
+    LogKafkaPartitionSplitReader reader = createReader(new Properties(), decodeMetrics);
+    assignSplitsAndFetchUntilFinish(reader, 0, 20);
+
+    TopicPartition tp = new TopicPartition(TOPIC1, 0);
+    // every message before the stopping offset is decoded once, including the flip
+    assertTrue(decodeMetrics.decodedRecords(tp) >= TOPIC1_STOP_OFFSET);
+    assertTrue(decodeMetrics.decodedBytes(tp) > decodeMetrics.decodedRecords(tp));
+    assertEquals(0, decodeMetrics.decodedRecords(new TopicPartition(TOPIC2, 0)));
+  }
+
   private ProducerRecord<byte[], byte[]> createLogData(
       String topic,
       int i,
@@ -263,6 +279,13 @@ public class TestLogKafkaPartitionSplitReader {
   }
 
   private LogKafkaPartitionSplitReader createReader(Properties additionalProperties) {
+    return createReader(
+        additionalProperties,
+        new LogKafkaDecodeMetrics(UnregisteredMetricsGroup.createSourceReaderMetricGroup()));
+  }
+
+  private LogKafkaPartitionSplitReader createReader(
+      Properties additionalProperties, LogKafkaDecodeMetrics decodeMetrics) {
     Properties props = KafkaConfigGenerate.getPropertiesWithByteArray();
     props.put("group.id", "test");
     props.put("auto.offset.reset", "earliest");
@@ -275,6 +298,7 @@ public class TestLogKafkaPartitionSplitReader {
         props,
         new TestingReaderContext(new Configuration(), sourceReaderMetricGroup),
         new KafkaSourceReaderMetrics(sourceReaderMetricGroup),
+        decodeMetrics,
         userSchema,
         true,
         new LogSourceHelper(),
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.flink.read.hybrid.enumerator;
+
+import com.netease.arctic.BasicTableTestHelper;
+import com.netease.arctic.TableTestHelper;
+import com.netease.arctic.ams.api.TableFormat;
+import com.netease.arctic.catalog.BasicCatalogTestHelper;
+import com.netease.arctic.flink.table.ArcticTableLoader;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.types.RowKind;
+import org.apache.iceberg.io.TaskWriter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class TestAsyncContinuousSplitPlanner extends TestContinuousSplitPlannerImpl {
+
+  public TestAsyncContinuousSplitPlanner() {
+    super(
+        new BasicCatalogTestHelper(TableFormat.MIXED_ICEBERG),
+        new BasicTableTestHelper(true, true));
+  }
+
+  @Test
+  public void testPlanNextWindowAsync() throws IOException {
+    try (ContinuousSplitPlannerImpl planner =
+        new ContinuousSplitPlannerImpl(
+            ArcticTableLoader.of(TableTestHelper.TEST_TABLE_ID, catalogBuilder), true)) {
+      ContinuousEnumerationResult initial = planner.planSplits(null, null);
+      Assert.assertFalse(initial.isEmpty());
+      long changeSnapshotId = testKeyedTable.changeTable().currentSnapshot().snapshotId();
+      Assert.assertEquals(changeSnapshotId, (long) initial.toOffset().changeSnapshotId());
+
+      // nothing committed since the initial planning
+      ContinuousEnumerationResult empty = planner.planSplits(initial.toOffset(), null);
+      Assert.assertTrue(empty.isEmpty());
+
+      for (int i = 0; i < 3; i++) {
+        writeChange(10 + i);
+        testKeyedTable.changeTable().refresh();
+        long currentSnapshotId = testKeyedTable.changeTable().currentSnapshot().snapshotId();
+
+        // the window planned in background may be empty or not, either way the result must cover
+        // the new commit
+        ContinuousEnumerationResult result =
+            planner.planSplits(ArcticEnumeratorOffset.of(changeSnapshotId, null), null);
+        Assert.assertFalse(result.isEmpty());
+        Assert.assertEquals(currentSnapshotId, (long) result.toOffset().changeSnapshotId());
+        Assert.assertTrue(planner.discoveryLagMs() >= 0);
+        changeSnapshotId = currentSnapshotId;
+      }
+    }
+  }
+
+  @Test
+  public void testCatchUpSnapshotsCommittedAfterNextWindow() throws IOException {
+    ManualExecutorService executor = new ManualExecutorService();
+    try (ContinuousSplitPlannerImpl planner =
+        new ContinuousSplitPlannerImpl(
+            ArcticTableLoader.of(TableTestHelper.TEST_TABLE_ID, catalogBuilder), executor)) {
+      ContinuousEnumerationResult initial = planner.planSplits(null, null);
+      long initialSnapshotId = initial.toOffset().changeSnapshotId();
+
+      // the next window is planned after this commit
+      writeChange(20);
+      executor.runAll();
+      testKeyedTable.changeTable().refresh();
+      long windowSnapshotId = testKeyedTable.changeTable().currentSnapshot().snapshotId();
+
+      // and this commit comes after the next window is planned
+      writeChange(21);
+      testKeyedTable.changeTable().refresh();
+      long latestSnapshotId = testKeyedTable.changeTable().currentSnapshot().snapshotId();
+
+      ContinuousEnumerationResult result = planner.planSplits(initial.toOffset(), null);
+      Assert.assertEquals(initialSnapshotId, (long) result.fromOffset().changeSnapshotId());
+      Assert.assertEquals(latestSnapshotId, (long) result.toOffset().changeSnapshotId());
+      Assert.assertNotEquals(windowSnapshotId, latestSnapshotId);
+      // the files of both commits are handed out
+      Assert.assertEquals(
+          2,
+          result.splits().stream()
+              .mapToInt(split -> split.asChangelogSplit().insertTasks().size())
+              .sum());
+    }
+  }
+
+  private void writeChange(int id) throws IOException {
+    TaskWriter<RowData> taskWriter = createTaskWriter(false);
+    taskWriter.write(
+        GenericRowData.ofKind(
+            RowKind.INSERT,
+            id,
+            StringData.fromString("name" + id),
+            ldt.toEpochSecond(ZoneOffset.UTC),
+            TimestampData.fromLocalDateTime(ldt)));
+    commit(testKeyedTable, taskWriter.complete(), false);
+  }
+
+  /** Runs the submitted tasks only when asked to, so the test controls when a window is planned. */
+  private static class ManualExecutorService extends AbstractExecutorService {
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private boolean shutdown = false;
+
+    void runAll() {
+      Runnable task = tasks.poll();
+      while (task != null) {
+        task.run();
+        task = tasks.poll();
+      }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      tasks.add(command);
+    }
+
+    @Override
+    public void shutdown() {
+      shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      shutdown = true;
+      List<Runnable> remaining = new ArrayList<>(tasks);
+      tasks.clear();
+      return remaining;
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return shutdown;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+      return true;
+    }
+  }
+}
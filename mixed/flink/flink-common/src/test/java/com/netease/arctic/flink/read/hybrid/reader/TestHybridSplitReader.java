@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.flink.read.hybrid.reader;
+
+import com.netease.arctic.BasicTableTestHelper;
+import com.netease.arctic.ams.api.TableFormat;
+import com.netease.arctic.catalog.BasicCatalogTestHelper;
+import com.netease.arctic.flink.read.FlinkSplitPlanner;
+import com.netease.arctic.flink.read.hybrid.enumerator.TestContinuousSplitPlannerImpl;
+import com.netease.arctic.flink.read.hybrid.split.ArcticSplit;
+import com.netease.arctic.flink.read.hybrid.split.SplitRequestEvent;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
+import org.apache.flink.connector.testutils.source.reader.TestingReaderContext;
+import org.apache.flink.table.data.RowData;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestHybridSplitReader extends TestContinuousSplitPlannerImpl {
+
+  public TestHybridSplitReader() {
+    super(
+        new BasicCatalogTestHelper(TableFormat.MIXED_ICEBERG),
+        new BasicTableTestHelper(true, true));
+  }
+
+  @Test
+  public void testPrefetchNextSplit() throws Exception {
+    List<ArcticSplit> splits = planSplits();
+    Map<String, String> openThreads = new ConcurrentHashMap<>();
+    ReaderFunction<RowData> readerFunction =
+        split -> {
+          openThreads.put(split.splitId(), Thread.currentThread().getName());
+          return rowDataReaderFunction().apply(split);
+        };
+
+    HybridSplitReaderMetrics metrics = new HybridSplitReaderMetrics(null);
+    HybridSplitReader<RowData> reader =
+        new HybridSplitReader<>(readerFunction, new TestingReaderContext(), true, metrics);
+    List<RowData> records = readAll(reader, splits);
+    reader.close();
+
+    Assert.assertEquals(readAll(splits).size(), records.size());
+    // only the first split is opened by the fetching thread, the others are opened in background
+    Assert.assertEquals(splits.size() - 1, metrics.prefetchedSplits());
+    for (int i = 1; i < splits.size(); i++) {
+      Assert.assertTrue(
+          openThreads.get(splits.get(i).splitId()).startsWith("arctic-split-prefetch-"));
+    }
+  }
+
+  @Test
+  public void testReopenSplitIfPrefetchFailed() throws Exception {
+    List<ArcticSplit> splits = planSplits();
+    String failedSplitId = splits.get(1).splitId();
+    AtomicInteger opened = new AtomicInteger();
+    ReaderFunction<RowData> readerFunction =
+        split -> {
+          opened.incrementAndGet();
+          if (split.splitId().equals(failedSplitId)
+              && Thread.currentThread().getName().startsWith("arctic-split-prefetch-")) {
+            throw new IllegalStateException("Failed to prefetch " + split);
+          }
+          return rowDataReaderFunction().apply(split);
+        };
+
+    HybridSplitReaderMetrics metrics = new HybridSplitReaderMetrics(null);
+    HybridSplitReader<RowData> reader =
+        new HybridSplitReader<>(readerFunction, new TestingReaderContext(), true, metrics);
+    List<RowData> records = readAll(reader, splits);
+    reader.close();
+
+    Assert.assertEquals(readAll(splits).size(), records.size());
+    Assert.assertEquals(splits.size() - 2, metrics.prefetchedSplits());
+    Assert.assertEquals(splits.size() + 1, opened.get());
+  }
+
+  @Test
+  public void testRequestOneMoreSplitToPrefetch() throws Exception {
+    List<ArcticSplit> splits = planSplits();
+    TestingReaderContext context = new TestingReaderContext();
+    try (ArcticSourceReader<RowData> reader =
+        new ArcticSourceReader<>(
+            rowDataReaderFunction(), new Configuration(), context, false, true)) {
+      reader.start();
+      Assert.assertEquals(1, splitRequests(context));
+
+      // keep one more split assigned, so that it could be opened while the first one is read
+      reader.addSplits(Collections.singletonList(splits.get(0)));
+      Assert.assertEquals(2, splitRequests(context));
+      reader.addSplits(Collections.singletonList(splits.get(1)));
+      Assert.assertEquals(2, splitRequests(context));
+    }
+  }
+
+  @Test
+  public void testRequestSplitWithoutPrefetch() throws Exception {
+    List<ArcticSplit> splits = planSplits();
+    TestingReaderContext context = new TestingReaderContext();
+    try (ArcticSourceReader<RowData> reader =
+        new ArcticSourceReader<>(rowDataReaderFunction(), new Configuration(), context, false)) {
+      reader.start();
+      reader.addSplits(Collections.singletonList(splits.get(0)));
+      Assert.assertEquals(1, splitRequests(context));
+    }
+  }
+
+  private List<ArcticSplit> planSplits() {
+    List<ArcticSplit> splits =
+        FlinkSplitPlanner.planFullTable(testKeyedTable, new AtomicInteger(0));
+    Assert.assertTrue(splits.size() > 1);
+    return splits;
+  }
+
+  private RowDataReaderFunction rowDataReaderFunction() {
+    return new RowDataReaderFunction(
+        new Configuration(),
+        testKeyedTable.schema(),
+        testKeyedTable.schema(),
+        testKeyedTable.primaryKeySpec(),
+        null,
+        true,
+        testKeyedTable.io());
+  }
+
+  private List<RowData> readAll(List<ArcticSplit> splits) throws Exception {
+    HybridSplitReader<RowData> reader =
+        new HybridSplitReader<>(rowDataReaderFunction(), new TestingReaderContext());
+    List<RowData> records = readAll(reader, splits);
+    reader.close();
+    return records;
+  }
+
+  private List<RowData> readAll(HybridSplitReader<RowData> reader, List<ArcticSplit> splits)
+      throws Exception {
+    reader.handleSplitsChanges(new SplitsAddition<>(splits));
+    List<RowData> records = new ArrayList<>();
+    int finished = 0;
+    while (finished < splits.size()) {
+      RecordsWithSplitIds<ArcticRecordWithOffset<RowData>> batch = reader.fetch();
+      while (batch.nextSplit() != null) {
+        ArcticRecordWithOffset<RowData> record = batch.nextRecordFromSplit();
+        while (record != null) {
+          records.add(record.record());
+          record = batch.nextRecordFromSplit();
+        }
+      }
+      finished += batch.finishedSplits().size();
+      batch.recycle();
+    }
+    return records;
+  }
+
+  private long splitRequests(TestingReaderContext context) {
+    return context.getSentEvents().stream().filter(e -> e instanceof SplitRequestEvent).count();
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.flink.shuffle;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestShuffleAssignment {
+
+  @Test
+  public void testRebalanceHotUnits() {
+    ShuffleAssignment assignment = new ShuffleAssignment(4, 2);
+    // units 0 and 2 are both assigned to subtask 0 at first
+    Assert.assertEquals(0, assignment.assign(0));
+    Assert.assertEquals(0, assignment.assign(2));
+    for (int i = 1; i < 600; i++) {
+      assignment.assign(0);
+      assignment.assign(2);
+    }
+    assignment.assign(1);
+
+    Assert.assertTrue(assignment.rebalance(1.5));
+    Assert.assertEquals(1200.0 * 2 / 1201, assignment.skew(), 0.0001);
+    Assert.assertNotEquals(assignment.subtaskOf(0), assignment.subtaskOf(2));
+    // the idle units stay on their subtasks
+    Assert.assertEquals(1, assignment.subtaskOf(1));
+    Assert.assertEquals(1, assignment.subtaskOf(3));
+
+    for (int i = 0; i < 600; i++) {
+      assignment.assign(0);
+      assignment.assign(2);
+    }
+    Assert.assertFalse(assignment.rebalance(1.5));
+    Assert.assertEquals(1.0, assignment.skew(), 0.0001);
+  }
+
+  @Test
+  public void testNotRebalanceFewRecords() {
+    ShuffleAssignment assignment = new ShuffleAssignment(4, 2);
+    for (int i = 0; i < ShuffleAssignment.MIN_RECORDS_TO_REBALANCE / 2 - 1; i++) {
+      assignment.assign(0);
+      assignment.assign(2);
+    }
+    Assert.assertFalse(assignment.rebalance(1.5));
+    Assert.assertEquals(2.0, assignment.skew(), 0.0001);
+    Assert.assertEquals(0, assignment.subtaskOf(0));
+    Assert.assertEquals(0, assignment.subtaskOf(2));
+  }
+
+  @Test
+  public void testNegativeShuffleHash() {
+    ShuffleAssignment assignment = new ShuffleAssignment(4, 2);
+    Assert.assertEquals(assignment.subtaskOf(3), assignment.assign(-1));
+  }
+}
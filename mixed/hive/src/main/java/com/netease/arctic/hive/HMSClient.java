@@ -19,9 +19,11 @@
 package com.netease.arctic.hive;
 
 import org.apache.hadoop.hive.metastore.PartitionDropOptions;
+import org.apache.hadoop.hive.metastore.api.CurrentNotificationEventId;
 import org.apache.hadoop.hive.metastore.api.Database;
 import org.apache.hadoop.hive.metastore.api.EnvironmentContext;
 import org.apache.hadoop.hive.metastore.api.MetaException;
+import org.apache.hadoop.hive.metastore.api.NotificationEventResponse;
 import org.apache.hadoop.hive.metastore.api.Partition;
 import org.apache.hadoop.hive.metastore.api.Table;
 import org.apache.thrift.TException;
@@ -86,4 +88,8 @@ public interface HMSClient {
       EnvironmentContext environmentContext)
       throws TException, InstantiationException, IllegalAccessException, NoSuchMethodException,
           InvocationTargetException, ClassNotFoundException;
+
+  CurrentNotificationEventId getCurrentNotificationEventId() throws TException;
+
+  NotificationEventResponse getNextNotification(long lastEventId, int maxEvents) throws TException;
 }
@@ -20,9 +20,11 @@ package com.netease.arctic.hive;
 
 import org.apache.hadoop.hive.metastore.HiveMetaStoreClient;
 import org.apache.hadoop.hive.metastore.PartitionDropOptions;
+import org.apache.hadoop.hive.metastore.api.CurrentNotificationEventId;
 import org.apache.hadoop.hive.metastore.api.Database;
 import org.apache.hadoop.hive.metastore.api.EnvironmentContext;
 import org.apache.hadoop.hive.metastore.api.MetaException;
+import org.apache.hadoop.hive.metastore.api.NotificationEventResponse;
 import org.apache.hadoop.hive.metastore.api.Partition;
 import org.apache.hadoop.hive.metastore.api.Table;
 import org.apache.iceberg.common.DynMethods;
@@ -181,4 +183,15 @@ public class HMSClientImpl implements HMSClient {
             .build();
     alterPartition.invoke(getClient(), dbName, tblName, newPart, environmentContext);
   }
+
+  @Override
+  public CurrentNotificationEventId getCurrentNotificationEventId() throws TException {
+    return getClient().getCurrentNotificationEventId();
+  }
+
+  @Override
+  public NotificationEventResponse getNextNotification(long lastEventId, int maxEvents)
+      throws TException {
+    return getClient().getNextNotification(lastEventId, maxEvents, null);
+  }
 }
@@ -23,6 +23,7 @@ import com.netease.arctic.hive.HiveTableProperties;
 import com.netease.arctic.hive.table.HiveLocationKind;
 import com.netease.arctic.hive.table.SupportHive;
 import com.netease.arctic.hive.utils.TableTypeUtil;
+import com.netease.arctic.io.ArcticFileIOs;
 import com.netease.arctic.io.writer.CommonOutputFileFactory;
 import com.netease.arctic.io.writer.GenericBaseTaskWriter;
 import com.netease.arctic.io.writer.GenericChangeTaskWriter;
@@ -43,6 +44,7 @@ import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.MetricsModes;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.data.AdaptHiveGenericAppenderFactory;
 import org.apache.iceberg.data.GenericAppenderFactory;
@@ -51,9 +53,11 @@ import org.apache.iceberg.encryption.EncryptionManager;
 import org.apache.iceberg.io.FileAppenderFactory;
 import org.apache.iceberg.io.TaskWriter;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.util.PropertyUtil;
 
 import java.util.Locale;
+import java.util.Map;
 
 /** Builder to create writers for {@link KeyedTable} writing {@link Record}. */
 public class AdaptHiveGenericTaskWriterBuilder implements TaskWriterBuilder<Record> {
@@ -67,6 +71,7 @@ public class AdaptHiveGenericTaskWriterBuilder implements TaskWriterBuilder<Reco
   private String customHiveSubdirectory;
   private Long targetFileSize;
   private boolean orderedWriter = false;
+  private String sortSpillDirectory;
   private Boolean hiveConsistentWrite;
 
   private AdaptHiveGenericTaskWriterBuilder(ArcticTable table) {
@@ -114,6 +119,11 @@ public class AdaptHiveGenericTaskWriterBuilder implements TaskWriterBuilder<Reco
     return this;
   }
 
+  public AdaptHiveGenericTaskWriterBuilder withSortSpillDirectory(String sortSpillDirectory) {
+    this.sortSpillDirectory = sortSpillDirectory;
+    return this;
+  }
+
   public AdaptHiveGenericTaskWriterBuilder hiveConsistentWrite(boolean enabled) {
     this.hiveConsistentWrite = enabled;
     return this;
@@ -153,6 +163,7 @@ public class AdaptHiveGenericTaskWriterBuilder implements TaskWriterBuilder<Reco
                 .toUpperCase(Locale.ENGLISH)));
     GenericAppenderFactory appenderFactory =
         new GenericAppenderFactory(baseTable.schema(), baseTable.spec());
+    appenderFactory.setAll(ArcticFileIOs.writerHadoopConf(table.io()));
     appenderFactory.set(
         org.apache.iceberg.TableProperties.METRICS_MODE_COLUMN_CONF_PREFIX
             + MetadataColumns.DELETE_FILE_PATH.name(),
@@ -244,10 +255,43 @@ public class AdaptHiveGenericTaskWriterBuilder implements TaskWriterBuilder<Reco
                 partitionId,
                 taskId,
                 transactionId);
-    FileAppenderFactory<Record> appenderFactory =
-        TableTypeUtil.isHive(table)
-            ? new AdaptHiveGenericAppenderFactory(schema, table.spec())
-            : new GenericAppenderFactory(schema, table.spec());
+    boolean sortByPrimaryKey =
+        primaryKeySpec != null
+            && PropertyUtil.propertyAsBoolean(
+                table.properties(),
+                TableProperties.BASE_WRITE_SORT_BY_PRIMARY_KEY_ENABLED,
+                TableProperties.BASE_WRITE_SORT_BY_PRIMARY_KEY_ENABLED_DEFAULT);
+    Map<String, String> appenderProperties = Maps.newHashMap();
+    SortOrder sortOrder = null;
+    if (sortByPrimaryKey) {
+      // keep the whole key bounds of the sorted files to skip them by key
+      primaryKeySpec
+          .fieldNames()
+          .forEach(
+              name ->
+                  appenderProperties.put(
+                      org.apache.iceberg.TableProperties.METRICS_MODE_COLUMN_CONF_PREFIX + name,
+                      MetricsModes.Full.get().toString()));
+      SortOrder keyOrder = primaryKeySpec.sortOrder();
+      sortOrder =
+          table.asKeyedTable().baseTable().sortOrders().values().stream()
+              .filter(order -> order.satisfies(keyOrder))
+              .findFirst()
+              .orElse(null);
+    }
+    FileAppenderFactory<Record> appenderFactory;
+    if (TableTypeUtil.isHive(table)) {
+      AdaptHiveGenericAppenderFactory hiveAppenderFactory =
+          new AdaptHiveGenericAppenderFactory(schema, table.spec());
+      appenderProperties.forEach(hiveAppenderFactory::set);
+      appenderFactory = hiveAppenderFactory;
+    } else {
+      GenericAppenderFactory genericAppenderFactory =
+          new GenericAppenderFactory(schema, table.spec());
+      appenderProperties.forEach(genericAppenderFactory::set);
+      genericAppenderFactory.setAll(ArcticFileIOs.writerHadoopConf(table.io()));
+      appenderFactory = genericAppenderFactory;
+    }
     return new GenericBaseTaskWriter(
         fileFormat,
         appenderFactory,
@@ -258,7 +302,14 @@ public class AdaptHiveGenericTaskWriterBuilder implements TaskWriterBuilder<Reco
         schema,
         table.spec(),
         primaryKeySpec,
-        orderedWriter);
+        orderedWriter,
+        sortByPrimaryKey,
+        PropertyUtil.propertyAsInt(
+            table.properties(),
+            TableProperties.BASE_WRITE_SORT_SPILL_RECORDS,
+            TableProperties.BASE_WRITE_SORT_SPILL_RECORDS_DEFAULT),
+        sortOrder,
+        sortSpillDirectory);
   }
 
   private GenericChangeTaskWriter buildChangeWriter() {
@@ -291,10 +342,14 @@ public class AdaptHiveGenericTaskWriterBuilder implements TaskWriterBuilder<Reco
                 TableProperties.CHANGE_FILE_INDEX_HASH_BUCKET_DEFAULT)
             - 1;
     Schema changeWriteSchema = SchemaUtil.changeWriteSchema(table.changeTable().schema());
-    FileAppenderFactory<Record> appenderFactory =
-        TableTypeUtil.isHive(table)
-            ? new AdaptHiveGenericAppenderFactory(changeWriteSchema, table.spec())
-            : new GenericAppenderFactory(changeWriteSchema, table.spec());
+    FileAppenderFactory<Record> appenderFactory;
+    if (TableTypeUtil.isHive(table)) {
+      appenderFactory = new AdaptHiveGenericAppenderFactory(changeWriteSchema, table.spec());
+    } else {
+      appenderFactory =
+          new GenericAppenderFactory(changeWriteSchema, table.spec())
+              .setAll(ArcticFileIOs.writerHadoopConf(table.io()));
+    }
     return new GenericChangeTaskWriter(
         fileFormat,
         appenderFactory,
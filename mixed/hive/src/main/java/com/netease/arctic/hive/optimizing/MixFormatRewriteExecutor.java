@@ -78,6 +78,7 @@ public class MixFormatRewriteExecutor extends AbstractRewriteFilesExecutor {
         .withTaskId(0)
         .withCustomHiveSubdirectory(outputDir)
         .withTargetFileSize(targetSize())
+        .withSortSpillDirectory(structLikeCollections.getBackendBaseDir())
         .buildWriter(
             StringUtils.isBlank(outputDir)
                 ? WriteOperationKind.MAJOR_OPTIMIZE
@@ -34,6 +34,7 @@ import static org.apache.iceberg.TableProperties.PARQUET_PAGE_SIZE_BYTES_DEFAULT
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES_DEFAULT;
 
+import com.netease.arctic.io.AsyncUploadOutputFile;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.Files;
@@ -253,11 +254,14 @@ public class AdaptHiveParquet {
         Preconditions.checkArgument(
             writeSupport == null, "Cannot write with both write support and Parquet value writer");
         Configuration conf;
-        if (file instanceof HadoopOutputFile) {
-          conf = ((HadoopOutputFile) file).getConf();
+        // Change For Arctic
+        OutputFile unwrapped = AsyncUploadOutputFile.unwrap(file);
+        if (unwrapped instanceof HadoopOutputFile) {
+          conf = ((HadoopOutputFile) unwrapped).getConf();
         } else {
           conf = new Configuration();
         }
+        // Change For Arctic
 
         for (Map.Entry<String, String> entry : config.entrySet()) {
           conf.set(entry.getKey(), entry.getValue());
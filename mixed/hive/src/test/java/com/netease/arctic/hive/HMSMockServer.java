@@ -66,6 +66,8 @@ public class HMSMockServer {
 
   private static final String DEFAULT_DATABASE_NAME = "default";
   private static final int DEFAULT_POOL_SIZE = 50;
+  private static final String DB_NOTIFICATION_LISTENER =
+      "org.apache.hive.hcatalog.listener.DbNotificationListener";
 
   // create the metastore handlers based on whether we're working with Hive2 or Hive3 dependencies
   // we need to do this because there is a breaking API change between Hive2 and Hive3
@@ -343,6 +345,14 @@ public class HMSMockServer {
     newHiveConf.set("datanucleus.schema.autoCreateTables", "true");
     newHiveConf.set("hive.metastore.client.capability.check", "false");
     newHiveConf.set("iceberg.hive.client-pool-size", "2");
+    // record notification events so the changes of the metastore could be polled
+    try {
+      Class.forName(DB_NOTIFICATION_LISTENER, false, HMSMockServer.class.getClassLoader());
+      newHiveConf.set("hive.metastore.transactional.event.listeners", DB_NOTIFICATION_LISTENER);
+      newHiveConf.set("hive.metastore.event.db.notification.api.auth", "false");
+    } catch (ClassNotFoundException e) {
+      LOG.info("Notification events are not recorded since {} is absent", DB_NOTIFICATION_LISTENER);
+    }
     return newHiveConf;
   }
 
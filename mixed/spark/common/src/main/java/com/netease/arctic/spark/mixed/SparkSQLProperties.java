@@ -37,4 +37,10 @@ public class SparkSQLProperties {
 
   public static final String OPTIMIZE_WRITE_ENABLED = "spark.sql.arctic.optimize-write-enabled";
   public static final String OPTIMIZE_WRITE_ENABLED_DEFAULT = "true";
+
+  public static final String VECTORIZATION_ENABLED = "spark.sql.arctic.vectorization.enabled";
+  public static final String VECTORIZATION_ENABLED_DEFAULT = "false";
+
+  public static final String VECTORIZATION_BATCH_SIZE = "spark.sql.arctic.vectorization.batch-size";
+  public static final String VECTORIZATION_BATCH_SIZE_DEFAULT = "5000";
 }
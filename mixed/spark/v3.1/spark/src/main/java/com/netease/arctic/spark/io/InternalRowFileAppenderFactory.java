@@ -18,6 +18,7 @@
 
 package com.netease.arctic.spark.io;
 
+import com.netease.arctic.io.ArcticFileIOs;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.MetricsConfig;
 import org.apache.iceberg.PartitionSpec;
@@ -136,7 +137,7 @@ public class InternalRowFileAppenderFactory implements FileAppenderFactory<Inter
       }
 
       return new InternalRowFileAppenderFactory(
-          table.properties(),
+          ArcticFileIOs.withWriterHadoopConf(table.properties(), table.io()),
           writeSchema,
           dsSchema,
           spec,
@@ -20,21 +20,39 @@ package com.netease.arctic.spark.reader;
 
 import com.netease.arctic.hive.io.reader.AbstractAdaptHiveKeyedDataReader;
 import com.netease.arctic.io.ArcticFileIO;
+import com.netease.arctic.io.CloseableIteratorWrapper;
+import com.netease.arctic.io.reader.ArcticDeleteFilter;
+import com.netease.arctic.io.reader.DataReaderCommon;
+import com.netease.arctic.scan.KeyedTableScanTask;
 import com.netease.arctic.spark.SparkInternalRowWrapper;
 import com.netease.arctic.spark.util.ArcticSparkUtils;
 import com.netease.arctic.table.PrimaryKeySpec;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.mapping.NameMappingParser;
 import org.apache.iceberg.orc.OrcRowReader;
+import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.parquet.ParquetValueReader;
 import org.apache.iceberg.spark.SparkSchemaUtil;
 import org.apache.iceberg.spark.data.SparkOrcReader;
+import org.apache.iceberg.spark.data.vectorized.VectorizedSparkParquetReaders;
+import org.apache.iceberg.types.Types;
 import org.apache.orc.TypeDescription;
 import org.apache.parquet.schema.MessageType;
 import org.apache.spark.sql.catalyst.InternalRow;
 import org.apache.spark.sql.types.StructType;
+import org.apache.spark.sql.vectorized.ColumnVector;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 public class ArcticSparkKeyedDataReader extends AbstractAdaptHiveKeyedDataReader<InternalRow> {
@@ -57,6 +75,91 @@ public class ArcticSparkKeyedDataReader extends AbstractAdaptHiveKeyedDataReader
         true);
   }
 
+  /**
+   * Read the data files of the task as {@link ColumnarBatch}es with the vectorized parquet reader.
+   * Rows removed by position or equality deletes are skipped through a selection over each batch,
+   * so column values are never copied into rows.
+   */
+  public CloseableIterator<ColumnarBatch> readBatches(
+      KeyedTableScanTask keyedTableScanTask, int batchSize) {
+    ArcticDeleteFilter<InternalRow> arcticDeleteFilter =
+        createArcticDeleteFilter(
+            keyedTableScanTask,
+            tableSchema,
+            projectedSchema,
+            primaryKeySpec,
+            sourceNodes,
+            structLikeCollections);
+    Schema newProjectedSchema = arcticDeleteFilter.requiredSchema();
+    // columns required by delete filter are appended after the projected columns
+    int numOutputColumns = projectedSchema.columns().size();
+    BatchDeleteSelection selection =
+        arcticDeleteFilter.hasDeletes()
+            ? new BatchDeleteSelection(arcticDeleteFilter, newProjectedSchema)
+            : null;
+
+    CloseableIterable<ColumnarBatch> batches =
+        CloseableIterable.concat(
+            CloseableIterable.transform(
+                CloseableIterable.withNoopClose(keyedTableScanTask.dataTasks()),
+                fileScanTask -> {
+                  String dataPath = fileScanTask.file().path().toString();
+                  if (selection != null) {
+                    selection.setCurrentDataPath(dataPath);
+                  }
+                  return CloseableIterable.transform(
+                      newBatchedParquetIterable(fileScanTask, newProjectedSchema, batchSize),
+                      batch -> select(batch, numOutputColumns, selection));
+                }));
+    CloseableIterator<ColumnarBatch> iterator = batches.iterator();
+    return selection == null ? iterator : new CloseableIteratorWrapper<>(iterator, selection);
+  }
+
+  protected CloseableIterable<ColumnarBatch> newBatchedParquetIterable(
+      FileScanTask task, Schema schema, int batchSize) {
+    Map<Integer, ?> idToConstant =
+        DataReaderCommon.getIdToConstant(task, schema, ArcticSparkUtils::convertConstant);
+    Parquet.ReadBuilder builder =
+        Parquet.read(fileIO.newInputFile(task.file().path().toString()))
+            .split(task.start(), task.length())
+            .project(schema)
+            .createBatchedReaderFunc(
+                fileSchema ->
+                    VectorizedSparkParquetReaders.buildReader(
+                        schema, fileSchema, idToConstant, null))
+            .recordsPerBatch(batchSize)
+            .filter(task.residual())
+            .caseSensitive(caseSensitive)
+            // batches are consumed eagerly by spark, so the vectors could be reused
+            .reuseContainers();
+
+    if (nameMapping != null) {
+      builder.withNameMapping(NameMappingParser.fromJson(nameMapping));
+    }
+
+    return fileIO.doAs(builder::build);
+  }
+
+  private static ColumnarBatch select(
+      ColumnarBatch batch, int numOutputColumns, BatchDeleteSelection selection) {
+    int numRows = batch.numRows();
+    int[] rowIdMapping = null;
+    int numSelectedRows = numRows;
+    if (selection != null) {
+      rowIdMapping = new int[numRows];
+      numSelectedRows = selection.select(batch, rowIdMapping);
+    }
+
+    ColumnVector[] vectors = new ColumnVector[numOutputColumns];
+    for (int i = 0; i < numOutputColumns; i++) {
+      vectors[i] =
+          numSelectedRows == numRows
+              ? batch.column(i)
+              : new ColumnVectorWithSelection(batch.column(i), rowIdMapping, numSelectedRows);
+    }
+    return new ColumnarBatch(vectors, numSelectedRows);
+  }
+
   @Override
   protected Function<MessageType, ParquetValueReader<?>> getParquetReaderFunction(
       Schema projectSchema, Map<Integer, ?> idToConstant) {
@@ -77,4 +180,72 @@ public class ArcticSparkKeyedDataReader extends AbstractAdaptHiveKeyedDataReader
       return row -> wrapper.wrap(row);
     };
   }
+
+  /**
+   * Selects the rows of batches not removed by deletes. Position deletes are checked against the
+   * row position vector, and equality deletes are looked up in the delete map through a reused
+   * view over the batch, only for rows not deleted by positions.
+   */
+  private static class BatchDeleteSelection implements Closeable {
+    private final ArcticDeleteFilter<InternalRow> deleteFilter;
+    private final int rowPositionOrdinal;
+    private final boolean hasEqDeletes;
+    private final SparkInternalRowWrapper rowWrapper;
+    private Set<Long> deletedPositions = Collections.emptySet();
+
+    BatchDeleteSelection(ArcticDeleteFilter<InternalRow> deleteFilter, Schema requiredSchema) {
+      this.deleteFilter = deleteFilter;
+      Types.NestedField rowPosition =
+          requiredSchema.findField(MetadataColumns.ROW_POSITION.fieldId());
+      this.rowPositionOrdinal =
+          rowPosition == null ? -1 : requiredSchema.columns().indexOf(rowPosition);
+      this.hasEqDeletes = deleteFilter.hasEqDeletes();
+      this.rowWrapper = new SparkInternalRowWrapper(SparkSchemaUtil.convert(requiredSchema));
+    }
+
+    void setCurrentDataPath(String dataPath) {
+      this.deletedPositions =
+          rowPositionOrdinal < 0 ? Collections.emptySet() : deleteFilter.deletedPositions(dataPath);
+    }
+
+    /**
+     * Put the ids of the rows to keep into the mapping.
+     *
+     * @return count of the rows to keep
+     */
+    int select(ColumnarBatch batch, int[] rowIdMapping) {
+      int numRows = batch.numRows();
+      int numSelectedRows = 0;
+      if (deletedPositions.isEmpty()) {
+        for (int rowId = 0; rowId < numRows; rowId++) {
+          rowIdMapping[rowId] = rowId;
+        }
+        numSelectedRows = numRows;
+      } else {
+        ColumnVector rowPositions = batch.column(rowPositionOrdinal);
+        for (int rowId = 0; rowId < numRows; rowId++) {
+          if (!deletedPositions.contains(rowPositions.getLong(rowId))) {
+            rowIdMapping[numSelectedRows++] = rowId;
+          }
+        }
+      }
+
+      if (!hasEqDeletes) {
+        return numSelectedRows;
+      }
+      int numKeptRows = 0;
+      for (int i = 0; i < numSelectedRows; i++) {
+        int rowId = rowIdMapping[i];
+        if (!deleteFilter.isEqDeleted(rowWrapper.wrap(batch.getRow(rowId)))) {
+          rowIdMapping[numKeptRows++] = rowId;
+        }
+      }
+      return numKeptRows;
+    }
+
+    @Override
+    public void close() throws IOException {
+      deleteFilter.closeEqDeletes();
+    }
+  }
 }
@@ -18,6 +18,7 @@
 
 package com.netease.arctic.spark.reader;
 
+import com.netease.arctic.hive.utils.TableTypeUtil;
 import com.netease.arctic.io.ArcticFileIO;
 import com.netease.arctic.scan.CombinedScanTask;
 import com.netease.arctic.scan.KeyedTableScan;
@@ -25,6 +26,7 @@ import com.netease.arctic.scan.KeyedTableScanTask;
 import com.netease.arctic.spark.util.Stats;
 import com.netease.arctic.table.KeyedTable;
 import com.netease.arctic.table.PrimaryKeySpec;
+import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.expressions.Expression;
@@ -44,6 +46,7 @@ import org.apache.spark.sql.connector.read.Statistics;
 import org.apache.spark.sql.connector.read.SupportsReportStatistics;
 import org.apache.spark.sql.types.StructType;
 import org.apache.spark.sql.util.CaseInsensitiveStringMap;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,14 +63,19 @@ public class KeyedSparkBatchScan implements Scan, Batch, SupportsReportStatistic
 
   private final KeyedTable table;
   private final boolean caseSensitive;
+  private final boolean batchReadsEnabled;
+  private final int batchSize;
   private final Schema expectedSchema;
   private final List<Expression> filterExpressions;
   private StructType readSchema = null;
   private List<CombinedScanTask> tasks = null;
+  private Boolean readColumnar = null;
 
   KeyedSparkBatchScan(
       KeyedTable table,
       boolean caseSensitive,
+      boolean batchReadsEnabled,
+      int batchSize,
       Schema expectedSchema,
       List<Expression> filters,
       CaseInsensitiveStringMap options) {
@@ -77,6 +85,8 @@ public class KeyedSparkBatchScan implements Scan, Batch, SupportsReportStatistic
 
     this.table = table;
     this.caseSensitive = caseSensitive;
+    this.batchReadsEnabled = batchReadsEnabled;
+    this.batchSize = batchSize;
     this.expectedSchema = expectedSchema;
     this.filterExpressions = filters;
   }
@@ -100,14 +110,34 @@ public class KeyedSparkBatchScan implements Scan, Batch, SupportsReportStatistic
     ArcticInputPartition[] readTasks = new ArcticInputPartition[scanTasks.size()];
     for (int i = 0; i < scanTasks.size(); i++) {
       readTasks[i] =
-          new ArcticInputPartition(scanTasks.get(i), table, expectedSchema, caseSensitive);
+          new ArcticInputPartition(
+              scanTasks.get(i), table, expectedSchema, caseSensitive, batchSize);
     }
     return readTasks;
   }
 
   @Override
   public PartitionReaderFactory createReaderFactory() {
-    return new ReaderFactory();
+    return new ReaderFactory(readColumnar());
+  }
+
+  /**
+   * Spark doesn't allow mixing row-based and columnar partitions in a scan, so only read batches
+   * if all data files of the scan could be read by the vectorized parquet reader.
+   */
+  private boolean readColumnar() {
+    if (readColumnar == null) {
+      this.readColumnar =
+          batchReadsEnabled
+              && !TableTypeUtil.isHive(table)
+              && expectedSchema.columns().stream().allMatch(c -> c.type().isPrimitiveType())
+              && tasks().stream()
+                  .flatMap(combinedScanTask -> combinedScanTask.tasks().stream())
+                  .flatMap(keyedTableScanTask -> keyedTableScanTask.dataTasks().stream())
+                  .allMatch(fileScanTask -> fileScanTask.file().format() == FileFormat.PARQUET);
+      LOG.info("Read keyed table {} with columnar batches: {}", table.id(), readColumnar);
+    }
+    return readColumnar;
   }
 
   @Override
@@ -185,6 +215,12 @@ public class KeyedSparkBatchScan implements Scan, Batch, SupportsReportStatistic
   }
 
   private static class ReaderFactory implements PartitionReaderFactory {
+    private final boolean readColumnar;
+
+    ReaderFactory(boolean readColumnar) {
+      this.readColumnar = readColumnar;
+    }
+
     @Override
     public PartitionReader<InternalRow> createReader(InputPartition partition) {
       if (partition instanceof ArcticInputPartition) {
@@ -193,6 +229,20 @@ public class KeyedSparkBatchScan implements Scan, Batch, SupportsReportStatistic
         throw new UnsupportedOperationException("Incorrect input partition type: " + partition);
       }
     }
+
+    @Override
+    public PartitionReader<ColumnarBatch> createColumnarReader(InputPartition partition) {
+      if (partition instanceof ArcticInputPartition) {
+        return new BatchReader((ArcticInputPartition) partition);
+      } else {
+        throw new UnsupportedOperationException("Incorrect input partition type: " + partition);
+      }
+    }
+
+    @Override
+    public boolean supportColumnarReads(InputPartition partition) {
+      return readColumnar;
+    }
   }
 
   private static class RowReader implements PartitionReader<InternalRow> {
@@ -246,6 +296,57 @@ public class KeyedSparkBatchScan implements Scan, Batch, SupportsReportStatistic
     }
   }
 
+  private static class BatchReader implements PartitionReader<ColumnarBatch> {
+
+    ArcticSparkKeyedDataReader reader;
+    Iterator<KeyedTableScanTask> scanTasks;
+    int batchSize;
+    CloseableIterator<ColumnarBatch> currentIterator = CloseableIterator.empty();
+    ColumnarBatch current;
+
+    BatchReader(ArcticInputPartition task) {
+      reader =
+          new ArcticSparkKeyedDataReader(
+              task.io,
+              task.tableSchema,
+              task.expectedSchema,
+              task.keySpec,
+              task.nameMapping,
+              task.caseSensitive);
+      scanTasks = task.combinedScanTask.tasks().iterator();
+      batchSize = task.batchSize;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+      while (true) {
+        if (currentIterator.hasNext()) {
+          this.current = currentIterator.next();
+          return true;
+        } else if (scanTasks.hasNext()) {
+          this.currentIterator.close();
+          this.currentIterator = reader.readBatches(scanTasks.next(), batchSize);
+        } else {
+          this.currentIterator.close();
+          return false;
+        }
+      }
+    }
+
+    @Override
+    public ColumnarBatch get() {
+      return this.current;
+    }
+
+    @Override
+    public void close() throws IOException {
+      this.currentIterator.close();
+      while (scanTasks.hasNext()) {
+        scanTasks.next();
+      }
+    }
+  }
+
   private static class ArcticInputPartition implements InputPartition, Serializable {
     final CombinedScanTask combinedScanTask;
     final ArcticFileIO io;
@@ -254,12 +355,14 @@ public class KeyedSparkBatchScan implements Scan, Batch, SupportsReportStatistic
     final Schema tableSchema;
     final PrimaryKeySpec keySpec;
     final String nameMapping;
+    final int batchSize;
 
     ArcticInputPartition(
         CombinedScanTask combinedScanTask,
         KeyedTable table,
         Schema expectedSchema,
-        boolean caseSensitive) {
+        boolean caseSensitive,
+        int batchSize) {
       this.combinedScanTask = combinedScanTask;
       this.expectedSchema = expectedSchema;
       this.tableSchema = table.schema();
@@ -267,6 +370,7 @@ public class KeyedSparkBatchScan implements Scan, Batch, SupportsReportStatistic
       this.io = table.io();
       this.keySpec = table.primaryKeySpec();
       this.nameMapping = table.properties().get(TableProperties.DEFAULT_NAME_MAPPING);
+      this.batchSize = batchSize;
     }
   }
 }
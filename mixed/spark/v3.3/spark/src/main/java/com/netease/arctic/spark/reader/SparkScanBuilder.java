@@ -18,6 +18,7 @@
 
 package com.netease.arctic.spark.reader;
 
+import com.netease.arctic.spark.mixed.SparkSQLProperties;
 import com.netease.arctic.spark.table.SupportsExtendIdentColumns;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.table.UnkeyedTable;
@@ -60,13 +61,13 @@ public class SparkScanBuilder
   private Schema schema = null;
   private StructType requestedProjection;
   private final boolean caseSensitive;
+  private final boolean batchReadsEnabled;
+  private final int batchSize;
   private List<Expression> filterExpressions = Lists.newArrayList();
   private Filter[] pushedFilters = NO_FILTERS;
 
   public SparkScanBuilder(SparkSession spark, ArcticTable table, CaseInsensitiveStringMap options) {
-    this.table = table;
-    this.options = options;
-    this.caseSensitive = Boolean.parseBoolean(spark.conf().get("spark.sql.caseSensitive"));
+    this(spark, table, options, null);
   }
 
   public SparkScanBuilder(
@@ -75,6 +76,20 @@ public class SparkScanBuilder
     this.options = options;
     this.schema = schema;
     this.caseSensitive = Boolean.parseBoolean(spark.conf().get("spark.sql.caseSensitive"));
+    this.batchReadsEnabled =
+        Boolean.parseBoolean(
+            spark
+                .conf()
+                .get(
+                    SparkSQLProperties.VECTORIZATION_ENABLED,
+                    SparkSQLProperties.VECTORIZATION_ENABLED_DEFAULT));
+    this.batchSize =
+        Integer.parseInt(
+            spark
+                .conf()
+                .get(
+                    SparkSQLProperties.VECTORIZATION_BATCH_SIZE,
+                    SparkSQLProperties.VECTORIZATION_BATCH_SIZE_DEFAULT));
   }
 
   private Schema lazySchemaWithRowIdent() {
@@ -162,6 +177,8 @@ public class SparkScanBuilder
       return new KeyedSparkBatchScan(
           table.asKeyedTable(),
           caseSensitive,
+          batchReadsEnabled,
+          batchSize,
           lazySchemaWithRowIdent(),
           filterExpressions,
           options);
@@ -20,6 +20,7 @@ package com.netease.arctic.spark.test.suites.sql;
 
 import com.netease.arctic.ams.api.TableFormat;
 import com.netease.arctic.data.ChangeAction;
+import com.netease.arctic.spark.mixed.SparkSQLProperties;
 import com.netease.arctic.spark.test.MixedTableTestBase;
 import com.netease.arctic.spark.test.extensions.EnableCatalogSelect;
 import com.netease.arctic.spark.test.utils.DataComparator;
@@ -74,6 +75,37 @@ public class TestSelectSQL extends MixedTableTestBase {
   @ParameterizedTest
   @MethodSource
   public void testKeyedTableQuery(TableFormat format, TestTable table, FileFormat fileFormat) {
+    assertKeyedTableQuery(table, fileFormat, false);
+  }
+
+  public static Stream<Arguments> testKeyedTableVectorizedQuery() {
+    return Stream.of(
+        Arguments.of(
+            TableFormat.MIXED_ICEBERG, TestTables.MixedIceberg.PK_PT, FileFormat.PARQUET, true),
+        Arguments.of(
+            TableFormat.MIXED_ICEBERG, TestTables.MixedIceberg.PK_NoPT, FileFormat.PARQUET, true),
+        // the scan falls back to rows for orc files and mixed-hive tables
+        Arguments.of(
+            TableFormat.MIXED_ICEBERG, TestTables.MixedIceberg.PK_PT, FileFormat.ORC, false),
+        Arguments.of(
+            TableFormat.MIXED_HIVE, TestTables.MixedHive.PK_PT, FileFormat.PARQUET, false));
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  public void testKeyedTableVectorizedQuery(
+      TableFormat format, TestTable table, FileFormat fileFormat, boolean columnar) {
+    spark().conf().set(SparkSQLProperties.VECTORIZATION_ENABLED, "true");
+    spark().conf().set(SparkSQLProperties.VECTORIZATION_BATCH_SIZE, "4");
+    try {
+      assertKeyedTableQuery(table, fileFormat, columnar);
+    } finally {
+      spark().conf().unset(SparkSQLProperties.VECTORIZATION_ENABLED);
+      spark().conf().unset(SparkSQLProperties.VECTORIZATION_BATCH_SIZE);
+    }
+  }
+
+  private void assertKeyedTableQuery(TestTable table, FileFormat fileFormat, boolean columnar) {
     createTarget(
         table.schema,
         builder ->
@@ -119,6 +151,9 @@ public class TestSelectSQL extends MixedTableTestBase {
     expects.sort(Comparator.comparing(r -> r.get(0, Integer.class)));
 
     DataComparator.build(expects, actual).assertRecordsEqual();
+    // a columnar scan is converted to rows for the sort
+    String plan = ds.queryExecution().executedPlan().toString();
+    Assertions.assertEquals(columnar, plan.contains("ColumnarToRow"), plan);
 
     ds = sql("SELECT * FROM " + target() + ".change" + " ORDER BY ID");
     List<Row> changeActual = ds.collectAsList();
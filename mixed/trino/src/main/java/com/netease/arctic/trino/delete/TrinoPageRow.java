@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.trino.delete;
+
+import static io.trino.plugin.iceberg.IcebergPageSink.getIcebergValue;
+import static java.util.Objects.requireNonNull;
+
+import io.trino.spi.Page;
+import io.trino.spi.type.Type;
+import org.apache.iceberg.StructLike;
+
+/**
+ * A reusable {@link StructLike} view over one position of a {@link Page}, unlike {@link TrinoRow}
+ * one instance could be moved across positions and pages, so no object is created per row.
+ */
+public class TrinoPageRow implements StructLike {
+  private final Type[] types;
+  private Page page;
+  private int position;
+
+  public TrinoPageRow(Type[] types) {
+    this.types = requireNonNull(types, "types list is null");
+  }
+
+  public TrinoPageRow wrap(Page page, int position) {
+    this.page = page;
+    this.position = position;
+    return this;
+  }
+
+  @Override
+  public int size() {
+    return page.getChannelCount();
+  }
+
+  @Override
+  public <T> T get(int i, Class<T> oneClass) {
+    return oneClass.cast(getIcebergValue(page.getBlock(i), position, types[i]));
+  }
+
+  @Override
+  public <T> void set(int i, T t) {
+    throw new UnsupportedOperationException();
+  }
+}
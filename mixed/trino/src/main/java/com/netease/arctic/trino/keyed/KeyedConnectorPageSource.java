@@ -21,17 +21,15 @@ package com.netease.arctic.trino.keyed;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Throwables.throwIfInstanceOf;
 import static com.netease.arctic.ArcticErrorCode.ARCTIC_BAD_DATA;
-import static io.trino.plugin.iceberg.IcebergErrorCode.ICEBERG_BAD_DATA;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.collect.ImmutableList;
 import com.netease.arctic.data.DataFileType;
 import com.netease.arctic.data.PrimaryKeyedFile;
-import com.netease.arctic.hive.io.reader.AdaptHiveArcticDeleteFilter;
 import com.netease.arctic.scan.ArcticFileScanTask;
+import com.netease.arctic.scan.KeyedTableScanTask;
 import com.netease.arctic.table.MetadataColumns;
 import com.netease.arctic.trino.delete.TrinoDeleteFile;
-import com.netease.arctic.trino.delete.TrinoRow;
 import com.netease.arctic.trino.unkeyed.IcebergPageSourceProvider;
 import com.netease.arctic.trino.unkeyed.IcebergSplit;
 import io.trino.plugin.iceberg.IcebergColumnHandle;
@@ -43,9 +41,7 @@ import io.trino.spi.connector.ConnectorPageSource;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorTransactionHandle;
 import io.trino.spi.connector.DynamicFilter;
-import io.trino.spi.type.Type;
 import io.trino.spi.type.TypeManager;
-import org.apache.iceberg.io.CloseableIterable;
 import org.joda.time.DateTimeZone;
 
 import java.io.IOException;
@@ -70,11 +66,11 @@ public class KeyedConnectorPageSource implements ConnectorPageSource {
   private final List<IcebergColumnHandle> requiredColumns;
   private final DynamicFilter dynamicFilter;
   private final TypeManager typeManager;
-  private final AdaptHiveArcticDeleteFilter<TrinoRow> arcticDeleteFilter;
+  private final KeyedDeleteFilter arcticDeleteFilter;
 
   private final List<ColumnHandle> requireColumnsDummy;
-  private final Type[] requireColumnTypes;
   private final int[] expectedColumnIndexes;
+  private int[] positionsToKeep = new int[0];
   private final Iterator<ArcticFileScanTask> dataTasksIt;
 
   private boolean close;
@@ -89,10 +85,11 @@ public class KeyedConnectorPageSource implements ConnectorPageSource {
       ConnectorTransactionHandle transaction,
       ConnectorSession session,
       KeyedConnectorSplit split,
+      KeyedTableScanTask keyedTableScanTask,
       KeyedTableHandle table,
       DynamicFilter dynamicFilter,
       TypeManager typeManager,
-      AdaptHiveArcticDeleteFilter<TrinoRow> arcticDeleteFilter) {
+      KeyedDeleteFilter arcticDeleteFilter) {
     this.expectedColumns = expectedColumns;
     this.icebergPageSourceProvider = icebergPageSourceProvider;
     this.transaction = transaction;
@@ -114,10 +111,7 @@ public class KeyedConnectorPageSource implements ConnectorPageSource {
       expectedColumnIndexes[i] = i;
     }
 
-    this.requireColumnTypes =
-        requiredColumns.stream().map(IcebergColumnHandle::getType).toArray(Type[]::new);
-
-    this.dataTasksIt = split.getKeyedTableScanTask().dataTasks().iterator();
+    this.dataTasksIt = keyedTableScanTask.dataTasks().iterator();
   }
 
   @Override
@@ -166,23 +160,14 @@ public class KeyedConnectorPageSource implements ConnectorPageSource {
 
       if (arcticDeleteFilter != null) {
         int positionCount = page.getPositionCount();
-        int[] positionsToKeep = new int[positionCount];
-        try (CloseableIterable<TrinoRow> filteredRows =
-            arcticDeleteFilter.filter(
-                CloseableIterable.withNoopClose(
-                    TrinoRow.fromPage(requireColumnTypes, page, positionCount)))) {
-          int positionsToKeepCount = 0;
-          for (TrinoRow rowToKeep : filteredRows) {
-            positionsToKeep[positionsToKeepCount] = rowToKeep.getPosition();
-            positionsToKeepCount++;
-          }
-          page =
-              page.getPositions(positionsToKeep, 0, positionsToKeepCount)
-                  .getColumns(expectedColumnIndexes);
-        } catch (IOException e) {
-          throw new TrinoException(
-              ICEBERG_BAD_DATA, "Failed to filter rows during merge-on-read operation", e);
+        if (positionsToKeep.length < positionCount) {
+          positionsToKeep = new int[positionCount];
+        }
+        int positionsToKeepCount = arcticDeleteFilter.filterPage(page, positionsToKeep);
+        if (positionsToKeepCount < positionCount) {
+          page = page.getPositions(positionsToKeep, 0, positionsToKeepCount);
         }
+        page = page.getColumns(expectedColumnIndexes);
       }
 
       return page;
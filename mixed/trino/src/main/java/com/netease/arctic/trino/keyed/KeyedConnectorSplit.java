@@ -21,10 +21,14 @@ package com.netease.arctic.trino.keyed;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.netease.arctic.scan.KeyedTableScanTask;
-import com.netease.arctic.scan.NodeFileScanTask;
-import com.netease.arctic.trino.util.ObjectSerializerUtil;
+import io.trino.plugin.iceberg.PartitionData;
 import io.trino.spi.HostAddress;
 import io.trino.spi.connector.ConnectorSplit;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.PartitionSpecParser;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
 
 import java.util.Collections;
 import java.util.List;
@@ -55,8 +59,23 @@ public class KeyedConnectorSplit implements ConnectorSplit {
     return keyedTableScanTaskBytes;
   }
 
-  public synchronized KeyedTableScanTask getKeyedTableScanTask() {
-    return ObjectSerializerUtil.read(keyedTableScanTaskBytes, NodeFileScanTask.class);
+  /**
+   * Decode the task of this split, which is encoded by {@link KeyedTableScanTaskCodec}.
+   *
+   * @param tableSchema schema of the table, to resolve the partition spec of the split
+   */
+  public synchronized KeyedTableScanTask getKeyedTableScanTask(Schema tableSchema) {
+    if (keyedTableScanTask == null) {
+      PartitionSpec spec = PartitionSpecParser.fromJson(tableSchema, partitionSpecJson);
+      Type[] partitionColumnTypes =
+          spec.partitionType().fields().stream().map(Types.NestedField::type).toArray(Type[]::new);
+      keyedTableScanTask =
+          KeyedTableScanTaskCodec.decode(
+              keyedTableScanTaskBytes,
+              spec,
+              PartitionData.fromJson(partitionDataJson, partitionColumnTypes));
+    }
+    return keyedTableScanTask;
   }
 
   @JsonProperty
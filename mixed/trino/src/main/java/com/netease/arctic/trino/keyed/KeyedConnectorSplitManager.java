@@ -18,20 +18,13 @@
 
 package com.netease.arctic.trino.keyed;
 
-import static io.trino.plugin.iceberg.ExpressionConverter.toIcebergExpression;
+import static io.trino.plugin.iceberg.IcebergSessionProperties.getDynamicFilteringWaitTimeout;
 
-import com.netease.arctic.scan.ArcticFileScanTask;
-import com.netease.arctic.scan.CombinedScanTask;
-import com.netease.arctic.scan.KeyedTableScan;
-import com.netease.arctic.scan.KeyedTableScanTask;
 import com.netease.arctic.table.KeyedTable;
 import com.netease.arctic.trino.ArcticSessionProperties;
 import com.netease.arctic.trino.ArcticTransactionManager;
-import com.netease.arctic.trino.util.MetricUtil;
-import com.netease.arctic.trino.util.ObjectSerializerUtil;
+import io.trino.plugin.base.classloader.ClassLoaderSafeConnectorSplitSource;
 import io.trino.plugin.iceberg.IcebergTableHandle;
-import io.trino.plugin.iceberg.PartitionData;
-import io.trino.spi.classloader.ThreadContextClassLoader;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorSplitManager;
 import io.trino.spi.connector.ConnectorSplitSource;
@@ -39,32 +32,25 @@ import io.trino.spi.connector.ConnectorTableHandle;
 import io.trino.spi.connector.ConnectorTransactionHandle;
 import io.trino.spi.connector.Constraint;
 import io.trino.spi.connector.DynamicFilter;
-import io.trino.spi.connector.FixedSplitSource;
 import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.connector.TableNotFoundException;
-import org.apache.iceberg.PartitionSpecParser;
-import org.apache.iceberg.io.CloseableIterable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import io.trino.spi.type.TypeManager;
 
 import javax.inject.Inject;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
-
 /** ConnectorSplitManager for Keyed Table */
 public class KeyedConnectorSplitManager implements ConnectorSplitManager {
 
   public static final int ARCTIC_DOMAIN_COMPACTION_THRESHOLD = 1000;
 
-  private static final Logger LOG = LoggerFactory.getLogger(KeyedConnectorSplitManager.class);
-
   private final ArcticTransactionManager arcticTransactionManager;
+  private final TypeManager typeManager;
 
   @Inject
-  public KeyedConnectorSplitManager(ArcticTransactionManager arcticTransactionManager) {
+  public KeyedConnectorSplitManager(
+      ArcticTransactionManager arcticTransactionManager, TypeManager typeManager) {
     this.arcticTransactionManager = arcticTransactionManager;
+    this.typeManager = typeManager;
   }
 
   @Override
@@ -88,47 +74,20 @@ public class KeyedConnectorSplitManager implements ConnectorSplitManager {
               icebergTableHandle.getSchemaName(), icebergTableHandle.getTableName()));
     }
 
-    KeyedTableScan tableScan =
-        arcticTable
-            .newScan()
-            .filter(
-                toIcebergExpression(
-                    icebergTableHandle
-                        .getEnforcedPredicate()
-                        .intersect(icebergTableHandle.getUnenforcedPredicate())));
-
+    Double splitTaskByDeleteRatio = null;
     if (ArcticSessionProperties.enableSplitTaskByDeleteRatio(session)) {
-      tableScan.enableSplitTaskByDeleteRatio(
-          ArcticSessionProperties.splitTaskByDeleteRatio(session));
+      splitTaskByDeleteRatio = ArcticSessionProperties.splitTaskByDeleteRatio(session);
     }
 
-    ClassLoader pluginClassloader = arcticTable.getClass().getClassLoader();
-
-    try (ThreadContextClassLoader ignored = new ThreadContextClassLoader(pluginClassloader)) {
-      // 优化
-      CloseableIterable<CombinedScanTask> combinedScanTasks =
-          MetricUtil.duration(tableScan::planTasks, "plan tasks");
-
-      List<KeyedTableScanTask> fileScanTaskList = new ArrayList<>();
-      for (CombinedScanTask combinedScanTask : combinedScanTasks) {
-        fileScanTaskList.addAll(combinedScanTask.tasks());
-      }
-
-      List<KeyedConnectorSplit> keyedConnectorSplits =
-          fileScanTaskList.stream()
-              .map(
-                  s -> {
-                    ArcticFileScanTask arcticFileScanTask = s.dataTasks().get(0);
-                    KeyedConnectorSplit keyedConnectorSplit =
-                        new KeyedConnectorSplit(
-                            ObjectSerializerUtil.write(s),
-                            PartitionSpecParser.toJson(arcticFileScanTask.spec()),
-                            PartitionData.toJson(arcticFileScanTask.file().partition()));
-                    return keyedConnectorSplit;
-                  })
-              .collect(Collectors.toList());
-
-      return new FixedSplitSource(keyedConnectorSplits);
-    }
+    KeyedSplitSource splitSource =
+        new KeyedSplitSource(
+            arcticTable,
+            icebergTableHandle,
+            dynamicFilter,
+            getDynamicFilteringWaitTimeout(session),
+            typeManager,
+            splitTaskByDeleteRatio);
+    return new ClassLoaderSafeConnectorSplitSource(
+        splitSource, arcticTable.getClass().getClassLoader());
   }
 }
@@ -20,25 +20,39 @@ package com.netease.arctic.trino.keyed;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.trino.plugin.iceberg.TypeConverter.toIcebergType;
+import static io.trino.spi.type.BigintType.BIGINT;
 
 import com.netease.arctic.hive.io.reader.AdaptHiveArcticDeleteFilter;
 import com.netease.arctic.scan.KeyedTableScanTask;
 import com.netease.arctic.table.PrimaryKeySpec;
+import com.netease.arctic.trino.delete.TrinoPageRow;
 import com.netease.arctic.trino.delete.TrinoRow;
 import io.trino.plugin.iceberg.IcebergColumnHandle;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.type.Type;
+import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.types.Types;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /** KeyedDeleteFilter is used to do MOR for Keyed Table */
 public class KeyedDeleteFilter extends AdaptHiveArcticDeleteFilter<TrinoRow> {
 
   private final FileIO fileIO;
+  private final TrinoPageRow pageRow;
+  private final int rowPositionChannel;
+
+  private String currentDataPath;
+  private long[] currentDeletedPositions;
 
   protected KeyedDeleteFilter(
       KeyedTableScanTask keyedTableScanTask,
@@ -52,6 +66,58 @@ public class KeyedDeleteFilter extends AdaptHiveArcticDeleteFilter<TrinoRow> {
         filterSchema(tableSchema, requestedSchema),
         primaryKeySpec);
     this.fileIO = fileIO;
+    this.pageRow =
+        new TrinoPageRow(
+            requestedSchema.stream().map(IcebergColumnHandle::getType).toArray(Type[]::new));
+    Types.NestedField rowPosition =
+        requiredSchema().findField(MetadataColumns.ROW_POSITION.fieldId());
+    this.rowPositionChannel = requiredSchema().columns().indexOf(rowPosition);
+  }
+
+  @Override
+  public void setCurrentDataPath(String currentDataPath) {
+    super.setCurrentDataPath(currentDataPath);
+    this.currentDataPath = currentDataPath;
+    this.currentDeletedPositions = null;
+  }
+
+  /**
+   * Filter the deleted positions of a page read from the current data file without creating a row
+   * for each position. Position deletes are checked against the row position block, and equality
+   * deletes are looked up in the delete map through a reused view over the key blocks.
+   *
+   * @param page page laid out as {@link #requiredSchema()}
+   * @param positionsToKeep array to put the positions to keep, at least as long as the page
+   * @return count of positions to keep
+   */
+  public int filterPage(Page page, int[] positionsToKeep) {
+    long[] deletedPositions = currentDeletedPositions();
+    Block rowPositionBlock =
+        deletedPositions.length == 0 ? null : page.getBlock(rowPositionChannel);
+    boolean hasEqDeletes = hasEqDeletes();
+
+    int positionsToKeepCount = 0;
+    for (int position = 0; position < page.getPositionCount(); position++) {
+      if (rowPositionBlock != null
+          && Arrays.binarySearch(deletedPositions, BIGINT.getLong(rowPositionBlock, position))
+              >= 0) {
+        continue;
+      }
+      if (hasEqDeletes && isEqDeleted(pageRow.wrap(page, position))) {
+        continue;
+      }
+      positionsToKeep[positionsToKeepCount++] = position;
+    }
+    return positionsToKeepCount;
+  }
+
+  private long[] currentDeletedPositions() {
+    if (currentDeletedPositions == null) {
+      Set<Long> positions =
+          currentDataPath == null ? Collections.emptySet() : deletedPositions(currentDataPath);
+      currentDeletedPositions = positions.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+    return currentDeletedPositions;
   }
 
   @Override
@@ -21,10 +21,8 @@ package com.netease.arctic.trino.keyed;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
 import com.netease.arctic.data.PrimaryKeyedFile;
-import com.netease.arctic.hive.io.reader.AdaptHiveArcticDeleteFilter;
 import com.netease.arctic.scan.ArcticFileScanTask;
 import com.netease.arctic.scan.KeyedTableScanTask;
-import com.netease.arctic.trino.delete.TrinoRow;
 import com.netease.arctic.trino.unkeyed.IcebergPageSourceProvider;
 import io.trino.filesystem.TrinoFileSystemFactory;
 import io.trino.plugin.iceberg.IcebergColumnHandle;
@@ -73,13 +71,13 @@ public class KeyedPageSourceProvider implements ConnectorPageSourceProvider {
     KeyedTableHandle keyedTableHandle = (KeyedTableHandle) table;
     List<IcebergColumnHandle> icebergColumnHandles =
         columns.stream().map(IcebergColumnHandle.class::cast).collect(Collectors.toList());
-    KeyedTableScanTask keyedTableScanTask = keyedConnectorSplit.getKeyedTableScanTask();
+    Schema tableSchema =
+        SchemaParser.fromJson(keyedTableHandle.getIcebergTableHandle().getTableSchemaJson());
+    KeyedTableScanTask keyedTableScanTask = keyedConnectorSplit.getKeyedTableScanTask(tableSchema);
     List<PrimaryKeyedFile> equDeleteFiles =
         keyedTableScanTask.arcticEquityDeletes().stream()
             .map(ArcticFileScanTask::file)
             .collect(Collectors.toList());
-    Schema tableSchema =
-        SchemaParser.fromJson(keyedTableHandle.getIcebergTableHandle().getTableSchemaJson());
     List<IcebergColumnHandle> deleteFilterRequiredSchema =
         IcebergUtil.getColumns(
             new KeyedDeleteFilter(
@@ -96,7 +94,7 @@ public class KeyedPageSourceProvider implements ConnectorPageSourceProvider {
         .filter(column -> !columns.contains(column))
         .forEach(requiredColumnsBuilder::add);
     List<IcebergColumnHandle> requiredColumns = requiredColumnsBuilder.build();
-    AdaptHiveArcticDeleteFilter<TrinoRow> arcticDeleteFilter =
+    KeyedDeleteFilter arcticDeleteFilter =
         new KeyedDeleteFilter(
             keyedTableScanTask,
             tableSchema,
@@ -111,6 +109,7 @@ public class KeyedPageSourceProvider implements ConnectorPageSourceProvider {
         transaction,
         session,
         keyedConnectorSplit,
+        keyedTableScanTask,
         keyedTableHandle,
         dynamicFilter,
         typeManager,
@@ -0,0 +1,321 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.trino.keyed;
+
+import static com.google.common.base.Suppliers.memoize;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.netease.arctic.trino.keyed.KeyedConnectorSplitManager.ARCTIC_DOMAIN_COMPACTION_THRESHOLD;
+import static io.trino.plugin.iceberg.ExpressionConverter.toIcebergExpression;
+import static io.trino.plugin.iceberg.IcebergMetadataColumn.isMetadataColumnId;
+import static io.trino.plugin.iceberg.IcebergUtil.deserializePartitionValue;
+import static io.trino.plugin.iceberg.IcebergUtil.getColumnHandle;
+import static io.trino.plugin.iceberg.IcebergUtil.getPartitionKeys;
+import static io.trino.plugin.iceberg.IcebergUtil.primitiveFieldTypes;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.Closer;
+import com.netease.arctic.scan.ArcticFileScanTask;
+import com.netease.arctic.scan.CombinedScanTask;
+import com.netease.arctic.scan.KeyedTableScan;
+import com.netease.arctic.scan.KeyedTableScanTask;
+import com.netease.arctic.table.KeyedTable;
+import com.netease.arctic.trino.unkeyed.IcebergSplitSource;
+import io.airlift.units.Duration;
+import io.trino.plugin.base.metrics.LongCount;
+import io.trino.plugin.iceberg.IcebergColumnHandle;
+import io.trino.plugin.iceberg.IcebergTableHandle;
+import io.trino.plugin.iceberg.PartitionData;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.connector.ConnectorSplit;
+import io.trino.spi.connector.ConnectorSplitSource;
+import io.trino.spi.connector.DynamicFilter;
+import io.trino.spi.metrics.Metrics;
+import io.trino.spi.predicate.NullableValue;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.type.TypeManager;
+import org.apache.iceberg.PartitionSpecParser;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * ConnectorSplitSource for Keyed Table. Tasks are pulled from the keyed scan batch by batch when
+ * the engine asks for splits, instead of being planned and serialized all at once, and the split
+ * source waits for the dynamic filter, bounded by the dynamic filtering wait timeout, before the
+ * scan is planned.
+ */
+public class KeyedSplitSource implements ConnectorSplitSource {
+  private static final Logger LOG = LoggerFactory.getLogger(KeyedSplitSource.class);
+
+  static final String TOTAL_SPLITS = "totalSplits";
+  static final String PRUNED_SPLITS = "dynamicFilterPrunedSplits";
+  static final String PLANNING_TIME_MILLIS = "planningTimeMillis";
+
+  private static final ConnectorSplitBatch EMPTY_BATCH =
+      new ConnectorSplitBatch(ImmutableList.of(), false);
+  private static final ConnectorSplitBatch NO_MORE_SPLITS_BATCH =
+      new ConnectorSplitBatch(ImmutableList.of(), true);
+
+  private final KeyedTable arcticTable;
+  private final IcebergTableHandle tableHandle;
+  private final DynamicFilter dynamicFilter;
+  private final long dynamicFilteringWaitTimeoutMillis;
+  private final Stopwatch dynamicFilterWaitStopwatch;
+  private final TypeManager typeManager;
+  private final Double splitTaskByDeleteRatio;
+  private final Map<Integer, Type.PrimitiveType> fieldIdToType;
+  private final Closer closer = Closer.create();
+  private final Stopwatch planningStopwatch = Stopwatch.createUnstarted();
+
+  private CloseableIterable<CombinedScanTask> combinedScanTasks;
+  private CloseableIterator<CombinedScanTask> combinedScanTaskIterator;
+  private Iterator<KeyedTableScanTask> currentTasks = Collections.emptyIterator();
+  private TupleDomain<IcebergColumnHandle> dynamicFilterPredicate;
+  private long totalTasks;
+  private long prunedTasks;
+
+  public KeyedSplitSource(
+      KeyedTable arcticTable,
+      IcebergTableHandle tableHandle,
+      DynamicFilter dynamicFilter,
+      Duration dynamicFilteringWaitTimeout,
+      TypeManager typeManager,
+      Double splitTaskByDeleteRatio) {
+    this.arcticTable = arcticTable;
+    this.tableHandle = tableHandle;
+    this.dynamicFilter = dynamicFilter;
+    this.dynamicFilteringWaitTimeoutMillis = dynamicFilteringWaitTimeout.toMillis();
+    this.dynamicFilterWaitStopwatch = Stopwatch.createStarted();
+    this.typeManager = typeManager;
+    this.splitTaskByDeleteRatio = splitTaskByDeleteRatio;
+    this.fieldIdToType = primitiveFieldTypes(arcticTable.schema());
+  }
+
+  @Override
+  public CompletableFuture<ConnectorSplitBatch> getNextBatch(int maxSize) {
+    long timeLeft =
+        dynamicFilteringWaitTimeoutMillis - dynamicFilterWaitStopwatch.elapsed(MILLISECONDS);
+    if (dynamicFilter.isAwaitable() && timeLeft > 0) {
+      return dynamicFilter
+          .isBlocked()
+          .thenApply(ignored -> EMPTY_BATCH)
+          .completeOnTimeout(EMPTY_BATCH, timeLeft, MILLISECONDS);
+    }
+
+    if (combinedScanTaskIterator == null) {
+      this.dynamicFilterPredicate =
+          dynamicFilter
+              .getCurrentPredicate()
+              .transformKeys(IcebergColumnHandle.class::cast)
+              .filter((column, domain) -> !isMetadataColumnId(column.getId()));
+      if (dynamicFilterPredicate.isNone()) {
+        finish();
+        return completedFuture(NO_MORE_SPLITS_BATCH);
+      }
+      KeyedTableScan tableScan =
+          arcticTable
+              .newScan()
+              .filter(
+                  toIcebergExpression(
+                      tableHandle
+                          .getEnforcedPredicate()
+                          .intersect(tableHandle.getUnenforcedPredicate())
+                          .intersect(
+                              dynamicFilterPredicate.simplify(
+                                  ARCTIC_DOMAIN_COMPACTION_THRESHOLD))));
+      if (splitTaskByDeleteRatio != null) {
+        tableScan.enableSplitTaskByDeleteRatio(splitTaskByDeleteRatio);
+      }
+      // tasks are consumed only once, plan partition by partition as splits are requested
+      tableScan.planWith(ThreadPools.getWorkerPool());
+      if (!dynamicFilterPredicate.isAll()) {
+        // file bounds are required to prune tasks with the dynamic filter
+        tableScan.includeColumnStats();
+      }
+      // tasks are planned lazily, so the planning is timed while the tasks are iterated
+      planningStopwatch.start();
+      try {
+        this.combinedScanTasks = tableScan.planTasks();
+        closer.register(combinedScanTasks);
+        this.combinedScanTaskIterator = combinedScanTasks.iterator();
+        closer.register(combinedScanTaskIterator);
+      } finally {
+        planningStopwatch.stop();
+      }
+    }
+
+    ImmutableList.Builder<ConnectorSplit> splits = ImmutableList.builder();
+    int size = 0;
+    while (size < maxSize && nextTask()) {
+      KeyedTableScanTask task = currentTasks.next();
+      totalTasks++;
+      if (!taskMatchesPredicate(task)) {
+        prunedTasks++;
+        continue;
+      }
+      splits.add(toSplit(task));
+      size++;
+    }
+    return completedFuture(new ConnectorSplitBatch(splits.build(), isFinished()));
+  }
+
+  private boolean nextTask() {
+    while (!currentTasks.hasNext()) {
+      if (!hasNextCombinedTask()) {
+        return false;
+      }
+      planningStopwatch.start();
+      try {
+        currentTasks = combinedScanTaskIterator.next().tasks().iterator();
+      } finally {
+        planningStopwatch.stop();
+      }
+    }
+    return true;
+  }
+
+  private boolean hasNextCombinedTask() {
+    planningStopwatch.start();
+    try {
+      return combinedScanTaskIterator.hasNext();
+    } finally {
+      planningStopwatch.stop();
+    }
+  }
+
+  private KeyedConnectorSplit toSplit(KeyedTableScanTask task) {
+    ArcticFileScanTask arcticFileScanTask = task.dataTasks().get(0);
+    return new KeyedConnectorSplit(
+        KeyedTableScanTaskCodec.encode(task),
+        PartitionSpecParser.toJson(arcticFileScanTask.spec()),
+        PartitionData.toJson(arcticFileScanTask.file().partition()));
+  }
+
+  /**
+   * A task could be skipped if none of its data files could match the predicate, the equality
+   * delete files of the task only apply to its own data files.
+   */
+  private boolean taskMatchesPredicate(KeyedTableScanTask task) {
+    if (dynamicFilterPredicate.isAll()) {
+      return true;
+    }
+    for (ArcticFileScanTask dataTask : task.dataTasks()) {
+      if (fileMatchesPredicate(dataTask)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean fileMatchesPredicate(ArcticFileScanTask fileScanTask) {
+    Schema fileSchema = fileScanTask.spec().schema();
+    Map<Integer, Optional<String>> partitionKeys = getPartitionKeys(fileScanTask);
+    Set<IcebergColumnHandle> identityPartitionColumns =
+        partitionKeys.keySet().stream()
+            .map(fieldId -> getColumnHandle(fileSchema.findField(fieldId), typeManager))
+            .collect(toImmutableSet());
+    Supplier<Map<ColumnHandle, NullableValue>> partitionValues =
+        memoize(
+            () -> {
+              Map<ColumnHandle, NullableValue> bindings = new HashMap<>();
+              for (IcebergColumnHandle partitionColumn : identityPartitionColumns) {
+                Object partitionValue =
+                    deserializePartitionValue(
+                        partitionColumn.getType(),
+                        partitionKeys.get(partitionColumn.getId()).orElse(null),
+                        partitionColumn.getName());
+                bindings.put(
+                    partitionColumn, new NullableValue(partitionColumn.getType(), partitionValue));
+              }
+              return bindings;
+            });
+    return IcebergSplitSource.partitionMatchesPredicate(
+            identityPartitionColumns, partitionValues, dynamicFilterPredicate)
+        && IcebergSplitSource.fileMatchesPredicate(
+            fieldIdToType,
+            dynamicFilterPredicate,
+            fileScanTask.file().lowerBounds(),
+            fileScanTask.file().upperBounds(),
+            fileScanTask.file().nullValueCounts());
+  }
+
+  private void finish() {
+    close();
+    this.combinedScanTasks = CloseableIterable.empty();
+    this.combinedScanTaskIterator = CloseableIterator.empty();
+    this.currentTasks = Collections.emptyIterator();
+  }
+
+  @Override
+  public boolean isFinished() {
+    return combinedScanTaskIterator != null && !currentTasks.hasNext() && !hasNextCombinedTask();
+  }
+
+  /**
+   * Report the count of splits planned, the count of them pruned by the dynamic filter, and the
+   * time spent planning them.
+   */
+  @Override
+  public Metrics getMetrics() {
+    return new Metrics(
+        ImmutableMap.of(
+            TOTAL_SPLITS,
+            new LongCount(totalTasks),
+            PRUNED_SPLITS,
+            new LongCount(prunedTasks),
+            PLANNING_TIME_MILLIS,
+            new LongCount(planningStopwatch.elapsed(MILLISECONDS))));
+  }
+
+  @Override
+  public void close() {
+    if (totalTasks > 0) {
+      LOG.info(
+          "Planned {} splits of {} in {}ms, {} pruned by dynamic filter",
+          totalTasks,
+          arcticTable.id(),
+          planningStopwatch.elapsed(MILLISECONDS),
+          prunedTasks);
+    }
+    try {
+      closer.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.trino.keyed;
+
+import com.netease.arctic.data.DataFileType;
+import com.netease.arctic.data.DataTreeNode;
+import com.netease.arctic.data.DefaultKeyedFile;
+import com.netease.arctic.data.PrimaryKeyedFile;
+import com.netease.arctic.scan.ArcticFileScanTask;
+import com.netease.arctic.scan.BasicArcticFileScanTask;
+import com.netease.arctic.scan.KeyedTableScanTask;
+import com.netease.arctic.scan.NodeFileScanTask;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.StructLike;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary encoding of a {@link KeyedTableScanTask} for {@link KeyedConnectorSplit}. Only
+ * what the workers need to read the files is kept: path, format, size, record count and the keyed
+ * file meta. Column stats, residuals and the partition spec are dropped, the spec and partition of
+ * the split are shipped once beside the task and applied to every file when decoding.
+ */
+public final class KeyedTableScanTaskCodec {
+
+  private static final byte VERSION = 1;
+
+  private KeyedTableScanTaskCodec() {}
+
+  public static byte[] encode(KeyedTableScanTask task) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(VERSION);
+      writeTasks(out, task.baseTasks());
+      writeTasks(out, task.insertTasks());
+      writeTasks(out, task.arcticEquityDeletes());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  public static KeyedTableScanTask decode(byte[] bytes, PartitionSpec spec, StructLike partition) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      byte version = in.readByte();
+      if (version != VERSION) {
+        throw new IllegalArgumentException("Unsupported keyed task encoding version " + version);
+      }
+      List<ArcticFileScanTask> tasks = new ArrayList<>();
+      // base files, insert files and equality delete files
+      for (int i = 0; i < 3; i++) {
+        readTasks(in, spec, partition, tasks);
+      }
+      return new NodeFileScanTask(tasks);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void writeTasks(DataOutputStream out, List<ArcticFileScanTask> tasks)
+      throws IOException {
+    out.writeInt(tasks.size());
+    for (ArcticFileScanTask task : tasks) {
+      PrimaryKeyedFile file = task.file();
+      writeFile(
+          out, file.path().toString(), file.format(), file.fileSizeInBytes(), file.recordCount());
+      out.writeLong(file.transactionId());
+      out.writeByte(file.type().ordinal());
+      out.writeLong(file.node().getId());
+      out.writeInt(task.deletes().size());
+      for (DeleteFile deleteFile : task.deletes()) {
+        writeFile(
+            out,
+            deleteFile.path().toString(),
+            deleteFile.format(),
+            deleteFile.fileSizeInBytes(),
+            deleteFile.recordCount());
+      }
+    }
+  }
+
+  private static void readTasks(
+      DataInputStream in, PartitionSpec spec, StructLike partition, List<ArcticFileScanTask> tasks)
+      throws IOException {
+    int size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      DataFiles.Builder dataFile =
+          DataFiles.builder(spec)
+              .withPath(in.readUTF())
+              .withFormat(FileFormat.values()[in.readByte()])
+              .withFileSizeInBytes(in.readLong())
+              .withRecordCount(in.readLong());
+      if (spec.isPartitioned()) {
+        dataFile.withPartition(partition);
+      }
+      long transactionId = in.readLong();
+      DataFileType type = DataFileType.values()[in.readByte()];
+      DataTreeNode node = DataTreeNode.ofId(in.readLong());
+      int deleteSize = in.readInt();
+      List<DeleteFile> deleteFiles = new ArrayList<>(deleteSize);
+      for (int j = 0; j < deleteSize; j++) {
+        FileMetadata.Builder deleteFile =
+            FileMetadata.deleteFileBuilder(spec)
+                .ofPositionDeletes()
+                .withPath(in.readUTF())
+                .withFormat(FileFormat.values()[in.readByte()])
+                .withFileSizeInBytes(in.readLong())
+                .withRecordCount(in.readLong());
+        if (spec.isPartitioned()) {
+          deleteFile.withPartition(partition);
+        }
+        deleteFiles.add(deleteFile.build());
+      }
+      tasks.add(
+          new BasicArcticFileScanTask(
+              DefaultKeyedFile.of(
+                  dataFile.build(), new DefaultKeyedFile.FileMeta(transactionId, type, node)),
+              deleteFiles,
+              spec));
+    }
+  }
+
+  private static void writeFile(
+      DataOutputStream out, String path, FileFormat format, long fileSize, long recordCount)
+      throws IOException {
+    out.writeUTF(path);
+    out.writeByte(format.ordinal());
+    out.writeLong(fileSize);
+    out.writeLong(recordCount);
+  }
+}
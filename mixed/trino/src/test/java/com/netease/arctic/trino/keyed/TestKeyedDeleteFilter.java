@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.trino.keyed;
+
+import static com.netease.arctic.ams.api.MockArcticMetastoreServer.TEST_CATALOG_NAME;
+import static io.trino.type.InternalTypeManager.TESTING_TYPE_MANAGER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.netease.arctic.TestedCatalogs;
+import com.netease.arctic.ams.api.TableFormat;
+import com.netease.arctic.catalog.CatalogTestHelper;
+import com.netease.arctic.scan.CombinedScanTask;
+import com.netease.arctic.scan.KeyedTableScanTask;
+import com.netease.arctic.table.MetadataColumns;
+import com.netease.arctic.trino.arctic.ArcticQueryRunner;
+import com.netease.arctic.trino.arctic.TableTestBaseWithInitDataForTrino;
+import io.trino.plugin.iceberg.IcebergColumnHandle;
+import io.trino.plugin.iceberg.IcebergUtil;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.testing.QueryRunner;
+import org.apache.iceberg.io.CloseableIterable;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+public class TestKeyedDeleteFilter extends TableTestBaseWithInitDataForTrino {
+
+  @Override
+  protected QueryRunner createQueryRunner() throws Exception {
+    CatalogTestHelper testCatalog = TestedCatalogs.hadoopCatalog(TableFormat.MIXED_ICEBERG);
+    setupCatalog(testCatalog);
+    setupTables();
+    initData();
+    return ArcticQueryRunner.builder()
+        .setIcebergProperties(
+            ImmutableMap.of(
+                "arctic.url",
+                String.format("thrift://localhost:%s/%s", AMS.port(), TEST_CATALOG_NAME)))
+        .build();
+  }
+
+  @Test
+  public void filterPageWithPosDeletes() throws IOException {
+    String dataPath = dataFileForPositionDelete.path().toString();
+    KeyedTableScanTask task =
+        findTask(
+            t -> t.baseTasks().stream().anyMatch(f -> f.file().path().toString().equals(dataPath)));
+    KeyedDeleteFilter filter = newFilter(task);
+    filter.setCurrentDataPath(dataPath);
+
+    // position 0 of the data file is deleted, the id and lsn channels don't matter here
+    Page page = page(filter, new int[] {4, 4, 4}, new long[] {0, 1, 2}, new long[] {1, 1, 1});
+    int[] positionsToKeep = new int[page.getPositionCount()];
+    int count = filter.filterPage(page, positionsToKeep);
+    assertThat(Arrays.copyOf(positionsToKeep, count)).containsExactly(1, 2);
+
+    // row positions of the next page continue from the previous one
+    page = page(filter, new int[] {4, 4}, new long[] {3, 4}, new long[] {1, 1});
+    count = filter.filterPage(page, positionsToKeep);
+    assertThat(Arrays.copyOf(positionsToKeep, count)).containsExactly(0, 1);
+  }
+
+  @Test
+  public void filterPageWithEqDeletes() throws IOException {
+    KeyedTableScanTask task = findTask(t -> !t.arcticEquityDeletes().isEmpty());
+    KeyedDeleteFilter filter = newFilter(task);
+    filter.setCurrentDataPath(task.dataTasks().get(0).file().path().toString());
+
+    // id 5 is deleted in transaction 4, so only its rows written before that are filtered
+    Page page =
+        page(
+            filter,
+            new int[] {5, 1, 5, 6, 5},
+            new long[] {0, 1, 2, 3, 4},
+            new long[] {2, 2, 5, 3, 3});
+    int[] positionsToKeep = new int[page.getPositionCount()];
+    int count = filter.filterPage(page, positionsToKeep);
+    assertThat(Arrays.copyOf(positionsToKeep, count)).containsExactly(1, 2, 3);
+  }
+
+  @AfterClass(alwaysRun = true)
+  public void clear() {
+    clearTable();
+  }
+
+  private KeyedTableScanTask findTask(Predicate<KeyedTableScanTask> predicate) throws IOException {
+    try (CloseableIterable<CombinedScanTask> combinedTasks =
+        testKeyedTable.newScan().planTasks()) {
+      for (CombinedScanTask combinedTask : combinedTasks) {
+        for (KeyedTableScanTask task : combinedTask.tasks()) {
+          if (predicate.test(task)) {
+            return task;
+          }
+        }
+      }
+    }
+    throw new AssertionError("No task matches");
+  }
+
+  private KeyedDeleteFilter newFilter(KeyedTableScanTask task) {
+    List<IcebergColumnHandle> requiredColumns =
+        IcebergUtil.getColumns(
+            new KeyedDeleteFilter(
+                    task,
+                    testKeyedTable.schema(),
+                    ImmutableList.of(),
+                    testKeyedTable.primaryKeySpec(),
+                    testKeyedTable.io())
+                .requiredSchema(),
+            TESTING_TYPE_MANAGER);
+    return new KeyedDeleteFilter(
+        task,
+        testKeyedTable.schema(),
+        requiredColumns,
+        testKeyedTable.primaryKeySpec(),
+        testKeyedTable.io());
+  }
+
+  /** Build a page laid out as the required schema of the filter, other columns are null. */
+  private static Page page(
+      KeyedDeleteFilter filter, int[] ids, long[] rowPositions, long[] transactionIds) {
+    List<IcebergColumnHandle> columns =
+        IcebergUtil.getColumns(filter.requiredSchema(), TESTING_TYPE_MANAGER);
+    Block[] blocks = new Block[columns.size()];
+    for (int channel = 0; channel < columns.size(); channel++) {
+      IcebergColumnHandle column = columns.get(channel);
+      BlockBuilder builder = column.getType().createBlockBuilder(null, ids.length);
+      for (int position = 0; position < ids.length; position++) {
+        if (column.getId() == 1) {
+          column.getType().writeLong(builder, ids[position]);
+        } else if (column.getId() == org.apache.iceberg.MetadataColumns.ROW_POSITION.fieldId()) {
+          column.getType().writeLong(builder, rowPositions[position]);
+        } else if (column.getId() == MetadataColumns.TRANSACTION_ID_FILED_ID) {
+          column.getType().writeLong(builder, transactionIds[position]);
+        } else if (column.getId() == MetadataColumns.FILE_OFFSET_FILED_ID) {
+          column.getType().writeLong(builder, position);
+        } else {
+          builder.appendNull();
+        }
+      }
+      blocks[channel] = builder.build();
+    }
+    return new Page(ids.length, blocks);
+  }
+}
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.trino.keyed;
+
+import static com.netease.arctic.ams.api.MockArcticMetastoreServer.TEST_CATALOG_NAME;
+import static io.trino.spi.connector.RetryMode.NO_RETRIES;
+import static io.trino.spi.type.IntegerType.INTEGER;
+import static io.trino.spi.type.TimestampType.TIMESTAMP_MICROS;
+import static io.trino.type.InternalTypeManager.TESTING_TYPE_MANAGER;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.netease.arctic.TestedCatalogs;
+import com.netease.arctic.ams.api.TableFormat;
+import com.netease.arctic.catalog.CatalogTestHelper;
+import com.netease.arctic.scan.ArcticFileScanTask;
+import com.netease.arctic.scan.KeyedTableScanTask;
+import com.netease.arctic.trino.arctic.ArcticQueryRunner;
+import com.netease.arctic.trino.arctic.TableTestBaseWithInitDataForTrino;
+import io.airlift.units.Duration;
+import io.trino.plugin.base.metrics.LongCount;
+import io.trino.plugin.iceberg.IcebergColumnHandle;
+import io.trino.plugin.iceberg.IcebergTableHandle;
+import io.trino.plugin.iceberg.IcebergUtil;
+import io.trino.plugin.iceberg.TableType;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.connector.ConnectorSplit;
+import io.trino.spi.connector.ConnectorSplitSource;
+import io.trino.spi.connector.DynamicFilter;
+import io.trino.spi.metrics.Metrics;
+import io.trino.spi.predicate.Domain;
+import io.trino.spi.predicate.Range;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.predicate.ValueSet;
+import io.trino.testing.QueryRunner;
+import org.apache.iceberg.PartitionSpecParser;
+import org.apache.iceberg.SchemaParser;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class TestKeyedSplitSource extends TableTestBaseWithInitDataForTrino {
+
+  @Override
+  protected QueryRunner createQueryRunner() throws Exception {
+    CatalogTestHelper testCatalog = TestedCatalogs.hadoopCatalog(TableFormat.MIXED_ICEBERG);
+    setupCatalog(testCatalog);
+    setupTables();
+    initData();
+    return ArcticQueryRunner.builder()
+        .setIcebergProperties(
+            ImmutableMap.of(
+                "arctic.url",
+                String.format("thrift://localhost:%s/%s", AMS.port(), TEST_CATALOG_NAME)))
+        .build();
+  }
+
+  @Test
+  public void noDynamicFilter() throws Exception {
+    List<KeyedTableScanTask> tasks = splitTasks(DynamicFilter.EMPTY);
+    assertThat(partitionsOf(tasks))
+        .containsExactlyInAnyOrder(
+            "op_time_day=2022-01-01",
+            "op_time_day=2022-01-02",
+            "op_time_day=2022-01-03",
+            "op_time_day=2022-01-04");
+  }
+
+  @Test
+  public void pruneByPrimaryKey() throws Exception {
+    TupleDomain<ColumnHandle> predicate =
+        TupleDomain.withColumnDomains(
+            ImmutableMap.<ColumnHandle, Domain>of(column("id"), Domain.singleValue(INTEGER, 3L)));
+    List<KeyedTableScanTask> tasks = splitTasks(completedFilter(predicate));
+    assertThat(partitionsOf(tasks)).containsExactly("op_time_day=2022-01-03");
+  }
+
+  @Test
+  public void pruneByPartition() throws Exception {
+    long from = micros(LocalDateTime.of(2022, 1, 2, 0, 0, 0));
+    long to = micros(LocalDateTime.of(2022, 1, 2, 23, 59, 59));
+    TupleDomain<ColumnHandle> predicate =
+        TupleDomain.withColumnDomains(
+            ImmutableMap.<ColumnHandle, Domain>of(
+                column("op_time"),
+                Domain.create(
+                    ValueSet.ofRanges(Range.range(TIMESTAMP_MICROS, from, true, to, true)),
+                    false)));
+    List<KeyedTableScanTask> tasks = splitTasks(completedFilter(predicate));
+    assertThat(partitionsOf(tasks)).containsExactly("op_time_day=2022-01-02");
+  }
+
+  @Test
+  public void reportSplitMetrics() throws Exception {
+    TupleDomain<ColumnHandle> predicate =
+        TupleDomain.withColumnDomains(
+            ImmutableMap.<ColumnHandle, Domain>of(column("id"), Domain.singleValue(INTEGER, 3L)));
+    List<KeyedTableScanTask> tasks;
+    Metrics metrics;
+    try (ConnectorSplitSource splitSource = newSplitSource(completedFilter(predicate))) {
+      tasks = splitTasks(splitSource);
+      metrics = splitSource.getMetrics();
+    }
+    long totalSplits = count(metrics, KeyedSplitSource.TOTAL_SPLITS);
+    long prunedSplits = count(metrics, KeyedSplitSource.PRUNED_SPLITS);
+    assertThat(prunedSplits).isGreaterThan(0);
+    assertThat(totalSplits - prunedSplits).isEqualTo(tasks.size());
+    assertThat(count(metrics, KeyedSplitSource.PLANNING_TIME_MILLIS)).isGreaterThanOrEqualTo(0);
+  }
+
+  @Test
+  public void noneDynamicFilter() throws Exception {
+    List<KeyedTableScanTask> tasks = splitTasks(completedFilter(TupleDomain.none()));
+    assertThat(tasks).isEmpty();
+  }
+
+  @AfterClass(alwaysRun = true)
+  public void clear() {
+    clearTable();
+  }
+
+  private List<KeyedTableScanTask> splitTasks(DynamicFilter dynamicFilter) throws Exception {
+    try (ConnectorSplitSource splitSource = newSplitSource(dynamicFilter)) {
+      return splitTasks(splitSource);
+    }
+  }
+
+  private List<KeyedTableScanTask> splitTasks(ConnectorSplitSource splitSource) throws Exception {
+    List<KeyedTableScanTask> tasks = new ArrayList<>();
+    while (!splitSource.isFinished()) {
+      for (ConnectorSplit split : splitSource.getNextBatch(100).get().getSplits()) {
+        tasks.add(((KeyedConnectorSplit) split).getKeyedTableScanTask(testKeyedTable.schema()));
+      }
+    }
+    return tasks;
+  }
+
+  private ConnectorSplitSource newSplitSource(DynamicFilter dynamicFilter) {
+    return new KeyedSplitSource(
+        testKeyedTable,
+        tableHandle(),
+        dynamicFilter,
+        new Duration(1, TimeUnit.SECONDS),
+        TESTING_TYPE_MANAGER,
+        null);
+  }
+
+  private static long count(Metrics metrics, String name) {
+    return ((LongCount) metrics.getMetrics().get(name)).getTotal();
+  }
+
+  private static Set<String> partitionsOf(List<KeyedTableScanTask> tasks) {
+    return tasks.stream()
+        .flatMap(task -> task.dataTasks().stream())
+        .map(ArcticFileScanTask::file)
+        .map(file -> SPEC.partitionToPath(file.partition()))
+        .collect(Collectors.toSet());
+  }
+
+  private IcebergTableHandle tableHandle() {
+    return new IcebergTableHandle(
+        PK_TABLE_ID.getDatabase(),
+        PK_TABLE_ID.getTableName(),
+        TableType.DATA,
+        Optional.empty(),
+        SchemaParser.toJson(testKeyedTable.schema()),
+        Optional.of(testKeyedTable.spec()).map(PartitionSpecParser::toJson),
+        2,
+        TupleDomain.all(),
+        TupleDomain.all(),
+        ImmutableSet.of(),
+        Optional.empty(),
+        testKeyedTable.location(),
+        testKeyedTable.properties(),
+        NO_RETRIES,
+        ImmutableList.of(),
+        false,
+        Optional.empty());
+  }
+
+  private IcebergColumnHandle column(String name) {
+    return IcebergUtil.getColumns(testKeyedTable.schema(), TESTING_TYPE_MANAGER).stream()
+        .filter(column -> column.getName().equals(name))
+        .findFirst()
+        .get();
+  }
+
+  private static long micros(LocalDateTime dateTime) {
+    return TimeUnit.SECONDS.toMicros(dateTime.toEpochSecond(ZoneOffset.UTC));
+  }
+
+  private static DynamicFilter completedFilter(TupleDomain<ColumnHandle> predicate) {
+    return new DynamicFilter() {
+      @Override
+      public Set<ColumnHandle> getColumnsCovered() {
+        return predicate.getDomains().map(Map::keySet).orElse(ImmutableSet.of());
+      }
+
+      @Override
+      public CompletableFuture<?> isBlocked() {
+        return completedFuture(null);
+      }
+
+      @Override
+      public boolean isComplete() {
+        return true;
+      }
+
+      @Override
+      public boolean isAwaitable() {
+        return false;
+      }
+
+      @Override
+      public TupleDomain<ColumnHandle> getCurrentPredicate() {
+        return predicate;
+      }
+    };
+  }
+}
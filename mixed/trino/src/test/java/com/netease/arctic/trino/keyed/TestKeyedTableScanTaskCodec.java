@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.trino.keyed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableList;
+import com.netease.arctic.data.DataFileType;
+import com.netease.arctic.data.DataTreeNode;
+import com.netease.arctic.data.DefaultKeyedFile;
+import com.netease.arctic.scan.ArcticFileScanTask;
+import com.netease.arctic.scan.BasicArcticFileScanTask;
+import com.netease.arctic.scan.KeyedTableScanTask;
+import com.netease.arctic.scan.NodeFileScanTask;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileContent;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.types.Types;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+public class TestKeyedTableScanTaskCodec {
+
+  private static final Schema SCHEMA =
+      new Schema(
+          Types.NestedField.required(1, "id", Types.IntegerType.get()),
+          Types.NestedField.required(2, "name", Types.StringType.get()));
+  private static final PartitionSpec SPEC =
+      PartitionSpec.builderFor(SCHEMA).identity("name").build();
+  private static final String PARTITION_PATH = "name=a";
+
+  @Test
+  public void roundTrip() {
+    DeleteFile posDelete =
+        FileMetadata.deleteFileBuilder(SPEC)
+            .ofPositionDeletes()
+            .withPath("/base/name=a/pos-delete.parquet")
+            .withFormat(FileFormat.PARQUET)
+            .withFileSizeInBytes(64)
+            .withRecordCount(3)
+            .withPartitionPath(PARTITION_PATH)
+            .build();
+    ArcticFileScanTask base =
+        fileTask(
+            "/base/name=a/base.parquet",
+            FileFormat.PARQUET,
+            1024,
+            100,
+            5,
+            DataFileType.BASE_FILE,
+            DataTreeNode.of(1, 0),
+            ImmutableList.of(posDelete));
+    ArcticFileScanTask insert =
+        fileTask(
+            "/change/name=a/insert.orc",
+            FileFormat.ORC,
+            512,
+            10,
+            7,
+            DataFileType.INSERT_FILE,
+            DataTreeNode.of(3, 2),
+            Collections.emptyList());
+    ArcticFileScanTask eqDelete =
+        fileTask(
+            "/change/name=a/eq-delete.parquet",
+            FileFormat.PARQUET,
+            256,
+            4,
+            8,
+            DataFileType.EQ_DELETE_FILE,
+            DataTreeNode.of(3, 2),
+            Collections.emptyList());
+    KeyedTableScanTask task = new NodeFileScanTask(ImmutableList.of(base, insert, eqDelete));
+
+    KeyedTableScanTask decoded =
+        KeyedTableScanTaskCodec.decode(
+            KeyedTableScanTaskCodec.encode(task), SPEC, base.file().partition());
+
+    assertTasks(decoded.baseTasks(), task.baseTasks());
+    assertTasks(decoded.insertTasks(), task.insertTasks());
+    assertTasks(decoded.arcticEquityDeletes(), task.arcticEquityDeletes());
+    assertThat(decoded.cost()).isEqualTo(task.cost());
+    assertThat(decoded.recordCount()).isEqualTo(task.recordCount());
+  }
+
+  @Test
+  public void roundTripUnpartitioned() {
+    ArcticFileScanTask base =
+        new BasicArcticFileScanTask(
+            DefaultKeyedFile.of(
+                DataFiles.builder(PartitionSpec.unpartitioned())
+                    .withPath("/base/base.parquet")
+                    .withFormat(FileFormat.PARQUET)
+                    .withFileSizeInBytes(10)
+                    .withRecordCount(1)
+                    .build(),
+                new DefaultKeyedFile.FileMeta(1, DataFileType.BASE_FILE, DataTreeNode.ROOT)),
+            Collections.emptyList(),
+            PartitionSpec.unpartitioned());
+    KeyedTableScanTask task = new NodeFileScanTask(ImmutableList.of(base));
+
+    KeyedTableScanTask decoded =
+        KeyedTableScanTaskCodec.decode(
+            KeyedTableScanTaskCodec.encode(task), PartitionSpec.unpartitioned(), null);
+
+    assertTasks(decoded.baseTasks(), task.baseTasks());
+    assertThat(decoded.insertTasks()).isEmpty();
+    assertThat(decoded.arcticEquityDeletes()).isEmpty();
+  }
+
+  @Test
+  public void unsupportedVersion() {
+    byte[] bytes = KeyedTableScanTaskCodec.encode(new NodeFileScanTask(ImmutableList.of()));
+    bytes[0] = Byte.MAX_VALUE;
+    assertThatThrownBy(() -> KeyedTableScanTaskCodec.decode(bytes, SPEC, null))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static ArcticFileScanTask fileTask(
+      String path,
+      FileFormat format,
+      long fileSize,
+      long recordCount,
+      long transactionId,
+      DataFileType type,
+      DataTreeNode node,
+      List<DeleteFile> deletes) {
+    DataFile dataFile =
+        DataFiles.builder(SPEC)
+            .withPath(path)
+            .withFormat(format)
+            .withFileSizeInBytes(fileSize)
+            .withRecordCount(recordCount)
+            .withPartitionPath(PARTITION_PATH)
+            .build();
+    return new BasicArcticFileScanTask(
+        DefaultKeyedFile.of(dataFile, new DefaultKeyedFile.FileMeta(transactionId, type, node)),
+        deletes,
+        SPEC);
+  }
+
+  private static void assertTasks(
+      List<ArcticFileScanTask> actualTasks, List<ArcticFileScanTask> expectedTasks) {
+    assertThat(actualTasks).hasSameSizeAs(expectedTasks);
+    for (int i = 0; i < expectedTasks.size(); i++) {
+      ArcticFileScanTask actual = actualTasks.get(i);
+      ArcticFileScanTask expected = expectedTasks.get(i);
+      assertThat(actual.file().path().toString()).isEqualTo(expected.file().path().toString());
+      assertThat(actual.file().format()).isEqualTo(expected.file().format());
+      assertThat(actual.file().fileSizeInBytes()).isEqualTo(expected.file().fileSizeInBytes());
+      assertThat(actual.file().recordCount()).isEqualTo(expected.file().recordCount());
+      assertThat(actual.file().transactionId()).isEqualTo(expected.file().transactionId());
+      assertThat(actual.file().type()).isEqualTo(expected.file().type());
+      assertThat(actual.file().node()).isEqualTo(expected.file().node());
+      assertThat(actual.spec()).isEqualTo(expected.spec());
+      if (expected.spec().isPartitioned()) {
+        assertThat(expected.spec().partitionToPath(actual.file().partition()))
+            .isEqualTo(expected.spec().partitionToPath(expected.file().partition()));
+      }
+
+      assertThat(actual.deletes()).hasSameSizeAs(expected.deletes());
+      for (int j = 0; j < expected.deletes().size(); j++) {
+        DeleteFile actualDelete = actual.deletes().get(j);
+        DeleteFile expectedDelete = expected.deletes().get(j);
+        assertThat(actualDelete.content()).isEqualTo(FileContent.POSITION_DELETES);
+        assertThat(actualDelete.path().toString()).isEqualTo(expectedDelete.path().toString());
+        assertThat(actualDelete.format()).isEqualTo(expectedDelete.format());
+        assertThat(actualDelete.fileSizeInBytes()).isEqualTo(expectedDelete.fileSizeInBytes());
+        assertThat(actualDelete.recordCount()).isEqualTo(expectedDelete.recordCount());
+      }
+    }
+  }
+}